@@ -0,0 +1,102 @@
+package id.my.hendisantika.accountingsample.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import id.my.hendisantika.accountingsample.service.ReportCache;
+import id.my.hendisantika.accountingsample.service.ReportJobService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 13.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+public class CacheConfig implements CachingConfigurer {
+
+    @Value("${spring.cache.redis.time-to-live}")
+    private long redisTimeToLive;
+
+    @Value("${cache.reports.time-to-live}")
+    private long reportsTimeToLive;
+
+    @Value("${report-jobs.result-time-to-live}")
+    private long reportJobsTimeToLive;
+
+    @Value("${cache.near.maximum-size}")
+    private long nearMaximumSize;
+
+    @Value("${cache.near.time-to-live}")
+    private long nearTimeToLive;
+
+    @Value("${cache.invalidation-channel}")
+    private String invalidationChannel;
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             StringRedisTemplate redisTemplate,
+                                             MeterRegistry meterRegistry) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig(getClass().getClassLoader())
+                .entryTtl(Duration.ofMillis(redisTimeToLive))
+                .disableCachingNullValues();
+        RedisCacheManager remoteCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                // Report entries never go stale, the time-to-live only reclaims those of old ledger versions
+                .withCacheConfiguration(ReportCache.CACHE_NAME,
+                        defaults.entryTtl(Duration.ofMillis(reportsTimeToLive)))
+                .withCacheConfiguration(ReportJobService.CACHE_NAME,
+                        defaults.entryTtl(Duration.ofMillis(reportJobsTimeToLive)))
+                .build();
+
+        Caffeine<Object, Object> nearCacheBuilder = Caffeine.newBuilder()
+                .maximumSize(nearMaximumSize)
+                .expireAfterWrite(Duration.ofMillis(nearTimeToLive));
+
+        return new TwoLevelCacheManager(remoteCacheManager, nearCacheBuilder, redisTemplate,
+                invalidationChannel, meterRegistry, Set.of(ReportJobService.CACHE_NAME));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                   TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(invalidationChannel));
+        return container;
+    }
+
+    /**
+     * A Redis outage degrades to reading from the database instead of failing the request
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+}
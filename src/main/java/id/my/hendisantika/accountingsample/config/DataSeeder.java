@@ -14,6 +14,7 @@ import id.my.hendisantika.accountingsample.model.User;
 import id.my.hendisantika.accountingsample.model.Vendor;
 import id.my.hendisantika.accountingsample.model.enums.AccountType;
 import id.my.hendisantika.accountingsample.model.enums.BillStatus;
+import id.my.hendisantika.accountingsample.model.enums.CashFlowActivity;
 import id.my.hendisantika.accountingsample.model.enums.InvoiceStatus;
 import id.my.hendisantika.accountingsample.model.enums.ItemType;
 import id.my.hendisantika.accountingsample.model.enums.PaymentMethod;
@@ -42,6 +43,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 /**
@@ -365,6 +367,18 @@ public class DataSeeder implements CommandLineRunner {
         accounts.add(createAccount("5900", "Bank Fees", AccountType.EXPENSE, "Bank charges"));
         accounts.add(createAccount("5950", "Miscellaneous Expense", AccountType.EXPENSE, "Other expenses"));
 
+        // Cash flow statement classification; the other balance sheet accounts follow their account type
+        Map<String, CashFlowActivity> cashFlowActivities = Map.of(
+                "1000", CashFlowActivity.CASH,
+                "1010", CashFlowActivity.CASH,
+                "1100", CashFlowActivity.CASH,
+                "1110", CashFlowActivity.CASH,
+                "1500", CashFlowActivity.INVESTING,
+                "1600", CashFlowActivity.INVESTING,
+                "2400", CashFlowActivity.FINANCING,
+                "2500", CashFlowActivity.FINANCING);
+        accounts.forEach(account -> account.setCashFlowActivity(cashFlowActivities.get(account.getCode())));
+
         accountRepository.saveAll(accounts);
         log.info("Created {} accounts", accounts.size());
     }
@@ -0,0 +1,42 @@
+package id.my.hendisantika.accountingsample.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 12.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Configuration
+public class DocumentSequenceDataSourceConfig {
+
+    public static final String QUALIFIER = "documentSequenceDataSource";
+
+    /**
+     * Connections for reserving document number blocks. Callers creating a document already hold a
+     * connection of the application pool, so borrowing a second one from that pool could leave every
+     * connection held by a caller waiting for a block. Not a default candidate, so the auto-configured
+     * application pool stays in place and is what everything else injects.
+     */
+    @Bean(defaultCandidate = false)
+    @Qualifier(QUALIFIER)
+    public HikariDataSource documentSequenceDataSource(DataSourceProperties properties,
+                                                       @Value("${document-number.pool-size}") int poolSize) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("document-sequences");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(0);
+        return dataSource;
+    }
+}
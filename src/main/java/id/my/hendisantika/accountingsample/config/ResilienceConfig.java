@@ -0,0 +1,28 @@
+package id.my.hendisantika.accountingsample.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.resilience.annotation.EnableResilientMethods;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 12.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Configuration
+@EnableResilientMethods
+public class ResilienceConfig {
+
+    /**
+     * Retries applied to edits of versioned records. Each attempt runs in a fresh transaction and
+     * reloads the row, so a conflict with a concurrent balance update is resolved by replaying the edit.
+     */
+    public static final int OPTIMISTIC_LOCK_MAX_RETRIES = 3;
+    public static final long OPTIMISTIC_LOCK_DELAY_MILLIS = 50;
+    public static final long OPTIMISTIC_LOCK_JITTER_MILLIS = 25;
+}
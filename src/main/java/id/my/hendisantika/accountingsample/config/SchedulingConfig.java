@@ -0,0 +1,20 @@
+package id.my.hendisantika.accountingsample.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 15.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
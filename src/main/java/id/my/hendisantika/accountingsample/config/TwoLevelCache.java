@@ -0,0 +1,148 @@
+package id.my.hendisantika.accountingsample.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 13.30
+ * To change this template use File | Settings | File Templates.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final CaffeineCache near;
+    private final Cache remote;
+    private final BiConsumer<String, Object> evictionPublisher;
+
+    private final Counter nearHits;
+    private final Counter nearMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    /**
+     * Reads go to the in-process cache first and fall back to Redis; writes and evictions go to both.
+     * Evictions are also handed to {@code evictionPublisher} so other nodes can drop their near copy.
+     */
+    public TwoLevelCache(CaffeineCache near, Cache remote, BiConsumer<String, Object> evictionPublisher,
+                         MeterRegistry meterRegistry) {
+        this.near = near;
+        this.remote = remote;
+        this.evictionPublisher = evictionPublisher;
+        this.nearHits = counter(meterRegistry, "near", "hit");
+        this.nearMisses = counter(meterRegistry, "near", "miss");
+        this.remoteHits = counter(meterRegistry, "redis", "hit");
+        this.remoteMisses = counter(meterRegistry, "redis", "miss");
+    }
+
+    @Override
+    public String getName() {
+        return near.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = near.get(key);
+        if (value != null) {
+            nearHits.increment();
+            return value;
+        }
+        nearMisses.increment();
+
+        value = remote.get(key);
+        if (value != null) {
+            remoteHits.increment();
+            near.put(key, value.get());
+        } else {
+            remoteMisses.increment();
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        if (type != null && !type.isInstance(value.get())) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value.get());
+        }
+        return (T) value.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        near.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        near.evict(key);
+        evictionPublisher.accept(getName(), key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        near.clear();
+        evictionPublisher.accept(getName(), null);
+    }
+
+    /**
+     * Drops a key from this node's near cache only, after another node evicted it. Keys arrive as
+     * strings, so they are matched on their string form.
+     */
+    void evictNear(String key) {
+        if (key == null) {
+            near.clear();
+            return;
+        }
+        near.getNativeCache().asMap().keySet().removeIf(cachedKey -> cachedKey.toString().equals(key));
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .description("Lookups per cache tier")
+                .tag("cache", near.getName())
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,116 @@
+package id.my.hendisantika.accountingsample.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 13.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    private static final char MESSAGE_SEPARATOR = ':';
+
+    private final RedisCacheManager remoteCacheManager;
+    private final Caffeine<Object, Object> nearCacheBuilder;
+    private final StringRedisTemplate redisTemplate;
+    private final String invalidationChannel;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Caches whose entries change in place, such as the state of a running job, so they skip the near
+     * tier and every node reads the latest value from Redis
+     */
+    private final Set<String> remoteOnlyCacheNames;
+
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Cache> transactionAwareCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager remoteCacheManager, Caffeine<Object, Object> nearCacheBuilder,
+                                StringRedisTemplate redisTemplate, String invalidationChannel,
+                                MeterRegistry meterRegistry, Set<String> remoteOnlyCacheNames) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.nearCacheBuilder = nearCacheBuilder;
+        this.redisTemplate = redisTemplate;
+        this.invalidationChannel = invalidationChannel;
+        this.meterRegistry = meterRegistry;
+        this.remoteOnlyCacheNames = remoteOnlyCacheNames;
+    }
+
+    /**
+     * Puts and evictions made inside a transaction are applied after it commits, so a reader can
+     * never repopulate the cache from data that is about to be rolled back or not yet visible
+     */
+    @Override
+    public Cache getCache(String name) {
+        if (remoteOnlyCacheNames.contains(name)) {
+            return transactionAwareCaches.computeIfAbsent(name,
+                    key -> new TransactionAwareCacheDecorator(remoteCache(key)));
+        }
+        return transactionAwareCaches.computeIfAbsent(name,
+                key -> new TransactionAwareCacheDecorator(caches.computeIfAbsent(key, this::createCache)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Handles an eviction broadcast by any node, including this one
+     */
+    public void onInvalidation(String message) {
+        int separator = message.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(message.substring(0, separator));
+        if (cache != null) {
+            String key = message.substring(separator + 1);
+            cache.evictNear(key.isEmpty() ? null : key);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        return new TwoLevelCache(new CaffeineCache(name, nearCacheBuilder.build(), false), remoteCache(name),
+                this::publishEviction, meterRegistry);
+    }
+
+    private Cache remoteCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            throw new IllegalStateException("No Redis cache available for " + name);
+        }
+        return remote;
+    }
+
+    private void publishEviction(String cacheName, Object key) {
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, cacheName + MESSAGE_SEPARATOR + (key != null ? key : ""));
+        } catch (RuntimeException ex) {
+            // Other nodes fall back to the near cache time-to-live
+            log.warn("Failed to broadcast eviction of {} from cache {}", key, cacheName, ex);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package id.my.hendisantika.accountingsample.controller;
 import id.my.hendisantika.accountingsample.dto.ApiResponse;
 import id.my.hendisantika.accountingsample.dto.account.AccountRequest;
 import id.my.hendisantika.accountingsample.dto.account.AccountResponse;
+import id.my.hendisantika.accountingsample.dto.account.AccountTreeNode;
 import id.my.hendisantika.accountingsample.model.enums.AccountType;
 import id.my.hendisantika.accountingsample.service.AccountService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -63,6 +64,13 @@ public class AccountController {
         return ResponseEntity.ok(ApiResponse.success("Root accounts retrieved", accounts));
     }
 
+    @GetMapping("/tree")
+    @Operation(summary = "Get the chart of accounts as a tree with rolled-up balances")
+    public ResponseEntity<ApiResponse<List<AccountTreeNode>>> getAccountTree() {
+        List<AccountTreeNode> tree = accountService.getAccountTree();
+        return ResponseEntity.ok(ApiResponse.success("Account tree retrieved", tree));
+    }
+
     @GetMapping("/parent/{parentId}")
     @Operation(summary = "Get child accounts of a parent account")
     public ResponseEntity<ApiResponse<List<AccountResponse>>> getChildAccounts(@PathVariable Long parentId) {
@@ -0,0 +1,125 @@
+package id.my.hendisantika.accountingsample.controller;
+
+import id.my.hendisantika.accountingsample.dto.ApiResponse;
+import id.my.hendisantika.accountingsample.dto.CursorPageResponse;
+import id.my.hendisantika.accountingsample.dto.bank.BankAccountRequest;
+import id.my.hendisantika.accountingsample.dto.bank.BankAccountResponse;
+import id.my.hendisantika.accountingsample.dto.bank.BankStatementImportResponse;
+import id.my.hendisantika.accountingsample.dto.bank.BankTransactionResponse;
+import id.my.hendisantika.accountingsample.dto.bank.ReconciliationResponse;
+import id.my.hendisantika.accountingsample.model.enums.StatementFormat;
+import id.my.hendisantika.accountingsample.service.BankAccountService;
+import id.my.hendisantika.accountingsample.service.BankStatementService;
+import id.my.hendisantika.accountingsample.service.ReconciliationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+@RestController
+@RequestMapping("/api/bank-accounts")
+@RequiredArgsConstructor
+@Tag(name = "Bank Account", description = "Bank account, statement import and reconciliation endpoints")
+public class BankAccountController {
+
+    private final BankAccountService bankAccountService;
+    private final BankStatementService bankStatementService;
+    private final ReconciliationService reconciliationService;
+
+    @GetMapping
+    @Operation(summary = "Get all bank accounts")
+    public ResponseEntity<ApiResponse<List<BankAccountResponse>>> getAllBankAccounts() {
+        List<BankAccountResponse> bankAccounts = bankAccountService.getAllBankAccounts();
+        return ResponseEntity.ok(ApiResponse.success("Bank accounts retrieved", bankAccounts));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get bank account by ID")
+    public ResponseEntity<ApiResponse<BankAccountResponse>> getBankAccountById(@PathVariable Long id) {
+        BankAccountResponse bankAccount = bankAccountService.getBankAccountById(id);
+        return ResponseEntity.ok(ApiResponse.success("Bank account retrieved", bankAccount));
+    }
+
+    @PostMapping
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Create new bank account")
+    public ResponseEntity<ApiResponse<BankAccountResponse>> createBankAccount(
+            @Valid @RequestBody BankAccountRequest request) {
+        BankAccountResponse bankAccount = bankAccountService.createBankAccount(request);
+        return ResponseEntity.ok(ApiResponse.success("Bank account created", bankAccount));
+    }
+
+    @PutMapping("/{id}")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Update bank account")
+    public ResponseEntity<ApiResponse<BankAccountResponse>> updateBankAccount(
+            @PathVariable Long id,
+            @Valid @RequestBody BankAccountRequest request) {
+        BankAccountResponse bankAccount = bankAccountService.updateBankAccount(id, request);
+        return ResponseEntity.ok(ApiResponse.success("Bank account updated", bankAccount));
+    }
+
+    @GetMapping("/{id}/transactions")
+    @Operation(summary = "Scroll the transactions of a bank account page by page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<BankTransactionResponse>>> scrollTransactions(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @ParameterObject Pageable pageable) {
+        CursorPageResponse<BankTransactionResponse> page = bankAccountService.scrollTransactions(id, cursor,
+                pageable);
+        return ResponseEntity.ok(ApiResponse.success("Bank transactions retrieved", page));
+    }
+
+    @PostMapping(value = "/{id}/statements", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Import a CSV, OFX or CAMT.053 statement, skipping lines imported before")
+    public ResponseEntity<ApiResponse<BankStatementImportResponse>> importStatement(
+            @PathVariable Long id,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) StatementFormat format) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            BankStatementImportResponse result = bankStatementService.importStatement(id, in,
+                    file.getOriginalFilename(), format);
+            return ResponseEntity.ok(ApiResponse.success("Bank statement imported", result));
+        }
+    }
+
+    @PostMapping("/{id}/reconcile")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Match unreconciled bank lines to payments by reference, amount and date, or sums")
+    public ResponseEntity<ApiResponse<ReconciliationResponse>> reconcile(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer dateWindowDays) {
+        ReconciliationResponse result = reconciliationService.reconcile(id, dateWindowDays);
+        return ResponseEntity.ok(ApiResponse.success("Bank account reconciled", result));
+    }
+}
@@ -1,14 +1,20 @@
 package id.my.hendisantika.accountingsample.controller;
 
 import id.my.hendisantika.accountingsample.dto.ApiResponse;
+import id.my.hendisantika.accountingsample.dto.CursorPageResponse;
+import id.my.hendisantika.accountingsample.dto.SliceResponse;
+import id.my.hendisantika.accountingsample.dto.bill.BillFilter;
 import id.my.hendisantika.accountingsample.dto.bill.BillRequest;
 import id.my.hendisantika.accountingsample.dto.bill.BillResponse;
+import id.my.hendisantika.accountingsample.dto.bill.BillSummaryResponse;
 import id.my.hendisantika.accountingsample.model.enums.BillStatus;
 import id.my.hendisantika.accountingsample.service.BillService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -49,6 +55,14 @@ public class BillController {
         return ResponseEntity.ok(ApiResponse.success("Bills retrieved", bills));
     }
 
+    @GetMapping("/summaries")
+    @Operation(summary = "Get bills as lightweight summary rows")
+    public ResponseEntity<ApiResponse<SliceResponse<BillSummaryResponse>>> getBillSummaries(
+            @ParameterObject Pageable pageable) {
+        SliceResponse<BillSummaryResponse> bills = billService.getBillSummaries(pageable);
+        return ResponseEntity.ok(ApiResponse.success("Bill summaries retrieved", bills));
+    }
+
     @GetMapping("/status/{status}")
     @Operation(summary = "Get bills by status")
     public ResponseEntity<ApiResponse<List<BillResponse>>> getBillsByStatus(@PathVariable BillStatus status) {
@@ -77,6 +91,16 @@ public class BillController {
         return ResponseEntity.ok(ApiResponse.success("Bills retrieved", bills));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll bills page by page with filters and sorting")
+    public ResponseEntity<ApiResponse<CursorPageResponse<BillResponse>>> scrollBills(
+            @ParameterObject BillFilter filter,
+            @RequestParam(required = false) String cursor,
+            @ParameterObject Pageable pageable) {
+        CursorPageResponse<BillResponse> page = billService.scrollBills(filter, cursor, pageable);
+        return ResponseEntity.ok(ApiResponse.success("Bills retrieved", page));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get bill by ID")
     public ResponseEntity<ApiResponse<BillResponse>> getBillById(@PathVariable Long id) {
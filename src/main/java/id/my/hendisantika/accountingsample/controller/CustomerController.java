@@ -1,13 +1,17 @@
 package id.my.hendisantika.accountingsample.controller;
 
 import id.my.hendisantika.accountingsample.dto.ApiResponse;
+import id.my.hendisantika.accountingsample.dto.SliceResponse;
 import id.my.hendisantika.accountingsample.dto.customer.CustomerRequest;
 import id.my.hendisantika.accountingsample.dto.customer.CustomerResponse;
+import id.my.hendisantika.accountingsample.dto.customer.CustomerSummaryResponse;
 import id.my.hendisantika.accountingsample.service.CustomerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -48,6 +52,14 @@ public class CustomerController {
         return ResponseEntity.ok(ApiResponse.success("Customers retrieved", customers));
     }
 
+    @GetMapping("/summaries")
+    @Operation(summary = "Get customers as lightweight summary rows")
+    public ResponseEntity<ApiResponse<SliceResponse<CustomerSummaryResponse>>> getCustomerSummaries(
+            @ParameterObject Pageable pageable) {
+        SliceResponse<CustomerSummaryResponse> customers = customerService.getCustomerSummaries(pageable);
+        return ResponseEntity.ok(ApiResponse.success("Customer summaries retrieved", customers));
+    }
+
     @GetMapping("/active")
     @Operation(summary = "Get active customers")
     public ResponseEntity<ApiResponse<List<CustomerResponse>>> getActiveCustomers() {
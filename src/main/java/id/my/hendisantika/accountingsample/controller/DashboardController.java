@@ -0,0 +1,54 @@
+package id.my.hendisantika.accountingsample.controller;
+
+import id.my.hendisantika.accountingsample.dto.ApiResponse;
+import id.my.hendisantika.accountingsample.dto.dashboard.DashboardKpiResponse;
+import id.my.hendisantika.accountingsample.service.DashboardSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 17.00
+ * To change this template use File | Settings | File Templates.
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Tag(name = "Dashboard", description = "Dashboard KPI endpoints")
+public class DashboardController {
+
+    private final DashboardSnapshotService dashboardSnapshotService;
+
+    @GetMapping
+    @Operation(summary = "Get the latest KPI snapshot")
+    public ResponseEntity<ApiResponse<DashboardKpiResponse>> getSnapshot() {
+        return ResponseEntity.ok(ApiResponse.success("Dashboard retrieved", dashboardSnapshotService.getSnapshot()));
+    }
+
+    @GetMapping("/trend")
+    @Operation(summary = "Get daily KPI values for a date range (defaults to the last 30 days)")
+    public ResponseEntity<ApiResponse<List<DashboardKpiResponse>>> getTrend(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate toDate = to != null ? to : LocalDate.now();
+        LocalDate fromDate = from != null ? from : toDate.minusDays(29);
+        List<DashboardKpiResponse> trend = dashboardSnapshotService.getTrend(fromDate, toDate);
+        return ResponseEntity.ok(ApiResponse.success("Dashboard trend retrieved", trend));
+    }
+}
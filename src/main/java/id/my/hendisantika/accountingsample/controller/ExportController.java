@@ -0,0 +1,86 @@
+package id.my.hendisantika.accountingsample.controller;
+
+import id.my.hendisantika.accountingsample.model.enums.ExportFormat;
+import id.my.hendisantika.accountingsample.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.30
+ * To change this template use File | Settings | File Templates.
+ */
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+@Tag(name = "Export", description = "CSV and XLSX export endpoints")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping("/invoices")
+    @Operation(summary = "Download all invoices as CSV or XLSX")
+    public void exportInvoices(@RequestParam(defaultValue = "CSV") ExportFormat format,
+                               HttpServletResponse response) throws IOException {
+        prepare(response, "invoices", format);
+        exportService.exportInvoices(format, response.getOutputStream());
+    }
+
+    @GetMapping("/bills")
+    @Operation(summary = "Download all bills as CSV or XLSX")
+    public void exportBills(@RequestParam(defaultValue = "CSV") ExportFormat format,
+                            HttpServletResponse response) throws IOException {
+        prepare(response, "bills", format);
+        exportService.exportBills(format, response.getOutputStream());
+    }
+
+    @GetMapping("/payments")
+    @Operation(summary = "Download all payments as CSV or XLSX")
+    public void exportPayments(@RequestParam(defaultValue = "CSV") ExportFormat format,
+                               HttpServletResponse response) throws IOException {
+        prepare(response, "payments", format);
+        exportService.exportPayments(format, response.getOutputStream());
+    }
+
+    @GetMapping("/journal-lines")
+    @Operation(summary = "Download all journal entry lines as CSV or XLSX")
+    public void exportJournalLines(@RequestParam(defaultValue = "CSV") ExportFormat format,
+                                   HttpServletResponse response) throws IOException {
+        prepare(response, "journal-lines", format);
+        exportService.exportJournalLines(format, response.getOutputStream());
+    }
+
+    @GetMapping("/customers")
+    @Operation(summary = "Download all customers as CSV or XLSX")
+    public void exportCustomers(@RequestParam(defaultValue = "CSV") ExportFormat format,
+                                HttpServletResponse response) throws IOException {
+        prepare(response, "customers", format);
+        exportService.exportCustomers(format, response.getOutputStream());
+    }
+
+    private void prepare(HttpServletResponse response, String name, ExportFormat format) {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(name + "-" + LocalDate.now() + "." + format.getExtension())
+                .build()
+                .toString());
+    }
+}
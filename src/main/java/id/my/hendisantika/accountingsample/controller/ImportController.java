@@ -0,0 +1,111 @@
+package id.my.hendisantika.accountingsample.controller;
+
+import id.my.hendisantika.accountingsample.dto.ApiResponse;
+import id.my.hendisantika.accountingsample.dto.importer.DocumentImportResponse;
+import id.my.hendisantika.accountingsample.dto.importer.ImportResultResponse;
+import id.my.hendisantika.accountingsample.service.DocumentImportService;
+import id.my.hendisantika.accountingsample.service.ImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 19.30
+ * To change this template use File | Settings | File Templates.
+ */
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+@Tag(name = "Import", description = "CSV bulk import endpoints")
+public class ImportController {
+
+    private final ImportService importService;
+    private final DocumentImportService documentImportService;
+
+    @PostMapping(value = "/customers", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Import customers from a CSV file, reporting rows that could not be imported")
+    public ResponseEntity<ApiResponse<ImportResultResponse>> importCustomers(
+            @RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            ImportResultResponse result = importService.importCustomers(in);
+            return ResponseEntity.ok(ApiResponse.success("Customers imported", result));
+        }
+    }
+
+    @PostMapping(value = "/vendors", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Import vendors from a CSV file, reporting rows that could not be imported")
+    public ResponseEntity<ApiResponse<ImportResultResponse>> importVendors(
+            @RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            ImportResultResponse result = importService.importVendors(in);
+            return ResponseEntity.ok(ApiResponse.success("Vendors imported", result));
+        }
+    }
+
+    @PostMapping(value = "/items", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Import items from a CSV file, reporting rows that could not be imported")
+    public ResponseEntity<ApiResponse<ImportResultResponse>> importItems(
+            @RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            ImportResultResponse result = importService.importItems(in);
+            return ResponseEntity.ok(ApiResponse.success("Items imported", result));
+        }
+    }
+
+    @PostMapping(value = "/invoices", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Import invoices from a CSV file with one row per line, or resume an unfinished import")
+    public ResponseEntity<ApiResponse<DocumentImportResponse>> importInvoices(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) Long importId) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            DocumentImportResponse result = documentImportService.importInvoices(in, file.getOriginalFilename(),
+                    importId);
+            return ResponseEntity.ok(ApiResponse.success("Invoices imported", result));
+        }
+    }
+
+    @PostMapping(value = "/bills", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Import bills from a CSV file with one row per line, or resume an unfinished import")
+    public ResponseEntity<ApiResponse<DocumentImportResponse>> importBills(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) Long importId) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            DocumentImportResponse result = documentImportService.importBills(in, file.getOriginalFilename(),
+                    importId);
+            return ResponseEntity.ok(ApiResponse.success("Bills imported", result));
+        }
+    }
+
+    @GetMapping("/documents/{id}")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Get the progress and errors of an invoice or bill import")
+    public ResponseEntity<ApiResponse<DocumentImportResponse>> getDocumentImport(@PathVariable Long id) {
+        DocumentImportResponse result = documentImportService.getImport(id);
+        return ResponseEntity.ok(ApiResponse.success("Import retrieved", result));
+    }
+}
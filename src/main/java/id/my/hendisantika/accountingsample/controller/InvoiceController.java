@@ -1,14 +1,20 @@
 package id.my.hendisantika.accountingsample.controller;
 
 import id.my.hendisantika.accountingsample.dto.ApiResponse;
+import id.my.hendisantika.accountingsample.dto.CursorPageResponse;
+import id.my.hendisantika.accountingsample.dto.SliceResponse;
+import id.my.hendisantika.accountingsample.dto.invoice.InvoiceFilter;
 import id.my.hendisantika.accountingsample.dto.invoice.InvoiceRequest;
 import id.my.hendisantika.accountingsample.dto.invoice.InvoiceResponse;
+import id.my.hendisantika.accountingsample.dto.invoice.InvoiceSummaryResponse;
 import id.my.hendisantika.accountingsample.model.enums.InvoiceStatus;
 import id.my.hendisantika.accountingsample.service.InvoiceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -51,6 +57,14 @@ public class InvoiceController {
         return ResponseEntity.ok(ApiResponse.success("Invoices retrieved", invoices));
     }
 
+    @GetMapping("/summaries")
+    @Operation(summary = "Get invoices as lightweight summary rows")
+    public ResponseEntity<ApiResponse<SliceResponse<InvoiceSummaryResponse>>> getInvoiceSummaries(
+            @ParameterObject Pageable pageable) {
+        SliceResponse<InvoiceSummaryResponse> invoices = invoiceService.getInvoiceSummaries(pageable);
+        return ResponseEntity.ok(ApiResponse.success("Invoice summaries retrieved", invoices));
+    }
+
     @GetMapping("/customer/{customerId}")
     @Operation(summary = "Get invoices by customer")
     public ResponseEntity<ApiResponse<List<InvoiceResponse>>> getInvoicesByCustomer(@PathVariable Long customerId) {
@@ -74,6 +88,16 @@ public class InvoiceController {
         return ResponseEntity.ok(ApiResponse.success("Invoices retrieved by date range", invoices));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll invoices page by page with filters and sorting")
+    public ResponseEntity<ApiResponse<CursorPageResponse<InvoiceResponse>>> scrollInvoices(
+            @ParameterObject InvoiceFilter filter,
+            @RequestParam(required = false) String cursor,
+            @ParameterObject Pageable pageable) {
+        CursorPageResponse<InvoiceResponse> page = invoiceService.scrollInvoices(filter, cursor, pageable);
+        return ResponseEntity.ok(ApiResponse.success("Invoices retrieved", page));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get invoice by ID")
     public ResponseEntity<ApiResponse<InvoiceResponse>> getInvoiceById(@PathVariable Long id) {
@@ -1,6 +1,10 @@
 package id.my.hendisantika.accountingsample.controller;
 
 import id.my.hendisantika.accountingsample.dto.ApiResponse;
+import id.my.hendisantika.accountingsample.dto.CursorPageResponse;
+import id.my.hendisantika.accountingsample.dto.journal.JournalEntryBatchPostRequest;
+import id.my.hendisantika.accountingsample.dto.journal.JournalEntryBatchPostResponse;
+import id.my.hendisantika.accountingsample.dto.journal.JournalEntryFilter;
 import id.my.hendisantika.accountingsample.dto.journal.JournalEntryRequest;
 import id.my.hendisantika.accountingsample.dto.journal.JournalEntryResponse;
 import id.my.hendisantika.accountingsample.model.enums.JournalEntryStatus;
@@ -9,6 +13,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,6 +24,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -56,6 +63,16 @@ public class JournalEntryController {
         return ResponseEntity.ok(ApiResponse.success("Journal entries retrieved", journalEntries));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll journal entries page by page with filters and sorting")
+    public ResponseEntity<ApiResponse<CursorPageResponse<JournalEntryResponse>>> scrollJournalEntries(
+            @ParameterObject JournalEntryFilter filter,
+            @RequestParam(required = false) String cursor,
+            @ParameterObject Pageable pageable) {
+        CursorPageResponse<JournalEntryResponse> page = journalEntryService.scrollJournalEntries(filter, cursor, pageable);
+        return ResponseEntity.ok(ApiResponse.success("Journal entries retrieved", page));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get journal entry by ID")
     public ResponseEntity<ApiResponse<JournalEntryResponse>> getJournalEntryById(@PathVariable Long id) {
@@ -90,6 +107,15 @@ public class JournalEntryController {
         return ResponseEntity.ok(ApiResponse.success("Journal entry posted", journalEntry));
     }
 
+    @PostMapping("/post-batch")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Post many DRAFT journal entries at once (all or nothing)")
+    public ResponseEntity<ApiResponse<JournalEntryBatchPostResponse>> postJournalEntries(
+            @Valid @RequestBody JournalEntryBatchPostRequest request) {
+        JournalEntryBatchPostResponse result = journalEntryService.postJournalEntries(request.getJournalEntryIds());
+        return ResponseEntity.ok(ApiResponse.success("Journal entries posted", result));
+    }
+
     @PostMapping("/{id}/reverse")
     @PreAuthorize("hasAnyRole('OWNER', 'ADMIN', 'ACCOUNTANT')")
     @Operation(summary = "Reverse journal entry (creates reversing entry)")
@@ -1,8 +1,11 @@
 package id.my.hendisantika.accountingsample.controller;
 
 import id.my.hendisantika.accountingsample.dto.ApiResponse;
+import id.my.hendisantika.accountingsample.dto.organization.OrganizationAccessRequest;
+import id.my.hendisantika.accountingsample.dto.organization.OrganizationAccessResponse;
 import id.my.hendisantika.accountingsample.dto.organization.OrganizationRequest;
 import id.my.hendisantika.accountingsample.dto.organization.OrganizationResponse;
+import id.my.hendisantika.accountingsample.service.OrganizationAccessService;
 import id.my.hendisantika.accountingsample.service.OrganizationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,12 +13,17 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * Created by IntelliJ IDEA.
  * Project : accounting-sample
@@ -34,6 +42,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrganizationController {
 
     private final OrganizationService organizationService;
+    private final OrganizationAccessService organizationAccessService;
 
     @GetMapping("/current")
     @Operation(summary = "Get current organization details")
@@ -50,4 +59,29 @@ public class OrganizationController {
         OrganizationResponse response = organizationService.updateOrganization(request);
         return ResponseEntity.ok(ApiResponse.success("Organization updated", response));
     }
+
+    @GetMapping("/current/access")
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN')")
+    @Operation(summary = "List users of other organizations who can consolidate this one")
+    public ResponseEntity<ApiResponse<List<OrganizationAccessResponse>>> getAccessGrants() {
+        List<OrganizationAccessResponse> response = organizationAccessService.getAccessGrants();
+        return ResponseEntity.ok(ApiResponse.success("Access grants retrieved", response));
+    }
+
+    @PostMapping("/current/access")
+    @PreAuthorize("hasRole('OWNER')")
+    @Operation(summary = "Let a user of another organization include this one in consolidated reports")
+    public ResponseEntity<ApiResponse<OrganizationAccessResponse>> grantAccess(
+            @Valid @RequestBody OrganizationAccessRequest request) {
+        OrganizationAccessResponse response = organizationAccessService.grantAccess(request);
+        return ResponseEntity.ok(ApiResponse.success("Access granted", response));
+    }
+
+    @DeleteMapping("/current/access/{userId}")
+    @PreAuthorize("hasRole('OWNER')")
+    @Operation(summary = "Revoke a user's access to this organization")
+    public ResponseEntity<ApiResponse<Void>> revokeAccess(@PathVariable Long userId) {
+        organizationAccessService.revokeAccess(userId);
+        return ResponseEntity.ok(ApiResponse.success("Access revoked", null));
+    }
 }
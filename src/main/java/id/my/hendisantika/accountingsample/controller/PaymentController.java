@@ -1,6 +1,8 @@
 package id.my.hendisantika.accountingsample.controller;
 
 import id.my.hendisantika.accountingsample.dto.ApiResponse;
+import id.my.hendisantika.accountingsample.dto.CursorPageResponse;
+import id.my.hendisantika.accountingsample.dto.payment.PaymentFilter;
 import id.my.hendisantika.accountingsample.dto.payment.PaymentRequest;
 import id.my.hendisantika.accountingsample.dto.payment.PaymentResponse;
 import id.my.hendisantika.accountingsample.model.enums.PaymentType;
@@ -9,6 +11,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,6 +22,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -72,6 +77,16 @@ public class PaymentController {
         return ResponseEntity.ok(ApiResponse.success("Vendor payments retrieved", payments));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll payments page by page with filters and sorting")
+    public ResponseEntity<ApiResponse<CursorPageResponse<PaymentResponse>>> scrollPayments(
+            @ParameterObject PaymentFilter filter,
+            @RequestParam(required = false) String cursor,
+            @ParameterObject Pageable pageable) {
+        CursorPageResponse<PaymentResponse> page = paymentService.scrollPayments(filter, cursor, pageable);
+        return ResponseEntity.ok(ApiResponse.success("Payments retrieved", page));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get payment by ID")
     public ResponseEntity<ApiResponse<PaymentResponse>> getPaymentById(@PathVariable Long id) {
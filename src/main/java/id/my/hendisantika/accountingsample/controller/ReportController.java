@@ -0,0 +1,181 @@
+package id.my.hendisantika.accountingsample.controller;
+
+import id.my.hendisantika.accountingsample.dto.ApiResponse;
+import id.my.hendisantika.accountingsample.dto.report.AgingReportResponse;
+import id.my.hendisantika.accountingsample.dto.report.AnalyticsReportResponse;
+import id.my.hendisantika.accountingsample.dto.report.BalanceSheetResponse;
+import id.my.hendisantika.accountingsample.dto.report.CashFlowResponse;
+import id.my.hendisantika.accountingsample.dto.report.ComparativeBalanceSheetResponse;
+import id.my.hendisantika.accountingsample.dto.report.ComparativeProfitLossResponse;
+import id.my.hendisantika.accountingsample.dto.report.ConsolidatedTrialBalanceResponse;
+import id.my.hendisantika.accountingsample.dto.report.ProfitLossResponse;
+import id.my.hendisantika.accountingsample.dto.report.TrialBalanceResponse;
+import id.my.hendisantika.accountingsample.model.enums.ComparisonPeriod;
+import id.my.hendisantika.accountingsample.model.enums.PeriodType;
+import id.my.hendisantika.accountingsample.service.AnalyticsService;
+import id.my.hendisantika.accountingsample.service.ConsolidationService;
+import id.my.hendisantika.accountingsample.service.ReportCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 09.00
+ * To change this template use File | Settings | File Templates.
+ */
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Financial reports endpoints")
+public class ReportController {
+
+    private final ReportCache reportCache;
+    private final AnalyticsService analyticsService;
+    private final ConsolidationService consolidationService;
+
+    @GetMapping("/trial-balance")
+    @Operation(summary = "Get trial balance as of a date (defaults to today)")
+    public ResponseEntity<ApiResponse<TrialBalanceResponse>> getTrialBalance(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate) {
+        TrialBalanceResponse report = reportCache.getTrialBalance(asOfDate != null ? asOfDate : LocalDate.now());
+        return ResponseEntity.ok(ApiResponse.success("Trial balance retrieved", report));
+    }
+
+    @GetMapping("/balance-sheet")
+    @Operation(summary = "Get balance sheet as of a date (defaults to today)")
+    public ResponseEntity<ApiResponse<BalanceSheetResponse>> getBalanceSheet(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate) {
+        BalanceSheetResponse report = reportCache.getBalanceSheet(asOfDate != null ? asOfDate : LocalDate.now());
+        return ResponseEntity.ok(ApiResponse.success("Balance sheet retrieved", report));
+    }
+
+    @GetMapping("/profit-loss")
+    @Operation(summary = "Get profit and loss for a date range (defaults to the year to date)")
+    public ResponseEntity<ApiResponse<ProfitLossResponse>> getProfitAndLoss(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate toDate = to != null ? to : LocalDate.now();
+        LocalDate fromDate = from != null ? from : toDate.withDayOfYear(1);
+        ProfitLossResponse report = reportCache.getProfitAndLoss(fromDate, toDate);
+        return ResponseEntity.ok(ApiResponse.success("Profit and loss retrieved", report));
+    }
+
+    @GetMapping("/cash-flow")
+    @Operation(summary = "Get cash flow statement for a date range (defaults to the year to date)")
+    public ResponseEntity<ApiResponse<CashFlowResponse>> getCashFlow(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate toDate = to != null ? to : LocalDate.now();
+        LocalDate fromDate = from != null ? from : toDate.withDayOfYear(1);
+        CashFlowResponse report = reportCache.getCashFlow(fromDate, toDate);
+        return ResponseEntity.ok(ApiResponse.success("Cash flow statement retrieved", report));
+    }
+
+    @GetMapping("/balance-sheet/comparative")
+    @Operation(summary = "Get balance sheets at the end of consecutive months or fiscal quarters up to a date")
+    public ResponseEntity<ApiResponse<ComparativeBalanceSheetResponse>> getComparativeBalanceSheet(
+            @RequestParam(defaultValue = "MONTH") PeriodType periodType,
+            @RequestParam(defaultValue = "12") int periods,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        ComparativeBalanceSheetResponse report = reportCache.getComparativeBalanceSheet(periodType, periods,
+                endDate != null ? endDate : LocalDate.now());
+        return ResponseEntity.ok(ApiResponse.success("Comparative balance sheet retrieved", report));
+    }
+
+    @GetMapping("/profit-loss/comparative")
+    @Operation(summary = "Get profit and loss for consecutive months or fiscal quarters up to a date")
+    public ResponseEntity<ApiResponse<ComparativeProfitLossResponse>> getComparativeProfitAndLoss(
+            @RequestParam(defaultValue = "MONTH") PeriodType periodType,
+            @RequestParam(defaultValue = "12") int periods,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        ComparativeProfitLossResponse report = reportCache.getComparativeProfitAndLoss(periodType, periods,
+                endDate != null ? endDate : LocalDate.now());
+        return ResponseEntity.ok(ApiResponse.success("Comparative profit and loss retrieved", report));
+    }
+
+    @GetMapping("/consolidated/trial-balance")
+    @Operation(summary = "Get the combined trial balance of several organizations (defaults to all accessible)")
+    public ResponseEntity<ApiResponse<ConsolidatedTrialBalanceResponse>> getConsolidatedTrialBalance(
+            @RequestParam(required = false) List<Long> organizationIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate) {
+        ConsolidatedTrialBalanceResponse report = consolidationService.getConsolidatedTrialBalance(organizationIds,
+                asOfDate != null ? asOfDate : LocalDate.now());
+        return ResponseEntity.ok(ApiResponse.success("Consolidated trial balance retrieved", report));
+    }
+
+    @GetMapping("/aged-receivables")
+    @Operation(summary = "Get open receivables per customer by days past due")
+    public ResponseEntity<ApiResponse<AgingReportResponse>> getAgedReceivables() {
+        return ResponseEntity.ok(ApiResponse.success("Aged receivables retrieved", reportCache.getAgedReceivables()));
+    }
+
+    @GetMapping("/aged-payables")
+    @Operation(summary = "Get open payables per vendor by days past due")
+    public ResponseEntity<ApiResponse<AgingReportResponse>> getAgedPayables() {
+        return ResponseEntity.ok(ApiResponse.success("Aged payables retrieved", reportCache.getAgedPayables()));
+    }
+
+    @GetMapping("/sales-by-item")
+    @Operation(summary = "Get sales per item with a comparison period (defaults to the year to date)")
+    public ResponseEntity<ApiResponse<AnalyticsReportResponse>> getSalesByItem(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "PREVIOUS_PERIOD") ComparisonPeriod compare) {
+        LocalDate toDate = to != null ? to : LocalDate.now();
+        LocalDate fromDate = from != null ? from : toDate.withDayOfYear(1);
+        AnalyticsReportResponse report = analyticsService.getSalesByItem(fromDate, toDate, compare);
+        return ResponseEntity.ok(ApiResponse.success("Sales by item retrieved", report));
+    }
+
+    @GetMapping("/sales-by-customer")
+    @Operation(summary = "Get sales per customer with a comparison period (defaults to the year to date)")
+    public ResponseEntity<ApiResponse<AnalyticsReportResponse>> getSalesByCustomer(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "PREVIOUS_PERIOD") ComparisonPeriod compare) {
+        LocalDate toDate = to != null ? to : LocalDate.now();
+        LocalDate fromDate = from != null ? from : toDate.withDayOfYear(1);
+        AnalyticsReportResponse report = analyticsService.getSalesByCustomer(fromDate, toDate, compare);
+        return ResponseEntity.ok(ApiResponse.success("Sales by customer retrieved", report));
+    }
+
+    @GetMapping("/purchases-by-vendor")
+    @Operation(summary = "Get purchases per vendor with a comparison period (defaults to the year to date)")
+    public ResponseEntity<ApiResponse<AnalyticsReportResponse>> getPurchasesByVendor(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "PREVIOUS_PERIOD") ComparisonPeriod compare) {
+        LocalDate toDate = to != null ? to : LocalDate.now();
+        LocalDate fromDate = from != null ? from : toDate.withDayOfYear(1);
+        AnalyticsReportResponse report = analyticsService.getPurchasesByVendor(fromDate, toDate, compare);
+        return ResponseEntity.ok(ApiResponse.success("Purchases by vendor retrieved", report));
+    }
+
+    @GetMapping("/purchases-by-item")
+    @Operation(summary = "Get purchases per item with a comparison period (defaults to the year to date)")
+    public ResponseEntity<ApiResponse<AnalyticsReportResponse>> getPurchasesByItem(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "PREVIOUS_PERIOD") ComparisonPeriod compare) {
+        LocalDate toDate = to != null ? to : LocalDate.now();
+        LocalDate fromDate = from != null ? from : toDate.withDayOfYear(1);
+        AnalyticsReportResponse report = analyticsService.getPurchasesByItem(fromDate, toDate, compare);
+        return ResponseEntity.ok(ApiResponse.success("Purchases by item retrieved", report));
+    }
+}
@@ -0,0 +1,50 @@
+package id.my.hendisantika.accountingsample.controller;
+
+import id.my.hendisantika.accountingsample.dto.ApiResponse;
+import id.my.hendisantika.accountingsample.dto.report.ReportJobRequest;
+import id.my.hendisantika.accountingsample.dto.report.ReportJobResponse;
+import id.my.hendisantika.accountingsample.service.ReportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.00
+ * To change this template use File | Settings | File Templates.
+ */
+@RestController
+@RequestMapping("/api/reports/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Financial reports endpoints")
+public class ReportJobController {
+
+    private final ReportJobService reportJobService;
+
+    @PostMapping
+    @Operation(summary = "Submit a report to run in the background")
+    public ResponseEntity<ApiResponse<ReportJobResponse>> submit(@Valid @RequestBody ReportJobRequest request) {
+        ReportJobResponse job = reportJobService.submit(request);
+        return ResponseEntity.accepted().body(ApiResponse.success("Report job submitted", job));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get the status of a report job and its result once completed")
+    public ResponseEntity<ApiResponse<ReportJobResponse>> getJob(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success("Report job retrieved", reportJobService.getJob(id)));
+    }
+}
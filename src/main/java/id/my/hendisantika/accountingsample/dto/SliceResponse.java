@@ -0,0 +1,46 @@
+package id.my.hendisantika.accountingsample.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 23.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceResponse<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    public static <T, R> SliceResponse<R> of(Slice<T> slice, Function<T, R> mapper) {
+        List<R> content = slice.getContent().stream()
+                .map(mapper)
+                .toList();
+
+        return SliceResponse.<R>builder()
+                .content(content)
+                .page(slice.getNumber())
+                .size(content.size())
+                .hasNext(slice.hasNext())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package id.my.hendisantika.accountingsample.dto.account;
 
 import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.CashFlowActivity;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -32,4 +33,5 @@ public class AccountRequest {
     private String description;
     private Boolean isActive;
     private Boolean taxApplicable;
+    private CashFlowActivity cashFlowActivity;
 }
@@ -1,11 +1,13 @@
 package id.my.hendisantika.accountingsample.dto.account;
 
 import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.CashFlowActivity;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -24,7 +26,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class AccountResponse {
+public class AccountResponse implements Serializable {
 
     private Long id;
     private String code;
@@ -37,6 +39,7 @@ public class AccountResponse {
     private Boolean isActive;
     private Boolean isSystem;
     private Boolean taxApplicable;
+    private CashFlowActivity cashFlowActivity;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
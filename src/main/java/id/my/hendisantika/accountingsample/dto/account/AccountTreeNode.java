@@ -0,0 +1,40 @@
+package id.my.hendisantika.accountingsample.dto.account;
+
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 14.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTreeNode {
+
+    private Long id;
+    private String code;
+    private String name;
+    private AccountType accountType;
+    private Boolean isActive;
+    private BigDecimal currentBalance;
+    /**
+     * Balance of this account plus every account below it
+     */
+    private BigDecimal rolledUpBalance;
+    private List<AccountTreeNode> children;
+}
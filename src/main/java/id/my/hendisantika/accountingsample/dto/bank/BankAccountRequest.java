@@ -0,0 +1,47 @@
+package id.my.hendisantika.accountingsample.dto.bank;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+public class BankAccountRequest {
+
+    @NotNull(message = "Account is required")
+    private Long accountId;
+
+    @NotBlank(message = "Bank account name is required")
+    private String accountName;
+
+    @Size(max = 50, message = "Account number must be at most 50 characters")
+    private String accountNumber;
+
+    private String bankName;
+    private String branchName;
+
+    @Size(max = 50, message = "SWIFT code must be at most 50 characters")
+    private String swiftCode;
+
+    @Size(max = 50, message = "Routing number must be at most 50 characters")
+    private String routingNumber;
+
+    @Size(min = 3, max = 3, message = "Currency must be a three letter code")
+    private String currency;
+
+    private BigDecimal openingBalance;
+    private Boolean isActive;
+}
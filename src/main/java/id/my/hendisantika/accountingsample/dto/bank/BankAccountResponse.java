@@ -0,0 +1,44 @@
+package id.my.hendisantika.accountingsample.dto.bank;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankAccountResponse {
+
+    private Long id;
+    private Long accountId;
+    private String accountCode;
+    private String accountName;
+    private String bankAccountName;
+    private String accountNumber;
+    private String bankName;
+    private String branchName;
+    private String swiftCode;
+    private String routingNumber;
+    private String currency;
+    private BigDecimal openingBalance;
+    private BigDecimal currentBalance;
+    private Boolean isActive;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
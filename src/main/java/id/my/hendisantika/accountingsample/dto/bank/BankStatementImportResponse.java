@@ -0,0 +1,48 @@
+package id.my.hendisantika.accountingsample.dto.bank;
+
+import id.my.hendisantika.accountingsample.model.enums.StatementFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankStatementImportResponse {
+
+    private Long bankAccountId;
+    private StatementFormat format;
+    private int totalLines;
+    private int importedLines;
+
+    /**
+     * Lines already in the account from an earlier import of an overlapping statement
+     */
+    private int duplicateLines;
+
+    private LocalDate fromDate;
+    private LocalDate toDate;
+
+    /**
+     * Total of the imported lines, already added to the current balance
+     */
+    private BigDecimal importedAmount;
+
+    private BigDecimal currentBalance;
+}
@@ -0,0 +1,42 @@
+package id.my.hendisantika.accountingsample.dto.bank;
+
+import id.my.hendisantika.accountingsample.model.enums.BankTransactionStatus;
+import id.my.hendisantika.accountingsample.model.enums.BankTransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankTransactionResponse {
+
+    private Long id;
+    private Long bankAccountId;
+    private LocalDate transactionDate;
+    private String description;
+    private String referenceNumber;
+    private BankTransactionType transactionType;
+    private BigDecimal amount;
+    private BankTransactionStatus status;
+    private Boolean isReconciled;
+    private LocalDateTime reconciledAt;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,44 @@
+package id.my.hendisantika.accountingsample.dto.bank;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 21.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationResponse {
+
+    private Long bankAccountId;
+    private int dateWindowDays;
+
+    /**
+     * Unreconciled bank lines of the account and the unreconciled payments dated near them
+     */
+    private int bankLines;
+    private int payments;
+
+    private int matchedLines;
+    private int matchedPayments;
+    private int referenceMatches;
+    private int amountMatches;
+    private int sumMatches;
+
+    /**
+     * Bank lines still unreconciled, left for reconciling by hand
+     */
+    private int unmatchedLines;
+}
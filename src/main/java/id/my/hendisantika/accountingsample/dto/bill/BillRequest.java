@@ -2,7 +2,6 @@ package id.my.hendisantika.accountingsample.dto.bill;
 
 import id.my.hendisantika.accountingsample.model.enums.BillStatus;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -27,8 +26,7 @@ public class BillRequest {
     @NotNull(message = "Vendor ID is required")
     private Long vendorId;
 
-    @NotBlank(message = "Bill number is required")
-    private String billNumber;
+    private String billNumber; // Auto-generated if not provided
 
     @NotNull(message = "Bill date is required")
     private LocalDate billDate;
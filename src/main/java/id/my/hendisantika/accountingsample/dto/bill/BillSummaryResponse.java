@@ -0,0 +1,38 @@
+package id.my.hendisantika.accountingsample.dto.bill;
+
+import id.my.hendisantika.accountingsample.model.enums.BillStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 23.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillSummaryResponse {
+
+    private Long id;
+    private String billNumber;
+    private LocalDate billDate;
+    private LocalDate dueDate;
+    private Long vendorId;
+    private String vendorName;
+    private BillStatus status;
+    private BigDecimal totalAmount;
+    private BigDecimal balance;
+}
@@ -0,0 +1,34 @@
+package id.my.hendisantika.accountingsample.dto.customer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 23.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerSummaryResponse {
+
+    private Long id;
+    private String customerCode;
+    private String name;
+    private String email;
+    private String phone;
+    private BigDecimal outstandingBalance;
+    private Boolean isActive;
+}
@@ -0,0 +1,40 @@
+package id.my.hendisantika.accountingsample.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 17.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardKpiResponse {
+
+    private LocalDate date;
+    private BigDecimal revenueMtd;
+    private BigDecimal expensesMtd;
+    private BigDecimal receivablesOutstanding;
+    private BigDecimal receivablesOverdue;
+    private Integer overdueInvoiceCount;
+    private BigDecimal payablesOutstanding;
+    private BigDecimal payablesOverdue;
+    private Integer overdueBillCount;
+    private BigDecimal cashPosition;
+    private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,49 @@
+package id.my.hendisantika.accountingsample.dto.importer;
+
+import id.my.hendisantika.accountingsample.model.enums.DocumentImportStatus;
+import id.my.hendisantika.accountingsample.model.enums.DocumentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentImportResponse {
+
+    private Long id;
+    private DocumentType documentType;
+    private DocumentImportStatus status;
+    private String fileName;
+    /**
+     * Last file row committed; resuming the import with the same file carries on after it
+     */
+    private int checkpointRow;
+    private int importedDocuments;
+    private int importedLines;
+    private int failedDocuments;
+    private String errorMessage;
+    private List<ImportResultResponse.ImportRowError> errors;
+    /**
+     * Set when there were more errors than the report lists
+     */
+    private boolean errorsTruncated;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,48 @@
+package id.my.hendisantika.accountingsample.dto.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 19.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultResponse {
+
+    private int totalRows;
+    private int importedRows;
+    private int failedRows;
+    private List<ImportRowError> errors;
+    /**
+     * Set when there were more errors than the report lists
+     */
+    private boolean errorsTruncated;
+
+    /**
+     * Row numbers count the header as row 1, as a spreadsheet shows them
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportRowError {
+        private int rowNumber;
+        private String column;
+        private String message;
+    }
+}
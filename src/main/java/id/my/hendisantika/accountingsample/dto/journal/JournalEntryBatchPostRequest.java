@@ -0,0 +1,25 @@
+package id.my.hendisantika.accountingsample.dto.journal;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 10.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+public class JournalEntryBatchPostRequest {
+
+    @NotEmpty(message = "At least one journal entry ID is required")
+    private List<@NotNull Long> journalEntryIds;
+}
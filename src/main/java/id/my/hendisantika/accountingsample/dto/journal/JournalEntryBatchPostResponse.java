@@ -0,0 +1,31 @@
+package id.my.hendisantika.accountingsample.dto.journal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 10.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalEntryBatchPostResponse {
+
+    private int postedCount;
+    private int accountsUpdated;
+    private BigDecimal totalDebit;
+    private BigDecimal totalCredit;
+}
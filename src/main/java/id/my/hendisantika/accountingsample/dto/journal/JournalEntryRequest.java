@@ -1,7 +1,6 @@
 package id.my.hendisantika.accountingsample.dto.journal;
 
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -23,8 +22,7 @@ import java.util.List;
 @Data
 public class JournalEntryRequest {
 
-    @NotBlank(message = "Journal number is required")
-    private String journalNumber;
+    private String journalNumber; // Auto-generated if not provided
 
     @NotNull(message = "Entry date is required")
     private LocalDate entryDate;
@@ -0,0 +1,33 @@
+package id.my.hendisantika.accountingsample.dto.organization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 18.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationAccessResponse {
+
+    private Long userId;
+    private String email;
+    private String userName;
+    private Long userOrganizationId;
+    private String userOrganizationName;
+    private LocalDateTime grantedAt;
+}
@@ -0,0 +1,34 @@
+package id.my.hendisantika.accountingsample.dto.payment;
+
+import id.my.hendisantika.accountingsample.model.enums.PaymentType;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 10.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+public class PaymentFilter {
+
+    private PaymentType paymentType;
+
+    private Long customerId;
+
+    private Long vendorId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fromDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate toDate;
+}
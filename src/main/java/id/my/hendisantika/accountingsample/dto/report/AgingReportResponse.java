@@ -0,0 +1,49 @@
+package id.my.hendisantika.accountingsample.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 15.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgingReportResponse implements Serializable {
+
+    private LocalDate asOfDate;
+    private List<AgingLine> lines;
+    private AgingLine totals;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AgingLine implements Serializable {
+        private Long contactId;
+        private String contactName;
+        private BigDecimal current;
+        private BigDecimal days1To30;
+        private BigDecimal days31To60;
+        private BigDecimal days61To90;
+        private BigDecimal days91To120;
+        private BigDecimal daysOver120;
+        private BigDecimal total;
+    }
+}
@@ -0,0 +1,63 @@
+package id.my.hendisantika.accountingsample.dto.report;
+
+import id.my.hendisantika.accountingsample.model.enums.ComparisonPeriod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 17.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsReportResponse implements Serializable {
+
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private ComparisonPeriod comparison;
+    private LocalDate comparisonFromDate;
+    private LocalDate comparisonToDate;
+    private List<AnalyticsLine> lines;
+    private AnalyticsLine totals;
+
+    /**
+     * One item, customer or vendor. Item reports fill in the quantities, customer and vendor reports the
+     * document counts.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AnalyticsLine implements Serializable {
+        private Long id;
+        private String code;
+        private String name;
+        private BigDecimal quantity;
+        private Long documentCount;
+        private BigDecimal amount;
+        private BigDecimal comparisonQuantity;
+        private Long comparisonDocumentCount;
+        private BigDecimal comparisonAmount;
+        private BigDecimal change;
+        /**
+         * Null when the comparison amount is zero
+         */
+        private BigDecimal changePercent;
+    }
+}
@@ -0,0 +1,49 @@
+package id.my.hendisantika.accountingsample.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 09.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceSheetResponse implements Serializable {
+
+    private LocalDate asOfDate;
+    private List<BalanceSheetLine> assets;
+    private List<BalanceSheetLine> liabilities;
+    private List<BalanceSheetLine> equity;
+    private BigDecimal totalAssets;
+    private BigDecimal totalLiabilities;
+    private BigDecimal retainedEarnings;
+    private BigDecimal totalEquity;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BalanceSheetLine implements Serializable {
+        private Long accountId;
+        private String accountCode;
+        private String accountName;
+        private BigDecimal balance;
+    }
+}
@@ -0,0 +1,56 @@
+package id.my.hendisantika.accountingsample.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 15.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CashFlowResponse implements Serializable {
+
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private BigDecimal netIncome;
+    private List<CashFlowLine> operatingActivities;
+    private BigDecimal netCashFromOperating;
+    private List<CashFlowLine> investingActivities;
+    private BigDecimal netCashFromInvesting;
+    private List<CashFlowLine> financingActivities;
+    private BigDecimal netCashFromFinancing;
+    private BigDecimal netChangeInCash;
+    private BigDecimal openingCash;
+    private BigDecimal closingCash;
+
+    /**
+     * Cash effect of the change in one account's balance over the period; positive is an inflow
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CashFlowLine implements Serializable {
+        private Long accountId;
+        private String accountCode;
+        private String accountName;
+        private BigDecimal amount;
+    }
+}
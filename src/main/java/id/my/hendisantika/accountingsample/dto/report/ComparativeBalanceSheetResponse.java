@@ -0,0 +1,53 @@
+package id.my.hendisantika.accountingsample.dto.report;
+
+import id.my.hendisantika.accountingsample.model.enums.PeriodType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 18.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComparativeBalanceSheetResponse implements Serializable {
+
+    private PeriodType periodType;
+    /**
+     * Balances are as of the last day of each period
+     */
+    private List<ReportPeriod> periods;
+    private List<ComparativeBalanceSheetLine> assets;
+    private List<ComparativeBalanceSheetLine> liabilities;
+    private List<ComparativeBalanceSheetLine> equity;
+    private List<BigDecimal> totalAssets;
+    private List<BigDecimal> totalLiabilities;
+    private List<BigDecimal> retainedEarnings;
+    private List<BigDecimal> totalEquity;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ComparativeBalanceSheetLine implements Serializable {
+        private Long accountId;
+        private String accountCode;
+        private String accountName;
+        private List<BigDecimal> balances;
+    }
+}
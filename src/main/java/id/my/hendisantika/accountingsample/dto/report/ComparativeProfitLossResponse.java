@@ -0,0 +1,58 @@
+package id.my.hendisantika.accountingsample.dto.report;
+
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.PeriodType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 18.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComparativeProfitLossResponse implements Serializable {
+
+    private PeriodType periodType;
+    private List<ReportPeriod> periods;
+    private List<ComparativeProfitLossLine> revenue;
+    private List<ComparativeProfitLossLine> costOfGoodsSold;
+    private List<ComparativeProfitLossLine> expenses;
+    private List<BigDecimal> totalRevenue;
+    private List<BigDecimal> totalCostOfGoodsSold;
+    private List<BigDecimal> grossProfit;
+    private List<BigDecimal> totalExpenses;
+    private List<BigDecimal> netIncome;
+
+    /**
+     * An account with one amount and one sub-tree subtotal per period, in the order of {@code periods}
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ComparativeProfitLossLine implements Serializable {
+        private Long accountId;
+        private String accountCode;
+        private String accountName;
+        private AccountType accountType;
+        private List<BigDecimal> amounts;
+        private List<BigDecimal> subtotals;
+        private List<ComparativeProfitLossLine> children;
+    }
+}
@@ -0,0 +1,63 @@
+package id.my.hendisantika.accountingsample.dto.report;
+
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 18.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsolidatedTrialBalanceResponse implements Serializable {
+
+    private LocalDate asOfDate;
+    private String currencyCode;
+    private List<ConsolidatedOrganization> organizations;
+    private List<ConsolidatedTrialBalanceLine> lines;
+    private BigDecimal totalDebit;
+    private BigDecimal totalCredit;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ConsolidatedOrganization implements Serializable {
+        private Long organizationId;
+        private String name;
+    }
+
+    /**
+     * Accounts with the same code in every organization, with one net debit balance per organization in the
+     * order of {@code organizations} and the combined balance split into debit and credit
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ConsolidatedTrialBalanceLine implements Serializable {
+        private String accountCode;
+        private String accountName;
+        private AccountType accountType;
+        private List<BigDecimal> organizationBalances;
+        private BigDecimal debit;
+        private BigDecimal credit;
+    }
+}
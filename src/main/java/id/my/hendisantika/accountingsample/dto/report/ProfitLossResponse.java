@@ -0,0 +1,58 @@
+package id.my.hendisantika.accountingsample.dto.report;
+
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 14.45
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfitLossResponse implements Serializable {
+
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private List<ProfitLossLine> revenue;
+    private List<ProfitLossLine> costOfGoodsSold;
+    private List<ProfitLossLine> expenses;
+    private BigDecimal totalRevenue;
+    private BigDecimal totalCostOfGoodsSold;
+    private BigDecimal grossProfit;
+    private BigDecimal totalExpenses;
+    private BigDecimal netIncome;
+
+    /**
+     * An account with the amount posted to it directly and the subtotal of its whole sub-tree
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProfitLossLine implements Serializable {
+        private Long accountId;
+        private String accountCode;
+        private String accountName;
+        private AccountType accountType;
+        private BigDecimal amount;
+        private BigDecimal subtotal;
+        private List<ProfitLossLine> children;
+    }
+}
@@ -0,0 +1,48 @@
+package id.my.hendisantika.accountingsample.dto.report;
+
+import id.my.hendisantika.accountingsample.model.enums.ComparisonPeriod;
+import id.my.hendisantika.accountingsample.model.enums.ReportType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobRequest {
+
+    @NotNull(message = "Report type is required")
+    private ReportType reportType;
+
+    /**
+     * Used by the trial balance and balance sheet, defaults to today
+     */
+    private LocalDate asOfDate;
+
+    /**
+     * Used by the profit and loss, cash flow and sales by customer reports, default to the year to date
+     */
+    private LocalDate fromDate;
+    private LocalDate toDate;
+
+    /**
+     * Used by the sales by customer report, defaults to the previous period
+     */
+    private ComparisonPeriod comparison;
+}
@@ -0,0 +1,48 @@
+package id.my.hendisantika.accountingsample.dto.report;
+
+import id.my.hendisantika.accountingsample.model.enums.ComparisonPeriod;
+import id.my.hendisantika.accountingsample.model.enums.ReportJobStatus;
+import id.my.hendisantika.accountingsample.model.enums.ReportType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobResponse implements Serializable {
+
+    private String jobId;
+    private ReportType reportType;
+    private LocalDate asOfDate;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private ComparisonPeriod comparison;
+    private ReportJobStatus status;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    /**
+     * The report, once the job has completed
+     */
+    private Object result;
+    private String error;
+}
@@ -0,0 +1,34 @@
+package id.my.hendisantika.accountingsample.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 18.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportPeriod implements Serializable {
+
+    /**
+     * {@code 2026-03} for a month, {@code FY2026 Q1} for a fiscal quarter
+     */
+    private String label;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+}
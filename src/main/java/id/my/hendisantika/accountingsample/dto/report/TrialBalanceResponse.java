@@ -0,0 +1,48 @@
+package id.my.hendisantika.accountingsample.dto.report;
+
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 09.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrialBalanceResponse implements Serializable {
+
+    private LocalDate asOfDate;
+    private List<TrialBalanceLine> lines;
+    private BigDecimal totalDebit;
+    private BigDecimal totalCredit;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TrialBalanceLine implements Serializable {
+        private Long accountId;
+        private String accountCode;
+        private String accountName;
+        private AccountType accountType;
+        private BigDecimal debit;
+        private BigDecimal credit;
+    }
+}
@@ -0,0 +1,75 @@
+package id.my.hendisantika.accountingsample.export;
+
+import com.opencsv.CSVWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.30
+ * To change this template use File | Settings | File Templates.
+ */
+public class CsvExportWriter implements ExportWriter {
+
+    /**
+     * CSVWriter keeps write failures to itself and checking flushes the buffer, so a closed connection is
+     * noticed every this many rows instead of on every row
+     */
+    private static final int ERROR_CHECK_INTERVAL = 10_000;
+
+    private final CSVWriter csvWriter;
+    private int rowCount;
+
+    public CsvExportWriter(OutputStream out, List<String> headers) {
+        this.csvWriter = new CSVWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        csvWriter.writeNext(headers.toArray(String[]::new), false);
+    }
+
+    @Override
+    public void writeRow(Object... values) throws IOException {
+        String[] cells = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            cells[i] = format(values[i]);
+        }
+        csvWriter.writeNext(cells, false);
+        if (++rowCount % ERROR_CHECK_INTERVAL == 0) {
+            throwIfFailed();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        throwIfFailed();
+    }
+
+    private void throwIfFailed() throws IOException {
+        if (csvWriter.checkError()) {
+            throw csvWriter.getException();
+        }
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal amount) {
+            return amount.toPlainString();
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package id.my.hendisantika.accountingsample.export;
+
+import id.my.hendisantika.accountingsample.model.enums.ExportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.30
+ * To change this template use File | Settings | File Templates.
+ */
+public interface ExportWriter extends Closeable {
+
+    /**
+     * Writes one row. Values may be strings, numbers, dates, booleans, enums or {@code null}.
+     */
+    void writeRow(Object... values) throws IOException;
+
+    /**
+     * Finishes the file. The target stream is flushed but left open for its owner to close.
+     */
+    @Override
+    void close() throws IOException;
+
+    static ExportWriter open(ExportFormat format, OutputStream out, String sheetName, List<String> headers) {
+        return switch (format) {
+            case CSV -> new CsvExportWriter(out, headers);
+            case XLSX -> new XlsxExportWriter(out, sheetName, headers);
+        };
+    }
+}
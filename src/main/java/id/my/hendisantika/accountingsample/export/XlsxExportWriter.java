@@ -0,0 +1,127 @@
+package id.my.hendisantika.accountingsample.export;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.30
+ * To change this template use File | Settings | File Templates.
+ */
+public class XlsxExportWriter implements ExportWriter {
+
+    /**
+     * Rows kept in memory before older rows are flushed to the temporary file
+     */
+    private static final int ROW_WINDOW = 100;
+
+    private static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private final OutputStream out;
+    private final String sheetName;
+    private final List<String> headers;
+    private final SXSSFWorkbook workbook;
+    private final CellStyle headerStyle;
+    private final CellStyle dateStyle;
+    private final CellStyle dateTimeStyle;
+    private final CellStyle amountStyle;
+
+    private Sheet sheet;
+    private int sheetCount;
+    private int rowIndex;
+
+    public XlsxExportWriter(OutputStream out, String sheetName, List<String> headers) {
+        this.out = out;
+        this.sheetName = sheetName;
+        this.headers = headers;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+
+        Font bold = workbook.createFont();
+        bold.setBold(true);
+        headerStyle = workbook.createCellStyle();
+        headerStyle.setFont(bold);
+        dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+        dateTimeStyle = workbook.createCellStyle();
+        dateTimeStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+        amountStyle = workbook.createCellStyle();
+        amountStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0.00"));
+
+        startSheet();
+    }
+
+    @Override
+    public void writeRow(Object... values) {
+        // A sheet holds at most about a million rows, larger exports continue on the next sheet
+        if (rowIndex == MAX_ROWS_PER_SHEET) {
+            startSheet();
+        }
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.length; i++) {
+            setValue(row.createCell(i), values[i]);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.close();
+        }
+    }
+
+    private void startSheet() {
+        sheetCount++;
+        sheet = workbook.createSheet(sheetCount == 1 ? sheetName : sheetName + " (" + sheetCount + ")");
+        Row row = sheet.createRow(0);
+        for (int i = 0; i < headers.size(); i++) {
+            Cell cell = row.createCell(i);
+            cell.setCellValue(headers.get(i));
+            cell.setCellStyle(headerStyle);
+        }
+        rowIndex = 1;
+    }
+
+    private void setValue(Cell cell, Object value) {
+        switch (value) {
+            case null -> cell.setBlank();
+            case BigDecimal amount -> {
+                cell.setCellValue(amount.doubleValue());
+                cell.setCellStyle(amountStyle);
+            }
+            case Number number -> cell.setCellValue(number.doubleValue());
+            case LocalDate date -> {
+                cell.setCellValue(date);
+                cell.setCellStyle(dateStyle);
+            }
+            case LocalDateTime dateTime -> {
+                cell.setCellValue(dateTime);
+                cell.setCellStyle(dateTimeStyle);
+            }
+            case Boolean flag -> cell.setCellValue(flag);
+            case Enum<?> constant -> cell.setCellValue(constant.name());
+            default -> cell.setCellValue(value.toString());
+        }
+    }
+}
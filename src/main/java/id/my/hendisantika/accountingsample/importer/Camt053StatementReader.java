@@ -0,0 +1,193 @@
+package id.my.hendisantika.accountingsample.importer;
+
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+public class Camt053StatementReader implements StatementReader {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = newInputFactory();
+
+    private final XMLStreamReader reader;
+    private final List<String> path = new ArrayList<>();
+    private final StringBuilder text = new StringBuilder();
+    private int entryNumber;
+
+    public Camt053StatementReader(InputStream in) {
+        try {
+            this.reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+        } catch (XMLStreamException ex) {
+            throw unreadable(ex);
+        }
+    }
+
+    /**
+     * Reads up to the end of the next booked Ntry element. Elements are matched by local name under their
+     * parent, so every version of the camt.053 namespace reads the same way; entries still pending are
+     * skipped, as the bank may change or drop them before booking.
+     */
+    @Override
+    public StatementLine next() {
+        try {
+            Entry entry = null;
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        path.add(reader.getLocalName());
+                        text.setLength(0);
+                        if (reader.getLocalName().equals("Ntry")) {
+                            entry = new Entry();
+                            entryNumber++;
+                        }
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> text.append(reader.getText());
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        String element = path.removeLast();
+                        String value = text.toString().trim();
+                        text.setLength(0);
+                        if (entry == null) {
+                            continue;
+                        }
+                        if (element.equals("Ntry")) {
+                            if (!entry.isPending()) {
+                                return entry.toLine();
+                            }
+                            entry = null;
+                        } else {
+                            entry.read(element, path.getLast(), path.size() > 1 ? path.get(path.size() - 2) : null,
+                                    value);
+                        }
+                    }
+                    default -> {
+                        // Comments, whitespace and the document prolog carry nothing
+                    }
+                }
+            }
+            return null;
+        } catch (XMLStreamException ex) {
+            throw unreadable(ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (XMLStreamException ex) {
+            throw unreadable(ex);
+        }
+    }
+
+    private final class Entry {
+
+        private String amount;
+        private String creditDebit;
+        private String status;
+        private String bookingDate;
+        private String servicerReference;
+        private String entryReference;
+        private String endToEndId;
+        private String additionalInfo;
+        private String remittanceInfo;
+
+        /**
+         * Keeps the value of an element inside the entry by its name and the names of its parent and
+         * grandparent. Transaction details repeat per transaction; the first of each is kept.
+         */
+        private void read(String element, String parent, String grandparent, String value) {
+            if (value.isEmpty()) {
+                return;
+            }
+            boolean onEntry = parent.equals("Ntry");
+            switch (element) {
+                case "Amt" -> amount = onEntry ? value : amount;
+                case "CdtDbtInd" -> creditDebit = onEntry ? value : creditDebit;
+                case "Sts" -> status = onEntry ? value : status;
+                case "Cd" -> status = parent.equals("Sts") && "Ntry".equals(grandparent) ? value : status;
+                case "Dt", "DtTm" -> bookingDate = parent.equals("BookgDt") && bookingDate == null
+                        ? value : bookingDate;
+                case "AcctSvcrRef" -> servicerReference = onEntry ? value : servicerReference;
+                case "NtryRef" -> entryReference = onEntry ? value : entryReference;
+                case "EndToEndId" -> endToEndId = endToEndId == null ? value : endToEndId;
+                case "AddtlNtryInf" -> additionalInfo = onEntry ? value : additionalInfo;
+                case "Ustrd" -> remittanceInfo = remittanceInfo == null ? value : remittanceInfo;
+                default -> {
+                    // Not needed for the statement line
+                }
+            }
+        }
+
+        private boolean isPending() {
+            return "PDNG".equals(status);
+        }
+
+        private StatementLine toLine() {
+            if (amount == null) {
+                throw invalid("Amt is missing");
+            }
+            if (bookingDate == null || bookingDate.length() < 10) {
+                throw invalid("BookgDt is missing");
+            }
+
+            BigDecimal value;
+            LocalDate date;
+            try {
+                value = new BigDecimal(amount);
+                date = LocalDate.parse(bookingDate.substring(0, 10));
+            } catch (NumberFormatException | DateTimeParseException ex) {
+                throw invalid("Amt or BookgDt is not valid");
+            }
+            if ("DBIT".equals(creditDebit)) {
+                value = value.negate();
+            } else if (!"CRDT".equals(creditDebit)) {
+                throw invalid("CdtDbtInd must be CRDT or DBIT");
+            }
+
+            // "NOTPROVIDED" is what banks write for an end to end id the payer left out
+            String reference = servicerReference != null ? servicerReference
+                    : entryReference != null ? entryReference
+                    : "NOTPROVIDED".equals(endToEndId) ? null : endToEndId;
+            String description = additionalInfo != null ? additionalInfo : remittanceInfo;
+            return new StatementLine(date, value, reference, description);
+        }
+
+        private BusinessException invalid(String message) {
+            return new BusinessException("Entry " + entryNumber + ": " + message);
+        }
+    }
+
+    /**
+     * Statements come from outside, so DTDs and external entities are turned off
+     */
+    private static XMLInputFactory newInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    private static BusinessException unreadable(XMLStreamException ex) {
+        return new BusinessException("Could not read the statement file: " + ex.getMessage());
+    }
+}
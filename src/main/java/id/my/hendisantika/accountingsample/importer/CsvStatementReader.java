@@ -0,0 +1,102 @@
+package id.my.hendisantika.accountingsample.importer;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+public class CsvStatementReader implements StatementReader {
+
+    private static final int DATE = 0;
+    private static final int AMOUNT = 1;
+    private static final int DEBIT = 2;
+    private static final int CREDIT = 3;
+    private static final int REFERENCE = 4;
+    private static final int DESCRIPTION = 5;
+
+    /*
+     * A statement has either one signed Amount column or separate Debit and Credit columns. Debits are
+     * money out of the account whichever sign the bank writes them with.
+     */
+    private static final List<ImportColumn> COLUMNS = List.of(
+            ImportColumn.date("Date", "transaction_date").required(),
+            ImportColumn.decimal("Amount", "amount"),
+            ImportColumn.decimal("Debit", "debit"),
+            ImportColumn.decimal("Credit", "credit"),
+            ImportColumn.text("Reference", "reference_number", Integer.MAX_VALUE),
+            ImportColumn.text("Description", "description", Integer.MAX_VALUE));
+
+    private final CSVReader reader;
+    private final int[] cellIndexes;
+
+    public CsvStatementReader(InputStream in) throws IOException {
+        this.reader = ImportFiles.openReader(in);
+        this.cellIndexes = ImportFiles.columnIndexes(readRow(), COLUMNS);
+        if (cellIndexes[AMOUNT] < 0 && cellIndexes[DEBIT] < 0 && cellIndexes[CREDIT] < 0) {
+            throw new BusinessException("The statement file has no Amount column and no Debit or Credit column");
+        }
+    }
+
+    @Override
+    public StatementLine next() throws IOException {
+        String[] cells;
+        do {
+            cells = readRow();
+            if (cells == null) {
+                return null;
+            }
+        } while (ImportFiles.isBlank(cells));
+
+        String[] values = new String[COLUMNS.size()];
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            try {
+                values[i] = COLUMNS.get(i).parse(ImportFiles.cell(cells, cellIndexes[i]));
+            } catch (IllegalArgumentException ex) {
+                throw new BusinessException("Row " + reader.getRecordsRead() + ": " + ex.getMessage());
+            }
+        }
+
+        BigDecimal amount;
+        if (values[AMOUNT] != null) {
+            amount = new BigDecimal(values[AMOUNT]);
+        } else if (values[DEBIT] != null || values[CREDIT] != null) {
+            amount = decimalOrZero(values[CREDIT]).abs().subtract(decimalOrZero(values[DEBIT]).abs());
+        } else {
+            throw new BusinessException("Row " + reader.getRecordsRead() + ": Amount is required");
+        }
+        return new StatementLine(LocalDate.parse(values[DATE]), amount, values[REFERENCE], values[DESCRIPTION]);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String[] readRow() throws IOException {
+        try {
+            return reader.readNext();
+        } catch (CsvValidationException ex) {
+            throw new BusinessException("Could not read the statement file: " + ex.getMessage());
+        }
+    }
+
+    private static BigDecimal decimalOrZero(String value) {
+        return value != null ? new BigDecimal(value) : BigDecimal.ZERO;
+    }
+}
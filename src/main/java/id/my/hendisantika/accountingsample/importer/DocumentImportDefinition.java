@@ -0,0 +1,78 @@
+package id.my.hendisantika.accountingsample.importer;
+
+import id.my.hendisantika.accountingsample.model.enums.BillStatus;
+import id.my.hendisantika.accountingsample.model.enums.DocumentType;
+import id.my.hendisantika.accountingsample.model.enums.InvoiceStatus;
+
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.00
+ * To change this template use File | Settings | File Templates.
+ */
+public record DocumentImportDefinition(DocumentType documentType, String name, String contactName,
+                                       List<ImportColumn> columns) {
+
+    /*
+     * Positions of the columns in both layouts. A file has one row per line; consecutive rows with the same
+     * document number make up one document, whose header columns are read from its first row.
+     */
+    public static final int NUMBER = 0;
+    public static final int CONTACT_CODE = 1;
+    public static final int DATE = 2;
+    public static final int DUE_DATE = 3;
+    public static final int STATUS = 4;
+    public static final int PAID_AMOUNT = 5;
+    public static final int NOTES = 6;
+    public static final int ITEM_CODE = 7;
+    public static final int DESCRIPTION = 8;
+    public static final int QUANTITY = 9;
+    public static final int UNIT_PRICE = 10;
+    public static final int DISCOUNT = 11;
+    public static final int TAX_RATE = 12;
+    public static final int REFERENCE = 13;
+
+    public static final DocumentImportDefinition INVOICES = new DocumentImportDefinition(
+            DocumentType.INVOICE, "Invoice", "Customer", List.of(
+            ImportColumn.text("Invoice Number", "invoice_number", 50).required(),
+            ImportColumn.text("Customer Code", "customer_code", 50).required(),
+            ImportColumn.date("Invoice Date", "invoice_date").required(),
+            ImportColumn.date("Due Date", "due_date").required(),
+            ImportColumn.enumeration("Status", "status", InvoiceStatus.class).defaultingTo("DRAFT"),
+            ImportColumn.decimal("Paid Amount", "paid_amount").defaultingTo("0"),
+            ImportColumn.text("Notes", "notes", Integer.MAX_VALUE),
+            ImportColumn.text("Item Code", "item_code", 50).required(),
+            ImportColumn.text("Description", "description", Integer.MAX_VALUE),
+            ImportColumn.decimal("Quantity", "quantity").required(),
+            ImportColumn.decimal("Unit Price", "unit_price").required(),
+            ImportColumn.decimal("Discount", "discount_amount").defaultingTo("0"),
+            ImportColumn.decimal("Tax Rate", "tax_amount").defaultingTo("0")));
+
+    public static final DocumentImportDefinition BILLS = new DocumentImportDefinition(
+            DocumentType.BILL, "Bill", "Vendor", List.of(
+            ImportColumn.text("Bill Number", "bill_number", 50).required(),
+            ImportColumn.text("Vendor Code", "vendor_code", 50).required(),
+            ImportColumn.date("Bill Date", "bill_date").required(),
+            ImportColumn.date("Due Date", "due_date").required(),
+            ImportColumn.enumeration("Status", "status", BillStatus.class).defaultingTo("DRAFT"),
+            ImportColumn.decimal("Paid Amount", "paid_amount").defaultingTo("0"),
+            ImportColumn.text("Notes", "notes", Integer.MAX_VALUE),
+            ImportColumn.text("Item Code", "item_code", 50).required(),
+            ImportColumn.text("Description", "description", Integer.MAX_VALUE),
+            ImportColumn.decimal("Quantity", "quantity").required(),
+            ImportColumn.decimal("Unit Price", "unit_price").required(),
+            ImportColumn.decimal("Discount", "discount_amount").defaultingTo("0"),
+            ImportColumn.decimal("Tax Rate", "tax_amount").defaultingTo("0"),
+            ImportColumn.text("Reference", "reference_number", 50)));
+
+    public ImportColumn column(int index) {
+        return columns.get(index);
+    }
+}
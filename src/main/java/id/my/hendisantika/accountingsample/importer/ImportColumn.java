@@ -0,0 +1,185 @@
+package id.my.hendisantika.accountingsample.importer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 19.30
+ * To change this template use File | Settings | File Templates.
+ */
+public record ImportColumn(String header, String column, Type type, int maxLength, boolean required,
+                           boolean unique, String defaultValue, Class<? extends Enum<?>> enumType) {
+
+    public enum Type {
+        TEXT, EMAIL, INTEGER, DECIMAL, DATE, BOOLEAN, ENUM
+    }
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    /**
+     * Amount columns are NUMERIC(19,4), which leaves fifteen digits before the decimal point
+     */
+    private static final int MAX_INTEGER_DIGITS = 15;
+
+    public static ImportColumn text(String header, String column, int maxLength) {
+        return new ImportColumn(header, column, Type.TEXT, maxLength, false, false, null, null);
+    }
+
+    public static ImportColumn email(String header, String column) {
+        return new ImportColumn(header, column, Type.EMAIL, 255, false, false, null, null);
+    }
+
+    public static ImportColumn integer(String header, String column) {
+        return new ImportColumn(header, column, Type.INTEGER, 0, false, false, null, null);
+    }
+
+    public static ImportColumn decimal(String header, String column) {
+        return new ImportColumn(header, column, Type.DECIMAL, 0, false, false, null, null);
+    }
+
+    /**
+     * A date in ISO form, such as 2026-10-18
+     */
+    public static ImportColumn date(String header, String column) {
+        return new ImportColumn(header, column, Type.DATE, 0, false, false, null, null);
+    }
+
+    public static ImportColumn bool(String header, String column) {
+        return new ImportColumn(header, column, Type.BOOLEAN, 0, false, false, null, null);
+    }
+
+    public static ImportColumn enumeration(String header, String column, Class<? extends Enum<?>> enumType) {
+        return new ImportColumn(header, column, Type.ENUM, 0, false, false, null, enumType);
+    }
+
+    public ImportColumn required() {
+        return new ImportColumn(header, column, type, maxLength, true, unique, defaultValue, enumType);
+    }
+
+    /**
+     * No two rows of an organization may share a value of this column
+     */
+    public ImportColumn unique() {
+        return new ImportColumn(header, column, type, maxLength, required, true, defaultValue, enumType);
+    }
+
+    /**
+     * Value loaded when the cell is empty or the column is left out of the file
+     */
+    public ImportColumn defaultingTo(String value) {
+        return new ImportColumn(header, column, type, maxLength, required, unique, value, enumType);
+    }
+
+    /**
+     * Checks a cell and returns it in the form the staging table takes, or {@code null} for an empty
+     * optional cell
+     *
+     * @throws IllegalArgumentException with a message for the error report when the cell is not valid
+     */
+    public String parse(String cell) {
+        String value = cell != null ? cell.trim() : "";
+        if (value.isEmpty()) {
+            if (defaultValue != null) {
+                return defaultValue;
+            }
+            if (required) {
+                throw new IllegalArgumentException(header + " is required");
+            }
+            return null;
+        }
+
+        return switch (type) {
+            case TEXT -> checkLength(value);
+            case EMAIL -> {
+                if (!EMAIL_PATTERN.matcher(value).matches()) {
+                    throw new IllegalArgumentException(header + " is not a valid email address");
+                }
+                yield checkLength(value);
+            }
+            case INTEGER -> parseInteger(value);
+            case DECIMAL -> parseDecimal(value);
+            case DATE -> parseDate(value);
+            case BOOLEAN -> parseBoolean(value);
+            case ENUM -> parseEnum(value);
+        };
+    }
+
+    /**
+     * SQL expression turning the staged text back into the type of the column
+     */
+    public String castSql() {
+        return switch (type) {
+            case INTEGER -> "CAST(" + column + " AS INTEGER)";
+            case DECIMAL -> "CAST(" + column + " AS NUMERIC)";
+            case DATE -> "CAST(" + column + " AS DATE)";
+            case BOOLEAN -> "CAST(" + column + " AS BOOLEAN)";
+            default -> column;
+        };
+    }
+
+    private String checkLength(String value) {
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(header + " must be at most " + maxLength + " characters");
+        }
+        return value;
+    }
+
+    private String parseInteger(String value) {
+        try {
+            return String.valueOf(Integer.parseInt(value));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(header + " must be a whole number");
+        }
+    }
+
+    private String parseDecimal(String value) {
+        BigDecimal number;
+        try {
+            number = new BigDecimal(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(header + " must be a number");
+        }
+        if (number.precision() - number.scale() > MAX_INTEGER_DIGITS) {
+            throw new IllegalArgumentException(header + " is too large");
+        }
+        return number.toPlainString();
+    }
+
+    private String parseDate(String value) {
+        try {
+            return LocalDate.parse(value).toString();
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException(header + " must be a date in the form yyyy-MM-dd");
+        }
+    }
+
+    private String parseBoolean(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "y", "1" -> "true";
+            case "false", "no", "n", "0" -> "false";
+            default -> throw new IllegalArgumentException(header + " must be true or false");
+        };
+    }
+
+    private String parseEnum(String value) {
+        String name = value.toUpperCase(Locale.ROOT);
+        Enum<?>[] constants = enumType.getEnumConstants();
+        for (Enum<?> constant : constants) {
+            if (constant.name().equals(name)) {
+                return name;
+            }
+        }
+        throw new IllegalArgumentException(header + " must be one of " + Arrays.toString(constants));
+    }
+}
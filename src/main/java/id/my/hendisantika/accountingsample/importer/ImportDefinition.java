@@ -0,0 +1,154 @@
+package id.my.hendisantika.accountingsample.importer;
+
+import id.my.hendisantika.accountingsample.model.enums.ItemType;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 19.30
+ * To change this template use File | Settings | File Templates.
+ */
+public record ImportDefinition(String name, String table, List<ImportColumn> columns) {
+
+    public static final ImportDefinition CUSTOMERS = new ImportDefinition("Customer", "customers", List.of(
+            ImportColumn.text("Customer Code", "customer_code", 50).required(),
+            ImportColumn.text("Name", "display_name", 255).required(),
+            ImportColumn.text("Company", "company_name", 255),
+            ImportColumn.text("First Name", "first_name", 100),
+            ImportColumn.text("Last Name", "last_name", 100),
+            ImportColumn.email("Email", "email").required().unique(),
+            ImportColumn.text("Phone", "phone", 50),
+            ImportColumn.text("Mobile", "mobile", 50),
+            ImportColumn.text("Website", "website", 255),
+            ImportColumn.text("Tax Number", "tax_id", 50),
+            ImportColumn.text("Currency", "currency_code", 3),
+            ImportColumn.integer("Payment Terms", "payment_terms"),
+            ImportColumn.decimal("Credit Limit", "credit_limit"),
+            ImportColumn.text("Billing Address Line 1", "billing_address_line1", 255),
+            ImportColumn.text("Billing Address Line 2", "billing_address_line2", 255),
+            ImportColumn.text("Billing City", "billing_city", 100),
+            ImportColumn.text("Billing State", "billing_state", 100),
+            ImportColumn.text("Billing Postal Code", "billing_postal_code", 20),
+            ImportColumn.text("Billing Country", "billing_country", 100),
+            ImportColumn.text("Shipping Address Line 1", "shipping_address_line1", 255),
+            ImportColumn.text("Shipping Address Line 2", "shipping_address_line2", 255),
+            ImportColumn.text("Shipping City", "shipping_city", 100),
+            ImportColumn.text("Shipping State", "shipping_state", 100),
+            ImportColumn.text("Shipping Postal Code", "shipping_postal_code", 20),
+            ImportColumn.text("Shipping Country", "shipping_country", 100),
+            ImportColumn.text("Notes", "notes", Integer.MAX_VALUE),
+            ImportColumn.bool("Active", "is_active").defaultingTo("true")));
+
+    public static final ImportDefinition VENDORS = new ImportDefinition("Vendor", "vendors", List.of(
+            ImportColumn.text("Vendor Code", "vendor_code", 50).required(),
+            ImportColumn.text("Name", "display_name", 255).required(),
+            ImportColumn.text("Company", "company_name", 255),
+            ImportColumn.text("First Name", "first_name", 100),
+            ImportColumn.text("Last Name", "last_name", 100),
+            ImportColumn.email("Email", "email").required().unique(),
+            ImportColumn.text("Phone", "phone", 50),
+            ImportColumn.text("Mobile", "mobile", 50),
+            ImportColumn.text("Website", "website", 255),
+            ImportColumn.text("Tax Number", "tax_id", 50),
+            ImportColumn.text("Currency", "currency_code", 3),
+            ImportColumn.integer("Payment Terms", "payment_terms"),
+            ImportColumn.decimal("Credit Limit", "credit_limit"),
+            ImportColumn.text("Address Line 1", "address_line1", 255),
+            ImportColumn.text("Address Line 2", "address_line2", 255),
+            ImportColumn.text("City", "city", 100),
+            ImportColumn.text("State", "state", 100),
+            ImportColumn.text("Postal Code", "postal_code", 20),
+            ImportColumn.text("Country", "country", 100),
+            ImportColumn.text("Bank Account Name", "bank_account_name", 255),
+            ImportColumn.text("Bank Account Number", "bank_account_number", 50),
+            ImportColumn.text("Bank Name", "bank_name", 255),
+            ImportColumn.text("Bank Branch", "bank_branch", 255),
+            ImportColumn.text("Bank SWIFT Code", "bank_swift_code", 50),
+            ImportColumn.text("Notes", "notes", Integer.MAX_VALUE),
+            ImportColumn.bool("Active", "is_active").defaultingTo("true")));
+
+    public static final ImportDefinition ITEMS = new ImportDefinition("Item", "items", List.of(
+            ImportColumn.text("Item Code", "item_code", 50).required(),
+            ImportColumn.text("Name", "item_name", 255).required(),
+            ImportColumn.text("SKU", "sku", 100).required(),
+            ImportColumn.enumeration("Type", "item_type", ItemType.class).required(),
+            ImportColumn.text("Description", "description", Integer.MAX_VALUE),
+            ImportColumn.text("Unit", "unit_of_measure", 50),
+            ImportColumn.decimal("Sale Price", "sales_price"),
+            ImportColumn.decimal("Purchase Price", "purchase_price"),
+            ImportColumn.text("Barcode", "barcode", 100),
+            ImportColumn.decimal("Current Stock", "current_stock").defaultingTo("0"),
+            ImportColumn.decimal("Reorder Level", "reorder_level"),
+            ImportColumn.bool("Track Inventory", "is_inventoried").defaultingTo("false"),
+            ImportColumn.bool("Active", "is_active").defaultingTo("true")));
+
+    /**
+     * The first column holds the code that is unique within an organization
+     */
+    public ImportColumn key() {
+        return columns.getFirst();
+    }
+
+    /**
+     * Positions of the columns whose values must be unique within an organization: the code, then the
+     * columns the manual API also keeps unique, such as the email of a contact
+     */
+    public int[] uniqueColumnIndexes() {
+        return IntStream.range(0, columns.size())
+                .filter(i -> i == 0 || columns.get(i).unique())
+                .toArray();
+    }
+
+    /**
+     * Every value is staged as text, already checked, and cast once in the merge
+     */
+    public String createStagingTableSql() {
+        return "CREATE TEMPORARY TABLE " + stagingTable() + " (row_number INTEGER NOT NULL, " +
+                columns.stream().map(column -> column.column() + " TEXT").collect(Collectors.joining(", ")) +
+                ") ON COMMIT DROP";
+    }
+
+    public String copySql() {
+        return "COPY " + stagingTable() + " (row_number, " + columnList() + ") FROM STDIN WITH (FORMAT csv)";
+    }
+
+    public String existingValuesSql(ImportColumn column) {
+        return "SELECT " + column.column() + " FROM " + table +
+                " WHERE organization_id = ? AND " + column.column() + " = ANY (?)";
+    }
+
+    /**
+     * Inserts every staged row and returns the row number and code of those whose code was taken in the
+     * meantime
+     */
+    public String mergeSql() {
+        String key = key().column();
+        return "WITH inserted AS (" +
+                "INSERT INTO " + table + " (organization_id, " + columnList() + ") " +
+                "SELECT CAST(? AS BIGINT), " +
+                columns.stream().map(ImportColumn::castSql).collect(Collectors.joining(", ")) +
+                " FROM " + stagingTable() + " ORDER BY row_number " +
+                "ON CONFLICT (organization_id, " + key + ") DO NOTHING " +
+                "RETURNING " + key + ") " +
+                "SELECT s.row_number, s." + key + " FROM " + stagingTable() + " s " +
+                "WHERE NOT EXISTS (SELECT 1 FROM inserted i WHERE i." + key + " = s." + key + ") " +
+                "ORDER BY s.row_number";
+    }
+
+    private String stagingTable() {
+        return table + "_import";
+    }
+
+    private String columnList() {
+        return columns.stream().map(ImportColumn::column).collect(Collectors.joining(", "));
+    }
+}
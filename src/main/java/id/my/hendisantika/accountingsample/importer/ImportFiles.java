@@ -0,0 +1,90 @@
+package id.my.hendisantika.accountingsample.importer;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.RFC4180ParserBuilder;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.00
+ * To change this template use File | Settings | File Templates.
+ */
+public final class ImportFiles {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private ImportFiles() {
+        // Utility class
+    }
+
+    /**
+     * Reads the upload as UTF-8 CSV with RFC 4180 parsing: quotes are escaped by doubling them and
+     * backslashes are plain characters
+     */
+    public static CSVReader openReader(InputStream in) {
+        return new CSVReaderBuilder(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)))
+                .withCSVParser(new RFC4180ParserBuilder().build())
+                .build();
+    }
+
+    /**
+     * Finds the cell of each column by its header, in any order and case. Columns the file leaves out get
+     * index -1 and are read as empty; a missing required column rejects the file.
+     */
+    public static int[] columnIndexes(String[] headers, List<ImportColumn> columns) {
+        if (headers == null) {
+            throw new BusinessException("The import file is empty");
+        }
+        Map<String, Integer> indexByHeader = new HashMap<>();
+        for (int i = 0; i < headers.length; i++) {
+            String header = headers[i].trim();
+            if (i == 0 && !header.isEmpty() && header.charAt(0) == BYTE_ORDER_MARK) {
+                header = header.substring(1).trim();
+            }
+            indexByHeader.putIfAbsent(header.toLowerCase(Locale.ROOT), i);
+        }
+
+        int[] cellIndexes = new int[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            ImportColumn column = columns.get(i);
+            Integer index = indexByHeader.get(column.header().toLowerCase(Locale.ROOT));
+            if (index == null && column.required()) {
+                throw new BusinessException("The import file has no " + column.header() + " column");
+            }
+            cellIndexes[i] = index != null ? index : -1;
+        }
+        return cellIndexes;
+    }
+
+    /**
+     * The cell at the index, or {@code null} when the column is missing or the row is short
+     */
+    public static String cell(String[] cells, int index) {
+        return index >= 0 && index < cells.length ? cells[index] : null;
+    }
+
+    public static boolean isBlank(String[] cells) {
+        for (String cell : cells) {
+            if (cell != null && !cell.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
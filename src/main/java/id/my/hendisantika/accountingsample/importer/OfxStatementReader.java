@@ -0,0 +1,154 @@
+package id.my.hendisantika.accountingsample.importer;
+
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+public class OfxStatementReader implements StatementReader {
+
+    private static final String TRANSACTION = "STMTTRN";
+
+    private final Reader reader;
+    private final StringBuilder token = new StringBuilder();
+    private int transactionNumber;
+
+    public OfxStatementReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Walks the tags up to the end of the next transaction. OFX 1.x is SGML and leaves out the end tags of
+     * elements holding a value, OFX 2.x is XML and has them; a value runs to the next tag in both, so one
+     * pass reads either. The headers before the OFX element are skipped as text outside a transaction.
+     */
+    @Override
+    public StatementLine next() throws IOException {
+        Map<String, String> fields = null;
+        String element = null;
+        int c;
+        while ((c = reader.read()) >= 0) {
+            if (c != '<') {
+                token.append((char) c);
+                continue;
+            }
+            if (fields != null && element != null) {
+                String value = decode(token.toString().trim());
+                if (!value.isEmpty()) {
+                    fields.putIfAbsent(element, value);
+                }
+            }
+            token.setLength(0);
+            element = null;
+
+            String tag = readTag();
+            if (tag.isEmpty() || tag.charAt(0) == '?' || tag.charAt(0) == '!') {
+                continue;
+            }
+            if (tag.charAt(0) == '/') {
+                if (fields != null && tag.substring(1).equals(TRANSACTION)) {
+                    return toLine(fields);
+                }
+            } else if (tag.equals(TRANSACTION)) {
+                fields = new HashMap<>();
+                transactionNumber++;
+            } else {
+                element = tag;
+            }
+        }
+        if (fields != null) {
+            throw new BusinessException("Could not read the statement file: transaction " + transactionNumber +
+                    " is not closed");
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String readTag() throws IOException {
+        StringBuilder tag = new StringBuilder();
+        int c;
+        while ((c = reader.read()) >= 0 && c != '>') {
+            tag.append((char) c);
+        }
+        // Only the name matters; XML attributes and the slash of an empty element are dropped
+        String name = tag.toString().trim();
+        int end = 0;
+        while (end < name.length() && !Character.isWhitespace(name.charAt(end))
+                && (end == 0 || name.charAt(end) != '/')) {
+            end++;
+        }
+        return name.substring(0, end).toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * DTPOSTED is a date and time of which the first eight digits are the date, TRNAMT may use a decimal
+     * comma, and FITID, the bank's own id for the transaction, serves as its reference
+     */
+    private StatementLine toLine(Map<String, String> fields) {
+        String posted = fields.get("DTPOSTED");
+        String amount = fields.get("TRNAMT");
+        if (posted == null || posted.length() < 8) {
+            throw invalid("DTPOSTED is missing or not a date");
+        }
+        if (amount == null) {
+            throw invalid("TRNAMT is missing");
+        }
+
+        LocalDate date;
+        try {
+            date = LocalDate.parse(posted.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException ex) {
+            throw invalid("DTPOSTED is not a date");
+        }
+        BigDecimal value;
+        try {
+            value = new BigDecimal(amount.replace(',', '.'));
+        } catch (NumberFormatException ex) {
+            throw invalid("TRNAMT is not a number");
+        }
+
+        String reference = fields.getOrDefault("FITID", fields.get("REFNUM"));
+        String name = fields.get("NAME");
+        String memo = fields.get("MEMO");
+        String description = name == null ? memo : memo == null || memo.equals(name) ? name : name + " " + memo;
+        return new StatementLine(date, value, reference, description);
+    }
+
+    private BusinessException invalid(String message) {
+        return new BusinessException("Transaction " + transactionNumber + ": " + message);
+    }
+
+    private static String decode(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&nbsp;", " ").replace("&amp;", "&");
+    }
+}
@@ -0,0 +1,18 @@
+package id.my.hendisantika.accountingsample.importer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+public record StatementLine(LocalDate date, BigDecimal amount, String reference, String description) {
+}
@@ -0,0 +1,28 @@
+package id.my.hendisantika.accountingsample.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+public interface StatementReader extends Closeable {
+
+    /**
+     * The next booked line of the statement, or {@code null} after the last one. The amount is signed:
+     * money into the account is positive, money out of it negative. Lines are read as they are asked for, so a
+     * statement of any size is never held in memory whole.
+     *
+     * @throws id.my.hendisantika.accountingsample.exception.BusinessException when the file is not a valid
+     *                                                                         statement
+     */
+    StatementLine next() throws IOException;
+}
@@ -1,6 +1,7 @@
 package id.my.hendisantika.accountingsample.model;
 
 import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.CashFlowActivity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -9,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -77,4 +79,16 @@ public class Account extends BaseEntity {
 
     @Column(name = "tax_applicable")
     private Boolean taxApplicable;
+
+    /**
+     * Where movements of this balance sheet account go on the cash flow statement. When not set,
+     * assets and liabilities count as operating and equity as financing.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "cash_flow_activity")
+    private CashFlowActivity cashFlowActivity;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
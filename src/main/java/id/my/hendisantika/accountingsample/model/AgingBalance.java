@@ -0,0 +1,80 @@
+package id.my.hendisantika.accountingsample.model;
+
+import id.my.hendisantika.accountingsample.model.enums.ContactType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 15.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Entity
+@Table(name = "aging_balances")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AgingBalance extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "organization_id", nullable = false)
+    private Organization organization;
+
+    @Enumerated(EnumType.STRING)
+    @NotNull
+    @Column(name = "contact_type", nullable = false)
+    private ContactType contactType;
+
+    /**
+     * Customer id for receivables, vendor id for payables
+     */
+    @NotNull
+    @Column(name = "contact_id", nullable = false)
+    private Long contactId;
+
+    @Column(name = "current_amount", nullable = false, precision = 19, scale = 4)
+    @Builder.Default
+    private BigDecimal currentAmount = BigDecimal.ZERO;
+
+    @Column(name = "days_1_30", nullable = false, precision = 19, scale = 4)
+    @Builder.Default
+    private BigDecimal days1To30 = BigDecimal.ZERO;
+
+    @Column(name = "days_31_60", nullable = false, precision = 19, scale = 4)
+    @Builder.Default
+    private BigDecimal days31To60 = BigDecimal.ZERO;
+
+    @Column(name = "days_61_90", nullable = false, precision = 19, scale = 4)
+    @Builder.Default
+    private BigDecimal days61To90 = BigDecimal.ZERO;
+
+    @Column(name = "days_91_120", nullable = false, precision = 19, scale = 4)
+    @Builder.Default
+    private BigDecimal days91To120 = BigDecimal.ZERO;
+
+    @Column(name = "days_over_120", nullable = false, precision = 19, scale = 4)
+    @Builder.Default
+    private BigDecimal daysOver120 = BigDecimal.ZERO;
+}
@@ -0,0 +1,90 @@
+package id.my.hendisantika.accountingsample.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Entity
+@Table(name = "bank_accounts")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BankAccount extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "organization_id", nullable = false)
+    private Organization organization;
+
+    /**
+     * Asset account of the chart of accounts that the bank account's money is booked to
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @NotBlank
+    @Column(name = "account_name", nullable = false)
+    private String accountName;
+
+    @Column(name = "account_number", length = 50)
+    private String accountNumber;
+
+    @Column(name = "bank_name")
+    private String bankName;
+
+    @Column(name = "branch_name")
+    private String branchName;
+
+    @Column(name = "swift_code", length = 50)
+    private String swiftCode;
+
+    @Column(name = "routing_number", length = 50)
+    private String routingNumber;
+
+    @Column(name = "currency_code", length = 3)
+    @Builder.Default
+    private String currency = "USD";
+
+    /**
+     * Changed only in the database, together with the current balance
+     */
+    @Column(name = "opening_balance", precision = 19, scale = 4, updatable = false)
+    @Builder.Default
+    private BigDecimal openingBalance = BigDecimal.ZERO;
+
+    /**
+     * Opening balance plus every transaction on the account. Only ever added to in the database, so saving
+     * a bank account loaded earlier cannot write back a stale balance.
+     */
+    @Column(name = "current_balance", precision = 19, scale = 4, updatable = false)
+    @Builder.Default
+    private BigDecimal currentBalance = BigDecimal.ZERO;
+
+    @Column(name = "is_active", nullable = false)
+    @Builder.Default
+    private Boolean isActive = true;
+}
@@ -0,0 +1,91 @@
+package id.my.hendisantika.accountingsample.model;
+
+import id.my.hendisantika.accountingsample.model.enums.BankTransactionStatus;
+import id.my.hendisantika.accountingsample.model.enums.BankTransactionType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Entity
+@Table(name = "bank_transactions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BankTransaction extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "organization_id", nullable = false)
+    private Organization organization;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "bank_account_id", nullable = false)
+    private BankAccount bankAccount;
+
+    @NotNull
+    @Column(name = "transaction_date", nullable = false)
+    private LocalDate transactionDate;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "reference_number", length = 50)
+    private String referenceNumber;
+
+    @Enumerated(EnumType.STRING)
+    @NotNull
+    @Column(name = "transaction_type", nullable = false, length = 50)
+    private BankTransactionType transactionType;
+
+    /**
+     * Always positive; the transaction type tells money in from money out
+     */
+    @NotNull
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    @Builder.Default
+    private BankTransactionStatus status = BankTransactionStatus.UNRECONCILED;
+
+    @Column(name = "is_reconciled", nullable = false)
+    @Builder.Default
+    private Boolean isReconciled = false;
+
+    @Column(name = "reconciled_at")
+    private LocalDateTime reconciledAt;
+
+    /**
+     * Set on lines imported from a statement so the same line is not imported twice
+     */
+    @Column(name = "dedup_hash", length = 64)
+    private String dedupHash;
+}
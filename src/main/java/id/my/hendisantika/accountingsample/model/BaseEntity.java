@@ -31,8 +31,12 @@ import java.time.LocalDateTime;
 @MappedSuperclass
 public abstract class BaseEntity implements Serializable {
 
+    /**
+     * Taken from the entity's own {@code <entity>_seq} sequence in blocks of 50, so inserts of new entities
+     * can be batched
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @CreationTimestamp
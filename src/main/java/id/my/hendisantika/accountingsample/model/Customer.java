@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -119,4 +120,8 @@ public class Customer extends BaseEntity {
     @Column(name = "outstanding_balance", nullable = false, precision = 19, scale = 4)
     @Builder.Default
     private BigDecimal outstandingBalance = BigDecimal.ZERO;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
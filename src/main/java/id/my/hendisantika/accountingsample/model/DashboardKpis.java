@@ -0,0 +1,67 @@
+package id.my.hendisantika.accountingsample.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 17.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardKpis {
+
+    /**
+     * Invoiced from the first of the month up to the snapshot date, excluding drafts and voided invoices
+     */
+    @Column(name = "revenue_mtd", nullable = false, precision = 19, scale = 4)
+    private BigDecimal revenueMtd;
+
+    /**
+     * Billed from the first of the month up to the snapshot date, excluding drafts and cancelled bills
+     */
+    @Column(name = "expenses_mtd", nullable = false, precision = 19, scale = 4)
+    private BigDecimal expensesMtd;
+
+    @Column(name = "receivables_outstanding", nullable = false, precision = 19, scale = 4)
+    private BigDecimal receivablesOutstanding;
+
+    @Column(name = "receivables_overdue", nullable = false, precision = 19, scale = 4)
+    private BigDecimal receivablesOverdue;
+
+    @Column(name = "overdue_invoice_count", nullable = false)
+    private Integer overdueInvoiceCount;
+
+    @Column(name = "payables_outstanding", nullable = false, precision = 19, scale = 4)
+    private BigDecimal payablesOutstanding;
+
+    @Column(name = "payables_overdue", nullable = false, precision = 19, scale = 4)
+    private BigDecimal payablesOverdue;
+
+    @Column(name = "overdue_bill_count", nullable = false)
+    private Integer overdueBillCount;
+
+    /**
+     * Sum of the balances of the accounts classified as cash
+     */
+    @Column(name = "cash_position", nullable = false, precision = 19, scale = 4)
+    private BigDecimal cashPosition;
+}
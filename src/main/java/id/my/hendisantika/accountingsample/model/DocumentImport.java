@@ -0,0 +1,88 @@
+package id.my.hendisantika.accountingsample.model;
+
+import id.my.hendisantika.accountingsample.model.enums.DocumentImportStatus;
+import id.my.hendisantika.accountingsample.model.enums.DocumentType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Entity
+@Table(name = "document_imports")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DocumentImport extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "organization_id", nullable = false)
+    private Organization organization;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "document_type", nullable = false, length = 30)
+    private DocumentType documentType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private DocumentImportStatus status = DocumentImportStatus.RUNNING;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    /**
+     * Last row of the file whose documents are committed, counting the header as row 1; a resumed import
+     * starts after it
+     */
+    @Column(name = "checkpoint_row", nullable = false)
+    @Builder.Default
+    private Integer checkpointRow = 1;
+
+    @Column(name = "imported_documents", nullable = false)
+    @Builder.Default
+    private Integer importedDocuments = 0;
+
+    @Column(name = "imported_lines", nullable = false)
+    @Builder.Default
+    private Integer importedLines = 0;
+
+    @Column(name = "failed_documents", nullable = false)
+    @Builder.Default
+    private Integer failedDocuments = 0;
+
+    /**
+     * Every error found, including those past the number kept in document_import_errors
+     */
+    @Column(name = "error_count", nullable = false)
+    @Builder.Default
+    private Integer errorCount = 0;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by_id")
+    private User createdBy;
+}
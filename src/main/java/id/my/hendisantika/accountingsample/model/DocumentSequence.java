@@ -0,0 +1,54 @@
+package id.my.hendisantika.accountingsample.model;
+
+import id.my.hendisantika.accountingsample.model.enums.DocumentType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 12.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Entity
+@Table(name = "document_sequences")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DocumentSequence extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "organization_id", nullable = false)
+    private Organization organization;
+
+    @Enumerated(EnumType.STRING)
+    @NotNull
+    @Column(name = "document_type", nullable = false)
+    private DocumentType documentType;
+
+    /**
+     * First value not yet handed out to any application node
+     */
+    @Column(name = "next_value", nullable = false)
+    @Builder.Default
+    private Long nextValue = 1L;
+}
@@ -97,4 +97,10 @@ public class Organization extends BaseEntity {
 
     @Column(name = "subscription_expires_at")
     private LocalDateTime subscriptionExpiresAt;
+
+    /**
+     * Only ever changed by an in-place increment, never written back from the entity
+     */
+    @Column(name = "ledger_version", nullable = false, insertable = false, updatable = false)
+    private Long ledgerVersion;
 }
@@ -92,4 +92,12 @@ public class Payment extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id", nullable = false)
     private Account account;
+
+    /**
+     * Bank line the payment was reconciled with; empty while the payment is unreconciled. Only the
+     * reconciliation sets it, so saving an edited payment never writes it back.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "bank_transaction_id", insertable = false, updatable = false)
+    private BankTransaction bankTransaction;
 }
@@ -0,0 +1,19 @@
+package id.my.hendisantika.accountingsample.model.enums;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 15.30
+ * To change this template use File | Settings | File Templates.
+ */
+public enum CashFlowActivity {
+    CASH,
+    OPERATING,
+    INVESTING,
+    FINANCING
+}
@@ -0,0 +1,20 @@
+package id.my.hendisantika.accountingsample.model.enums;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 12.00
+ * To change this template use File | Settings | File Templates.
+ */
+public enum DocumentType {
+    INVOICE,
+    BILL,
+    PAYMENT_RECEIVED,
+    PAYMENT_MADE,
+    JOURNAL_ENTRY
+}
@@ -0,0 +1,27 @@
+package id.my.hendisantika.accountingsample.model.enums;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 18.00
+ * To change this template use File | Settings | File Templates.
+ */
+public enum PeriodType {
+    MONTH(1),
+    QUARTER(3);
+
+    private final int months;
+
+    PeriodType(int months) {
+        this.months = months;
+    }
+
+    public int getMonths() {
+        return months;
+    }
+}
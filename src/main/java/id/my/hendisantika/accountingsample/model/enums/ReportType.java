@@ -0,0 +1,22 @@
+package id.my.hendisantika.accountingsample.model.enums;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.00
+ * To change this template use File | Settings | File Templates.
+ */
+public enum ReportType {
+    TRIAL_BALANCE,
+    BALANCE_SHEET,
+    PROFIT_LOSS,
+    CASH_FLOW,
+    AGED_RECEIVABLES,
+    AGED_PAYABLES,
+    SALES_BY_CUSTOMER
+}
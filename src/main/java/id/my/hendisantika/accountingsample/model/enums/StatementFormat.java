@@ -0,0 +1,37 @@
+package id.my.hendisantika.accountingsample.model.enums;
+
+import java.util.Locale;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+public enum StatementFormat {
+    CSV,
+    OFX,
+    CAMT053;
+
+    /**
+     * The format a statement file is in by its extension: .csv, .ofx or .qfx, or .xml for CAMT.053
+     */
+    public static StatementFormat fromFileName(String fileName) {
+        String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ofx") || name.endsWith(".qfx")) {
+            return OFX;
+        }
+        if (name.endsWith(".xml")) {
+            return CAMT053;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,81 @@
+package id.my.hendisantika.accountingsample.repository;
+
+import id.my.hendisantika.accountingsample.model.AccountPeriodBalance;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.repository.projection.AccountBalanceView;
+import id.my.hendisantika.accountingsample.repository.projection.AccountPeriodMovementView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 09.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Repository
+public interface AccountPeriodBalanceRepository extends JpaRepository<AccountPeriodBalance, Long> {
+
+    /**
+     * Returns the monthly rows of the accounts of the given types in {@code [fromPeriod, toPeriod)}, so that
+     * any number of consecutive month or quarter columns can be filled from one read
+     */
+    @Query("SELECT b.account.id AS accountId, b.periodStart AS periodStart, b.debitTotal AS debitTotal, " +
+            "b.creditTotal AS creditTotal " +
+            "FROM AccountPeriodBalance b " +
+            "WHERE b.organization.id = :organizationId AND b.account.accountType IN :accountTypes " +
+            "AND b.periodStart >= :fromPeriod AND b.periodStart < :toPeriod")
+    List<AccountPeriodMovementView> findMovementsBetween(@Param("organizationId") Long organizationId,
+                                                         @Param("accountTypes") Collection<AccountType> accountTypes,
+                                                         @Param("fromPeriod") LocalDate fromPeriod,
+                                                         @Param("toPeriod") LocalDate toPeriod);
+
+    @Query("SELECT b.account.id AS accountId, SUM(b.debitTotal) AS debitTotal, SUM(b.creditTotal) AS creditTotal " +
+            "FROM AccountPeriodBalance b " +
+            "WHERE b.organization.id = :organizationId AND b.periodStart < :periodStart " +
+            "GROUP BY b.account.id")
+    List<AccountBalanceView> sumByAccountBefore(@Param("organizationId") Long organizationId,
+                                                @Param("periodStart") LocalDate periodStart);
+
+    /**
+     * Sums debits and credits per account of the given types over {@code [fromDate, toDate]} in one
+     * statement. The months in {@code [fullPeriodStart, fullPeriodEnd)} are read from the period
+     * balances; only the remaining days at either edge of the range are read from the posted lines.
+     */
+    @Query(value = "SELECT m.account_id AS \"accountId\", SUM(m.debit) AS \"debitTotal\", " +
+            "SUM(m.credit) AS \"creditTotal\" " +
+            "FROM (" +
+            "SELECT b.account_id, b.debit_total AS debit, b.credit_total AS credit " +
+            "FROM account_period_balances b " +
+            "WHERE b.organization_id = :organizationId " +
+            "AND b.period_start >= :fullPeriodStart AND b.period_start < :fullPeriodEnd " +
+            "UNION ALL " +
+            "SELECT l.account_id, l.debit_amount, l.credit_amount " +
+            "FROM journal_entry_lines l JOIN journal_entries e ON e.id = l.journal_entry_id " +
+            "WHERE e.organization_id = :organizationId AND e.status IN (:statuses) " +
+            "AND e.journal_date BETWEEN :fromDate AND :toDate " +
+            "AND (e.journal_date < :fullPeriodStart OR e.journal_date >= :fullPeriodEnd)" +
+            ") m " +
+            "JOIN accounts a ON a.id = m.account_id " +
+            "WHERE a.account_type IN (:accountTypes) " +
+            "GROUP BY m.account_id",
+            nativeQuery = true)
+    List<AccountBalanceView> sumByAccountBetween(@Param("organizationId") Long organizationId,
+                                                 @Param("accountTypes") Collection<String> accountTypes,
+                                                 @Param("statuses") Collection<String> statuses,
+                                                 @Param("fromDate") LocalDate fromDate,
+                                                 @Param("toDate") LocalDate toDate,
+                                                 @Param("fullPeriodStart") LocalDate fullPeriodStart,
+                                                 @Param("fullPeriodEnd") LocalDate fullPeriodEnd);
+}
@@ -2,10 +2,15 @@ package id.my.hendisantika.accountingsample.repository;
 
 import id.my.hendisantika.accountingsample.model.Account;
 import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,8 +30,13 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     List<Account> findByOrganizationId(Long organizationId);
 
+    @EntityGraph(attributePaths = "parent")
+    List<Account> findWithParentByOrganizationIdOrderByCode(Long organizationId);
+
     Optional<Account> findByIdAndOrganizationId(Long id, Long organizationId);
 
+    List<Account> findAllByIdInAndOrganizationId(Collection<Long> ids, Long organizationId);
+
     Optional<Account> findByCodeAndOrganizationId(String code, Long organizationId);
 
     List<Account> findByAccountTypeAndOrganizationId(AccountType accountType, Long organizationId);
@@ -37,6 +47,18 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     boolean existsByCodeAndOrganizationId(String code, Long organizationId);
 
+    /**
+     * Applies a balance change in the database without reading the row first, so concurrent postings
+     * to the same account never overwrite each other. The version is bumped so that an entity loaded
+     * before the change can no longer be saved over it.
+     */
+    @Modifying
+    @Query("UPDATE Account a SET a.currentBalance = a.currentBalance + :delta, a.version = a.version + 1 " +
+            "WHERE a.id = :id AND a.organization.id = :organizationId")
+    int addToBalance(@Param("id") Long id,
+                     @Param("organizationId") Long organizationId,
+                     @Param("delta") BigDecimal delta);
+
     @Query("SELECT a FROM Account a WHERE a.organization.id = :organizationId AND a.parent IS NULL")
     List<Account> findRootAccountsByOrganizationId(Long organizationId);
 }
@@ -0,0 +1,132 @@
+package id.my.hendisantika.accountingsample.repository;
+
+import id.my.hendisantika.accountingsample.model.AgingBalance;
+import id.my.hendisantika.accountingsample.repository.projection.AgingBalanceView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 15.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Repository
+public interface AgingBalanceRepository extends JpaRepository<AgingBalance, Long> {
+
+    /**
+     * Adds amounts to a contact's buckets, creating the row on first use
+     */
+    @Modifying
+    @Query(value = "INSERT INTO aging_balances " +
+            "(organization_id, contact_type, contact_id, current_amount, days_1_30, days_31_60, days_61_90, " +
+            "days_91_120, days_over_120, created_at, updated_at) " +
+            "VALUES (:organizationId, :contactType, :contactId, :currentAmount, :days1To30, :days31To60, " +
+            ":days61To90, :days91To120, :daysOver120, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (organization_id, contact_type, contact_id) DO UPDATE SET " +
+            "current_amount = aging_balances.current_amount + EXCLUDED.current_amount, " +
+            "days_1_30 = aging_balances.days_1_30 + EXCLUDED.days_1_30, " +
+            "days_31_60 = aging_balances.days_31_60 + EXCLUDED.days_31_60, " +
+            "days_61_90 = aging_balances.days_61_90 + EXCLUDED.days_61_90, " +
+            "days_91_120 = aging_balances.days_91_120 + EXCLUDED.days_91_120, " +
+            "days_over_120 = aging_balances.days_over_120 + EXCLUDED.days_over_120, " +
+            "updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    void addAmounts(@Param("organizationId") Long organizationId,
+                    @Param("contactType") String contactType,
+                    @Param("contactId") Long contactId,
+                    @Param("currentAmount") BigDecimal currentAmount,
+                    @Param("days1To30") BigDecimal days1To30,
+                    @Param("days31To60") BigDecimal days31To60,
+                    @Param("days61To90") BigDecimal days61To90,
+                    @Param("days91To120") BigDecimal days91To120,
+                    @Param("daysOver120") BigDecimal daysOver120);
+
+    /**
+     * Takes the organization's re-bucketing lock until the surrounding transaction ends, waiting while
+     * another transaction holds it
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('aging_rebucket'), CAST(:organizationId AS integer))",
+            nativeQuery = true)
+    int lockForRebucket(@Param("organizationId") Long organizationId);
+
+    /**
+     * Like {@link #lockForRebucket}, but returns {@code false} at once when another transaction holds the lock
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('aging_rebucket'), CAST(:organizationId AS integer))",
+            nativeQuery = true)
+    boolean tryLockForRebucket(@Param("organizationId") Long organizationId);
+
+    @Modifying
+    @Query(value = "DELETE FROM aging_balances WHERE organization_id = :organizationId", nativeQuery = true)
+    void deleteByOrganizationId(@Param("organizationId") Long organizationId);
+
+    /**
+     * Rebuilds an organization's rows from its open invoices and bills, bucketed as of the given date.
+     * The cut-off dates are the due dates that are exactly 30, 60, 90 and 120 days past due.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO aging_balances " +
+            "(organization_id, contact_type, contact_id, current_amount, days_1_30, days_31_60, days_61_90, " +
+            "days_91_120, days_over_120, created_at, updated_at) " +
+            "SELECT :organizationId, d.contact_type, d.contact_id, " +
+            "SUM(CASE WHEN d.due_date >= :asOfDate THEN d.balance_amount ELSE 0 END), " +
+            "SUM(CASE WHEN d.due_date < :asOfDate AND d.due_date >= :cutoff30 THEN d.balance_amount ELSE 0 END), " +
+            "SUM(CASE WHEN d.due_date < :cutoff30 AND d.due_date >= :cutoff60 THEN d.balance_amount ELSE 0 END), " +
+            "SUM(CASE WHEN d.due_date < :cutoff60 AND d.due_date >= :cutoff90 THEN d.balance_amount ELSE 0 END), " +
+            "SUM(CASE WHEN d.due_date < :cutoff90 AND d.due_date >= :cutoff120 THEN d.balance_amount ELSE 0 END), " +
+            "SUM(CASE WHEN d.due_date < :cutoff120 THEN d.balance_amount ELSE 0 END), " +
+            "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+            "FROM (" +
+            "SELECT 'CUSTOMER' AS contact_type, i.customer_id AS contact_id, i.due_date, i.balance_amount " +
+            "FROM invoices i " +
+            "WHERE i.organization_id = :organizationId AND i.status IN (:invoiceStatuses) " +
+            "AND i.balance_amount <> 0 " +
+            "UNION ALL " +
+            "SELECT 'VENDOR', b.vendor_id, b.due_date, b.balance_amount " +
+            "FROM bills b " +
+            "WHERE b.organization_id = :organizationId AND b.status IN (:billStatuses) " +
+            "AND b.balance_amount <> 0" +
+            ") d " +
+            "GROUP BY d.contact_type, d.contact_id",
+            nativeQuery = true)
+    void insertFromOpenDocuments(@Param("organizationId") Long organizationId,
+                                 @Param("invoiceStatuses") Collection<String> invoiceStatuses,
+                                 @Param("billStatuses") Collection<String> billStatuses,
+                                 @Param("asOfDate") LocalDate asOfDate,
+                                 @Param("cutoff30") LocalDate cutoff30,
+                                 @Param("cutoff60") LocalDate cutoff60,
+                                 @Param("cutoff90") LocalDate cutoff90,
+                                 @Param("cutoff120") LocalDate cutoff120);
+
+    @Query("SELECT b.contactId AS contactId, c.name AS contactName, b.currentAmount AS currentAmount, " +
+            "b.days1To30 AS days1To30, b.days31To60 AS days31To60, b.days61To90 AS days61To90, " +
+            "b.days91To120 AS days91To120, b.daysOver120 AS daysOver120 " +
+            "FROM AgingBalance b JOIN Customer c ON c.id = b.contactId " +
+            "WHERE b.organization.id = :organizationId " +
+            "AND b.contactType = id.my.hendisantika.accountingsample.model.enums.ContactType.CUSTOMER " +
+            "ORDER BY c.name")
+    List<AgingBalanceView> findReceivablesByOrganizationId(@Param("organizationId") Long organizationId);
+
+    @Query("SELECT b.contactId AS contactId, v.name AS contactName, b.currentAmount AS currentAmount, " +
+            "b.days1To30 AS days1To30, b.days31To60 AS days31To60, b.days61To90 AS days61To90, " +
+            "b.days91To120 AS days91To120, b.daysOver120 AS daysOver120 " +
+            "FROM AgingBalance b JOIN Vendor v ON v.id = b.contactId " +
+            "WHERE b.organization.id = :organizationId " +
+            "AND b.contactType = id.my.hendisantika.accountingsample.model.enums.ContactType.VENDOR " +
+            "ORDER BY v.name")
+    List<AgingBalanceView> findPayablesByOrganizationId(@Param("organizationId") Long organizationId);
+}
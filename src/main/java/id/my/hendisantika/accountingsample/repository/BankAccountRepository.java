@@ -0,0 +1,58 @@
+package id.my.hendisantika.accountingsample.repository;
+
+import id.my.hendisantika.accountingsample.model.BankAccount;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Repository
+public interface BankAccountRepository extends JpaRepository<BankAccount, Long> {
+
+    @EntityGraph(attributePaths = "account")
+    List<BankAccount> findByOrganizationIdOrderByAccountNameAscIdAsc(Long organizationId);
+
+    Optional<BankAccount> findByIdAndOrganizationId(Long id, Long organizationId);
+
+    @Modifying
+    @Query("UPDATE BankAccount b SET b.currentBalance = b.currentBalance + :delta, b.updatedAt = LOCAL DATETIME " +
+            "WHERE b.id = :id AND b.organization.id = :organizationId")
+    int addToCurrentBalance(@Param("id") Long id,
+                            @Param("organizationId") Long organizationId,
+                            @Param("delta") BigDecimal delta);
+
+    /**
+     * Replaces the opening balance and moves the current balance by the difference in one statement, so a
+     * concurrent statement import or opening balance change is never lost
+     */
+    @Modifying
+    @Query("UPDATE BankAccount b SET b.currentBalance = b.currentBalance + :openingBalance - b.openingBalance, " +
+            "b.openingBalance = :openingBalance, b.updatedAt = LOCAL DATETIME " +
+            "WHERE b.id = :id AND b.organization.id = :organizationId")
+    int updateOpeningBalance(@Param("id") Long id,
+                             @Param("organizationId") Long organizationId,
+                             @Param("openingBalance") BigDecimal openingBalance);
+
+    /**
+     * Reads the balance from the database rather than from a bank account loaded before it was added to
+     */
+    @Query("SELECT b.currentBalance FROM BankAccount b WHERE b.id = :id")
+    BigDecimal findCurrentBalanceById(@Param("id") Long id);
+}
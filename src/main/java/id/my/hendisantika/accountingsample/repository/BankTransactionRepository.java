@@ -0,0 +1,42 @@
+package id.my.hendisantika.accountingsample.repository;
+
+import id.my.hendisantika.accountingsample.model.BankTransaction;
+import id.my.hendisantika.accountingsample.repository.projection.BankTransactionMatchView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Repository
+public interface BankTransactionRepository extends JpaRepository<BankTransaction, Long> {
+
+    Window<BankTransaction> findByBankAccountIdAndOrganizationId(Long bankAccountId, Long organizationId,
+                                                                 ScrollPosition position, Sort sort, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.id AS id, t.transactionDate AS transactionDate, t.transactionType AS transactionType, " +
+            "t.amount AS amount, t.referenceNumber AS referenceNumber " +
+            "FROM BankTransaction t " +
+            "WHERE t.bankAccount.id = :bankAccountId AND t.isReconciled = false")
+    Stream<BankTransactionMatchView> streamUnreconciledByBankAccountId(@Param("bankAccountId") Long bankAccountId);
+}
@@ -2,12 +2,28 @@ package id.my.hendisantika.accountingsample.repository;
 
 import id.my.hendisantika.accountingsample.model.Bill;
 import id.my.hendisantika.accountingsample.model.enums.BillStatus;
+import id.my.hendisantika.accountingsample.repository.projection.BillExportView;
+import id.my.hendisantika.accountingsample.repository.projection.BillSummaryView;
+import id.my.hendisantika.accountingsample.repository.projection.ContactAnalyticsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Created by IntelliJ IDEA.
@@ -21,20 +37,96 @@ import java.util.Optional;
  * To change this template use File | Settings | File Templates.
  */
 @Repository
-public interface BillRepository extends JpaRepository<Bill, Long> {
+public interface BillRepository extends JpaRepository<Bill, Long>, JpaSpecificationExecutor<Bill> {
 
+    @EntityGraph(attributePaths = {"vendor", "items", "items.item"})
     List<Bill> findByOrganizationId(Long organizationId);
 
     Optional<Bill> findByIdAndOrganizationId(Long id, Long organizationId);
 
+    @EntityGraph(attributePaths = {"vendor", "items", "items.item"})
+    Optional<Bill> findWithItemsByIdAndOrganizationId(Long id, Long organizationId);
+
+    @EntityGraph(attributePaths = {"vendor", "items", "items.item"})
     List<Bill> findByVendorIdAndOrganizationId(Long vendorId, Long organizationId);
 
+    @EntityGraph(attributePaths = {"vendor", "items", "items.item"})
     List<Bill> findByStatusAndOrganizationId(BillStatus status, Long organizationId);
 
+    @EntityGraph(attributePaths = {"vendor", "items", "items.item"})
     List<Bill> findByBillNumberContainingIgnoreCaseAndOrganizationId(String billNumber, Long organizationId);
 
+    @EntityGraph(attributePaths = {"vendor", "items", "items.item"})
     List<Bill> findByDueDateBeforeAndStatusInAndOrganizationId(
             LocalDate date, List<BillStatus> statuses, Long organizationId);
 
+    @Query("SELECT b.id AS id, b.billNumber AS billNumber, b.billDate AS billDate, " +
+            "b.dueDate AS dueDate, v.id AS vendorId, v.name AS vendorName, b.status AS status, " +
+            "b.totalAmount AS totalAmount, b.balance AS balance " +
+            "FROM Bill b JOIN b.vendor v " +
+            "WHERE b.organization.id = :organizationId " +
+            "ORDER BY b.billDate DESC, b.id DESC")
+    Slice<BillSummaryView> findSummariesByOrganizationId(@Param("organizationId") Long organizationId,
+                                                         Pageable pageable);
+
     boolean existsByBillNumberAndOrganizationId(String billNumber, Long organizationId);
+
+    @Query("SELECT b.billNumber FROM Bill b " +
+            "WHERE b.organization.id = :organizationId AND b.billNumber IN :billNumbers")
+    List<String> findExistingBillNumbers(@Param("organizationId") Long organizationId,
+                                         @Param("billNumbers") Collection<String> billNumbers);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b.billNumber AS billNumber, b.reference AS reference, b.billDate AS billDate, " +
+            "b.dueDate AS dueDate, v.vendorCode AS vendorCode, v.name AS vendorName, b.status AS status, " +
+            "b.subtotal AS subtotal, b.taxAmount AS taxAmount, b.totalAmount AS totalAmount, " +
+            "b.paidAmount AS paidAmount, b.balance AS balance " +
+            "FROM Bill b JOIN b.vendor v " +
+            "WHERE b.organization.id = :organizationId " +
+            "ORDER BY b.billDate, b.id")
+    Stream<BillExportView> streamForExportByOrganizationId(@Param("organizationId") Long organizationId);
+
+    /**
+     * Counts and sums bills per vendor over a period and a comparison period in one pass, reading only
+     * the bill headers
+     */
+    @Query(value = "SELECT s.vendor_id AS \"contactId\", v.vendor_code AS \"contactCode\", " +
+            "v.display_name AS \"contactName\", s.document_count AS \"documentCount\", s.amount AS \"amount\", " +
+            "s.comparison_document_count AS \"comparisonDocumentCount\", " +
+            "s.comparison_amount AS \"comparisonAmount\" " +
+            "FROM (" +
+            "SELECT b.vendor_id, " +
+            "COUNT(*) FILTER (WHERE b.bill_date BETWEEN :fromDate AND :toDate) AS document_count, " +
+            "COALESCE(SUM(b.total_amount) FILTER (WHERE b.bill_date BETWEEN :fromDate AND :toDate), 0) AS amount, " +
+            "COUNT(*) FILTER (WHERE b.bill_date BETWEEN :comparisonFromDate AND :comparisonToDate) " +
+            "AS comparison_document_count, " +
+            "COALESCE(SUM(b.total_amount) " +
+            "FILTER (WHERE b.bill_date BETWEEN :comparisonFromDate AND :comparisonToDate), 0) " +
+            "AS comparison_amount " +
+            "FROM bills b " +
+            "WHERE b.organization_id = :organizationId AND b.status NOT IN (:excludedStatuses) " +
+            "AND (b.bill_date BETWEEN :fromDate AND :toDate " +
+            "OR b.bill_date BETWEEN :comparisonFromDate AND :comparisonToDate) " +
+            "GROUP BY b.vendor_id" +
+            ") s " +
+            "JOIN vendors v ON v.id = s.vendor_id " +
+            "ORDER BY s.amount DESC, v.display_name",
+            nativeQuery = true)
+    List<ContactAnalyticsView> sumByVendorBetween(@Param("organizationId") Long organizationId,
+                                                  @Param("excludedStatuses") Collection<String> excludedStatuses,
+                                                  @Param("fromDate") LocalDate fromDate,
+                                                  @Param("toDate") LocalDate toDate,
+                                                  @Param("comparisonFromDate") LocalDate comparisonFromDate,
+                                                  @Param("comparisonToDate") LocalDate comparisonToDate);
+
+    /**
+     * Applies a payment to the bill in place, so parallel payments of one bill do not overwrite each other.
+     * Matches nothing once the payment is more than the balance left.
+     */
+    @Modifying
+    @Query("UPDATE Bill b SET b.paidAmount = b.paidAmount + :amount, b.balance = b.balance - :amount " +
+            "WHERE b.id = :id AND b.organization.id = :organizationId AND b.balance >= :amount")
+    int applyPayment(@Param("id") Long id,
+                     @Param("organizationId") Long organizationId,
+                     @Param("amount") BigDecimal amount);
 }
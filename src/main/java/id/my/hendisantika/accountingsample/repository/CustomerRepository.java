@@ -1,11 +1,24 @@
 package id.my.hendisantika.accountingsample.repository;
 
 import id.my.hendisantika.accountingsample.model.Customer;
+import id.my.hendisantika.accountingsample.repository.projection.CustomerExportView;
+import id.my.hendisantika.accountingsample.repository.projection.CustomerSummaryView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Created by IntelliJ IDEA.
@@ -25,11 +38,37 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
     Optional<Customer> findByIdAndOrganizationId(Long id, Long organizationId);
 
+    List<Customer> findAllByCustomerCodeInAndOrganizationId(Collection<String> customerCodes, Long organizationId);
+
     List<Customer> findByIsActiveAndOrganizationId(Boolean isActive, Long organizationId);
 
     List<Customer> findByNameContainingIgnoreCaseAndOrganizationId(String name, Long organizationId);
 
     Optional<Customer> findByEmailAndOrganizationId(String email, Long organizationId);
 
+    @Query("SELECT c.id AS id, c.customerCode AS customerCode, c.name AS name, c.email AS email, " +
+            "c.phone AS phone, c.outstandingBalance AS outstandingBalance, c.isActive AS isActive " +
+            "FROM Customer c " +
+            "WHERE c.organization.id = :organizationId " +
+            "ORDER BY c.name, c.id")
+    Slice<CustomerSummaryView> findSummariesByOrganizationId(@Param("organizationId") Long organizationId,
+                                                             Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Customer c SET c.outstandingBalance = c.outstandingBalance + :delta, c.version = c.version + 1 " +
+            "WHERE c.id = :id AND c.organization.id = :organizationId")
+    int addToOutstandingBalance(@Param("id") Long id,
+                                @Param("organizationId") Long organizationId,
+                                @Param("delta") BigDecimal delta);
+
     boolean existsByEmailAndOrganizationId(String email, Long organizationId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.customerCode AS customerCode, c.name AS name, c.companyName AS companyName, " +
+            "c.email AS email, c.phone AS phone, c.taxNumber AS taxNumber, c.paymentTerms AS paymentTerms, " +
+            "c.creditLimit AS creditLimit, c.outstandingBalance AS outstandingBalance, c.isActive AS isActive " +
+            "FROM Customer c " +
+            "WHERE c.organization.id = :organizationId " +
+            "ORDER BY c.customerCode, c.id")
+    Stream<CustomerExportView> streamForExportByOrganizationId(@Param("organizationId") Long organizationId);
 }
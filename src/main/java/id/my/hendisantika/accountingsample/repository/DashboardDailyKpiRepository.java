@@ -0,0 +1,56 @@
+package id.my.hendisantika.accountingsample.repository;
+
+import id.my.hendisantika.accountingsample.model.DashboardDailyKpi;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 17.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Repository
+public interface DashboardDailyKpiRepository extends JpaRepository<DashboardDailyKpi, Long> {
+
+    List<DashboardDailyKpi> findByOrganizationIdAndKpiDateBetweenOrderByKpiDate(Long organizationId,
+                                                                               LocalDate startDate,
+                                                                               LocalDate endDate);
+
+    /**
+     * Copies an organization's current snapshot into the row of its snapshot date
+     */
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_daily_kpis " +
+            "(organization_id, kpi_date, revenue_mtd, expenses_mtd, receivables_outstanding, receivables_overdue, " +
+            "overdue_invoice_count, payables_outstanding, payables_overdue, overdue_bill_count, cash_position, " +
+            "created_at, updated_at) " +
+            "SELECT s.organization_id, s.as_of_date, s.revenue_mtd, s.expenses_mtd, s.receivables_outstanding, " +
+            "s.receivables_overdue, s.overdue_invoice_count, s.payables_outstanding, s.payables_overdue, " +
+            "s.overdue_bill_count, s.cash_position, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+            "FROM dashboard_snapshots s WHERE s.organization_id = :organizationId " +
+            "ON CONFLICT (organization_id, kpi_date) DO UPDATE SET " +
+            "revenue_mtd = EXCLUDED.revenue_mtd, " +
+            "expenses_mtd = EXCLUDED.expenses_mtd, " +
+            "receivables_outstanding = EXCLUDED.receivables_outstanding, " +
+            "receivables_overdue = EXCLUDED.receivables_overdue, " +
+            "overdue_invoice_count = EXCLUDED.overdue_invoice_count, " +
+            "payables_outstanding = EXCLUDED.payables_outstanding, " +
+            "payables_overdue = EXCLUDED.payables_overdue, " +
+            "overdue_bill_count = EXCLUDED.overdue_bill_count, " +
+            "cash_position = EXCLUDED.cash_position, " +
+            "updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    void recordFromSnapshot(@Param("organizationId") Long organizationId);
+}
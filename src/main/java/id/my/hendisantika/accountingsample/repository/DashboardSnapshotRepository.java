@@ -0,0 +1,77 @@
+package id.my.hendisantika.accountingsample.repository;
+
+import id.my.hendisantika.accountingsample.model.DashboardSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 17.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Repository
+public interface DashboardSnapshotRepository extends JpaRepository<DashboardSnapshot, Long> {
+
+    Optional<DashboardSnapshot> findByOrganizationId(Long organizationId);
+
+    /**
+     * Recomputes every KPI of an organization in one statement and writes them over its snapshot row
+     */
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_snapshots " +
+            "(organization_id, as_of_date, revenue_mtd, expenses_mtd, receivables_outstanding, receivables_overdue, " +
+            "overdue_invoice_count, payables_outstanding, payables_overdue, overdue_bill_count, cash_position, " +
+            "created_at, updated_at) " +
+            "SELECT :organizationId, :asOfDate, " +
+            "(SELECT COALESCE(SUM(i.total_amount), 0) FROM invoices i " +
+            "WHERE i.organization_id = :organizationId AND i.status NOT IN (:nonRevenueStatuses) " +
+            "AND i.invoice_date BETWEEN :monthStart AND :asOfDate), " +
+            "(SELECT COALESCE(SUM(b.total_amount), 0) FROM bills b " +
+            "WHERE b.organization_id = :organizationId AND b.status NOT IN (:nonExpenseStatuses) " +
+            "AND b.bill_date BETWEEN :monthStart AND :asOfDate), " +
+            "r.outstanding, r.overdue, r.overdue_count, p.outstanding, p.overdue, p.overdue_count, " +
+            "(SELECT COALESCE(SUM(a.current_balance), 0) FROM accounts a " +
+            "WHERE a.organization_id = :organizationId AND a.cash_flow_activity = 'CASH'), " +
+            "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+            "FROM (SELECT COALESCE(SUM(i.balance_amount), 0) AS outstanding, " +
+            "COALESCE(SUM(i.balance_amount) FILTER (WHERE i.due_date < :asOfDate), 0) AS overdue, " +
+            "COUNT(*) FILTER (WHERE i.due_date < :asOfDate) AS overdue_count " +
+            "FROM invoices i WHERE i.organization_id = :organizationId AND i.status IN (:openInvoiceStatuses)) r, " +
+            "(SELECT COALESCE(SUM(b.balance_amount), 0) AS outstanding, " +
+            "COALESCE(SUM(b.balance_amount) FILTER (WHERE b.due_date < :asOfDate), 0) AS overdue, " +
+            "COUNT(*) FILTER (WHERE b.due_date < :asOfDate) AS overdue_count " +
+            "FROM bills b WHERE b.organization_id = :organizationId AND b.status IN (:openBillStatuses)) p " +
+            "ON CONFLICT (organization_id) DO UPDATE SET " +
+            "as_of_date = EXCLUDED.as_of_date, " +
+            "revenue_mtd = EXCLUDED.revenue_mtd, " +
+            "expenses_mtd = EXCLUDED.expenses_mtd, " +
+            "receivables_outstanding = EXCLUDED.receivables_outstanding, " +
+            "receivables_overdue = EXCLUDED.receivables_overdue, " +
+            "overdue_invoice_count = EXCLUDED.overdue_invoice_count, " +
+            "payables_outstanding = EXCLUDED.payables_outstanding, " +
+            "payables_overdue = EXCLUDED.payables_overdue, " +
+            "overdue_bill_count = EXCLUDED.overdue_bill_count, " +
+            "cash_position = EXCLUDED.cash_position, " +
+            "updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    void refresh(@Param("organizationId") Long organizationId,
+                 @Param("asOfDate") LocalDate asOfDate,
+                 @Param("monthStart") LocalDate monthStart,
+                 @Param("nonRevenueStatuses") Collection<String> nonRevenueStatuses,
+                 @Param("nonExpenseStatuses") Collection<String> nonExpenseStatuses,
+                 @Param("openInvoiceStatuses") Collection<String> openInvoiceStatuses,
+                 @Param("openBillStatuses") Collection<String> openBillStatuses);
+}
@@ -0,0 +1,25 @@
+package id.my.hendisantika.accountingsample.repository;
+
+import id.my.hendisantika.accountingsample.model.DocumentImportError;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Repository
+public interface DocumentImportErrorRepository extends JpaRepository<DocumentImportError, Long> {
+
+    List<DocumentImportError> findByDocumentImportIdOrderByRowNumberAscIdAsc(Long documentImportId, Limit limit);
+}
@@ -0,0 +1,55 @@
+package id.my.hendisantika.accountingsample.repository;
+
+import id.my.hendisantika.accountingsample.model.DocumentImport;
+import id.my.hendisantika.accountingsample.model.enums.DocumentImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Repository
+public interface DocumentImportRepository extends JpaRepository<DocumentImport, Long> {
+
+    Optional<DocumentImport> findByIdAndOrganizationId(Long id, Long organizationId);
+
+    /**
+     * Moves the checkpoint on from the row the chunk started after and adds the chunk's counts. Returns 0
+     * when the checkpoint is no longer at that row, because another run of the same import got there first.
+     */
+    @Modifying
+    @Query("UPDATE DocumentImport d SET d.checkpointRow = :toRow, " +
+            "d.importedDocuments = d.importedDocuments + :importedDocuments, " +
+            "d.importedLines = d.importedLines + :importedLines, " +
+            "d.failedDocuments = d.failedDocuments + :failedDocuments, " +
+            "d.errorCount = d.errorCount + :errorCount, " +
+            "d.updatedAt = LOCAL DATETIME " +
+            "WHERE d.id = :id AND d.checkpointRow = :fromRow")
+    int advanceCheckpoint(@Param("id") Long id,
+                          @Param("fromRow") int fromRow,
+                          @Param("toRow") int toRow,
+                          @Param("importedDocuments") int importedDocuments,
+                          @Param("importedLines") int importedLines,
+                          @Param("failedDocuments") int failedDocuments,
+                          @Param("errorCount") int errorCount);
+
+    @Modifying
+    @Query("UPDATE DocumentImport d SET d.status = :status, d.errorMessage = :errorMessage, " +
+            "d.updatedAt = LOCAL DATETIME WHERE d.id = :id")
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") DocumentImportStatus status,
+                     @Param("errorMessage") String errorMessage);
+}
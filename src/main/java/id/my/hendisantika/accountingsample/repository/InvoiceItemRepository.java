@@ -1,9 +1,14 @@
 package id.my.hendisantika.accountingsample.repository;
 
 import id.my.hendisantika.accountingsample.model.InvoiceItem;
+import id.my.hendisantika.accountingsample.repository.projection.ItemAnalyticsView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,4 +28,38 @@ public interface InvoiceItemRepository extends JpaRepository<InvoiceItem, Long>
     List<InvoiceItem> findByInvoiceId(Long invoiceId);
 
     void deleteByInvoiceId(Long invoiceId);
+
+    /**
+     * Sums quantity and amount per item over a period and a comparison period in one pass. Lines of
+     * invoices dated in {@code [fromDate, toDate]} count towards the period and lines dated in
+     * {@code [comparisonFromDate, comparisonToDate]} towards the comparison period.
+     */
+    @Query(value = "SELECT s.item_id AS \"itemId\", it.item_code AS \"itemCode\", it.item_name AS \"itemName\", " +
+            "s.quantity AS \"quantity\", s.amount AS \"amount\", " +
+            "s.comparison_quantity AS \"comparisonQuantity\", s.comparison_amount AS \"comparisonAmount\" " +
+            "FROM (" +
+            "SELECT l.item_id, " +
+            "COALESCE(SUM(l.quantity) FILTER (WHERE i.invoice_date BETWEEN :fromDate AND :toDate), 0) AS quantity, " +
+            "COALESCE(SUM(l.line_total) FILTER (WHERE i.invoice_date BETWEEN :fromDate AND :toDate), 0) AS amount, " +
+            "COALESCE(SUM(l.quantity) " +
+            "FILTER (WHERE i.invoice_date BETWEEN :comparisonFromDate AND :comparisonToDate), 0) " +
+            "AS comparison_quantity, " +
+            "COALESCE(SUM(l.line_total) " +
+            "FILTER (WHERE i.invoice_date BETWEEN :comparisonFromDate AND :comparisonToDate), 0) " +
+            "AS comparison_amount " +
+            "FROM invoices i JOIN invoice_items l ON l.invoice_id = i.id " +
+            "WHERE i.organization_id = :organizationId AND i.status NOT IN (:excludedStatuses) " +
+            "AND (i.invoice_date BETWEEN :fromDate AND :toDate " +
+            "OR i.invoice_date BETWEEN :comparisonFromDate AND :comparisonToDate) " +
+            "GROUP BY l.item_id" +
+            ") s " +
+            "LEFT JOIN items it ON it.id = s.item_id " +
+            "ORDER BY s.amount DESC, it.item_name",
+            nativeQuery = true)
+    List<ItemAnalyticsView> sumByItemBetween(@Param("organizationId") Long organizationId,
+                                             @Param("excludedStatuses") Collection<String> excludedStatuses,
+                                             @Param("fromDate") LocalDate fromDate,
+                                             @Param("toDate") LocalDate toDate,
+                                             @Param("comparisonFromDate") LocalDate comparisonFromDate,
+                                             @Param("comparisonToDate") LocalDate comparisonToDate);
 }
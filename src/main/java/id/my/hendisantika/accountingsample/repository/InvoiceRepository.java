@@ -2,12 +2,28 @@ package id.my.hendisantika.accountingsample.repository;
 
 import id.my.hendisantika.accountingsample.model.Invoice;
 import id.my.hendisantika.accountingsample.model.enums.InvoiceStatus;
+import id.my.hendisantika.accountingsample.repository.projection.ContactAnalyticsView;
+import id.my.hendisantika.accountingsample.repository.projection.InvoiceExportView;
+import id.my.hendisantika.accountingsample.repository.projection.InvoiceSummaryView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Created by IntelliJ IDEA.
@@ -21,17 +37,92 @@ import java.util.Optional;
  * To change this template use File | Settings | File Templates.
  */
 @Repository
-public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
+public interface InvoiceRepository extends JpaRepository<Invoice, Long>, JpaSpecificationExecutor<Invoice> {
 
+    @EntityGraph(attributePaths = {"customer", "items", "items.item"})
     List<Invoice> findByOrganizationId(Long organizationId);
 
     Optional<Invoice> findByIdAndOrganizationId(Long id, Long organizationId);
 
+    @EntityGraph(attributePaths = {"customer", "items", "items.item"})
+    Optional<Invoice> findWithItemsByIdAndOrganizationId(Long id, Long organizationId);
+
+    @EntityGraph(attributePaths = {"customer", "items", "items.item"})
     List<Invoice> findByCustomerIdAndOrganizationId(Long customerId, Long organizationId);
 
+    @EntityGraph(attributePaths = {"customer", "items", "items.item"})
     List<Invoice> findByStatusAndOrganizationId(InvoiceStatus status, Long organizationId);
 
+    @EntityGraph(attributePaths = {"customer", "items", "items.item"})
     List<Invoice> findByInvoiceDateBetweenAndOrganizationId(LocalDate startDate, LocalDate endDate, Long organizationId);
 
+    @Query("SELECT i.id AS id, i.invoiceNumber AS invoiceNumber, i.invoiceDate AS invoiceDate, " +
+            "i.dueDate AS dueDate, c.id AS customerId, c.name AS customerName, i.status AS status, " +
+            "i.totalAmount AS totalAmount, i.balance AS balance " +
+            "FROM Invoice i JOIN i.customer c " +
+            "WHERE i.organization.id = :organizationId " +
+            "ORDER BY i.invoiceDate DESC, i.id DESC")
+    Slice<InvoiceSummaryView> findSummariesByOrganizationId(@Param("organizationId") Long organizationId,
+                                                            Pageable pageable);
+
     boolean existsByInvoiceNumberAndOrganizationId(String invoiceNumber, Long organizationId);
+
+    @Query("SELECT i.invoiceNumber FROM Invoice i " +
+            "WHERE i.organization.id = :organizationId AND i.invoiceNumber IN :invoiceNumbers")
+    List<String> findExistingInvoiceNumbers(@Param("organizationId") Long organizationId,
+                                            @Param("invoiceNumbers") Collection<String> invoiceNumbers);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT i.invoiceNumber AS invoiceNumber, i.invoiceDate AS invoiceDate, i.dueDate AS dueDate, " +
+            "c.customerCode AS customerCode, c.name AS customerName, i.status AS status, " +
+            "i.subtotal AS subtotal, i.taxAmount AS taxAmount, i.totalAmount AS totalAmount, " +
+            "i.paidAmount AS paidAmount, i.balance AS balance " +
+            "FROM Invoice i JOIN i.customer c " +
+            "WHERE i.organization.id = :organizationId " +
+            "ORDER BY i.invoiceDate, i.id")
+    Stream<InvoiceExportView> streamForExportByOrganizationId(@Param("organizationId") Long organizationId);
+
+    /**
+     * Counts and sums invoices per customer over a period and a comparison period in one pass, reading only
+     * the invoice headers
+     */
+    @Query(value = "SELECT s.customer_id AS \"contactId\", c.customer_code AS \"contactCode\", " +
+            "c.display_name AS \"contactName\", s.document_count AS \"documentCount\", s.amount AS \"amount\", " +
+            "s.comparison_document_count AS \"comparisonDocumentCount\", " +
+            "s.comparison_amount AS \"comparisonAmount\" " +
+            "FROM (" +
+            "SELECT i.customer_id, " +
+            "COUNT(*) FILTER (WHERE i.invoice_date BETWEEN :fromDate AND :toDate) AS document_count, " +
+            "COALESCE(SUM(i.total_amount) FILTER (WHERE i.invoice_date BETWEEN :fromDate AND :toDate), 0) AS amount, " +
+            "COUNT(*) FILTER (WHERE i.invoice_date BETWEEN :comparisonFromDate AND :comparisonToDate) " +
+            "AS comparison_document_count, " +
+            "COALESCE(SUM(i.total_amount) " +
+            "FILTER (WHERE i.invoice_date BETWEEN :comparisonFromDate AND :comparisonToDate), 0) " +
+            "AS comparison_amount " +
+            "FROM invoices i " +
+            "WHERE i.organization_id = :organizationId AND i.status NOT IN (:excludedStatuses) " +
+            "AND (i.invoice_date BETWEEN :fromDate AND :toDate " +
+            "OR i.invoice_date BETWEEN :comparisonFromDate AND :comparisonToDate) " +
+            "GROUP BY i.customer_id" +
+            ") s " +
+            "JOIN customers c ON c.id = s.customer_id " +
+            "ORDER BY s.amount DESC, c.display_name",
+            nativeQuery = true)
+    List<ContactAnalyticsView> sumByCustomerBetween(@Param("organizationId") Long organizationId,
+                                                    @Param("excludedStatuses") Collection<String> excludedStatuses,
+                                                    @Param("fromDate") LocalDate fromDate,
+                                                    @Param("toDate") LocalDate toDate,
+                                                    @Param("comparisonFromDate") LocalDate comparisonFromDate,
+                                                    @Param("comparisonToDate") LocalDate comparisonToDate);
+
+    /**
+     * Applies a payment to the invoice in place, so parallel payments of one invoice do not overwrite each other.
+     * Matches nothing once the payment is more than the balance left.
+     */
+    @Modifying
+    @Query("UPDATE Invoice i SET i.paidAmount = i.paidAmount + :amount, i.balance = i.balance - :amount " +
+            "WHERE i.id = :id AND i.organization.id = :organizationId AND i.balance >= :amount")
+    int applyPayment(@Param("id") Long id,
+                     @Param("organizationId") Long organizationId,
+                     @Param("amount") BigDecimal amount);
 }
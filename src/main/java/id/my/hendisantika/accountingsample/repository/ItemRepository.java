@@ -5,6 +5,7 @@ import id.my.hendisantika.accountingsample.model.enums.ItemType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,10 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
 
     Optional<Item> findByIdAndOrganizationId(Long id, Long organizationId);
 
+    List<Item> findAllByIdInAndOrganizationId(Collection<Long> ids, Long organizationId);
+
+    List<Item> findAllByCodeInAndOrganizationId(Collection<String> codes, Long organizationId);
+
     List<Item> findByItemTypeAndOrganizationId(ItemType itemType, Long organizationId);
 
     List<Item> findByIsActiveAndOrganizationId(Boolean isActive, Long organizationId);
@@ -1,10 +1,21 @@
 package id.my.hendisantika.accountingsample.repository;
 
 import id.my.hendisantika.accountingsample.model.JournalEntryLine;
+import id.my.hendisantika.accountingsample.model.enums.JournalEntryStatus;
+import id.my.hendisantika.accountingsample.repository.projection.AccountBalanceView;
+import id.my.hendisantika.accountingsample.repository.projection.JournalLineExportView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Created by IntelliJ IDEA.
@@ -21,4 +32,23 @@ import java.util.List;
 public interface JournalEntryLineRepository extends JpaRepository<JournalEntryLine, Long> {
 
     List<JournalEntryLine> findByJournalEntryId(Long journalEntryId);
+
+    @Query("SELECT l.account.id AS accountId, SUM(l.debitAmount) AS debitTotal, SUM(l.creditAmount) AS creditTotal " +
+            "FROM JournalEntryLine l JOIN l.journalEntry e " +
+            "WHERE e.organization.id = :organizationId AND e.status IN :statuses " +
+            "AND e.entryDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY l.account.id")
+    List<AccountBalanceView> sumByAccountBetween(@Param("organizationId") Long organizationId,
+                                                 @Param("statuses") Collection<JournalEntryStatus> statuses,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.journalNumber AS journalNumber, e.entryDate AS entryDate, e.status AS status, " +
+            "a.code AS accountCode, a.name AS accountName, COALESCE(l.description, e.description) AS description, " +
+            "l.debitAmount AS debitAmount, l.creditAmount AS creditAmount " +
+            "FROM JournalEntryLine l JOIN l.journalEntry e JOIN l.account a " +
+            "WHERE e.organization.id = :organizationId " +
+            "ORDER BY e.entryDate, e.id, l.lineOrder, l.id")
+    Stream<JournalLineExportView> streamForExportByOrganizationId(@Param("organizationId") Long organizationId);
 }
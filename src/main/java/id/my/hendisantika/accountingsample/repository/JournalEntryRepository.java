@@ -2,9 +2,17 @@ package id.my.hendisantika.accountingsample.repository;
 
 import id.my.hendisantika.accountingsample.model.JournalEntry;
 import id.my.hendisantika.accountingsample.model.enums.JournalEntryStatus;
+import id.my.hendisantika.accountingsample.repository.projection.PostingLineView;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,15 +28,42 @@ import java.util.Optional;
  * To change this template use File | Settings | File Templates.
  */
 @Repository
-public interface JournalEntryRepository extends JpaRepository<JournalEntry, Long> {
+public interface JournalEntryRepository extends JpaRepository<JournalEntry, Long>, JpaSpecificationExecutor<JournalEntry> {
 
+    @EntityGraph(attributePaths = {"lines", "lines.account"})
     List<JournalEntry> findByOrganizationId(Long organizationId);
 
+    @EntityGraph(attributePaths = {"lines", "lines.account"})
     Optional<JournalEntry> findByIdAndOrganizationId(Long id, Long organizationId);
 
+    @EntityGraph(attributePaths = {"lines", "lines.account"})
     List<JournalEntry> findByStatusAndOrganizationId(JournalEntryStatus status, Long organizationId);
 
     Optional<JournalEntry> findByJournalNumberAndOrganizationId(String journalNumber, Long organizationId);
 
     boolean existsByJournalNumberAndOrganizationId(String journalNumber, Long organizationId);
+
+    /**
+     * Flat posting view of the given entries: one row per line, or a single row with a null account
+     * for an entry without lines
+     */
+    @Query("SELECT e.id AS journalEntryId, e.status AS status, e.entryDate AS entryDate, " +
+            "l.account.id AS accountId, l.debitAmount AS debitAmount, l.creditAmount AS creditAmount " +
+            "FROM JournalEntry e LEFT JOIN e.lines l " +
+            "WHERE e.id IN :ids AND e.organization.id = :organizationId")
+    List<PostingLineView> findPostingLines(@Param("ids") Collection<Long> ids,
+                                           @Param("organizationId") Long organizationId);
+
+    /**
+     * Moves the entries still in the current status to the new one and returns how many moved. An entry
+     * moved by a concurrent transaction meanwhile is not counted, so callers can tell they lost the race.
+     */
+    @Modifying
+    @Query("UPDATE JournalEntry e SET e.status = :status, e.updatedAt = :updatedAt " +
+            "WHERE e.id IN :ids AND e.organization.id = :organizationId AND e.status = :currentStatus")
+    int updateStatusByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                    @Param("organizationId") Long organizationId,
+                                    @Param("currentStatus") JournalEntryStatus currentStatus,
+                                    @Param("status") JournalEntryStatus status,
+                                    @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,36 @@
+package id.my.hendisantika.accountingsample.repository;
+
+import id.my.hendisantika.accountingsample.model.OrganizationAccessGrant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 18.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Repository
+public interface OrganizationAccessGrantRepository extends JpaRepository<OrganizationAccessGrant, Long> {
+
+    @Query("SELECT g.organization.id FROM OrganizationAccessGrant g WHERE g.user.id = :userId")
+    List<Long> findOrganizationIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT g FROM OrganizationAccessGrant g JOIN FETCH g.user u JOIN FETCH u.organization " +
+            "WHERE g.organization.id = :organizationId ORDER BY u.email")
+    List<OrganizationAccessGrant> findByOrganizationIdWithUser(@Param("organizationId") Long organizationId);
+
+    Optional<OrganizationAccessGrant> findByOrganizationIdAndUserId(Long organizationId, Long userId);
+
+    boolean existsByOrganizationIdAndUserId(Long organizationId, Long userId);
+}
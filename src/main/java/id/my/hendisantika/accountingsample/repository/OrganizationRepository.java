@@ -2,6 +2,9 @@ package id.my.hendisantika.accountingsample.repository;
 
 import id.my.hendisantika.accountingsample.model.Organization;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -23,4 +26,11 @@ public interface OrganizationRepository extends JpaRepository<Organization, Long
     Optional<Organization> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT o.ledgerVersion FROM Organization o WHERE o.id = :id")
+    Optional<Long> findLedgerVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "UPDATE organizations SET ledger_version = ledger_version + 1 WHERE id = :id", nativeQuery = true)
+    int incrementLedgerVersion(@Param("id") Long id);
 }
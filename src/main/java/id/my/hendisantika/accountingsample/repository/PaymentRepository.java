@@ -2,11 +2,24 @@ package id.my.hendisantika.accountingsample.repository;
 
 import id.my.hendisantika.accountingsample.model.Payment;
 import id.my.hendisantika.accountingsample.model.enums.PaymentType;
+import id.my.hendisantika.accountingsample.repository.projection.PaymentExportView;
+import id.my.hendisantika.accountingsample.repository.projection.PaymentMatchView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Created by IntelliJ IDEA.
@@ -20,19 +33,57 @@ import java.util.Optional;
  * To change this template use File | Settings | File Templates.
  */
 @Repository
-public interface PaymentRepository extends JpaRepository<Payment, Long> {
+public interface PaymentRepository extends JpaRepository<Payment, Long>, JpaSpecificationExecutor<Payment> {
 
+    @EntityGraph(attributePaths = {"customer", "vendor", "invoice", "bill", "account"})
     List<Payment> findByOrganizationId(Long organizationId);
 
     Optional<Payment> findByIdAndOrganizationId(Long id, Long organizationId);
 
+    @EntityGraph(attributePaths = {"customer", "vendor", "invoice", "bill", "account"})
+    Optional<Payment> findWithDetailsByIdAndOrganizationId(Long id, Long organizationId);
+
+    @EntityGraph(attributePaths = {"customer", "vendor", "invoice", "bill", "account"})
     List<Payment> findByPaymentTypeAndOrganizationId(PaymentType paymentType, Long organizationId);
 
+    @EntityGraph(attributePaths = {"customer", "vendor", "invoice", "bill", "account"})
     List<Payment> findByCustomerIdAndOrganizationId(Long customerId, Long organizationId);
 
+    @EntityGraph(attributePaths = {"customer", "vendor", "invoice", "bill", "account"})
     List<Payment> findByVendorIdAndOrganizationId(Long vendorId, Long organizationId);
 
+    /**
+     * Locks the payment while it is edited or deleted, so a reconciliation cannot link it meanwhile
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Payment> findForUpdateByIdAndOrganizationId(Long id, Long organizationId);
+
     List<Payment> findByInvoiceIdAndOrganizationId(Long invoiceId, Long organizationId);
 
     List<Payment> findByBillIdAndOrganizationId(Long billId, Long organizationId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.paymentNumber AS paymentNumber, p.paymentDate AS paymentDate, p.paymentType AS paymentType, " +
+            "p.paymentMethod AS paymentMethod, COALESCE(c.name, v.name) AS contactName, " +
+            "COALESCE(i.invoiceNumber, b.billNumber) AS documentNumber, a.code AS accountCode, " +
+            "p.referenceNumber AS referenceNumber, p.amount AS amount " +
+            "FROM Payment p LEFT JOIN p.customer c LEFT JOIN p.vendor v " +
+            "LEFT JOIN p.invoice i LEFT JOIN p.bill b LEFT JOIN p.account a " +
+            "WHERE p.organization.id = :organizationId " +
+            "ORDER BY p.paymentDate, p.id")
+    Stream<PaymentExportView> streamForExportByOrganizationId(@Param("organizationId") Long organizationId);
+
+    /**
+     * Payments booked to the ledger account and not yet matched to a bank line, dated within the range
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.id AS id, p.paymentNumber AS paymentNumber, p.paymentDate AS paymentDate, " +
+            "p.paymentType AS paymentType, p.amount AS amount, p.referenceNumber AS referenceNumber " +
+            "FROM Payment p " +
+            "WHERE p.organization.id = :organizationId AND p.account.id = :accountId " +
+            "AND p.bankTransaction IS NULL AND p.paymentDate BETWEEN :fromDate AND :toDate")
+    Stream<PaymentMatchView> streamUnreconciledByAccountId(@Param("organizationId") Long organizationId,
+                                                           @Param("accountId") Long accountId,
+                                                           @Param("fromDate") LocalDate fromDate,
+                                                           @Param("toDate") LocalDate toDate);
 }
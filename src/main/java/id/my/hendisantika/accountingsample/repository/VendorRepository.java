@@ -2,8 +2,13 @@ package id.my.hendisantika.accountingsample.repository;
 
 import id.my.hendisantika.accountingsample.model.Vendor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +30,8 @@ public interface VendorRepository extends JpaRepository<Vendor, Long> {
 
     Optional<Vendor> findByIdAndOrganizationId(Long id, Long organizationId);
 
+    List<Vendor> findAllByVendorCodeInAndOrganizationId(Collection<String> vendorCodes, Long organizationId);
+
     List<Vendor> findByIsActiveAndOrganizationId(Boolean isActive, Long organizationId);
 
     List<Vendor> findByNameContainingIgnoreCaseAndOrganizationId(String name, Long organizationId);
@@ -32,4 +39,11 @@ public interface VendorRepository extends JpaRepository<Vendor, Long> {
     Optional<Vendor> findByEmailAndOrganizationId(String email, Long organizationId);
 
     boolean existsByEmailAndOrganizationId(String email, Long organizationId);
+
+    @Modifying
+    @Query("UPDATE Vendor v SET v.outstandingBalance = v.outstandingBalance + :delta, v.version = v.version + 1 " +
+            "WHERE v.id = :id AND v.organization.id = :organizationId")
+    int addToOutstandingBalance(@Param("id") Long id,
+                                @Param("organizationId") Long organizationId,
+                                @Param("delta") BigDecimal delta);
 }
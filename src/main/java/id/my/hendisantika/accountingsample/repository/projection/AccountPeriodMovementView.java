@@ -0,0 +1,26 @@
+package id.my.hendisantika.accountingsample.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 18.00
+ * To change this template use File | Settings | File Templates.
+ */
+public interface AccountPeriodMovementView {
+
+    Long getAccountId();
+
+    LocalDate getPeriodStart();
+
+    BigDecimal getDebitTotal();
+
+    BigDecimal getCreditTotal();
+}
@@ -0,0 +1,33 @@
+package id.my.hendisantika.accountingsample.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 15.00
+ * To change this template use File | Settings | File Templates.
+ */
+public interface AgingBalanceView {
+
+    Long getContactId();
+
+    String getContactName();
+
+    BigDecimal getCurrentAmount();
+
+    BigDecimal getDays1To30();
+
+    BigDecimal getDays31To60();
+
+    BigDecimal getDays61To90();
+
+    BigDecimal getDays91To120();
+
+    BigDecimal getDaysOver120();
+}
@@ -0,0 +1,30 @@
+package id.my.hendisantika.accountingsample.repository.projection;
+
+import id.my.hendisantika.accountingsample.model.enums.BankTransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 21.00
+ * To change this template use File | Settings | File Templates.
+ */
+public interface BankTransactionMatchView {
+
+    Long getId();
+
+    LocalDate getTransactionDate();
+
+    BankTransactionType getTransactionType();
+
+    BigDecimal getAmount();
+
+    String getReferenceNumber();
+}
@@ -0,0 +1,38 @@
+package id.my.hendisantika.accountingsample.repository.projection;
+
+import id.my.hendisantika.accountingsample.model.enums.BillStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 11.30
+ * To change this template use File | Settings | File Templates.
+ */
+public interface BillSummaryView {
+
+    Long getId();
+
+    String getBillNumber();
+
+    LocalDate getBillDate();
+
+    LocalDate getDueDate();
+
+    Long getVendorId();
+
+    String getVendorName();
+
+    BillStatus getStatus();
+
+    BigDecimal getTotalAmount();
+
+    BigDecimal getBalance();
+}
@@ -0,0 +1,37 @@
+package id.my.hendisantika.accountingsample.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.30
+ * To change this template use File | Settings | File Templates.
+ */
+public interface CustomerExportView {
+
+    String getCustomerCode();
+
+    String getName();
+
+    String getCompanyName();
+
+    String getEmail();
+
+    String getPhone();
+
+    String getTaxNumber();
+
+    Integer getPaymentTerms();
+
+    BigDecimal getCreditLimit();
+
+    BigDecimal getOutstandingBalance();
+
+    Boolean getIsActive();
+}
@@ -0,0 +1,31 @@
+package id.my.hendisantika.accountingsample.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 11.30
+ * To change this template use File | Settings | File Templates.
+ */
+public interface CustomerSummaryView {
+
+    Long getId();
+
+    String getCustomerCode();
+
+    String getName();
+
+    String getEmail();
+
+    String getPhone();
+
+    BigDecimal getOutstandingBalance();
+
+    Boolean getIsActive();
+}
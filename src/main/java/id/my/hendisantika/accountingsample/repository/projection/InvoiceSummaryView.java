@@ -0,0 +1,38 @@
+package id.my.hendisantika.accountingsample.repository.projection;
+
+import id.my.hendisantika.accountingsample.model.enums.InvoiceStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 11.30
+ * To change this template use File | Settings | File Templates.
+ */
+public interface InvoiceSummaryView {
+
+    Long getId();
+
+    String getInvoiceNumber();
+
+    LocalDate getInvoiceDate();
+
+    LocalDate getDueDate();
+
+    Long getCustomerId();
+
+    String getCustomerName();
+
+    InvoiceStatus getStatus();
+
+    BigDecimal getTotalAmount();
+
+    BigDecimal getBalance();
+}
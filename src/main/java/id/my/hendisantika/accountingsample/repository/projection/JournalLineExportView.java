@@ -0,0 +1,36 @@
+package id.my.hendisantika.accountingsample.repository.projection;
+
+import id.my.hendisantika.accountingsample.model.enums.JournalEntryStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.30
+ * To change this template use File | Settings | File Templates.
+ */
+public interface JournalLineExportView {
+
+    String getJournalNumber();
+
+    LocalDate getEntryDate();
+
+    JournalEntryStatus getStatus();
+
+    String getAccountCode();
+
+    String getAccountName();
+
+    String getDescription();
+
+    BigDecimal getDebitAmount();
+
+    BigDecimal getCreditAmount();
+}
@@ -0,0 +1,45 @@
+package id.my.hendisantika.accountingsample.repository.projection;
+
+import id.my.hendisantika.accountingsample.model.enums.PaymentMethod;
+import id.my.hendisantika.accountingsample.model.enums.PaymentType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.30
+ * To change this template use File | Settings | File Templates.
+ */
+public interface PaymentExportView {
+
+    String getPaymentNumber();
+
+    LocalDate getPaymentDate();
+
+    PaymentType getPaymentType();
+
+    PaymentMethod getPaymentMethod();
+
+    /**
+     * Customer name for payments received, vendor name for payments made
+     */
+    String getContactName();
+
+    /**
+     * Number of the invoice or bill the payment was applied to
+     */
+    String getDocumentNumber();
+
+    String getAccountCode();
+
+    String getReferenceNumber();
+
+    BigDecimal getAmount();
+}
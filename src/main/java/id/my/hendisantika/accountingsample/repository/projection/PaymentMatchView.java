@@ -0,0 +1,32 @@
+package id.my.hendisantika.accountingsample.repository.projection;
+
+import id.my.hendisantika.accountingsample.model.enums.PaymentType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 21.00
+ * To change this template use File | Settings | File Templates.
+ */
+public interface PaymentMatchView {
+
+    Long getId();
+
+    String getPaymentNumber();
+
+    LocalDate getPaymentDate();
+
+    PaymentType getPaymentType();
+
+    BigDecimal getAmount();
+
+    String getReferenceNumber();
+}
@@ -0,0 +1,35 @@
+package id.my.hendisantika.accountingsample.repository.projection;
+
+import id.my.hendisantika.accountingsample.model.enums.JournalEntryStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 10.00
+ * To change this template use File | Settings | File Templates.
+ */
+public interface PostingLineView {
+
+    Long getJournalEntryId();
+
+    JournalEntryStatus getStatus();
+
+    LocalDate getEntryDate();
+
+    /**
+     * Null when the journal entry has no lines
+     */
+    Long getAccountId();
+
+    BigDecimal getDebitAmount();
+
+    BigDecimal getCreditAmount();
+}
@@ -0,0 +1,46 @@
+package id.my.hendisantika.accountingsample.repository.specification;
+
+import id.my.hendisantika.accountingsample.dto.invoice.InvoiceFilter;
+import id.my.hendisantika.accountingsample.model.Invoice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 10.30
+ * To change this template use File | Settings | File Templates.
+ */
+public class InvoiceSpecifications {
+
+    private InvoiceSpecifications() {
+        // Utility class
+    }
+
+    public static Specification<Invoice> matching(Long organizationId, InvoiceFilter filter) {
+        Specification<Invoice> spec = (root, query, cb) -> cb.equal(root.get("organization").get("id"), organizationId);
+
+        if (filter.getStatus() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), filter.getStatus()));
+        }
+        if (filter.getCustomerId() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("customer").get("id"), filter.getCustomerId()));
+        }
+        if (filter.getFromDate() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.greaterThanOrEqualTo(root.<LocalDate>get("invoiceDate"), filter.getFromDate()));
+        }
+        if (filter.getToDate() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.lessThanOrEqualTo(root.<LocalDate>get("invoiceDate"), filter.getToDate()));
+        }
+
+        return spec;
+    }
+}
@@ -0,0 +1,49 @@
+package id.my.hendisantika.accountingsample.repository.specification;
+
+import id.my.hendisantika.accountingsample.dto.payment.PaymentFilter;
+import id.my.hendisantika.accountingsample.model.Payment;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 10.30
+ * To change this template use File | Settings | File Templates.
+ */
+public class PaymentSpecifications {
+
+    private PaymentSpecifications() {
+        // Utility class
+    }
+
+    public static Specification<Payment> matching(Long organizationId, PaymentFilter filter) {
+        Specification<Payment> spec = (root, query, cb) -> cb.equal(root.get("organization").get("id"), organizationId);
+
+        if (filter.getPaymentType() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("paymentType"), filter.getPaymentType()));
+        }
+        if (filter.getCustomerId() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("customer").get("id"), filter.getCustomerId()));
+        }
+        if (filter.getVendorId() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("vendor").get("id"), filter.getVendorId()));
+        }
+        if (filter.getFromDate() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.greaterThanOrEqualTo(root.<LocalDate>get("paymentDate"), filter.getFromDate()));
+        }
+        if (filter.getToDate() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.lessThanOrEqualTo(root.<LocalDate>get("paymentDate"), filter.getToDate()));
+        }
+
+        return spec;
+    }
+}
@@ -0,0 +1,87 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.model.JournalEntry;
+import id.my.hendisantika.accountingsample.model.JournalEntryLine;
+import id.my.hendisantika.accountingsample.model.enums.JournalEntryStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 09.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountPeriodBalanceService {
+
+    /**
+     * Statuses whose lines are part of the ledger. A reversed entry stays in the ledger and is
+     * offset by its posted reversing entry.
+     */
+    public static final List<JournalEntryStatus> LEDGER_STATUSES =
+            List.of(JournalEntryStatus.POSTED, JournalEntryStatus.REVERSED);
+
+    /**
+     * Adds a debit/credit movement to an account's period row, creating the row on first use
+     */
+    private static final String ADD_MOVEMENT_SQL = "INSERT INTO account_period_balances " +
+            "(organization_id, account_id, period_start, debit_total, credit_total, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (organization_id, account_id, period_start) DO UPDATE SET " +
+            "debit_total = account_period_balances.debit_total + EXCLUDED.debit_total, " +
+            "credit_total = account_period_balances.credit_total + EXCLUDED.credit_total, " +
+            "updated_at = CURRENT_TIMESTAMP";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds the lines of a journal entry that is being posted to the period balances of its accounts.
+     * Called from the posting transaction so the balances never drift from the ledger.
+     */
+    @Transactional
+    public void recordPosting(Long organizationId, JournalEntry journalEntry) {
+        Map<Long, BigDecimal[]> totals = new LinkedHashMap<>();
+        for (JournalEntryLine line : journalEntry.getLines()) {
+            BigDecimal[] total = totals.computeIfAbsent(line.getAccount().getId(),
+                    id -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+            total[0] = total[0].add(line.getDebitAmount());
+            total[1] = total[1].add(line.getCreditAmount());
+        }
+
+        recordMovements(organizationId, Map.of(periodStartOf(journalEntry.getEntryDate()), totals));
+    }
+
+    /**
+     * Adds debit/credit totals, keyed by period start and then by account, to the period balances in one
+     * JDBC batch, so posting many entries costs one round trip however many account-months it touches
+     */
+    @Transactional
+    public void recordMovements(Long organizationId, Map<LocalDate, Map<Long, BigDecimal[]>> totalsByPeriod) {
+        List<Object[]> rows = new ArrayList<>();
+        totalsByPeriod.forEach((periodStart, totals) -> totals.forEach((accountId, total) ->
+                rows.add(new Object[]{organizationId, accountId, periodStart, total[0], total[1]})));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_MOVEMENT_SQL, rows);
+        }
+    }
+
+    public static LocalDate periodStartOf(LocalDate date) {
+        return date.withDayOfMonth(1);
+    }
+}
@@ -1,7 +1,9 @@
 package id.my.hendisantika.accountingsample.service;
 
+import id.my.hendisantika.accountingsample.config.ResilienceConfig;
 import id.my.hendisantika.accountingsample.dto.account.AccountRequest;
 import id.my.hendisantika.accountingsample.dto.account.AccountResponse;
+import id.my.hendisantika.accountingsample.dto.account.AccountTreeNode;
 import id.my.hendisantika.accountingsample.exception.BusinessException;
 import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
 import id.my.hendisantika.accountingsample.model.Account;
@@ -11,6 +13,8 @@ import id.my.hendisantika.accountingsample.repository.AccountRepository;
 import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
 import id.my.hendisantika.accountingsample.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.resilience.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,47 +39,53 @@ public class AccountService {
 
     private final AccountRepository accountRepository;
     private final OrganizationRepository organizationRepository;
+    private final ChartOfAccountsCache chartOfAccountsCache;
+    private final LedgerVersionService ledgerVersionService;
 
     public List<AccountResponse> getAllAccounts() {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
-        return accountRepository.findByOrganizationId(orgId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return chartOfAccountsCache.getAccounts(orgId);
     }
 
     public List<AccountResponse> getAccountsByType(AccountType accountType) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
-        return accountRepository.findByAccountTypeAndOrganizationId(accountType, orgId).stream()
-                .map(this::mapToResponse)
+        return chartOfAccountsCache.getAccounts(orgId).stream()
+                .filter(account -> account.getAccountType() == accountType)
                 .collect(Collectors.toList());
     }
 
     public List<AccountResponse> getRootAccounts() {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
-        return accountRepository.findRootAccountsByOrganizationId(orgId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return getAccountTree(orgId).getRoots();
     }
 
     public List<AccountResponse> getChildAccounts(Long parentId) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
-        return accountRepository.findByParentIdAndOrganizationId(parentId, orgId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return getAccountTree(orgId).getChildren(parentId);
+    }
+
+    /**
+     * Returns the whole chart as nested nodes with balances rolled up from sub-accounts
+     */
+    public List<AccountTreeNode> getAccountTree() {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        return getAccountTree(orgId).toNodes();
     }
 
     public AccountResponse getAccountById(Long id) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
-        Account account = accountRepository.findByIdAndOrganizationId(id, orgId)
+        return chartOfAccountsCache.getAccounts(orgId).stream()
+                .filter(account -> account.getId().equals(id))
+                .findFirst()
                 .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
-        return mapToResponse(account);
     }
 
     public AccountResponse getAccountByCode(String code) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
-        Account account = accountRepository.findByCodeAndOrganizationId(code, orgId)
+        return chartOfAccountsCache.getAccounts(orgId).stream()
+                .filter(account -> account.getCode().equals(code))
+                .findFirst()
                 .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
-        return mapToResponse(account);
     }
 
     @Transactional
@@ -107,12 +117,20 @@ public class AccountService {
                 .isActive(request.getIsActive() != null ? request.getIsActive() : true)
                 .isSystem(false)
                 .taxApplicable(request.getTaxApplicable())
+                .cashFlowActivity(request.getCashFlowActivity())
                 .build();
 
         account = accountRepository.save(account);
+        chartOfAccountsCache.evict(orgId);
+        // Reports show account codes, names and classifications
+        ledgerVersionService.increment(orgId);
         return mapToResponse(account);
     }
 
+    @Retryable(includes = OptimisticLockingFailureException.class,
+            maxRetries = ResilienceConfig.OPTIMISTIC_LOCK_MAX_RETRIES,
+            delay = ResilienceConfig.OPTIMISTIC_LOCK_DELAY_MILLIS,
+            jitter = ResilienceConfig.OPTIMISTIC_LOCK_JITTER_MILLIS)
     @Transactional
     public AccountResponse updateAccount(Long id, AccountRequest request) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
@@ -132,6 +150,9 @@ public class AccountService {
 
         // Update parent if provided
         if (request.getParentId() != null && !request.getParentId().equals(id)) {
+            if (getAccountTree(orgId).isSameOrDescendant(request.getParentId(), id)) {
+                throw new BusinessException("Account cannot be moved under one of its own sub-accounts");
+            }
             Account parent = accountRepository.findByIdAndOrganizationId(request.getParentId(), orgId)
                     .orElseThrow(() -> new ResourceNotFoundException("Parent account not found"));
             account.setParent(parent);
@@ -146,11 +167,18 @@ public class AccountService {
         account.setDescription(request.getDescription());
         if (request.getIsActive() != null) account.setIsActive(request.getIsActive());
         account.setTaxApplicable(request.getTaxApplicable());
+        account.setCashFlowActivity(request.getCashFlowActivity());
 
         account = accountRepository.save(account);
+        chartOfAccountsCache.evict(orgId);
+        ledgerVersionService.increment(orgId);
         return mapToResponse(account);
     }
 
+    @Retryable(includes = OptimisticLockingFailureException.class,
+            maxRetries = ResilienceConfig.OPTIMISTIC_LOCK_MAX_RETRIES,
+            delay = ResilienceConfig.OPTIMISTIC_LOCK_DELAY_MILLIS,
+            jitter = ResilienceConfig.OPTIMISTIC_LOCK_JITTER_MILLIS)
     @Transactional
     public void deleteAccount(Long id) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
@@ -163,8 +191,7 @@ public class AccountService {
         }
 
         // Check if account has children
-        List<Account> children = accountRepository.findByParentIdAndOrganizationId(id, orgId);
-        if (!children.isEmpty()) {
+        if (getAccountTree(orgId).hasChildren(id)) {
             throw new BusinessException("Cannot delete account with child accounts");
         }
 
@@ -174,9 +201,15 @@ public class AccountService {
         }
 
         accountRepository.delete(account);
+        chartOfAccountsCache.evict(orgId);
+        ledgerVersionService.increment(orgId);
+    }
+
+    private AccountTree getAccountTree(Long orgId) {
+        return AccountTree.of(chartOfAccountsCache.getAccounts(orgId));
     }
 
-    private AccountResponse mapToResponse(Account account) {
+    static AccountResponse mapToResponse(Account account) {
         return AccountResponse.builder()
                 .id(account.getId())
                 .code(account.getCode())
@@ -189,6 +222,7 @@ public class AccountService {
                 .isActive(account.getIsActive())
                 .isSystem(account.getIsSystem())
                 .taxApplicable(account.getTaxApplicable())
+                .cashFlowActivity(account.getCashFlowActivity())
                 .createdAt(account.getCreatedAt())
                 .updatedAt(account.getUpdatedAt())
                 .build();
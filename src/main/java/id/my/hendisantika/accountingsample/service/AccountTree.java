@@ -0,0 +1,221 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.account.AccountResponse;
+import id.my.hendisantika.accountingsample.dto.account.AccountTreeNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 14.00
+ * To change this template use File | Settings | File Templates.
+ */
+public final class AccountTree {
+
+    private static final int NONE = -1;
+
+    // Accounts sorted by id; an account's position in this array is its index everywhere else
+    private final long[] ids;
+    private final AccountResponse[] accounts;
+    private final int[] parents;
+    // Children of index i are childIndexes[childOffsets[i]] .. childIndexes[childOffsets[i + 1] - 1]
+    private final int[] childOffsets;
+    private final int[] childIndexes;
+    private final int[] roots;
+    private final BigDecimal[] rolledUpBalances;
+
+    private AccountTree(List<AccountResponse> chart) {
+        int size = chart.size();
+        accounts = chart.toArray(new AccountResponse[0]);
+        Arrays.sort(accounts, Comparator.comparing(AccountResponse::getId));
+        ids = new long[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = accounts[i].getId();
+        }
+
+        parents = new int[size];
+        int[] childCounts = new int[size];
+        int rootCount = 0;
+        for (int i = 0; i < size; i++) {
+            Long parentId = accounts[i].getParentId();
+            parents[i] = parentId != null ? indexOf(parentId) : NONE;
+            if (parents[i] == NONE) {
+                rootCount++;
+            } else {
+                childCounts[parents[i]]++;
+            }
+        }
+
+        childOffsets = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            childOffsets[i + 1] = childOffsets[i] + childCounts[i];
+        }
+
+        // Fill in the caller's order, so children and roots keep the chart's code order
+        childIndexes = new int[size - rootCount];
+        roots = new int[rootCount];
+        int[] nextChild = Arrays.copyOf(childOffsets, size);
+        int nextRoot = 0;
+        for (AccountResponse account : chart) {
+            int index = indexOf(account.getId());
+            if (parents[index] == NONE) {
+                roots[nextRoot++] = index;
+            } else {
+                childIndexes[nextChild[parents[index]]++] = index;
+            }
+        }
+
+        rolledUpBalances = rollUpBalances();
+    }
+
+    /**
+     * Builds the tree from a whole chart of accounts, e.g. the cached chart of one organization.
+     * An account whose parent is not in the chart is treated as a root.
+     */
+    public static AccountTree of(List<AccountResponse> chart) {
+        return new AccountTree(chart);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean contains(long id) {
+        return indexOf(id) != NONE;
+    }
+
+    public AccountResponse getAccount(long id) {
+        int index = indexOf(id);
+        return index != NONE ? accounts[index] : null;
+    }
+
+    public AccountResponse getParent(long id) {
+        int index = indexOf(id);
+        return index != NONE && parents[index] != NONE ? accounts[parents[index]] : null;
+    }
+
+    public List<AccountResponse> getRoots() {
+        List<AccountResponse> result = new ArrayList<>(roots.length);
+        for (int root : roots) {
+            result.add(accounts[root]);
+        }
+        return result;
+    }
+
+    public List<AccountResponse> getChildren(long id) {
+        int index = indexOf(id);
+        if (index == NONE) {
+            return new ArrayList<>();
+        }
+        List<AccountResponse> result = new ArrayList<>(childOffsets[index + 1] - childOffsets[index]);
+        for (int i = childOffsets[index]; i < childOffsets[index + 1]; i++) {
+            result.add(accounts[childIndexes[i]]);
+        }
+        return result;
+    }
+
+    public boolean hasChildren(long id) {
+        int index = indexOf(id);
+        return index != NONE && childOffsets[index + 1] > childOffsets[index];
+    }
+
+    /**
+     * Returns the current balance of an account plus the balances of all its descendants
+     */
+    public BigDecimal getRolledUpBalance(long id) {
+        int index = indexOf(id);
+        return index != NONE ? rolledUpBalances[index] : null;
+    }
+
+    /**
+     * Tells whether {@code id} is {@code ancestorId} itself or sits anywhere below it. Used to reject
+     * moving an account under one of its own descendants, which would create a cycle.
+     */
+    public boolean isSameOrDescendant(long id, long ancestorId) {
+        int target = indexOf(ancestorId);
+        int index = indexOf(id);
+        // The walk is bounded by the size so corrupt data with an existing cycle cannot loop forever
+        for (int steps = 0; index != NONE && steps <= ids.length; steps++) {
+            if (index == target) {
+                return true;
+            }
+            index = parents[index];
+        }
+        return false;
+    }
+
+    public List<AccountTreeNode> toNodes() {
+        List<AccountTreeNode> nodes = new ArrayList<>(roots.length);
+        for (int root : roots) {
+            nodes.add(toNode(root));
+        }
+        return nodes;
+    }
+
+    private AccountTreeNode toNode(int index) {
+        List<AccountTreeNode> children = new ArrayList<>(childOffsets[index + 1] - childOffsets[index]);
+        for (int i = childOffsets[index]; i < childOffsets[index + 1]; i++) {
+            children.add(toNode(childIndexes[i]));
+        }
+
+        AccountResponse account = accounts[index];
+        return AccountTreeNode.builder()
+                .id(account.getId())
+                .code(account.getCode())
+                .name(account.getName())
+                .accountType(account.getAccountType())
+                .isActive(account.getIsActive())
+                .currentBalance(account.getCurrentBalance())
+                .rolledUpBalance(rolledUpBalances[index])
+                .children(children)
+                .build();
+    }
+
+    /**
+     * Sums balances bottom-up. Accounts are visited breadth first from the roots, then the order is
+     * walked backwards so every child is complete before it is added to its parent.
+     */
+    private BigDecimal[] rollUpBalances() {
+        int size = ids.length;
+        BigDecimal[] totals = new BigDecimal[size];
+        for (int i = 0; i < size; i++) {
+            BigDecimal balance = accounts[i].getCurrentBalance();
+            totals[i] = balance != null ? balance : BigDecimal.ZERO;
+        }
+
+        int[] order = new int[size];
+        int visited = 0;
+        for (int root : roots) {
+            order[visited++] = root;
+        }
+        for (int head = 0; head < visited; head++) {
+            int index = order[head];
+            for (int i = childOffsets[index]; i < childOffsets[index + 1]; i++) {
+                order[visited++] = childIndexes[i];
+            }
+        }
+
+        for (int i = visited - 1; i >= 0; i--) {
+            int index = order[i];
+            if (parents[index] != NONE) {
+                totals[parents[index]] = totals[parents[index]].add(totals[index]);
+            }
+        }
+        return totals;
+    }
+
+    private int indexOf(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? index : NONE;
+    }
+}
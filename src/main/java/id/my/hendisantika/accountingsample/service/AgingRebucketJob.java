@@ -0,0 +1,49 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 15.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AgingRebucketJob {
+
+    private final OrganizationRepository organizationRepository;
+    private final AgingService agingService;
+
+    /**
+     * Re-buckets every organization once the date has rolled over. Each organization is rebuilt in its
+     * own transaction, so one failure does not hold back the others.
+     */
+    @Scheduled(cron = "${aging.rebucket-cron}")
+    public void rebucketAll() {
+        LocalDate today = LocalDate.now();
+        for (Organization organization : organizationRepository.findAll()) {
+            try {
+                if (!agingService.tryRebucket(organization.getId(), today)) {
+                    log.debug("Aging balances of organization {} are being re-bucketed by another node",
+                            organization.getId());
+                }
+            } catch (RuntimeException ex) {
+                log.error("Failed to re-bucket aging balances of organization {}", organization.getId(), ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.report.AgingReportResponse;
+import id.my.hendisantika.accountingsample.model.Bill;
+import id.my.hendisantika.accountingsample.model.Invoice;
+import id.my.hendisantika.accountingsample.model.enums.BillStatus;
+import id.my.hendisantika.accountingsample.model.enums.ContactType;
+import id.my.hendisantika.accountingsample.model.enums.InvoiceStatus;
+import id.my.hendisantika.accountingsample.repository.AgingBalanceRepository;
+import id.my.hendisantika.accountingsample.repository.projection.AgingBalanceView;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 15.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Service
+@RequiredArgsConstructor
+public class AgingService {
+
+    public static final List<InvoiceStatus> OPEN_INVOICE_STATUSES =
+            List.of(InvoiceStatus.SENT, InvoiceStatus.PARTIALLY_PAID, InvoiceStatus.OVERDUE);
+
+    public static final List<BillStatus> OPEN_BILL_STATUSES =
+            List.of(BillStatus.SUBMITTED, BillStatus.APPROVED, BillStatus.PARTIALLY_PAID, BillStatus.OVERDUE);
+
+    /**
+     * Current, 1-30, 31-60, 61-90, 91-120 and over 120 days past due
+     */
+    private static final int BUCKET_COUNT = 6;
+    private static final int BUCKET_DAYS = 30;
+
+    private final AgingBalanceRepository agingBalanceRepository;
+    private final LedgerVersionService ledgerVersionService;
+
+    /**
+     * What a single invoice or bill contributes to the aging of its contact. A document that is not
+     * open contributes nothing.
+     */
+    public record AgingPosition(Long contactId, LocalDate dueDate, BigDecimal openAmount) {
+
+        /**
+         * Where the document is after a payment of the amount; a closed document does not move
+         */
+        public AgingPosition afterPayment(BigDecimal amount) {
+            return openAmount.signum() == 0 ? this : new AgingPosition(contactId, dueDate, openAmount.subtract(amount));
+        }
+    }
+
+    public static AgingPosition positionOf(Invoice invoice) {
+        boolean open = OPEN_INVOICE_STATUSES.contains(invoice.getStatus());
+        return new AgingPosition(invoice.getCustomer().getId(), invoice.getDueDate(),
+                open ? invoice.getBalance() : BigDecimal.ZERO);
+    }
+
+    public static AgingPosition positionOf(Bill bill) {
+        boolean open = OPEN_BILL_STATUSES.contains(bill.getStatus());
+        return new AgingPosition(bill.getVendor().getId(), bill.getDueDate(),
+                open ? bill.getBalance() : BigDecimal.ZERO);
+    }
+
+    /**
+     * Moves a document's contribution from where it was to where it is now. Pass {@code null} as
+     * {@code before} for a new document and as {@code after} for a deleted one. Must be called from the
+     * transaction that changes the document.
+     */
+    @Transactional
+    public void recordChange(Long organizationId, ContactType contactType, AgingPosition before, AgingPosition after) {
+        LocalDate today = LocalDate.now();
+        Map<Long, BigDecimal[]> changes = new LinkedHashMap<>();
+        if (before != null) {
+            addToBuckets(changes, before.contactId(), before.dueDate(), before.openAmount().negate(), today);
+        }
+        if (after != null) {
+            addToBuckets(changes, after.contactId(), after.dueDate(), after.openAmount(), today);
+        }
+
+        boolean changed = false;
+        for (Map.Entry<Long, BigDecimal[]> change : changes.entrySet()) {
+            BigDecimal[] amounts = change.getValue();
+            if (Arrays.stream(amounts).anyMatch(amount -> amount.signum() != 0)) {
+                agingBalanceRepository.addAmounts(organizationId, contactType.name(), change.getKey(),
+                        amounts[0], amounts[1], amounts[2], amounts[3], amounts[4], amounts[5]);
+                changed = true;
+            }
+        }
+        // Status changes, edits and payments of open documents reach the cached aging reports through here
+        if (changed) {
+            ledgerVersionService.increment(organizationId);
+        }
+    }
+
+    /**
+     * Recomputes an organization's buckets from its open documents, after any rebuild of the same
+     * organization in progress on another node has committed
+     */
+    @Transactional
+    public void rebucket(Long organizationId, LocalDate asOfDate) {
+        agingBalanceRepository.lockForRebucket(organizationId);
+        rebuild(organizationId, asOfDate);
+    }
+
+    /**
+     * Nightly variant of {@link #rebucket}, run daily so amounts move to older buckets as their due dates
+     * fall further behind. Every node runs the schedule, so an organization another node is already
+     * rebuilding is skipped rather than rebuilt twice.
+     *
+     * @return {@code false} when the organization was skipped
+     */
+    @Transactional
+    public boolean tryRebucket(Long organizationId, LocalDate asOfDate) {
+        if (!agingBalanceRepository.tryLockForRebucket(organizationId)) {
+            return false;
+        }
+        rebuild(organizationId, asOfDate);
+        return true;
+    }
+
+    private void rebuild(Long organizationId, LocalDate asOfDate) {
+        agingBalanceRepository.deleteByOrganizationId(organizationId);
+        agingBalanceRepository.insertFromOpenDocuments(organizationId,
+                OPEN_INVOICE_STATUSES.stream().map(Enum::name).toList(),
+                OPEN_BILL_STATUSES.stream().map(Enum::name).toList(),
+                asOfDate,
+                asOfDate.minusDays(BUCKET_DAYS),
+                asOfDate.minusDays(2L * BUCKET_DAYS),
+                asOfDate.minusDays(3L * BUCKET_DAYS),
+                asOfDate.minusDays(4L * BUCKET_DAYS));
+        ledgerVersionService.increment(organizationId);
+    }
+
+    @Transactional(readOnly = true)
+    public AgingReportResponse getAgedReceivables() {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        return toReport(agingBalanceRepository.findReceivablesByOrganizationId(orgId));
+    }
+
+    @Transactional(readOnly = true)
+    public AgingReportResponse getAgedPayables() {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        return toReport(agingBalanceRepository.findPayablesByOrganizationId(orgId));
+    }
+
+    /**
+     * Returns the bucket index for a due date: 0 while not yet due, then one bucket per 30 days past
+     * due, with everything over 120 days in the last bucket
+     */
+    static int bucketOf(LocalDate dueDate, LocalDate asOfDate) {
+        long daysPastDue = ChronoUnit.DAYS.between(dueDate, asOfDate);
+        if (daysPastDue <= 0) {
+            return 0;
+        }
+        return (int) Math.min((daysPastDue - 1) / BUCKET_DAYS + 1, BUCKET_COUNT - 1);
+    }
+
+    private void addToBuckets(Map<Long, BigDecimal[]> changes, Long contactId, LocalDate dueDate,
+                              BigDecimal amount, LocalDate today) {
+        BigDecimal[] amounts = changes.computeIfAbsent(contactId, id -> {
+            BigDecimal[] zeros = new BigDecimal[BUCKET_COUNT];
+            Arrays.fill(zeros, BigDecimal.ZERO);
+            return zeros;
+        });
+        int bucket = bucketOf(dueDate, today);
+        amounts[bucket] = amounts[bucket].add(amount);
+    }
+
+    private AgingReportResponse toReport(List<AgingBalanceView> balances) {
+        List<AgingReportResponse.AgingLine> lines = new ArrayList<>();
+        BigDecimal[] totals = new BigDecimal[BUCKET_COUNT];
+        Arrays.fill(totals, BigDecimal.ZERO);
+
+        for (AgingBalanceView balance : balances) {
+            BigDecimal[] amounts = {balance.getCurrentAmount(), balance.getDays1To30(), balance.getDays31To60(),
+                    balance.getDays61To90(), balance.getDays91To120(), balance.getDaysOver120()};
+            if (Arrays.stream(amounts).allMatch(amount -> amount.signum() == 0)) {
+                continue;
+            }
+            lines.add(toAgingLine(balance.getContactId(), balance.getContactName(), amounts));
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                totals[i] = totals[i].add(amounts[i]);
+            }
+        }
+
+        return AgingReportResponse.builder()
+                .asOfDate(LocalDate.now())
+                .lines(lines)
+                .totals(toAgingLine(null, null, totals))
+                .build();
+    }
+
+    private AgingReportResponse.AgingLine toAgingLine(Long contactId, String contactName, BigDecimal[] amounts) {
+        return AgingReportResponse.AgingLine.builder()
+                .contactId(contactId)
+                .contactName(contactName)
+                .current(amounts[0])
+                .days1To30(amounts[1])
+                .days31To60(amounts[2])
+                .days61To90(amounts[3])
+                .days91To120(amounts[4])
+                .daysOver120(amounts[5])
+                .total(Arrays.stream(amounts).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .build();
+    }
+}
@@ -0,0 +1,193 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.report.AnalyticsReportResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.model.enums.BillStatus;
+import id.my.hendisantika.accountingsample.model.enums.ComparisonPeriod;
+import id.my.hendisantika.accountingsample.model.enums.InvoiceStatus;
+import id.my.hendisantika.accountingsample.repository.BillItemRepository;
+import id.my.hendisantika.accountingsample.repository.BillRepository;
+import id.my.hendisantika.accountingsample.repository.InvoiceItemRepository;
+import id.my.hendisantika.accountingsample.repository.InvoiceRepository;
+import id.my.hendisantika.accountingsample.repository.projection.ContactAnalyticsView;
+import id.my.hendisantika.accountingsample.repository.projection.ItemAnalyticsView;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 17.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsService {
+
+    /**
+     * Invoices and bills in these statuses were never issued or have been withdrawn, so they are left out
+     * of sales and purchases
+     */
+    public static final List<InvoiceStatus> EXCLUDED_INVOICE_STATUSES =
+            List.of(InvoiceStatus.DRAFT, InvoiceStatus.VOID, InvoiceStatus.CANCELLED);
+
+    public static final List<BillStatus> EXCLUDED_BILL_STATUSES =
+            List.of(BillStatus.DRAFT, BillStatus.CANCELLED);
+
+    static final String NO_ITEM_NAME = "Lines without an item";
+
+    private final InvoiceRepository invoiceRepository;
+    private final InvoiceItemRepository invoiceItemRepository;
+    private final BillRepository billRepository;
+    private final BillItemRepository billItemRepository;
+
+    @Transactional(readOnly = true)
+    public AnalyticsReportResponse getSalesByItem(LocalDate from, LocalDate to, ComparisonPeriod comparison) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        Period period = Period.of(from, to, comparison);
+        List<ItemAnalyticsView> rows = invoiceItemRepository.sumByItemBetween(orgId,
+                EXCLUDED_INVOICE_STATUSES.stream().map(Enum::name).toList(),
+                from, to, period.comparisonFrom(), period.comparisonTo());
+        return toItemReport(period, rows);
+    }
+
+    @Transactional(readOnly = true)
+    public AnalyticsReportResponse getSalesByCustomer(LocalDate from, LocalDate to, ComparisonPeriod comparison) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        Period period = Period.of(from, to, comparison);
+        List<ContactAnalyticsView> rows = invoiceRepository.sumByCustomerBetween(orgId,
+                EXCLUDED_INVOICE_STATUSES.stream().map(Enum::name).toList(),
+                from, to, period.comparisonFrom(), period.comparisonTo());
+        return toContactReport(period, rows);
+    }
+
+    @Transactional(readOnly = true)
+    public AnalyticsReportResponse getPurchasesByVendor(LocalDate from, LocalDate to, ComparisonPeriod comparison) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        Period period = Period.of(from, to, comparison);
+        List<ContactAnalyticsView> rows = billRepository.sumByVendorBetween(orgId,
+                EXCLUDED_BILL_STATUSES.stream().map(Enum::name).toList(),
+                from, to, period.comparisonFrom(), period.comparisonTo());
+        return toContactReport(period, rows);
+    }
+
+    @Transactional(readOnly = true)
+    public AnalyticsReportResponse getPurchasesByItem(LocalDate from, LocalDate to, ComparisonPeriod comparison) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        Period period = Period.of(from, to, comparison);
+        List<ItemAnalyticsView> rows = billItemRepository.sumByItemBetween(orgId,
+                EXCLUDED_BILL_STATUSES.stream().map(Enum::name).toList(),
+                from, to, period.comparisonFrom(), period.comparisonTo());
+        return toItemReport(period, rows);
+    }
+
+    /**
+     * A reporting period and the period it is compared with
+     */
+    record Period(LocalDate from, LocalDate to, ComparisonPeriod comparison,
+                  LocalDate comparisonFrom, LocalDate comparisonTo) {
+
+        /**
+         * The previous period ends the day before {@code from} and is as long as the period itself,
+         * counted in months when the period covers whole calendar months so that e.g. February is
+         * compared with all of January
+         */
+        static Period of(LocalDate from, LocalDate to, ComparisonPeriod comparison) {
+            if (from.isAfter(to)) {
+                throw new BusinessException("From date must not be after to date");
+            }
+            if (comparison == ComparisonPeriod.PREVIOUS_YEAR) {
+                return new Period(from, to, comparison, from.minusYears(1), to.minusYears(1));
+            }
+
+            LocalDate comparisonTo = from.minusDays(1);
+            boolean wholeMonths = from.getDayOfMonth() == 1 && to.getDayOfMonth() == to.lengthOfMonth();
+            LocalDate comparisonFrom = wholeMonths
+                    ? from.minusMonths(ChronoUnit.MONTHS.between(from, to.plusDays(1)))
+                    : from.minusDays(ChronoUnit.DAYS.between(from, to) + 1);
+            return new Period(from, to, comparison, comparisonFrom, comparisonTo);
+        }
+    }
+
+    private AnalyticsReportResponse toItemReport(Period period, List<ItemAnalyticsView> rows) {
+        List<AnalyticsReportResponse.AnalyticsLine> lines = rows.stream()
+                .map(row -> toLine(row.getItemId(), row.getItemCode(),
+                        row.getItemId() != null ? row.getItemName() : NO_ITEM_NAME,
+                        row.getAmount(), row.getComparisonAmount())
+                        .quantity(row.getQuantity())
+                        .comparisonQuantity(row.getComparisonQuantity())
+                        .build())
+                .toList();
+        return toReport(period, lines, toTotals(lines).build());
+    }
+
+    private AnalyticsReportResponse toContactReport(Period period, List<ContactAnalyticsView> rows) {
+        List<AnalyticsReportResponse.AnalyticsLine> lines = rows.stream()
+                .map(row -> toLine(row.getContactId(), row.getContactCode(), row.getContactName(),
+                        row.getAmount(), row.getComparisonAmount())
+                        .documentCount(row.getDocumentCount())
+                        .comparisonDocumentCount(row.getComparisonDocumentCount())
+                        .build())
+                .toList();
+        // Every document belongs to exactly one contact, so unlike item quantities the counts add up
+        AnalyticsReportResponse.AnalyticsLine totals = toTotals(lines)
+                .documentCount(lines.stream().mapToLong(AnalyticsReportResponse.AnalyticsLine::getDocumentCount).sum())
+                .comparisonDocumentCount(lines.stream()
+                        .mapToLong(AnalyticsReportResponse.AnalyticsLine::getComparisonDocumentCount).sum())
+                .build();
+        return toReport(period, lines, totals);
+    }
+
+    private AnalyticsReportResponse toReport(Period period, List<AnalyticsReportResponse.AnalyticsLine> lines,
+                                             AnalyticsReportResponse.AnalyticsLine totals) {
+        return AnalyticsReportResponse.builder()
+                .fromDate(period.from())
+                .toDate(period.to())
+                .comparison(period.comparison())
+                .comparisonFromDate(period.comparisonFrom())
+                .comparisonToDate(period.comparisonTo())
+                .lines(lines)
+                .totals(totals)
+                .build();
+    }
+
+    private AnalyticsReportResponse.AnalyticsLine.AnalyticsLineBuilder toTotals(
+            List<AnalyticsReportResponse.AnalyticsLine> lines) {
+        BigDecimal amount = lines.stream()
+                .map(AnalyticsReportResponse.AnalyticsLine::getAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal comparisonAmount = lines.stream()
+                .map(AnalyticsReportResponse.AnalyticsLine::getComparisonAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return toLine(null, null, null, amount, comparisonAmount);
+    }
+
+    private AnalyticsReportResponse.AnalyticsLine.AnalyticsLineBuilder toLine(Long id, String code, String name,
+                                                                             BigDecimal amount,
+                                                                             BigDecimal comparisonAmount) {
+        BigDecimal change = amount.subtract(comparisonAmount);
+        BigDecimal changePercent = comparisonAmount.signum() == 0 ? null
+                : change.multiply(BigDecimal.valueOf(100)).divide(comparisonAmount.abs(), 2, RoundingMode.HALF_UP);
+        return AnalyticsReportResponse.AnalyticsLine.builder()
+                .id(id)
+                .code(code)
+                .name(name)
+                .amount(amount)
+                .comparisonAmount(comparisonAmount)
+                .change(change)
+                .changePercent(changePercent);
+    }
+}
@@ -0,0 +1,210 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.CursorPageResponse;
+import id.my.hendisantika.accountingsample.dto.bank.BankAccountRequest;
+import id.my.hendisantika.accountingsample.dto.bank.BankAccountResponse;
+import id.my.hendisantika.accountingsample.dto.bank.BankTransactionResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
+import id.my.hendisantika.accountingsample.model.Account;
+import id.my.hendisantika.accountingsample.model.BankAccount;
+import id.my.hendisantika.accountingsample.model.BankTransaction;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.CashFlowActivity;
+import id.my.hendisantika.accountingsample.repository.AccountRepository;
+import id.my.hendisantika.accountingsample.repository.BankAccountRepository;
+import id.my.hendisantika.accountingsample.repository.BankTransactionRepository;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.util.CursorUtils;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Service
+@RequiredArgsConstructor
+public class BankAccountService {
+
+    private static final Map<String, Function<String, Object>> SCROLL_SORT_KEYS = Map.of(
+            "transactionDate", LocalDate::parse,
+            "amount", BigDecimal::new);
+
+    private final BankAccountRepository bankAccountRepository;
+    private final BankTransactionRepository bankTransactionRepository;
+    private final AccountRepository accountRepository;
+    private final OrganizationRepository organizationRepository;
+    private final ChartOfAccountsCache chartOfAccountsCache;
+    private final LedgerVersionService ledgerVersionService;
+
+    @Transactional(readOnly = true)
+    public List<BankAccountResponse> getAllBankAccounts() {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        return bankAccountRepository.findByOrganizationIdOrderByAccountNameAscIdAsc(orgId).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public BankAccountResponse getBankAccountById(Long id) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        return mapToResponse(findBankAccount(id, orgId));
+    }
+
+    @Transactional
+    public BankAccountResponse createBankAccount(BankAccountRequest request) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+
+        Organization organization = organizationRepository.findById(orgId)
+                .orElseThrow(() -> new ResourceNotFoundException("Organization not found"));
+        Account account = findCashAccount(request.getAccountId(), orgId);
+        BigDecimal openingBalance = request.getOpeningBalance() != null
+                ? request.getOpeningBalance() : BigDecimal.ZERO;
+
+        BankAccount bankAccount = BankAccount.builder()
+                .organization(organization)
+                .account(account)
+                .accountName(request.getAccountName())
+                .accountNumber(request.getAccountNumber())
+                .bankName(request.getBankName())
+                .branchName(request.getBranchName())
+                .swiftCode(request.getSwiftCode())
+                .routingNumber(request.getRoutingNumber())
+                .currency(request.getCurrency() != null ? request.getCurrency() : organization.getCurrencyCode())
+                .openingBalance(openingBalance)
+                .currentBalance(openingBalance)
+                .isActive(request.getIsActive() != null ? request.getIsActive() : true)
+                .build();
+
+        bankAccount = bankAccountRepository.save(bankAccount);
+        return mapToResponse(bankAccount);
+    }
+
+    /**
+     * A change to the opening balance moves the current balance by the same amount, so the transactions
+     * already on the account stay counted
+     */
+    @Transactional
+    public BankAccountResponse updateBankAccount(Long id, BankAccountRequest request) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        BankAccount bankAccount = findBankAccount(id, orgId);
+
+        if (!bankAccount.getAccount().getId().equals(request.getAccountId())) {
+            bankAccount.setAccount(findCashAccount(request.getAccountId(), orgId));
+        }
+        bankAccount.setAccountName(request.getAccountName());
+        bankAccount.setAccountNumber(request.getAccountNumber());
+        bankAccount.setBankName(request.getBankName());
+        bankAccount.setBranchName(request.getBranchName());
+        bankAccount.setSwiftCode(request.getSwiftCode());
+        bankAccount.setRoutingNumber(request.getRoutingNumber());
+        if (request.getCurrency() != null) bankAccount.setCurrency(request.getCurrency());
+        if (request.getIsActive() != null) bankAccount.setIsActive(request.getIsActive());
+
+        bankAccount = bankAccountRepository.save(bankAccount);
+        if (request.getOpeningBalance() != null) {
+            bankAccountRepository.updateOpeningBalance(id, orgId, request.getOpeningBalance());
+            BigDecimal currentBalance = bankAccountRepository.findCurrentBalanceById(id);
+            bankAccount.setOpeningBalance(request.getOpeningBalance());
+            bankAccount.setCurrentBalance(currentBalance);
+        }
+        return mapToResponse(bankAccount);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<BankTransactionResponse> scrollTransactions(Long bankAccountId, String cursor,
+                                                                          Pageable pageable) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        findBankAccount(bankAccountId, orgId);
+        Sort sort = CursorUtils.keysetSort(pageable.getSort(), SCROLL_SORT_KEYS, "transactionDate");
+        ScrollPosition position = CursorUtils.decode(cursor, sort, SCROLL_SORT_KEYS);
+
+        Window<BankTransaction> window = bankTransactionRepository.findByBankAccountIdAndOrganizationId(
+                bankAccountId, orgId, position, sort, Limit.of(pageable.getPageSize()));
+        return CursorUtils.toPage(window, this::mapToResponse);
+    }
+
+    private BankAccount findBankAccount(Long id, Long orgId) {
+        return bankAccountRepository.findByIdAndOrganizationId(id, orgId)
+                .orElseThrow(() -> new ResourceNotFoundException("Bank account not found"));
+    }
+
+    /**
+     * The ledger account behind a bank account must be an asset, and it holds cash from then on, which is
+     * how the cash flow statement finds it
+     */
+    private Account findCashAccount(Long accountId, Long orgId) {
+        Account account = accountRepository.findByIdAndOrganizationId(accountId, orgId)
+                .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
+        if (account.getAccountType() != AccountType.ASSET) {
+            throw new BusinessException("A bank account must be linked to an asset account");
+        }
+        if (account.getCashFlowActivity() != CashFlowActivity.CASH) {
+            account.setCashFlowActivity(CashFlowActivity.CASH);
+            chartOfAccountsCache.evict(orgId);
+            ledgerVersionService.increment(orgId);
+        }
+        return account;
+    }
+
+    private BankAccountResponse mapToResponse(BankAccount bankAccount) {
+        Account account = bankAccount.getAccount();
+        return BankAccountResponse.builder()
+                .id(bankAccount.getId())
+                .accountId(account.getId())
+                .accountCode(account.getCode())
+                .accountName(account.getName())
+                .bankAccountName(bankAccount.getAccountName())
+                .accountNumber(bankAccount.getAccountNumber())
+                .bankName(bankAccount.getBankName())
+                .branchName(bankAccount.getBranchName())
+                .swiftCode(bankAccount.getSwiftCode())
+                .routingNumber(bankAccount.getRoutingNumber())
+                .currency(bankAccount.getCurrency())
+                .openingBalance(bankAccount.getOpeningBalance())
+                .currentBalance(bankAccount.getCurrentBalance())
+                .isActive(bankAccount.getIsActive())
+                .createdAt(bankAccount.getCreatedAt())
+                .updatedAt(bankAccount.getUpdatedAt())
+                .build();
+    }
+
+    private BankTransactionResponse mapToResponse(BankTransaction transaction) {
+        return BankTransactionResponse.builder()
+                .id(transaction.getId())
+                .bankAccountId(transaction.getBankAccount().getId())
+                .transactionDate(transaction.getTransactionDate())
+                .description(transaction.getDescription())
+                .referenceNumber(transaction.getReferenceNumber())
+                .transactionType(transaction.getTransactionType())
+                .amount(transaction.getAmount())
+                .status(transaction.getStatus())
+                .isReconciled(transaction.getIsReconciled())
+                .reconciledAt(transaction.getReconciledAt())
+                .createdAt(transaction.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,242 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.bank.BankStatementImportResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
+import id.my.hendisantika.accountingsample.importer.Camt053StatementReader;
+import id.my.hendisantika.accountingsample.importer.CsvStatementReader;
+import id.my.hendisantika.accountingsample.importer.OfxStatementReader;
+import id.my.hendisantika.accountingsample.importer.StatementLine;
+import id.my.hendisantika.accountingsample.importer.StatementReader;
+import id.my.hendisantika.accountingsample.model.BankAccount;
+import id.my.hendisantika.accountingsample.model.enums.StatementFormat;
+import id.my.hendisantika.accountingsample.repository.BankAccountRepository;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BankStatementService {
+
+    private static final int MAX_REFERENCE_LENGTH = 50;
+
+    /**
+     * Amounts are NUMERIC(19,4), which leaves fifteen digits before the decimal point
+     */
+    private static final int MAX_INTEGER_DIGITS = 15;
+
+    private static final String CREATE_STAGING_TABLE_SQL = "CREATE TEMPORARY TABLE bank_statement_import (" +
+            "line_number INTEGER NOT NULL, transaction_date DATE NOT NULL, amount NUMERIC(19,4) NOT NULL, " +
+            "reference_number TEXT, description TEXT) ON COMMIT DROP";
+
+    private static final String COPY_SQL = "COPY bank_statement_import " +
+            "(line_number, transaction_date, amount, reference_number, description) FROM STDIN WITH (FORMAT csv)";
+
+    /*
+     * The hash covers the date, signed amount and reference of a line and its occurrence among the lines of
+     * the file with the same three, so two identical payments on one day are both kept while a statement
+     * overlapping one imported before adds only the lines that are new. Lines whose hash the account already
+     * has are left out by the unique constraint; the totals of the lines inserted come back in one row.
+     */
+    private static final String MERGE_SQL = "WITH staged AS (" +
+            "SELECT line_number, transaction_date, amount, reference_number, description, " +
+            "row_number() OVER (PARTITION BY transaction_date, amount, reference_number " +
+            "ORDER BY line_number) AS occurrence " +
+            "FROM bank_statement_import), " +
+            "inserted AS (" +
+            "INSERT INTO bank_transactions (organization_id, bank_account_id, transaction_date, description, " +
+            "reference_number, transaction_type, amount, dedup_hash) " +
+            "SELECT CAST(? AS BIGINT), CAST(? AS BIGINT), transaction_date, description, reference_number, " +
+            "CASE WHEN amount < 0 THEN 'DEBIT' ELSE 'CREDIT' END, ABS(amount), " +
+            "encode(sha256(convert_to(concat_ws('|', to_char(transaction_date, 'YYYY-MM-DD'), amount, " +
+            "COALESCE(reference_number, ''), occurrence), 'UTF8')), 'hex') " +
+            "FROM staged ORDER BY line_number " +
+            "ON CONFLICT (bank_account_id, dedup_hash) DO NOTHING " +
+            "RETURNING CASE WHEN transaction_type = 'DEBIT' THEN -amount ELSE amount END AS signed_amount) " +
+            "SELECT COUNT(*), COALESCE(SUM(signed_amount), 0) FROM inserted";
+
+    private final BankAccountRepository bankAccountRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${imports.chunk-size}")
+    private int chunkSize;
+
+    /**
+     * Streams the statement into a staging table with COPY, a chunk of lines at a time, and moves it into
+     * the account's transactions with one statement. The lines imported are added to the current balance
+     * in the same transaction, so the balance never counts a line twice or misses one.
+     *
+     * @param format the format of the file, or {@code null} to tell it from the file name
+     */
+    @Transactional
+    public BankStatementImportResponse importStatement(Long bankAccountId, InputStream in, String fileName,
+                                                       StatementFormat format) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        BankAccount bankAccount = bankAccountRepository.findByIdAndOrganizationId(bankAccountId, orgId)
+                .orElseThrow(() -> new ResourceNotFoundException("Bank account not found"));
+        if (!bankAccount.getIsActive()) {
+            throw new BusinessException("Cannot import a statement into an inactive bank account");
+        }
+        StatementFormat statementFormat = format != null ? format : StatementFormat.fromFileName(fileName);
+        if (statementFormat == null) {
+            throw new BusinessException("Cannot tell the statement format from the file name " + fileName +
+                    "; give the format");
+        }
+
+        StatementRun run = jdbcTemplate.execute((ConnectionCallback<StatementRun>) connection -> {
+            try (StatementReader reader = openReader(statementFormat, in)) {
+                return new StatementRun(connection).run(reader, orgId, bankAccountId);
+            } catch (IOException ex) {
+                throw new BusinessException("Could not read the statement file: " + ex.getMessage());
+            }
+        });
+
+        if (run.importedLines > 0) {
+            bankAccountRepository.addToCurrentBalance(bankAccountId, orgId, run.importedAmount);
+        }
+        log.info("Imported {} of {} statement lines into bank account {} of organization {}",
+                run.importedLines, run.totalLines, bankAccountId, orgId);
+
+        return BankStatementImportResponse.builder()
+                .bankAccountId(bankAccountId)
+                .format(statementFormat)
+                .totalLines(run.totalLines)
+                .importedLines(run.importedLines)
+                .duplicateLines(run.totalLines - run.importedLines)
+                .fromDate(run.fromDate)
+                .toDate(run.toDate)
+                .importedAmount(run.importedAmount)
+                .currentBalance(bankAccountRepository.findCurrentBalanceById(bankAccountId))
+                .build();
+    }
+
+    private static StatementReader openReader(StatementFormat format, InputStream in) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvStatementReader(in);
+            case OFX -> new OfxStatementReader(in);
+            case CAMT053 -> new Camt053StatementReader(in);
+        };
+    }
+
+    private final class StatementRun {
+
+        private final Connection connection;
+        private final CopyManager copyManager;
+        private final StringBuilder copyData = new StringBuilder();
+        private int bufferedLines;
+
+        private int totalLines;
+        private int importedLines;
+        private BigDecimal importedAmount = BigDecimal.ZERO;
+        private LocalDate fromDate;
+        private LocalDate toDate;
+
+        private StatementRun(Connection connection) throws SQLException {
+            this.connection = connection;
+            this.copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        }
+
+        private StatementRun run(StatementReader reader, Long orgId, Long bankAccountId) throws IOException,
+                SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_TABLE_SQL);
+            }
+
+            StatementLine line;
+            while ((line = reader.next()) != null) {
+                totalLines++;
+                append(line);
+                if (bufferedLines >= chunkSize) {
+                    flush();
+                }
+            }
+            flush();
+            if (totalLines > 0) {
+                merge(orgId, bankAccountId);
+            }
+            return this;
+        }
+
+        private void append(StatementLine line) {
+            if (line.amount().precision() - line.amount().scale() > MAX_INTEGER_DIGITS) {
+                throw new BusinessException("Line " + totalLines + ": Amount is too large");
+            }
+            fromDate = fromDate == null || line.date().isBefore(fromDate) ? line.date() : fromDate;
+            toDate = toDate == null || line.date().isAfter(toDate) ? line.date() : toDate;
+
+            String reference = line.reference();
+            if (reference != null && reference.length() > MAX_REFERENCE_LENGTH) {
+                reference = reference.substring(0, MAX_REFERENCE_LENGTH);
+            }
+            copyData.append(totalLines).append(',').append(line.date()).append(',')
+                    .append(line.amount().setScale(4, RoundingMode.HALF_UP).toPlainString());
+            appendQuoted(reference);
+            appendQuoted(line.description());
+            copyData.append('\n');
+            bufferedLines++;
+        }
+
+        /**
+         * Every value is quoted, so an unquoted empty field is read by COPY as NULL
+         */
+        private void appendQuoted(String value) {
+            copyData.append(',');
+            if (value != null) {
+                copyData.append('"').append(value.replace("\"", "\"\"")).append('"');
+            }
+        }
+
+        private void flush() throws SQLException, IOException {
+            if (bufferedLines == 0) {
+                return;
+            }
+            copyManager.copyIn(COPY_SQL, new StringReader(copyData.toString()));
+            copyData.setLength(0);
+            bufferedLines = 0;
+        }
+
+        private void merge(Long orgId, Long bankAccountId) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(MERGE_SQL)) {
+                statement.setLong(1, orgId);
+                statement.setLong(2, bankAccountId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    importedLines = resultSet.getInt(1);
+                    importedAmount = resultSet.getBigDecimal(2);
+                }
+            }
+        }
+    }
+}
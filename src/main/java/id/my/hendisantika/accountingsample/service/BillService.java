@@ -1,8 +1,12 @@
 package id.my.hendisantika.accountingsample.service;
 
+import id.my.hendisantika.accountingsample.dto.CursorPageResponse;
+import id.my.hendisantika.accountingsample.dto.SliceResponse;
+import id.my.hendisantika.accountingsample.dto.bill.BillFilter;
 import id.my.hendisantika.accountingsample.dto.bill.BillItemRequest;
 import id.my.hendisantika.accountingsample.dto.bill.BillRequest;
 import id.my.hendisantika.accountingsample.dto.bill.BillResponse;
+import id.my.hendisantika.accountingsample.dto.bill.BillSummaryResponse;
 import id.my.hendisantika.accountingsample.exception.BusinessException;
 import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
 import id.my.hendisantika.accountingsample.model.Bill;
@@ -11,20 +15,35 @@ import id.my.hendisantika.accountingsample.model.Item;
 import id.my.hendisantika.accountingsample.model.Organization;
 import id.my.hendisantika.accountingsample.model.Vendor;
 import id.my.hendisantika.accountingsample.model.enums.BillStatus;
+import id.my.hendisantika.accountingsample.model.enums.ContactType;
+import id.my.hendisantika.accountingsample.model.enums.DocumentType;
 import id.my.hendisantika.accountingsample.repository.BillRepository;
 import id.my.hendisantika.accountingsample.repository.ItemRepository;
 import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
 import id.my.hendisantika.accountingsample.repository.VendorRepository;
+import id.my.hendisantika.accountingsample.repository.projection.BillSummaryView;
+import id.my.hendisantika.accountingsample.repository.specification.BillSpecifications;
+import id.my.hendisantika.accountingsample.util.CursorUtils;
+import id.my.hendisantika.accountingsample.util.LookupUtils;
 import id.my.hendisantika.accountingsample.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -42,10 +61,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BillService {
 
+    /**
+     * Properties a scroll request may sort on, with the parser used to read them back from a cursor
+     */
+    private static final Map<String, Function<String, Object>> SCROLL_SORT_KEYS = Map.of(
+            "billDate", LocalDate::parse,
+            "dueDate", LocalDate::parse,
+            "billNumber", value -> value,
+            "totalAmount", BigDecimal::new);
+
     private final BillRepository billRepository;
     private final VendorRepository vendorRepository;
     private final ItemRepository itemRepository;
     private final OrganizationRepository organizationRepository;
+    private final DocumentNumberService documentNumberService;
+    private final AgingService agingService;
 
     public List<BillResponse> getAllBills() {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
@@ -54,6 +84,17 @@ public class BillService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Summary rows for the bill list. Reads only the listed columns, so items and notes are never loaded
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<BillSummaryResponse> getBillSummaries(Pageable pageable) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        Slice<BillSummaryView> summaries = billRepository.findSummariesByOrganizationId(orgId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        return SliceResponse.of(summaries, this::mapToSummaryResponse);
+    }
+
     public List<BillResponse> getBillsByStatus(BillStatus status) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
         return billRepository.findByStatusAndOrganizationId(status, orgId).stream()
@@ -85,9 +126,20 @@ public class BillService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<BillResponse> scrollBills(BillFilter filter, String cursor, Pageable pageable) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        Sort sort = CursorUtils.keysetSort(pageable.getSort(), SCROLL_SORT_KEYS, "billDate");
+        ScrollPosition position = CursorUtils.decode(cursor, sort, SCROLL_SORT_KEYS);
+
+        Window<Bill> window = billRepository.findBy(BillSpecifications.matching(orgId, filter),
+                query -> query.sortBy(sort).limit(pageable.getPageSize()).scroll(position));
+        return CursorUtils.toPage(window, this::mapToResponse);
+    }
+
     public BillResponse getBillById(Long id) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
-        Bill bill = billRepository.findByIdAndOrganizationId(id, orgId)
+        Bill bill = billRepository.findWithItemsByIdAndOrganizationId(id, orgId)
                 .orElseThrow(() -> new ResourceNotFoundException("Bill not found"));
         return mapToResponse(bill);
     }
@@ -96,8 +148,12 @@ public class BillService {
     public BillResponse createBill(BillRequest request) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
 
-        // Check if bill number already exists
-        if (billRepository.existsByBillNumberAndOrganizationId(request.getBillNumber(), orgId)) {
+        // Use the given bill number if it is free, otherwise take the next one from the sequence
+        String billNumber = request.getBillNumber();
+        if (!StringUtils.hasText(billNumber)) {
+            billNumber = documentNumberService.nextFreeNumber(orgId, DocumentType.BILL,
+                    number -> billRepository.existsByBillNumberAndOrganizationId(number, orgId));
+        } else if (billRepository.existsByBillNumberAndOrganizationId(billNumber, orgId)) {
             throw new BusinessException("Bill with this number already exists");
         }
 
@@ -115,7 +171,7 @@ public class BillService {
         Bill bill = Bill.builder()
                 .organization(organization)
                 .vendor(vendor)
-                .billNumber(request.getBillNumber())
+                .billNumber(billNumber)
                 .billDate(request.getBillDate())
                 .dueDate(request.getDueDate())
                 .status(request.getStatus() != null ? request.getStatus() : BillStatus.DRAFT)
@@ -125,21 +181,16 @@ public class BillService {
                 .build();
 
         // Process items
+        Map<Long, Item> items = findRequestItems(request.getItems(), orgId);
         for (BillItemRequest itemRequest : request.getItems()) {
-            Item item = itemRepository.findByIdAndOrganizationId(itemRequest.getItemId(), orgId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Item not found: " + itemRequest.getItemId()));
+            Item item = items.get(itemRequest.getItemId());
 
             BigDecimal quantity = itemRequest.getQuantity();
             BigDecimal unitPrice = itemRequest.getUnitPrice();
             BigDecimal discount = itemRequest.getDiscount() != null ? itemRequest.getDiscount() : BigDecimal.ZERO;
             BigDecimal taxRate = itemRequest.getTaxRate() != null ? itemRequest.getTaxRate() : BigDecimal.ZERO;
 
-            // Calculate line amount
-            BigDecimal lineSubtotal = quantity.multiply(unitPrice);
-            BigDecimal lineDiscount = lineSubtotal.multiply(discount).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-            BigDecimal lineAfterDiscount = lineSubtotal.subtract(lineDiscount);
-            BigDecimal lineTax = lineAfterDiscount.multiply(taxRate).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-            BigDecimal lineAmount = lineAfterDiscount.add(lineTax);
+            BigDecimal lineAmount = calculateLineAmount(quantity, unitPrice, discount, taxRate);
 
             BillItem billItem = BillItem.builder()
                     .bill(bill)
@@ -160,6 +211,7 @@ public class BillService {
         calculateBillTotals(bill);
 
         bill = billRepository.save(bill);
+        agingService.recordChange(orgId, ContactType.VENDOR, null, AgingService.positionOf(bill));
         return mapToResponse(bill);
     }
 
@@ -173,9 +225,11 @@ public class BillService {
         if (bill.getStatus() == BillStatus.PAID || bill.getStatus() == BillStatus.CANCELLED) {
             throw new BusinessException("Cannot update a paid or cancelled bill");
         }
+        AgingService.AgingPosition agingBefore = AgingService.positionOf(bill);
 
         // Check if new bill number already exists (if bill number is being changed)
-        if (!request.getBillNumber().equals(bill.getBillNumber()) &&
+        if (StringUtils.hasText(request.getBillNumber()) &&
+                !request.getBillNumber().equals(bill.getBillNumber()) &&
                 billRepository.existsByBillNumberAndOrganizationId(request.getBillNumber(), orgId)) {
             throw new BusinessException("Bill with this number already exists");
         }
@@ -190,7 +244,9 @@ public class BillService {
 
         // Update basic fields
         bill.setVendor(vendor);
-        bill.setBillNumber(request.getBillNumber());
+        if (StringUtils.hasText(request.getBillNumber())) {
+            bill.setBillNumber(request.getBillNumber());
+        }
         bill.setBillDate(request.getBillDate());
         bill.setDueDate(request.getDueDate());
         if (request.getStatus() != null) bill.setStatus(request.getStatus());
@@ -201,21 +257,16 @@ public class BillService {
         bill.getItems().clear();
 
         // Process new items
+        Map<Long, Item> items = findRequestItems(request.getItems(), orgId);
         for (BillItemRequest itemRequest : request.getItems()) {
-            Item item = itemRepository.findByIdAndOrganizationId(itemRequest.getItemId(), orgId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Item not found: " + itemRequest.getItemId()));
+            Item item = items.get(itemRequest.getItemId());
 
             BigDecimal quantity = itemRequest.getQuantity();
             BigDecimal unitPrice = itemRequest.getUnitPrice();
             BigDecimal discount = itemRequest.getDiscount() != null ? itemRequest.getDiscount() : BigDecimal.ZERO;
             BigDecimal taxRate = itemRequest.getTaxRate() != null ? itemRequest.getTaxRate() : BigDecimal.ZERO;
 
-            // Calculate line amount
-            BigDecimal lineSubtotal = quantity.multiply(unitPrice);
-            BigDecimal lineDiscount = lineSubtotal.multiply(discount).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-            BigDecimal lineAfterDiscount = lineSubtotal.subtract(lineDiscount);
-            BigDecimal lineTax = lineAfterDiscount.multiply(taxRate).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-            BigDecimal lineAmount = lineAfterDiscount.add(lineTax);
+            BigDecimal lineAmount = calculateLineAmount(quantity, unitPrice, discount, taxRate);
 
             BillItem billItem = BillItem.builder()
                     .bill(bill)
@@ -236,6 +287,7 @@ public class BillService {
         calculateBillTotals(bill);
 
         bill = billRepository.save(bill);
+        agingService.recordChange(orgId, ContactType.VENDOR, agingBefore, AgingService.positionOf(bill));
         return mapToResponse(bill);
     }
 
@@ -245,8 +297,10 @@ public class BillService {
         Bill bill = billRepository.findByIdAndOrganizationId(id, orgId)
                 .orElseThrow(() -> new ResourceNotFoundException("Bill not found"));
 
+        AgingService.AgingPosition agingBefore = AgingService.positionOf(bill);
         bill.setStatus(status);
         bill = billRepository.save(bill);
+        agingService.recordChange(orgId, ContactType.VENDOR, agingBefore, AgingService.positionOf(bill));
         return mapToResponse(bill);
     }
 
@@ -264,7 +318,21 @@ public class BillService {
         billRepository.delete(bill);
     }
 
-    private void calculateBillTotals(Bill bill) {
+    /**
+     * Line amount: quantity * unitPrice less the discount percentage, plus tax at taxRate percent
+     */
+    static BigDecimal calculateLineAmount(BigDecimal quantity, BigDecimal unitPrice, BigDecimal discount,
+                                          BigDecimal taxRate) {
+        BigDecimal lineSubtotal = quantity.multiply(unitPrice);
+        BigDecimal lineDiscount = lineSubtotal.multiply(discount)
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        BigDecimal lineAfterDiscount = lineSubtotal.subtract(lineDiscount);
+        BigDecimal lineTax = lineAfterDiscount.multiply(taxRate)
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        return lineAfterDiscount.add(lineTax);
+    }
+
+    static void calculateBillTotals(Bill bill) {
         BigDecimal subtotal = BigDecimal.ZERO;
         BigDecimal taxAmount = BigDecimal.ZERO;
 
@@ -289,6 +357,13 @@ public class BillService {
         bill.setBalance(balance);
     }
 
+    private Map<Long, Item> findRequestItems(List<BillItemRequest> itemRequests, Long orgId) {
+        return LookupUtils.findAllByIds(
+                itemRequests.stream().map(BillItemRequest::getItemId).toList(),
+                ids -> itemRepository.findAllByIdInAndOrganizationId(ids, orgId),
+                "Item not found: ");
+    }
+
     private BillResponse mapToResponse(Bill bill) {
         List<BillResponse.BillItemResponse> itemResponses = bill.getItems().stream()
                 .map(item -> BillResponse.BillItemResponse.builder()
@@ -325,4 +400,18 @@ public class BillService {
                 .updatedAt(bill.getUpdatedAt())
                 .build();
     }
+
+    private BillSummaryResponse mapToSummaryResponse(BillSummaryView view) {
+        return BillSummaryResponse.builder()
+                .id(view.getId())
+                .billNumber(view.getBillNumber())
+                .billDate(view.getBillDate())
+                .dueDate(view.getDueDate())
+                .vendorId(view.getVendorId())
+                .vendorName(view.getVendorName())
+                .status(view.getStatus())
+                .totalAmount(view.getTotalAmount())
+                .balance(view.getBalance())
+                .build();
+    }
 }
@@ -0,0 +1,52 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.account.AccountResponse;
+import id.my.hendisantika.accountingsample.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 13.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChartOfAccountsCache {
+
+    public static final String CACHE_NAME = "chartOfAccounts";
+
+    private final AccountRepository accountRepository;
+
+    /**
+     * Returns the whole chart of accounts of an organization, ordered by code. The list is shared
+     * between callers and must not be modified.
+     */
+    @Cacheable(cacheNames = CACHE_NAME, key = "#organizationId")
+    @Transactional(readOnly = true)
+    public List<AccountResponse> getAccounts(Long organizationId) {
+        return accountRepository.findWithParentByOrganizationIdOrderByCode(organizationId).stream()
+                .map(AccountService::mapToResponse)
+                .toList();
+    }
+
+    /**
+     * Drops the cached chart once the surrounding transaction commits. Called whenever an account is
+     * created, changed or deleted, and when posting moves account balances.
+     */
+    @CacheEvict(cacheNames = CACHE_NAME, key = "#organizationId")
+    public void evict(Long organizationId) {
+        // Eviction is done by the cache interceptor
+    }
+}
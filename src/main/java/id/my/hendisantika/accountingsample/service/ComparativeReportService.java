@@ -0,0 +1,343 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.account.AccountResponse;
+import id.my.hendisantika.accountingsample.dto.report.ComparativeBalanceSheetResponse;
+import id.my.hendisantika.accountingsample.dto.report.ComparativeProfitLossResponse;
+import id.my.hendisantika.accountingsample.dto.report.ReportPeriod;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.PeriodType;
+import id.my.hendisantika.accountingsample.repository.AccountPeriodBalanceRepository;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.repository.projection.AccountBalanceView;
+import id.my.hendisantika.accountingsample.repository.projection.AccountPeriodMovementView;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 18.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Service
+@RequiredArgsConstructor
+public class ComparativeReportService {
+
+    public static final int MAX_PERIODS = 24;
+
+    private static final List<AccountType> PROFIT_LOSS_ACCOUNT_TYPES =
+            List.of(AccountType.REVENUE, AccountType.COST_OF_GOODS_SOLD, AccountType.EXPENSE);
+
+    private final OrganizationRepository organizationRepository;
+    private final AccountPeriodBalanceRepository accountPeriodBalanceRepository;
+    private final ChartOfAccountsCache chartOfAccountsCache;
+
+    /**
+     * Builds the income statement for {@code periodCount} consecutive periods ending with the one that
+     * contains {@code endDate}. Every column is filled from a single read of the monthly period balances,
+     * so the cost does not grow with the number of columns.
+     */
+    @Transactional(readOnly = true)
+    public ComparativeProfitLossResponse getProfitAndLoss(PeriodType periodType, int periodCount, LocalDate endDate) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        List<ReportPeriod> periods = periodsEndingAt(periodType, periodCount, endDate, fiscalYearStartMonthOf(orgId));
+        Map<Long, BigDecimal[]> netDebits = loadMovements(orgId, PROFIT_LOSS_ACCOUNT_TYPES, periodType, periods);
+
+        List<AccountResponse> chart = chartOfAccountsCache.getAccounts(orgId);
+        AccountTree tree = AccountTree.of(chart);
+        List<ComparativeProfitLossResponse.ComparativeProfitLossLine> revenue =
+                toProfitLossLines(chart, tree, AccountType.REVENUE, netDebits, periodCount);
+        List<ComparativeProfitLossResponse.ComparativeProfitLossLine> costOfGoodsSold =
+                toProfitLossLines(chart, tree, AccountType.COST_OF_GOODS_SOLD, netDebits, periodCount);
+        List<ComparativeProfitLossResponse.ComparativeProfitLossLine> expenses =
+                toProfitLossLines(chart, tree, AccountType.EXPENSE, netDebits, periodCount);
+
+        BigDecimal[] totalRevenue = sumSubtotals(revenue, periodCount);
+        BigDecimal[] totalCostOfGoodsSold = sumSubtotals(costOfGoodsSold, periodCount);
+        BigDecimal[] totalExpenses = sumSubtotals(expenses, periodCount);
+        BigDecimal[] grossProfit = subtract(totalRevenue, totalCostOfGoodsSold);
+
+        return ComparativeProfitLossResponse.builder()
+                .periodType(periodType)
+                .periods(periods)
+                .revenue(revenue)
+                .costOfGoodsSold(costOfGoodsSold)
+                .expenses(expenses)
+                .totalRevenue(List.of(totalRevenue))
+                .totalCostOfGoodsSold(List.of(totalCostOfGoodsSold))
+                .grossProfit(List.of(grossProfit))
+                .totalExpenses(List.of(totalExpenses))
+                .netIncome(List.of(subtract(grossProfit, totalExpenses)))
+                .build();
+    }
+
+    /**
+     * Builds the balance sheet as of the last day of each period. The balances before the first period are
+     * read once and the monthly movements inside the periods are accumulated on top of them.
+     */
+    @Transactional(readOnly = true)
+    public ComparativeBalanceSheetResponse getBalanceSheet(PeriodType periodType, int periodCount, LocalDate endDate) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        List<ReportPeriod> periods = periodsEndingAt(periodType, periodCount, endDate, fiscalYearStartMonthOf(orgId));
+        Map<Long, BigDecimal[]> movements =
+                loadMovements(orgId, Arrays.asList(AccountType.values()), periodType, periods);
+        Map<Long, BigDecimal> openingBalances = new HashMap<>();
+        for (AccountBalanceView balance : accountPeriodBalanceRepository.sumByAccountBefore(
+                orgId, periods.getFirst().getFromDate())) {
+            openingBalances.put(balance.getAccountId(), balance.getDebitTotal().subtract(balance.getCreditTotal()));
+        }
+
+        List<ComparativeBalanceSheetResponse.ComparativeBalanceSheetLine> assets = new ArrayList<>();
+        List<ComparativeBalanceSheetResponse.ComparativeBalanceSheetLine> liabilities = new ArrayList<>();
+        List<ComparativeBalanceSheetResponse.ComparativeBalanceSheetLine> equity = new ArrayList<>();
+        BigDecimal[] totalAssets = zeros(periodCount);
+        BigDecimal[] totalLiabilities = zeros(periodCount);
+        BigDecimal[] totalEquity = zeros(periodCount);
+        BigDecimal[] retainedEarnings = zeros(periodCount);
+
+        for (AccountResponse account : chartOfAccountsCache.getAccounts(orgId)) {
+            BigDecimal[] netDebits = cumulativeNetDebits(openingBalances.get(account.getId()),
+                    movements.get(account.getId()), periodCount);
+            if (netDebits == null) {
+                continue;
+            }
+
+            switch (account.getAccountType()) {
+                case ASSET -> {
+                    assets.add(toBalanceSheetLine(account, netDebits));
+                    addTo(totalAssets, netDebits);
+                }
+                case LIABILITY -> {
+                    BigDecimal[] balances = negate(netDebits);
+                    liabilities.add(toBalanceSheetLine(account, balances));
+                    addTo(totalLiabilities, balances);
+                }
+                case EQUITY -> {
+                    BigDecimal[] balances = negate(netDebits);
+                    equity.add(toBalanceSheetLine(account, balances));
+                    addTo(totalEquity, balances);
+                }
+                // Income statement accounts roll into equity as earnings not yet closed
+                case REVENUE, EXPENSE, COST_OF_GOODS_SOLD -> addTo(retainedEarnings, negate(netDebits));
+            }
+        }
+
+        addTo(totalEquity, retainedEarnings);
+        return ComparativeBalanceSheetResponse.builder()
+                .periodType(periodType)
+                .periods(periods)
+                .assets(assets)
+                .liabilities(liabilities)
+                .equity(equity)
+                .totalAssets(List.of(totalAssets))
+                .totalLiabilities(List.of(totalLiabilities))
+                .retainedEarnings(List.of(retainedEarnings))
+                .totalEquity(List.of(totalEquity))
+                .build();
+    }
+
+    /**
+     * Lays out {@code count} consecutive periods ending with the one that contains {@code endDate}.
+     * Quarters are fiscal quarters counted from {@code fiscalYearStartMonth}, and a fiscal year is named
+     * after the calendar year it ends in.
+     */
+    static List<ReportPeriod> periodsEndingAt(PeriodType periodType, int count, LocalDate endDate,
+                                              int fiscalYearStartMonth) {
+        if (count < 1 || count > MAX_PERIODS) {
+            throw new BusinessException("Number of periods must be between 1 and " + MAX_PERIODS);
+        }
+
+        int months = periodType.getMonths();
+        LocalDate monthStart = endDate.withDayOfMonth(1);
+        LocalDate lastStart = monthStart.minusMonths(fiscalMonthOf(monthStart, fiscalYearStartMonth) % months);
+
+        List<ReportPeriod> periods = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            LocalDate fromDate = lastStart.minusMonths((long) i * months);
+            periods.add(ReportPeriod.builder()
+                    .label(labelOf(periodType, fromDate, fiscalYearStartMonth))
+                    .fromDate(fromDate)
+                    .toDate(fromDate.plusMonths(months).minusDays(1))
+                    .build());
+        }
+        return periods;
+    }
+
+    private int fiscalYearStartMonthOf(Long orgId) {
+        return organizationRepository.findById(orgId)
+                .orElseThrow(() -> new ResourceNotFoundException("Organization not found"))
+                .getFiscalYearStartMonth();
+    }
+
+    /**
+     * Returns the zero-based month of the fiscal year, 0 for the month the fiscal year starts in
+     */
+    private static int fiscalMonthOf(LocalDate date, int fiscalYearStartMonth) {
+        return Math.floorMod(date.getMonthValue() - fiscalYearStartMonth, 12);
+    }
+
+    private static String labelOf(PeriodType periodType, LocalDate fromDate, int fiscalYearStartMonth) {
+        if (periodType == PeriodType.MONTH) {
+            return YearMonth.from(fromDate).toString();
+        }
+        int fiscalYear = fiscalYearStartMonth == 1 || fromDate.getMonthValue() < fiscalYearStartMonth
+                ? fromDate.getYear()
+                : fromDate.getYear() + 1;
+        return "FY" + fiscalYear + " Q" + (fiscalMonthOf(fromDate, fiscalYearStartMonth) / 3 + 1);
+    }
+
+    /**
+     * Folds the monthly period balances of the whole range into one net debit per account and period
+     */
+    private Map<Long, BigDecimal[]> loadMovements(Long orgId, List<AccountType> accountTypes,
+                                                  PeriodType periodType, List<ReportPeriod> periods) {
+        LocalDate firstStart = periods.getFirst().getFromDate();
+        LocalDate end = periods.getLast().getToDate().plusDays(1);
+        Map<Long, BigDecimal[]> netDebits = new HashMap<>();
+        for (AccountPeriodMovementView movement : accountPeriodBalanceRepository.findMovementsBetween(
+                orgId, accountTypes, firstStart, end)) {
+            int period = (int) ChronoUnit.MONTHS.between(firstStart, movement.getPeriodStart())
+                    / periodType.getMonths();
+            BigDecimal[] amounts = netDebits.computeIfAbsent(movement.getAccountId(), id -> zeros(periods.size()));
+            amounts[period] = amounts[period].add(movement.getDebitTotal().subtract(movement.getCreditTotal()));
+        }
+        return netDebits;
+    }
+
+    /**
+     * Returns the running net debit at the end of each period, or {@code null} when it is zero throughout
+     */
+    private BigDecimal[] cumulativeNetDebits(BigDecimal opening, BigDecimal[] movements, int count) {
+        BigDecimal[] balances = new BigDecimal[count];
+        BigDecimal balance = opening != null ? opening : BigDecimal.ZERO;
+        boolean nonZero = false;
+        for (int i = 0; i < count; i++) {
+            if (movements != null) {
+                balance = balance.add(movements[i]);
+            }
+            balances[i] = balance;
+            nonZero |= balance.signum() != 0;
+        }
+        return nonZero ? balances : null;
+    }
+
+    /**
+     * Lays out the accounts of one type along the hierarchy, the same way as the single-period statement
+     */
+    private List<ComparativeProfitLossResponse.ComparativeProfitLossLine> toProfitLossLines(
+            List<AccountResponse> chart, AccountTree tree, AccountType accountType,
+            Map<Long, BigDecimal[]> netDebits, int count) {
+        List<ComparativeProfitLossResponse.ComparativeProfitLossLine> lines = new ArrayList<>();
+        for (AccountResponse account : chart) {
+            AccountResponse parent = tree.getParent(account.getId());
+            if (account.getAccountType() == accountType
+                    && (parent == null || parent.getAccountType() != accountType)) {
+                ComparativeProfitLossResponse.ComparativeProfitLossLine line =
+                        toProfitLossLine(tree, account, netDebits, count);
+                if (line != null) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+
+    private ComparativeProfitLossResponse.ComparativeProfitLossLine toProfitLossLine(
+            AccountTree tree, AccountResponse account, Map<Long, BigDecimal[]> netDebits, int count) {
+        List<ComparativeProfitLossResponse.ComparativeProfitLossLine> children = new ArrayList<>();
+        for (AccountResponse child : tree.getChildren(account.getId())) {
+            if (child.getAccountType() == account.getAccountType()) {
+                ComparativeProfitLossResponse.ComparativeProfitLossLine line =
+                        toProfitLossLine(tree, child, netDebits, count);
+                if (line != null) {
+                    children.add(line);
+                }
+            }
+        }
+
+        BigDecimal[] netDebit = netDebits.get(account.getId());
+        if (netDebit == null && children.isEmpty()) {
+            return null;
+        }
+
+        // Revenue is reported as a credit balance, costs and expenses as debit balances
+        BigDecimal[] amounts = netDebit == null ? zeros(count)
+                : account.getAccountType() == AccountType.REVENUE ? negate(netDebit) : netDebit.clone();
+        BigDecimal[] subtotals = amounts.clone();
+        addTo(subtotals, sumSubtotals(children, count));
+        return ComparativeProfitLossResponse.ComparativeProfitLossLine.builder()
+                .accountId(account.getId())
+                .accountCode(account.getCode())
+                .accountName(account.getName())
+                .accountType(account.getAccountType())
+                .amounts(List.of(amounts))
+                .subtotals(List.of(subtotals))
+                .children(children)
+                .build();
+    }
+
+    private ComparativeBalanceSheetResponse.ComparativeBalanceSheetLine toBalanceSheetLine(AccountResponse account,
+                                                                                          BigDecimal[] balances) {
+        return ComparativeBalanceSheetResponse.ComparativeBalanceSheetLine.builder()
+                .accountId(account.getId())
+                .accountCode(account.getCode())
+                .accountName(account.getName())
+                .balances(List.of(balances))
+                .build();
+    }
+
+    private BigDecimal[] sumSubtotals(List<ComparativeProfitLossResponse.ComparativeProfitLossLine> lines, int count) {
+        BigDecimal[] totals = zeros(count);
+        for (ComparativeProfitLossResponse.ComparativeProfitLossLine line : lines) {
+            addTo(totals, line.getSubtotals().toArray(new BigDecimal[0]));
+        }
+        return totals;
+    }
+
+    private static BigDecimal[] zeros(int count) {
+        BigDecimal[] amounts = new BigDecimal[count];
+        Arrays.fill(amounts, BigDecimal.ZERO);
+        return amounts;
+    }
+
+    private static void addTo(BigDecimal[] totals, BigDecimal[] amounts) {
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = totals[i].add(amounts[i]);
+        }
+    }
+
+    private static BigDecimal[] subtract(BigDecimal[] left, BigDecimal[] right) {
+        BigDecimal[] result = new BigDecimal[left.length];
+        for (int i = 0; i < left.length; i++) {
+            result[i] = left[i].subtract(right[i]);
+        }
+        return result;
+    }
+
+    private static BigDecimal[] negate(BigDecimal[] amounts) {
+        BigDecimal[] result = new BigDecimal[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            result[i] = amounts[i].negate();
+        }
+        return result;
+    }
+}
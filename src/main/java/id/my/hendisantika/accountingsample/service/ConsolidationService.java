@@ -0,0 +1,218 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.report.ConsolidatedTrialBalanceResponse;
+import id.my.hendisantika.accountingsample.dto.report.TrialBalanceResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.multitenancy.TenantContext;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 18.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Service
+@RequiredArgsConstructor
+public class ConsolidationService {
+
+    private final OrganizationAccessService organizationAccessService;
+    private final OrganizationRepository organizationRepository;
+    private final ReportCache reportCache;
+
+    @Value("${consolidation.max-organizations}")
+    private int maxOrganizations;
+
+    @Value("${consolidation.max-parallel-organizations}")
+    private int maxParallelOrganizations;
+
+    /**
+     * Shared by every consolidation, so concurrent requests together stay within the limit
+     */
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(maxParallelOrganizations, true);
+    }
+
+    /**
+     * Combines the trial balances of the given organizations, or of every organization the user can access
+     * when none are given. Accounts are matched by code; name and type come from the first organization
+     * that has the account. There are no inter-company eliminations and no currency translation, so the
+     * organizations must share a currency.
+     */
+    public ConsolidatedTrialBalanceResponse getConsolidatedTrialBalance(Collection<Long> organizationIds,
+                                                                        LocalDate asOfDate) {
+        Set<Long> accessible = organizationAccessService.getAccessibleOrganizationIds();
+        List<Long> orgIds = organizationIds == null || organizationIds.isEmpty()
+                ? List.copyOf(accessible)
+                : organizationIds.stream().distinct().toList();
+
+        if (orgIds.size() > maxOrganizations) {
+            throw new BusinessException("At most " + maxOrganizations + " organizations can be consolidated");
+        }
+        if (!accessible.containsAll(orgIds)) {
+            throw new AccessDeniedException("No access to every requested organization");
+        }
+
+        List<Organization> organizations = loadOrganizations(orgIds);
+        Set<String> currencies = organizations.stream()
+                .map(Organization::getCurrencyCode)
+                .collect(Collectors.toSet());
+        if (currencies.size() > 1) {
+            throw new BusinessException("Organizations with different currencies cannot be consolidated");
+        }
+
+        List<TrialBalanceResponse> trialBalances = loadTrialBalances(orgIds, asOfDate);
+        return merge(asOfDate, organizations, trialBalances);
+    }
+
+    private List<Organization> loadOrganizations(List<Long> orgIds) {
+        Map<Long, Organization> byId = organizationRepository.findAllById(orgIds).stream()
+                .collect(Collectors.toMap(Organization::getId, Function.identity()));
+        List<Organization> organizations = new ArrayList<>(orgIds.size());
+        for (Long orgId : orgIds) {
+            Organization organization = byId.get(orgId);
+            if (organization == null) {
+                throw new ResourceNotFoundException("Organization not found");
+            }
+            organizations.add(organization);
+        }
+        return organizations;
+    }
+
+    /**
+     * Runs one trial balance per organization, each on its own virtual thread with its own connection, so
+     * the whole takes about as long as the slowest organization. The permits keep large groups, and many
+     * consolidations at once, from taking more connections than the pool can spare; beyond that many
+     * organizations they queue.
+     */
+    private List<TrialBalanceResponse> loadTrialBalances(List<Long> orgIds, LocalDate asOfDate) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<TrialBalanceResponse>> futures = orgIds.stream()
+                    .map(orgId -> executor.submit(() -> loadTrialBalance(orgId, asOfDate)))
+                    .toList();
+
+            List<TrialBalanceResponse> trialBalances = new ArrayList<>(futures.size());
+            try {
+                for (Future<TrialBalanceResponse> future : futures) {
+                    trialBalances.add(future.get());
+                }
+            } catch (ExecutionException ex) {
+                futures.forEach(future -> future.cancel(true));
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException("Consolidation failed", ex.getCause());
+            } catch (InterruptedException ex) {
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new BusinessException("Consolidation was interrupted");
+            }
+            return trialBalances;
+        }
+    }
+
+    private TrialBalanceResponse loadTrialBalance(Long orgId, LocalDate asOfDate) throws InterruptedException {
+        permits.acquire();
+        TenantContext.setTenantId(orgId);
+        try {
+            return reportCache.getTrialBalance(orgId, asOfDate);
+        } finally {
+            TenantContext.clear();
+            permits.release();
+        }
+    }
+
+    static ConsolidatedTrialBalanceResponse merge(LocalDate asOfDate, List<Organization> organizations,
+                                                  List<TrialBalanceResponse> trialBalances) {
+        int count = organizations.size();
+        Map<String, MergedAccount> accounts = new TreeMap<>();
+        for (int i = 0; i < count; i++) {
+            for (TrialBalanceResponse.TrialBalanceLine line : trialBalances.get(i).getLines()) {
+                MergedAccount account = accounts.computeIfAbsent(line.getAccountCode(),
+                        code -> new MergedAccount(line.getAccountName(), line.getAccountType(), count));
+                account.balances[i] = account.balances[i].add(line.getDebit().subtract(line.getCredit()));
+            }
+        }
+
+        List<ConsolidatedTrialBalanceResponse.ConsolidatedTrialBalanceLine> lines = new ArrayList<>();
+        BigDecimal totalDebit = BigDecimal.ZERO;
+        BigDecimal totalCredit = BigDecimal.ZERO;
+        for (Map.Entry<String, MergedAccount> entry : accounts.entrySet()) {
+            MergedAccount account = entry.getValue();
+            BigDecimal netDebit = Arrays.stream(account.balances).reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal debit = netDebit.signum() > 0 ? netDebit : BigDecimal.ZERO;
+            BigDecimal credit = netDebit.signum() < 0 ? netDebit.negate() : BigDecimal.ZERO;
+
+            lines.add(ConsolidatedTrialBalanceResponse.ConsolidatedTrialBalanceLine.builder()
+                    .accountCode(entry.getKey())
+                    .accountName(account.name)
+                    .accountType(account.accountType)
+                    .organizationBalances(List.of(account.balances))
+                    .debit(debit)
+                    .credit(credit)
+                    .build());
+            totalDebit = totalDebit.add(debit);
+            totalCredit = totalCredit.add(credit);
+        }
+
+        return ConsolidatedTrialBalanceResponse.builder()
+                .asOfDate(asOfDate)
+                .currencyCode(organizations.getFirst().getCurrencyCode())
+                .organizations(organizations.stream()
+                        .map(organization -> ConsolidatedTrialBalanceResponse.ConsolidatedOrganization.builder()
+                                .organizationId(organization.getId())
+                                .name(organization.getName())
+                                .build())
+                        .toList())
+                .lines(lines)
+                .totalDebit(totalDebit)
+                .totalCredit(totalCredit)
+                .build();
+    }
+
+    private static final class MergedAccount {
+        private final String name;
+        private final AccountType accountType;
+        private final BigDecimal[] balances;
+
+        private MergedAccount(String name, AccountType accountType, int organizations) {
+            this.name = name;
+            this.accountType = accountType;
+            this.balances = new BigDecimal[organizations];
+            Arrays.fill(balances, BigDecimal.ZERO);
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package id.my.hendisantika.accountingsample.service;
 
+import id.my.hendisantika.accountingsample.config.ResilienceConfig;
+import id.my.hendisantika.accountingsample.dto.SliceResponse;
 import id.my.hendisantika.accountingsample.dto.customer.CustomerRequest;
 import id.my.hendisantika.accountingsample.dto.customer.CustomerResponse;
+import id.my.hendisantika.accountingsample.dto.customer.CustomerSummaryResponse;
 import id.my.hendisantika.accountingsample.exception.BusinessException;
 import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
 import id.my.hendisantika.accountingsample.model.Customer;
 import id.my.hendisantika.accountingsample.model.Organization;
 import id.my.hendisantika.accountingsample.repository.CustomerRepository;
 import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.repository.projection.CustomerSummaryView;
 import id.my.hendisantika.accountingsample.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.resilience.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,6 +51,17 @@ public class CustomerService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Summary rows for the customer list, read as a projection without address or banking columns
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<CustomerSummaryResponse> getCustomerSummaries(Pageable pageable) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        Slice<CustomerSummaryView> summaries = customerRepository.findSummariesByOrganizationId(orgId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        return SliceResponse.of(summaries, this::mapToSummaryResponse);
+    }
+
     public List<CustomerResponse> getActiveCustomers() {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
         return customerRepository.findByIsActiveAndOrganizationId(true, orgId).stream()
@@ -108,6 +128,10 @@ public class CustomerService {
         return mapToResponse(customer);
     }
 
+    @Retryable(includes = OptimisticLockingFailureException.class,
+            maxRetries = ResilienceConfig.OPTIMISTIC_LOCK_MAX_RETRIES,
+            delay = ResilienceConfig.OPTIMISTIC_LOCK_DELAY_MILLIS,
+            jitter = ResilienceConfig.OPTIMISTIC_LOCK_JITTER_MILLIS)
     @Transactional
     public CustomerResponse updateCustomer(Long id, CustomerRequest request) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
@@ -149,6 +173,10 @@ public class CustomerService {
         return mapToResponse(customer);
     }
 
+    @Retryable(includes = OptimisticLockingFailureException.class,
+            maxRetries = ResilienceConfig.OPTIMISTIC_LOCK_MAX_RETRIES,
+            delay = ResilienceConfig.OPTIMISTIC_LOCK_DELAY_MILLIS,
+            jitter = ResilienceConfig.OPTIMISTIC_LOCK_JITTER_MILLIS)
     @Transactional
     public void deleteCustomer(Long id) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
@@ -195,4 +223,16 @@ public class CustomerService {
                 .updatedAt(customer.getUpdatedAt())
                 .build();
     }
+
+    private CustomerSummaryResponse mapToSummaryResponse(CustomerSummaryView view) {
+        return CustomerSummaryResponse.builder()
+                .id(view.getId())
+                .customerCode(view.getCustomerCode())
+                .name(view.getName())
+                .email(view.getEmail())
+                .phone(view.getPhone())
+                .outstandingBalance(view.getOutstandingBalance())
+                .isActive(view.getIsActive())
+                .build();
+    }
 }
@@ -0,0 +1,67 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 17.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardRefreshJob {
+
+    private final OrganizationRepository organizationRepository;
+    private final DashboardSnapshotService dashboardSnapshotService;
+
+    /**
+     * Refreshes the organizations whose data changed since the last run. An organization whose refresh
+     * fails is queued again, so its snapshot is retried on the next run instead of staying behind until
+     * the nightly refresh.
+     */
+    @Scheduled(fixedDelayString = "${dashboard.stale-refresh-delay}")
+    public void refreshStale() {
+        LocalDate today = LocalDate.now();
+        for (Long organizationId : dashboardSnapshotService.takeStaleOrganizations()) {
+            if (!refresh(organizationId, today)) {
+                dashboardSnapshotService.markStale(organizationId);
+            }
+        }
+    }
+
+    /**
+     * Refreshes every organization after the date has rolled over, so month-to-date figures restart,
+     * documents become overdue and each day gets a trend row even when nothing changed
+     */
+    @Scheduled(cron = "${dashboard.refresh-cron}")
+    public void refreshAll() {
+        LocalDate today = LocalDate.now();
+        for (Organization organization : organizationRepository.findAll()) {
+            refresh(organization.getId(), today);
+        }
+    }
+
+    private boolean refresh(Long organizationId, LocalDate today) {
+        try {
+            dashboardSnapshotService.refresh(organizationId, today);
+            return true;
+        } catch (RuntimeException ex) {
+            log.error("Failed to refresh dashboard snapshot of organization {}", organizationId, ex);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.dashboard.DashboardKpiResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.model.DashboardKpis;
+import id.my.hendisantika.accountingsample.model.DashboardSnapshot;
+import id.my.hendisantika.accountingsample.model.enums.BillStatus;
+import id.my.hendisantika.accountingsample.model.enums.InvoiceStatus;
+import id.my.hendisantika.accountingsample.repository.DashboardDailyKpiRepository;
+import id.my.hendisantika.accountingsample.repository.DashboardSnapshotRepository;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 17.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardSnapshotService {
+
+    private static final List<String> NON_REVENUE_INVOICE_STATUSES = List.of(
+            InvoiceStatus.DRAFT.name(), InvoiceStatus.VOID.name(), InvoiceStatus.CANCELLED.name());
+
+    private static final List<String> NON_EXPENSE_BILL_STATUSES = List.of(
+            BillStatus.DRAFT.name(), BillStatus.CANCELLED.name());
+
+    private final DashboardSnapshotRepository dashboardSnapshotRepository;
+    private final DashboardDailyKpiRepository dashboardDailyKpiRepository;
+
+    /**
+     * Organizations whose snapshot is behind their data, waiting for the next refresh run
+     */
+    private final Set<Long> staleOrganizations = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Queues the organization's snapshot for refresh once the surrounding transaction commits. Changes in
+     * quick succession are picked up by a single refresh.
+     */
+    public void markStale(Long organizationId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            staleOrganizations.add(organizationId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                staleOrganizations.add(organizationId);
+            }
+        });
+    }
+
+    /**
+     * Takes the organizations queued so far. An organization marked stale while this runs is kept for
+     * the next call.
+     */
+    public List<Long> takeStaleOrganizations() {
+        List<Long> organizationIds = new ArrayList<>();
+        for (Long organizationId : staleOrganizations) {
+            if (staleOrganizations.remove(organizationId)) {
+                organizationIds.add(organizationId);
+            }
+        }
+        return organizationIds;
+    }
+
+    /**
+     * Recomputes the organization's KPIs as of a date and records them as that day's trend value
+     */
+    @Transactional
+    public void refresh(Long organizationId, LocalDate asOfDate) {
+        dashboardSnapshotRepository.refresh(organizationId, asOfDate, asOfDate.withDayOfMonth(1),
+                NON_REVENUE_INVOICE_STATUSES,
+                NON_EXPENSE_BILL_STATUSES,
+                AgingService.OPEN_INVOICE_STATUSES.stream().map(Enum::name).toList(),
+                AgingService.OPEN_BILL_STATUSES.stream().map(Enum::name).toList());
+        dashboardDailyKpiRepository.recordFromSnapshot(organizationId);
+    }
+
+    /**
+     * Returns the current organization's snapshot. It is computed on the spot only the first time an
+     * organization asks for it.
+     */
+    @Transactional
+    public DashboardKpiResponse getSnapshot() {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        DashboardSnapshot snapshot = dashboardSnapshotRepository.findByOrganizationId(orgId).orElse(null);
+        if (snapshot == null) {
+            refresh(orgId, LocalDate.now());
+            snapshot = dashboardSnapshotRepository.findByOrganizationId(orgId).orElseThrow();
+        }
+        return mapToResponse(snapshot.getAsOfDate(), snapshot.getKpis(), snapshot.getUpdatedAt());
+    }
+
+    @Transactional(readOnly = true)
+    public List<DashboardKpiResponse> getTrend(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BusinessException("From date must not be after to date");
+        }
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        return dashboardDailyKpiRepository.findByOrganizationIdAndKpiDateBetweenOrderByKpiDate(orgId, from, to)
+                .stream()
+                .map(day -> mapToResponse(day.getKpiDate(), day.getKpis(), day.getUpdatedAt()))
+                .toList();
+    }
+
+    private DashboardKpiResponse mapToResponse(LocalDate date, DashboardKpis kpis, LocalDateTime refreshedAt) {
+        return DashboardKpiResponse.builder()
+                .date(date)
+                .revenueMtd(kpis.getRevenueMtd())
+                .expensesMtd(kpis.getExpensesMtd())
+                .receivablesOutstanding(kpis.getReceivablesOutstanding())
+                .receivablesOverdue(kpis.getReceivablesOverdue())
+                .overdueInvoiceCount(kpis.getOverdueInvoiceCount())
+                .payablesOutstanding(kpis.getPayablesOutstanding())
+                .payablesOverdue(kpis.getPayablesOverdue())
+                .overdueBillCount(kpis.getOverdueBillCount())
+                .cashPosition(kpis.getCashPosition())
+                .refreshedAt(refreshedAt)
+                .build();
+    }
+}
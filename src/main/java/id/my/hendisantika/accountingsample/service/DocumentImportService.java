@@ -0,0 +1,664 @@
+package id.my.hendisantika.accountingsample.service;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import id.my.hendisantika.accountingsample.dto.importer.DocumentImportResponse;
+import id.my.hendisantika.accountingsample.dto.importer.ImportResultResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
+import id.my.hendisantika.accountingsample.importer.DocumentImportDefinition;
+import id.my.hendisantika.accountingsample.importer.ImportColumn;
+import id.my.hendisantika.accountingsample.importer.ImportFiles;
+import id.my.hendisantika.accountingsample.model.BaseEntity;
+import id.my.hendisantika.accountingsample.model.Bill;
+import id.my.hendisantika.accountingsample.model.BillItem;
+import id.my.hendisantika.accountingsample.model.Customer;
+import id.my.hendisantika.accountingsample.model.DocumentImport;
+import id.my.hendisantika.accountingsample.model.DocumentImportError;
+import id.my.hendisantika.accountingsample.model.Invoice;
+import id.my.hendisantika.accountingsample.model.InvoiceItem;
+import id.my.hendisantika.accountingsample.model.Item;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.Vendor;
+import id.my.hendisantika.accountingsample.model.enums.BillStatus;
+import id.my.hendisantika.accountingsample.model.enums.DocumentImportStatus;
+import id.my.hendisantika.accountingsample.model.enums.DocumentType;
+import id.my.hendisantika.accountingsample.model.enums.InvoiceStatus;
+import id.my.hendisantika.accountingsample.repository.BillRepository;
+import id.my.hendisantika.accountingsample.repository.CustomerRepository;
+import id.my.hendisantika.accountingsample.repository.DocumentImportErrorRepository;
+import id.my.hendisantika.accountingsample.repository.DocumentImportRepository;
+import id.my.hendisantika.accountingsample.repository.InvoiceRepository;
+import id.my.hendisantika.accountingsample.repository.ItemRepository;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.repository.UserRepository;
+import id.my.hendisantika.accountingsample.repository.VendorRepository;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static id.my.hendisantika.accountingsample.importer.DocumentImportDefinition.CONTACT_CODE;
+import static id.my.hendisantika.accountingsample.importer.DocumentImportDefinition.DATE;
+import static id.my.hendisantika.accountingsample.importer.DocumentImportDefinition.DESCRIPTION;
+import static id.my.hendisantika.accountingsample.importer.DocumentImportDefinition.DISCOUNT;
+import static id.my.hendisantika.accountingsample.importer.DocumentImportDefinition.DUE_DATE;
+import static id.my.hendisantika.accountingsample.importer.DocumentImportDefinition.ITEM_CODE;
+import static id.my.hendisantika.accountingsample.importer.DocumentImportDefinition.NOTES;
+import static id.my.hendisantika.accountingsample.importer.DocumentImportDefinition.NUMBER;
+import static id.my.hendisantika.accountingsample.importer.DocumentImportDefinition.PAID_AMOUNT;
+import static id.my.hendisantika.accountingsample.importer.DocumentImportDefinition.QUANTITY;
+import static id.my.hendisantika.accountingsample.importer.DocumentImportDefinition.REFERENCE;
+import static id.my.hendisantika.accountingsample.importer.DocumentImportDefinition.STATUS;
+import static id.my.hendisantika.accountingsample.importer.DocumentImportDefinition.TAX_RATE;
+import static id.my.hendisantika.accountingsample.importer.DocumentImportDefinition.UNIT_PRICE;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 20.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentImportService {
+
+    private static final int[] LINE_AMOUNT_COLUMNS = {QUANTITY, UNIT_PRICE, DISCOUNT, TAX_RATE};
+
+    /**
+     * Named alike in invoice and bill statuses; a document imported with it must be paid in full
+     */
+    private static final String PAID_STATUS = "PAID";
+
+    private final DocumentImportRepository documentImportRepository;
+    private final DocumentImportErrorRepository documentImportErrorRepository;
+    private final OrganizationRepository organizationRepository;
+    private final UserRepository userRepository;
+    private final CustomerRepository customerRepository;
+    private final VendorRepository vendorRepository;
+    private final ItemRepository itemRepository;
+    private final InvoiceRepository invoiceRepository;
+    private final BillRepository billRepository;
+    private final AgingService agingService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${imports.document-chunk-size}")
+    private int chunkSize;
+
+    @Value("${imports.max-reported-errors}")
+    private int maxReportedErrors;
+
+    /**
+     * Imports historical invoices. Given the id of an import that stopped part way, carries on with the same
+     * file from the row after its checkpoint.
+     */
+    public DocumentImportResponse importInvoices(InputStream in, String fileName, Long importId) {
+        return importDocuments(new InvoiceWriter(), in, fileName, importId);
+    }
+
+    /**
+     * Imports historical bills, resuming like {@link #importInvoices}
+     */
+    public DocumentImportResponse importBills(InputStream in, String fileName, Long importId) {
+        return importDocuments(new BillWriter(), in, fileName, importId);
+    }
+
+    public DocumentImportResponse getImport(Long id) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        DocumentImport documentImport = documentImportRepository.findByIdAndOrganizationId(id, orgId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import not found"));
+        return mapToResponse(documentImport);
+    }
+
+    /**
+     * Reads the file in chunks of whole documents. Each chunk resolves its numbers, contacts and items with
+     * one query each, saves its documents in batches and moves the checkpoint on, all in its own
+     * transaction, so a failure loses at most the chunk in progress.
+     */
+    private DocumentImportResponse importDocuments(DocumentWriter<?> writer, InputStream in, String fileName,
+                                                   Long importId) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        DocumentImport documentImport = transactionTemplate.execute(status ->
+                startImport(orgId, writer.definition().documentType(), fileName, importId));
+        Long id = documentImport.getId();
+
+        DocumentImportRun<?> run = new DocumentImportRun<>(writer, orgId, documentImport);
+        try (CSVReader reader = ImportFiles.openReader(in)) {
+            run.run(reader);
+        } catch (IOException | CsvValidationException ex) {
+            String message = "Could not read the import file: " + ex.getMessage();
+            updateStatus(id, DocumentImportStatus.FAILED, message);
+            throw new BusinessException(message);
+        } catch (RuntimeException ex) {
+            updateStatus(id, DocumentImportStatus.FAILED, ex.getMessage());
+            throw ex;
+        }
+
+        // Aging is rebuilt once from the open documents rather than adjusted for each imported one
+        if (run.importedDocuments > 0) {
+            agingService.rebucket(orgId, LocalDate.now());
+        }
+        updateStatus(id, DocumentImportStatus.COMPLETED, null);
+        log.info("Import {} added {} {} documents for organization {}", id, run.importedDocuments,
+                writer.definition().documentType(), orgId);
+        return mapToResponse(documentImportRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Import not found")));
+    }
+
+    private DocumentImport startImport(Long orgId, DocumentType documentType, String fileName, Long importId) {
+        if (importId == null) {
+            return documentImportRepository.save(DocumentImport.builder()
+                    .organization(organizationRepository.getReferenceById(orgId))
+                    .documentType(documentType)
+                    .fileName(fileName)
+                    .createdBy(userRepository.getReferenceById(SecurityUtils.getCurrentUserId()))
+                    .build());
+        }
+
+        DocumentImport documentImport = documentImportRepository.findByIdAndOrganizationId(importId, orgId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import not found"));
+        if (documentImport.getDocumentType() != documentType) {
+            throw new BusinessException("Import " + importId + " is a "
+                    + documentImport.getDocumentType().name().toLowerCase(Locale.ROOT) + " import");
+        }
+        if (documentImport.getStatus() == DocumentImportStatus.COMPLETED) {
+            throw new BusinessException("Import " + importId + " is already completed");
+        }
+        documentImport.setStatus(DocumentImportStatus.RUNNING);
+        documentImport.setErrorMessage(null);
+        if (StringUtils.hasText(fileName)) {
+            documentImport.setFileName(fileName);
+        }
+        return documentImport;
+    }
+
+    private void updateStatus(Long id, DocumentImportStatus status, String errorMessage) {
+        transactionTemplate.executeWithoutResult(transaction ->
+                documentImportRepository.updateStatus(id, status, errorMessage));
+    }
+
+    private DocumentImportResponse mapToResponse(DocumentImport documentImport) {
+        List<ImportResultResponse.ImportRowError> errors = documentImportErrorRepository
+                .findByDocumentImportIdOrderByRowNumberAscIdAsc(documentImport.getId(), Limit.of(maxReportedErrors))
+                .stream()
+                .map(error -> ImportResultResponse.ImportRowError.builder()
+                        .rowNumber(error.getRowNumber())
+                        .column(error.getColumnName())
+                        .message(error.getMessage())
+                        .build())
+                .toList();
+
+        return DocumentImportResponse.builder()
+                .id(documentImport.getId())
+                .documentType(documentImport.getDocumentType())
+                .status(documentImport.getStatus())
+                .fileName(documentImport.getFileName())
+                .checkpointRow(documentImport.getCheckpointRow())
+                .importedDocuments(documentImport.getImportedDocuments())
+                .importedLines(documentImport.getImportedLines())
+                .failedDocuments(documentImport.getFailedDocuments())
+                .errorMessage(documentImport.getErrorMessage())
+                .errors(errors)
+                .errorsTruncated(errors.size() < documentImport.getErrorCount())
+                .createdAt(documentImport.getCreatedAt())
+                .updatedAt(documentImport.getUpdatedAt())
+                .build();
+    }
+
+    private record ParsedRow(int rowNumber, String[] values) {
+    }
+
+    private record DocumentLine(Item item, String description, BigDecimal quantity, BigDecimal unitPrice,
+                                BigDecimal discount, BigDecimal taxRate, int lineOrder) {
+    }
+
+    /**
+     * The consecutive rows of one document number, with any errors found in them
+     */
+    private static final class ParsedDocument {
+
+        private final String number;
+        private final List<ParsedRow> rows = new ArrayList<>();
+        private final List<ImportResultResponse.ImportRowError> errors = new ArrayList<>();
+        private int lastRow;
+
+        private ParsedDocument(String number) {
+            this.number = number;
+        }
+
+        private int firstRow() {
+            return rows.getFirst().rowNumber();
+        }
+
+        /**
+         * A header column, read from the first row
+         */
+        private String value(int column) {
+            return rows.getFirst().values()[column];
+        }
+
+        private boolean isValid() {
+            return errors.isEmpty();
+        }
+
+        private void addError(int rowNumber, String column, String message) {
+            errors.add(ImportResultResponse.ImportRowError.builder()
+                    .rowNumber(rowNumber)
+                    .column(column)
+                    .message(message)
+                    .build());
+        }
+
+        /**
+         * Lines in file order; an empty description falls back to the item's, as on documents entered by hand
+         */
+        private List<DocumentLine> lines(Map<String, Item> items) {
+            List<DocumentLine> lines = new ArrayList<>(rows.size());
+            for (ParsedRow row : rows) {
+                String[] values = row.values();
+                Item item = items.get(values[ITEM_CODE]);
+                String description = values[DESCRIPTION];
+                if (description == null) {
+                    description = item.getDescription() != null ? item.getDescription() : item.getName();
+                }
+                lines.add(new DocumentLine(item, description,
+                        new BigDecimal(values[QUANTITY]),
+                        new BigDecimal(values[UNIT_PRICE]),
+                        new BigDecimal(values[DISCOUNT]),
+                        new BigDecimal(values[TAX_RATE]),
+                        lines.size() + 1));
+            }
+            return lines;
+        }
+    }
+
+    /**
+     * What differs between invoices and bills: how numbers and contacts are looked up and how parsed
+     * documents become entities
+     */
+    private interface DocumentWriter<C extends BaseEntity> {
+
+        DocumentImportDefinition definition();
+
+        List<String> findExistingNumbers(Long orgId, Collection<String> numbers);
+
+        Map<String, C> findContacts(Long orgId, Collection<String> codes);
+
+        /**
+         * A line's amount after discount and tax, computed as on documents entered by hand
+         */
+        BigDecimal lineAmount(DocumentLine line);
+
+        /**
+         * Builds the documents with their totals and saves them in batches
+         */
+        void saveAll(Organization organization, List<ParsedDocument> documents, Map<String, C> contacts,
+                    Map<String, Item> items);
+    }
+
+    private final class InvoiceWriter implements DocumentWriter<Customer> {
+
+        @Override
+        public DocumentImportDefinition definition() {
+            return DocumentImportDefinition.INVOICES;
+        }
+
+        @Override
+        public List<String> findExistingNumbers(Long orgId, Collection<String> numbers) {
+            return invoiceRepository.findExistingInvoiceNumbers(orgId, numbers);
+        }
+
+        @Override
+        public Map<String, Customer> findContacts(Long orgId, Collection<String> codes) {
+            return customerRepository.findAllByCustomerCodeInAndOrganizationId(codes, orgId).stream()
+                    .collect(Collectors.toMap(Customer::getCustomerCode, Function.identity()));
+        }
+
+        @Override
+        public BigDecimal lineAmount(DocumentLine line) {
+            return InvoiceService.calculateLineAmount(line.quantity(), line.unitPrice(), line.discount(),
+                    line.taxRate());
+        }
+
+        @Override
+        public void saveAll(Organization organization, List<ParsedDocument> documents,
+                            Map<String, Customer> customers, Map<String, Item> items) {
+            List<Invoice> invoices = new ArrayList<>(documents.size());
+            for (ParsedDocument document : documents) {
+                Invoice invoice = Invoice.builder()
+                        .organization(organization)
+                        .customer(customers.get(document.value(CONTACT_CODE)))
+                        .invoiceNumber(document.number)
+                        .invoiceDate(LocalDate.parse(document.value(DATE)))
+                        .dueDate(LocalDate.parse(document.value(DUE_DATE)))
+                        .status(InvoiceStatus.valueOf(document.value(STATUS)))
+                        .paidAmount(new BigDecimal(document.value(PAID_AMOUNT)))
+                        .notes(document.value(NOTES))
+                        .items(new ArrayList<>())
+                        .build();
+
+                for (DocumentLine line : document.lines(items)) {
+                    BigDecimal lineAmount = lineAmount(line);
+                    invoice.getItems().add(InvoiceItem.builder()
+                            .invoice(invoice)
+                            .item(line.item())
+                            .description(line.description())
+                            .quantity(line.quantity())
+                            .unitPrice(line.unitPrice())
+                            .discount(line.discount())
+                            .taxRate(line.taxRate())
+                            .amount(lineAmount.setScale(2, RoundingMode.HALF_UP))
+                            .lineOrder(line.lineOrder())
+                            .build());
+                }
+                InvoiceService.calculateInvoiceTotals(invoice);
+                invoices.add(invoice);
+            }
+            invoiceRepository.saveAll(invoices);
+        }
+    }
+
+    private final class BillWriter implements DocumentWriter<Vendor> {
+
+        @Override
+        public DocumentImportDefinition definition() {
+            return DocumentImportDefinition.BILLS;
+        }
+
+        @Override
+        public List<String> findExistingNumbers(Long orgId, Collection<String> numbers) {
+            return billRepository.findExistingBillNumbers(orgId, numbers);
+        }
+
+        @Override
+        public Map<String, Vendor> findContacts(Long orgId, Collection<String> codes) {
+            return vendorRepository.findAllByVendorCodeInAndOrganizationId(codes, orgId).stream()
+                    .collect(Collectors.toMap(Vendor::getVendorCode, Function.identity()));
+        }
+
+        @Override
+        public BigDecimal lineAmount(DocumentLine line) {
+            return BillService.calculateLineAmount(line.quantity(), line.unitPrice(), line.discount(),
+                    line.taxRate());
+        }
+
+        @Override
+        public void saveAll(Organization organization, List<ParsedDocument> documents,
+                            Map<String, Vendor> vendors, Map<String, Item> items) {
+            List<Bill> bills = new ArrayList<>(documents.size());
+            for (ParsedDocument document : documents) {
+                Bill bill = Bill.builder()
+                        .organization(organization)
+                        .vendor(vendors.get(document.value(CONTACT_CODE)))
+                        .billNumber(document.number)
+                        .billDate(LocalDate.parse(document.value(DATE)))
+                        .dueDate(LocalDate.parse(document.value(DUE_DATE)))
+                        .status(BillStatus.valueOf(document.value(STATUS)))
+                        .paidAmount(new BigDecimal(document.value(PAID_AMOUNT)))
+                        .notes(document.value(NOTES))
+                        .reference(document.value(REFERENCE))
+                        .items(new ArrayList<>())
+                        .build();
+
+                for (DocumentLine line : document.lines(items)) {
+                    bill.addItem(BillItem.builder()
+                            .item(line.item())
+                            .description(line.description())
+                            .quantity(line.quantity())
+                            .unitPrice(line.unitPrice())
+                            .discount(line.discount())
+                            .taxRate(line.taxRate())
+                            .amount(lineAmount(line))
+                            .lineOrder(line.lineOrder())
+                            .build());
+                }
+                BillService.calculateBillTotals(bill);
+                bills.add(bill);
+            }
+            billRepository.saveAll(bills);
+        }
+    }
+
+    private final class DocumentImportRun<C extends BaseEntity> {
+
+        private final DocumentWriter<C> writer;
+        private final DocumentImportDefinition definition;
+        private final Long orgId;
+        private final Long importId;
+
+        private final List<ParsedDocument> chunk = new ArrayList<>();
+        private ParsedDocument current;
+        private int checkpointRow;
+        private int lastRow;
+        private int errorCount;
+        private int importedDocuments;
+
+        private DocumentImportRun(DocumentWriter<C> writer, Long orgId, DocumentImport documentImport) {
+            this.writer = writer;
+            this.definition = writer.definition();
+            this.orgId = orgId;
+            this.importId = documentImport.getId();
+            this.checkpointRow = documentImport.getCheckpointRow();
+            this.lastRow = checkpointRow;
+            this.errorCount = documentImport.getErrorCount();
+        }
+
+        /**
+         * Rows up to the checkpoint were committed by an earlier run and are only read past
+         */
+        private void run(CSVReader reader) throws IOException, CsvValidationException {
+            int[] cellIndexes = ImportFiles.columnIndexes(reader.readNext(), definition.columns());
+
+            String[] cells;
+            while ((cells = reader.readNext()) != null) {
+                int rowNumber = (int) reader.getRecordsRead();
+                if (rowNumber <= checkpointRow) {
+                    continue;
+                }
+                lastRow = rowNumber;
+                if (!ImportFiles.isBlank(cells)) {
+                    readRow(rowNumber, cells, cellIndexes);
+                }
+            }
+            closeDocument();
+            flush(lastRow);
+        }
+
+        private void readRow(int rowNumber, String[] cells, int[] cellIndexes) {
+            String number = ImportFiles.cell(cells, cellIndexes[NUMBER]);
+            number = number != null ? number.trim() : "";
+            if (current == null || !current.number.equals(number)) {
+                closeDocument();
+                current = new ParsedDocument(number);
+            }
+            current.lastRow = rowNumber;
+
+            List<ImportColumn> columns = definition.columns();
+            String[] values = new String[columns.size()];
+            for (int i = 0; i < columns.size(); i++) {
+                try {
+                    values[i] = columns.get(i).parse(ImportFiles.cell(cells, cellIndexes[i]));
+                } catch (IllegalArgumentException ex) {
+                    current.addError(rowNumber, columns.get(i).header(), ex.getMessage());
+                }
+            }
+            current.rows.add(new ParsedRow(rowNumber, values));
+        }
+
+        /**
+         * Chunks end on a document boundary, so the checkpoint never falls inside a document
+         */
+        private void closeDocument() {
+            if (current == null) {
+                return;
+            }
+            chunk.add(current);
+            if (chunk.size() >= chunkSize) {
+                flush(current.lastRow);
+            }
+            current = null;
+        }
+
+        private void flush(int toRow) {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> saveChunk(toRow));
+            checkpointRow = toRow;
+            chunk.clear();
+        }
+
+        private void saveChunk(int toRow) {
+            List<ParsedDocument> parsed = chunk.stream().filter(ParsedDocument::isValid).toList();
+            Set<String> existingNumbers = new HashSet<>();
+            Map<String, C> contacts = new HashMap<>();
+            Map<String, Item> items = new HashMap<>();
+            if (!parsed.isEmpty()) {
+                existingNumbers.addAll(writer.findExistingNumbers(orgId,
+                        parsed.stream().map(document -> document.number).collect(Collectors.toSet())));
+                contacts.putAll(writer.findContacts(orgId,
+                        parsed.stream().map(document -> document.value(CONTACT_CODE)).collect(Collectors.toSet())));
+                Set<String> itemCodes = parsed.stream()
+                        .flatMap(document -> document.rows.stream())
+                        .map(row -> row.values()[ITEM_CODE])
+                        .collect(Collectors.toSet());
+                itemRepository.findAllByCodeInAndOrganizationId(itemCodes, orgId)
+                        .forEach(item -> items.put(item.getCode(), item));
+            }
+
+            Map<String, Integer> firstRowByNumber = new HashMap<>();
+            List<ParsedDocument> accepted = new ArrayList<>();
+            List<ParsedDocument> failed = new ArrayList<>();
+            for (ParsedDocument document : chunk) {
+                Integer firstRow = firstRowByNumber.putIfAbsent(document.number, document.firstRow());
+                if (document.isValid()) {
+                    checkDocument(document, firstRow, existingNumbers, contacts, items);
+                }
+                (document.isValid() ? accepted : failed).add(document);
+            }
+
+            List<DocumentImportError> keptErrors = new ArrayList<>();
+            int chunkErrors = 0;
+            for (ParsedDocument document : failed) {
+                for (ImportResultResponse.ImportRowError error : document.errors) {
+                    if (errorCount + chunkErrors < maxReportedErrors) {
+                        keptErrors.add(DocumentImportError.builder()
+                                .documentImport(documentImportRepository.getReferenceById(importId))
+                                .rowNumber(error.getRowNumber())
+                                .columnName(error.getColumn())
+                                .message(error.getMessage())
+                                .build());
+                    }
+                    chunkErrors++;
+                }
+            }
+
+            int lineCount = accepted.stream().mapToInt(document -> document.rows.size()).sum();
+            if (documentImportRepository.advanceCheckpoint(importId, checkpointRow, toRow, accepted.size(),
+                    lineCount, failed.size(), chunkErrors) == 0) {
+                throw new BusinessException("Import " + importId + " was resumed by another request");
+            }
+            if (!accepted.isEmpty()) {
+                writer.saveAll(organizationRepository.getReferenceById(orgId), accepted, contacts, items);
+            }
+            documentImportErrorRepository.saveAll(keptErrors);
+
+            errorCount += chunkErrors;
+            importedDocuments += accepted.size();
+        }
+
+        /**
+         * Checks a document whose cells are all valid against the organization's data. A number repeated
+         * further on in the same chunk is caught here; one repeated in a later chunk is found there as an
+         * existing document. Amounts are held to the same rules as on documents entered by hand.
+         */
+        private void checkDocument(ParsedDocument document, Integer firstRow, Set<String> existingNumbers,
+                                   Map<String, C> contacts, Map<String, Item> items) {
+            String numberHeader = definition.column(NUMBER).header();
+            if (firstRow != null) {
+                document.addError(document.firstRow(), numberHeader,
+                        numberHeader + " " + document.number + " is repeated from row " + firstRow);
+            } else if (existingNumbers.contains(document.number)) {
+                document.addError(document.firstRow(), numberHeader,
+                        definition.name() + " with " + numberHeader + " " + document.number + " already exists");
+            }
+
+            String contactCode = document.value(CONTACT_CODE);
+            if (!contacts.containsKey(contactCode)) {
+                document.addError(document.firstRow(), definition.column(CONTACT_CODE).header(),
+                        definition.contactName() + " " + contactCode + " not found");
+            }
+            if (LocalDate.parse(document.value(DUE_DATE)).isBefore(LocalDate.parse(document.value(DATE)))) {
+                document.addError(document.firstRow(), definition.column(DUE_DATE).header(),
+                        definition.column(DUE_DATE).header() + " cannot be before "
+                                + definition.column(DATE).header());
+            }
+
+            BigDecimal paidAmount = new BigDecimal(document.value(PAID_AMOUNT));
+            if (paidAmount.signum() < 0) {
+                addNegativeError(document, document.firstRow(), PAID_AMOUNT);
+            }
+
+            for (ParsedRow row : document.rows) {
+                String itemCode = row.values()[ITEM_CODE];
+                if (!items.containsKey(itemCode)) {
+                    document.addError(row.rowNumber(), definition.column(ITEM_CODE).header(),
+                            "Item " + itemCode + " not found");
+                }
+                for (int column : LINE_AMOUNT_COLUMNS) {
+                    if (new BigDecimal(row.values()[column]).signum() < 0) {
+                        addNegativeError(document, row.rowNumber(), column);
+                    }
+                }
+            }
+            if (!document.isValid()) {
+                return;
+            }
+
+            BigDecimal total = document.lines(items).stream()
+                    .map(writer::lineAmount)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add)
+                    .setScale(2, RoundingMode.HALF_UP);
+            String paidAmountHeader = definition.column(PAID_AMOUNT).header();
+            if (paidAmount.compareTo(total) > 0) {
+                document.addError(document.firstRow(), paidAmountHeader,
+                        paidAmountHeader + " cannot be more than the total of " + total);
+            } else if (PAID_STATUS.equals(document.value(STATUS)) && paidAmount.compareTo(total) < 0) {
+                document.addError(document.firstRow(), definition.column(STATUS).header(),
+                        "A " + PAID_STATUS + " " + definition.name().toLowerCase(Locale.ROOT)
+                                + " needs a " + paidAmountHeader + " of " + total);
+            }
+        }
+
+        private void addNegativeError(ParsedDocument document, int rowNumber, int column) {
+            String header = definition.column(column).header();
+            document.addError(rowNumber, header, header + " cannot be negative");
+        }
+    }
+}
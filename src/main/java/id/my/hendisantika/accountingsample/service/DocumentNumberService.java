@@ -0,0 +1,165 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.model.enums.DocumentType;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 12.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Service
+@RequiredArgsConstructor
+public class DocumentNumberService {
+
+    private static final String SEQUENCE_TOKEN = "{seq}";
+    private static final String DATE_TOKEN = "{date}";
+
+    private final DocumentSequenceAllocator documentSequenceAllocator;
+
+    @Value("${document-number.block-size}")
+    private int blockSize;
+
+    @Value("${document-number.sequence-padding}")
+    private int sequencePadding;
+
+    @Value("${document-number.format.invoice}")
+    private String invoiceFormat;
+
+    @Value("${document-number.format.bill}")
+    private String billFormat;
+
+    @Value("${document-number.format.payment-received}")
+    private String paymentReceivedFormat;
+
+    @Value("${document-number.format.payment-made}")
+    private String paymentMadeFormat;
+
+    @Value("${document-number.format.journal-entry}")
+    private String journalEntryFormat;
+
+    private final Map<DocumentType, NumberPattern> patterns = new EnumMap<>(DocumentType.class);
+    private final ConcurrentMap<SequenceKey, SequenceBlock> blocks = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        patterns.put(DocumentType.INVOICE, new NumberPattern(invoiceFormat));
+        patterns.put(DocumentType.BILL, new NumberPattern(billFormat));
+        patterns.put(DocumentType.PAYMENT_RECEIVED, new NumberPattern(paymentReceivedFormat));
+        patterns.put(DocumentType.PAYMENT_MADE, new NumberPattern(paymentMadeFormat));
+        patterns.put(DocumentType.JOURNAL_ENTRY, new NumberPattern(journalEntryFormat));
+    }
+
+    /**
+     * Returns the next document number for an organization. Values come from a block reserved in the
+     * database and cached here, so only one call in every block size touches the database. Numbers
+     * left in a block when the application stops are skipped, never reused.
+     */
+    public String nextNumber(Long organizationId, DocumentType documentType) {
+        long value = blocks.computeIfAbsent(new SequenceKey(organizationId, documentType), SequenceBlock::new)
+                .next();
+        return patterns.get(documentType).format(value, sequencePadding, LocalDate.now());
+    }
+
+    /**
+     * Returns the next document number that is not taken yet. Users may type or import numbers of the
+     * generated form, so numbers they already used are skipped rather than failing the create on the
+     * unique key. This costs one {@code isTaken} lookup per number handed out, and one more per number
+     * skipped.
+     */
+    public String nextFreeNumber(Long organizationId, DocumentType documentType, Predicate<String> isTaken) {
+        String number = nextNumber(organizationId, documentType);
+        while (isTaken.test(number)) {
+            number = nextNumber(organizationId, documentType);
+        }
+        return number;
+    }
+
+    private record SequenceKey(Long organizationId, DocumentType documentType) {
+    }
+
+    private final class SequenceBlock {
+
+        private final SequenceKey key;
+        private long next;
+        private long end;
+
+        private SequenceBlock(SequenceKey key) {
+            this.key = key;
+        }
+
+        private synchronized long next() {
+            if (next == end) {
+                end = documentSequenceAllocator.allocateBlock(key.organizationId(), key.documentType(), blockSize);
+                next = end - blockSize;
+            }
+            return next++;
+        }
+    }
+
+    /**
+     * A number format split once into literals and tokens, e.g. {@code PAY-RECV-{date}-{seq}}
+     */
+    private static final class NumberPattern {
+
+        private final List<String> literals = new ArrayList<>();
+        private final List<String> tokens = new ArrayList<>();
+
+        private NumberPattern(String format) {
+            if (!format.contains(SEQUENCE_TOKEN)) {
+                throw new IllegalStateException("Document number format must contain " + SEQUENCE_TOKEN + ": " + format);
+            }
+
+            int position = 0;
+            while (position < format.length()) {
+                int sequenceAt = format.indexOf(SEQUENCE_TOKEN, position);
+                int dateAt = format.indexOf(DATE_TOKEN, position);
+                int tokenAt = sequenceAt < 0 ? dateAt : dateAt < 0 ? sequenceAt : Math.min(sequenceAt, dateAt);
+                if (tokenAt < 0) {
+                    break;
+                }
+                String token = tokenAt == sequenceAt ? SEQUENCE_TOKEN : DATE_TOKEN;
+                literals.add(format.substring(position, tokenAt));
+                tokens.add(token);
+                position = tokenAt + token.length();
+            }
+            literals.add(format.substring(position));
+        }
+
+        private String format(long value, int padding, LocalDate date) {
+            StringBuilder number = new StringBuilder(32);
+            for (int i = 0; i < tokens.size(); i++) {
+                number.append(literals.get(i));
+                if (SEQUENCE_TOKEN.equals(tokens.get(i))) {
+                    String digits = Long.toString(value);
+                    for (int pad = digits.length(); pad < padding; pad++) {
+                        number.append('0');
+                    }
+                    number.append(digits);
+                } else {
+                    DateTimeFormatter.BASIC_ISO_DATE.formatTo(date, number);
+                }
+            }
+            return number.append(literals.get(tokens.size())).toString();
+        }
+    }
+}
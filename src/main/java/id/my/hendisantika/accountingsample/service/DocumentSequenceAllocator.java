@@ -0,0 +1,52 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.config.DocumentSequenceDataSourceConfig;
+import id.my.hendisantika.accountingsample.model.enums.DocumentType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 12.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Component
+public class DocumentSequenceAllocator {
+
+    private static final String ALLOCATE_BLOCK_SQL = "INSERT INTO document_sequences " +
+            "(organization_id, document_type, next_value, created_at, updated_at) " +
+            "VALUES (?, ?, 1 + ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (organization_id, document_type) DO UPDATE SET " +
+            "next_value = document_sequences.next_value + ?, " +
+            "updated_at = CURRENT_TIMESTAMP " +
+            "RETURNING next_value";
+
+    /**
+     * Over the pool of {@link DocumentSequenceDataSourceConfig}, in auto-commit mode, never joining the
+     * caller's transaction
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    public DocumentSequenceAllocator(@Qualifier(DocumentSequenceDataSourceConfig.QUALIFIER) DataSource dataSource) {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Reserves the next block of values for an organization's document type and returns the exclusive
+     * end of that block. The reservation commits at once, so a block is never rolled back and handed
+     * out twice.
+     */
+    public long allocateBlock(Long organizationId, DocumentType documentType, int blockSize) {
+        return jdbcTemplate.queryForObject(ALLOCATE_BLOCK_SQL, Long.class,
+                organizationId, documentType.name(), blockSize, blockSize);
+    }
+}
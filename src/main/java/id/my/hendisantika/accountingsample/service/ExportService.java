@@ -0,0 +1,120 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.export.ExportWriter;
+import id.my.hendisantika.accountingsample.model.enums.ExportFormat;
+import id.my.hendisantika.accountingsample.repository.BillRepository;
+import id.my.hendisantika.accountingsample.repository.CustomerRepository;
+import id.my.hendisantika.accountingsample.repository.InvoiceRepository;
+import id.my.hendisantika.accountingsample.repository.JournalEntryLineRepository;
+import id.my.hendisantika.accountingsample.repository.PaymentRepository;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final List<String> INVOICE_HEADERS = List.of("Invoice Number", "Invoice Date", "Due Date",
+            "Customer Code", "Customer", "Status", "Subtotal", "Tax", "Total", "Paid", "Balance");
+
+    private static final List<String> BILL_HEADERS = List.of("Bill Number", "Reference", "Bill Date", "Due Date",
+            "Vendor Code", "Vendor", "Status", "Subtotal", "Tax", "Total", "Paid", "Balance");
+
+    private static final List<String> PAYMENT_HEADERS = List.of("Payment Number", "Payment Date", "Type", "Method",
+            "Contact", "Document", "Account", "Reference", "Amount");
+
+    private static final List<String> JOURNAL_LINE_HEADERS = List.of("Journal Number", "Date", "Status",
+            "Account Code", "Account", "Description", "Debit", "Credit");
+
+    private static final List<String> CUSTOMER_HEADERS = List.of("Customer Code", "Name", "Company", "Email", "Phone",
+            "Tax Number", "Payment Terms", "Credit Limit", "Outstanding Balance", "Active");
+
+    private final InvoiceRepository invoiceRepository;
+    private final BillRepository billRepository;
+    private final PaymentRepository paymentRepository;
+    private final JournalEntryLineRepository journalEntryLineRepository;
+    private final CustomerRepository customerRepository;
+
+    @Transactional(readOnly = true)
+    public void exportInvoices(ExportFormat format, OutputStream out) throws IOException {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        write(format, out, "Invoices", INVOICE_HEADERS, invoiceRepository.streamForExportByOrganizationId(orgId),
+                invoice -> new Object[]{invoice.getInvoiceNumber(), invoice.getInvoiceDate(), invoice.getDueDate(),
+                        invoice.getCustomerCode(), invoice.getCustomerName(), invoice.getStatus(),
+                        invoice.getSubtotal(), invoice.getTaxAmount(), invoice.getTotalAmount(),
+                        invoice.getPaidAmount(), invoice.getBalance()});
+    }
+
+    @Transactional(readOnly = true)
+    public void exportBills(ExportFormat format, OutputStream out) throws IOException {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        write(format, out, "Bills", BILL_HEADERS, billRepository.streamForExportByOrganizationId(orgId),
+                bill -> new Object[]{bill.getBillNumber(), bill.getReference(), bill.getBillDate(), bill.getDueDate(),
+                        bill.getVendorCode(), bill.getVendorName(), bill.getStatus(), bill.getSubtotal(),
+                        bill.getTaxAmount(), bill.getTotalAmount(), bill.getPaidAmount(), bill.getBalance()});
+    }
+
+    @Transactional(readOnly = true)
+    public void exportPayments(ExportFormat format, OutputStream out) throws IOException {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        write(format, out, "Payments", PAYMENT_HEADERS, paymentRepository.streamForExportByOrganizationId(orgId),
+                payment -> new Object[]{payment.getPaymentNumber(), payment.getPaymentDate(),
+                        payment.getPaymentType(), payment.getPaymentMethod(), payment.getContactName(),
+                        payment.getDocumentNumber(), payment.getAccountCode(), payment.getReferenceNumber(),
+                        payment.getAmount()});
+    }
+
+    @Transactional(readOnly = true)
+    public void exportJournalLines(ExportFormat format, OutputStream out) throws IOException {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        write(format, out, "Journal Lines", JOURNAL_LINE_HEADERS,
+                journalEntryLineRepository.streamForExportByOrganizationId(orgId),
+                line -> new Object[]{line.getJournalNumber(), line.getEntryDate(), line.getStatus(),
+                        line.getAccountCode(), line.getAccountName(), line.getDescription(),
+                        line.getDebitAmount(), line.getCreditAmount()});
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCustomers(ExportFormat format, OutputStream out) throws IOException {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        write(format, out, "Customers", CUSTOMER_HEADERS, customerRepository.streamForExportByOrganizationId(orgId),
+                customer -> new Object[]{customer.getCustomerCode(), customer.getName(), customer.getCompanyName(),
+                        customer.getEmail(), customer.getPhone(), customer.getTaxNumber(),
+                        customer.getPaymentTerms(), customer.getCreditLimit(), customer.getOutstandingBalance(),
+                        customer.getIsActive()});
+    }
+
+    /**
+     * Copies rows from the open cursor to the writer one at a time. The rows are projections rather than
+     * entities, so nothing accumulates in the persistence context however many rows there are.
+     */
+    private <T> void write(ExportFormat format, OutputStream out, String sheetName, List<String> headers,
+                           Stream<T> rows, Function<T, Object[]> toCells) throws IOException {
+        try (rows; ExportWriter writer = ExportWriter.open(format, out, sheetName, headers)) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeRow(toCells.apply(iterator.next()));
+            }
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package id.my.hendisantika.accountingsample.service;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import id.my.hendisantika.accountingsample.dto.importer.ImportResultResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.importer.ImportColumn;
+import id.my.hendisantika.accountingsample.importer.ImportDefinition;
+import id.my.hendisantika.accountingsample.importer.ImportFiles;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 19.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${imports.chunk-size}")
+    private int chunkSize;
+
+    @Value("${imports.max-reported-errors}")
+    private int maxReportedErrors;
+
+    @Transactional
+    public ImportResultResponse importCustomers(InputStream in) {
+        return importRows(ImportDefinition.CUSTOMERS, in);
+    }
+
+    @Transactional
+    public ImportResultResponse importVendors(InputStream in) {
+        return importRows(ImportDefinition.VENDORS, in);
+    }
+
+    @Transactional
+    public ImportResultResponse importItems(InputStream in) {
+        return importRows(ImportDefinition.ITEMS, in);
+    }
+
+    /**
+     * Streams the CSV through in chunks: each chunk is checked row by row, its codes and emails are looked
+     * up with one query per column, and the rows that pass are copied into a staging table. One statement
+     * then moves the staging table into the target table. Rows with errors are skipped and reported; the
+     * others are imported.
+     */
+    private ImportResultResponse importRows(ImportDefinition definition, InputStream in) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        return jdbcTemplate.execute((ConnectionCallback<ImportResultResponse>) connection -> {
+            try (CSVReader reader = ImportFiles.openReader(in)) {
+                ImportResultResponse result = new ImportRun(definition, orgId, connection).run(reader);
+                log.info("Imported {} of {} {} rows for organization {}", result.getImportedRows(),
+                        result.getTotalRows(), definition.table(), orgId);
+                return result;
+            } catch (IOException | CsvValidationException ex) {
+                throw new BusinessException("Could not read the import file: " + ex.getMessage());
+            }
+        });
+    }
+
+    private record StagedRow(int rowNumber, String[] values) {
+    }
+
+    private final class ImportRun {
+
+        private final ImportDefinition definition;
+        private final Long orgId;
+        private final Connection connection;
+        private final CopyManager copyManager;
+
+        private final int[] uniqueIndexes;
+        private final List<Map<String, Integer>> firstRowByValue = new ArrayList<>();
+        private final List<StagedRow> chunk = new ArrayList<>();
+        private final List<ImportResultResponse.ImportRowError> errors = new ArrayList<>();
+        private final Set<Integer> failedRows = new HashSet<>();
+        private int totalRows;
+        private int stagedRows;
+        private int errorCount;
+
+        private ImportRun(ImportDefinition definition, Long orgId, Connection connection) throws SQLException {
+            this.definition = definition;
+            this.orgId = orgId;
+            this.connection = connection;
+            this.copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            this.uniqueIndexes = definition.uniqueColumnIndexes();
+            for (int ignored : uniqueIndexes) {
+                firstRowByValue.add(new HashMap<>());
+            }
+        }
+
+        private ImportResultResponse run(CSVReader reader) throws IOException, CsvValidationException,
+                SQLException {
+            int[] cellIndexes = ImportFiles.columnIndexes(reader.readNext(), definition.columns());
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(definition.createStagingTableSql());
+            }
+
+            String[] cells;
+            while ((cells = reader.readNext()) != null) {
+                if (ImportFiles.isBlank(cells)) {
+                    continue;
+                }
+                totalRows++;
+                readRow((int) reader.getRecordsRead(), cells, cellIndexes);
+                if (chunk.size() >= chunkSize) {
+                    flush();
+                }
+            }
+            flush();
+            merge();
+
+            errors.sort(Comparator.comparingInt(ImportResultResponse.ImportRowError::getRowNumber));
+            return ImportResultResponse.builder()
+                    .totalRows(totalRows)
+                    .importedRows(totalRows - failedRows.size())
+                    .failedRows(failedRows.size())
+                    .errors(errors)
+                    .errorsTruncated(errors.size() < errorCount)
+                    .build();
+        }
+
+        private void readRow(int rowNumber, String[] cells, int[] cellIndexes) {
+            List<ImportColumn> columns = definition.columns();
+            String[] values = new String[columns.size()];
+            boolean valid = true;
+            for (int i = 0; i < columns.size(); i++) {
+                try {
+                    values[i] = columns.get(i).parse(ImportFiles.cell(cells, cellIndexes[i]));
+                } catch (IllegalArgumentException ex) {
+                    addError(rowNumber, columns.get(i).header(), ex.getMessage());
+                    valid = false;
+                }
+            }
+            if (!valid) {
+                return;
+            }
+
+            for (int u = 0; u < uniqueIndexes.length; u++) {
+                String value = values[uniqueIndexes[u]];
+                Integer firstRow = value != null ? firstRowByValue.get(u).get(value) : null;
+                if (firstRow != null) {
+                    String header = columns.get(uniqueIndexes[u]).header();
+                    addError(rowNumber, header, header + " " + value + " is repeated from row " + firstRow);
+                    return;
+                }
+            }
+            for (int u = 0; u < uniqueIndexes.length; u++) {
+                String value = values[uniqueIndexes[u]];
+                if (value != null) {
+                    firstRowByValue.get(u).put(value, rowNumber);
+                }
+            }
+            chunk.add(new StagedRow(rowNumber, values));
+        }
+
+        /**
+         * Drops the rows of the chunk whose code, or another unique value, the organization already has
+         * and copies the rest
+         */
+        private void flush() throws SQLException, IOException {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            List<Set<String>> existingValues = new ArrayList<>();
+            for (int index : uniqueIndexes) {
+                existingValues.add(findExistingValues(index));
+            }
+            StringBuilder copyData = new StringBuilder();
+            for (StagedRow row : chunk) {
+                int taken = findTakenValue(row, existingValues);
+                if (taken >= 0) {
+                    addAlreadyExists(row.rowNumber(), definition.columns().get(taken), row.values()[taken]);
+                    continue;
+                }
+                appendCopyRow(copyData, row);
+                stagedRows++;
+            }
+            if (!copyData.isEmpty()) {
+                copyManager.copyIn(definition.copySql(), new StringReader(copyData.toString()));
+            }
+            chunk.clear();
+        }
+
+        /**
+         * Returns the position of the first unique column whose value the organization already has, or -1
+         */
+        private int findTakenValue(StagedRow row, List<Set<String>> existingValues) {
+            for (int u = 0; u < uniqueIndexes.length; u++) {
+                String value = row.values()[uniqueIndexes[u]];
+                if (value != null && existingValues.get(u).contains(value)) {
+                    return uniqueIndexes[u];
+                }
+            }
+            return -1;
+        }
+
+        private Set<String> findExistingValues(int index) throws SQLException {
+            ImportColumn column = definition.columns().get(index);
+            Object[] values = chunk.stream()
+                    .map(row -> row.values()[index])
+                    .filter(Objects::nonNull)
+                    .toArray();
+            Set<String> existingValues = new HashSet<>();
+            try (PreparedStatement statement = connection.prepareStatement(definition.existingValuesSql(column))) {
+                statement.setLong(1, orgId);
+                statement.setArray(2, connection.createArrayOf("text", values));
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        existingValues.add(resultSet.getString(1));
+                    }
+                }
+            }
+            return existingValues;
+        }
+
+        /**
+         * Another import or a user may have taken a code since its chunk was checked; those rows are left
+         * out by the merge and reported like the ones found earlier
+         */
+        private void merge() throws SQLException {
+            if (stagedRows == 0) {
+                return;
+            }
+            try (PreparedStatement statement = connection.prepareStatement(definition.mergeSql())) {
+                statement.setLong(1, orgId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        addAlreadyExists(resultSet.getInt(1), definition.key(), resultSet.getString(2));
+                    }
+                }
+            }
+        }
+
+        private void addAlreadyExists(int rowNumber, ImportColumn column, String value) {
+            addError(rowNumber, column.header(),
+                    definition.name() + " with " + column.header() + " " + value + " already exists");
+        }
+
+        private void addError(int rowNumber, String column, String message) {
+            failedRows.add(rowNumber);
+            errorCount++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(ImportResultResponse.ImportRowError.builder()
+                        .rowNumber(rowNumber)
+                        .column(column)
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * Writes the row in the CSV form COPY reads: every value quoted, so an unquoted empty field is NULL
+     */
+    private static void appendCopyRow(StringBuilder copyData, StagedRow row) {
+        copyData.append(row.rowNumber());
+        for (String value : row.values()) {
+            copyData.append(',');
+            if (value != null) {
+                copyData.append('"').append(value.replace("\"", "\"\"")).append('"');
+            }
+        }
+        copyData.append('\n');
+    }
+}
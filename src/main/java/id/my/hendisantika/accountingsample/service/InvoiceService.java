@@ -1,8 +1,12 @@
 package id.my.hendisantika.accountingsample.service;
 
+import id.my.hendisantika.accountingsample.dto.CursorPageResponse;
+import id.my.hendisantika.accountingsample.dto.SliceResponse;
+import id.my.hendisantika.accountingsample.dto.invoice.InvoiceFilter;
 import id.my.hendisantika.accountingsample.dto.invoice.InvoiceItemRequest;
 import id.my.hendisantika.accountingsample.dto.invoice.InvoiceRequest;
 import id.my.hendisantika.accountingsample.dto.invoice.InvoiceResponse;
+import id.my.hendisantika.accountingsample.dto.invoice.InvoiceSummaryResponse;
 import id.my.hendisantika.accountingsample.exception.BusinessException;
 import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
 import id.my.hendisantika.accountingsample.model.Customer;
@@ -10,22 +14,37 @@ import id.my.hendisantika.accountingsample.model.Invoice;
 import id.my.hendisantika.accountingsample.model.InvoiceItem;
 import id.my.hendisantika.accountingsample.model.Item;
 import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.enums.ContactType;
+import id.my.hendisantika.accountingsample.model.enums.DocumentType;
 import id.my.hendisantika.accountingsample.model.enums.InvoiceStatus;
 import id.my.hendisantika.accountingsample.repository.CustomerRepository;
 import id.my.hendisantika.accountingsample.repository.InvoiceItemRepository;
 import id.my.hendisantika.accountingsample.repository.InvoiceRepository;
 import id.my.hendisantika.accountingsample.repository.ItemRepository;
 import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.repository.projection.InvoiceSummaryView;
+import id.my.hendisantika.accountingsample.repository.specification.InvoiceSpecifications;
+import id.my.hendisantika.accountingsample.util.CursorUtils;
+import id.my.hendisantika.accountingsample.util.LookupUtils;
 import id.my.hendisantika.accountingsample.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -43,11 +62,22 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class InvoiceService {
 
+    /**
+     * Properties a scroll request may sort on, with the parser used to read them back from a cursor
+     */
+    private static final Map<String, Function<String, Object>> SCROLL_SORT_KEYS = Map.of(
+            "invoiceDate", LocalDate::parse,
+            "dueDate", LocalDate::parse,
+            "invoiceNumber", value -> value,
+            "totalAmount", BigDecimal::new);
+
     private final InvoiceRepository invoiceRepository;
     private final InvoiceItemRepository invoiceItemRepository;
     private final OrganizationRepository organizationRepository;
     private final CustomerRepository customerRepository;
     private final ItemRepository itemRepository;
+    private final DocumentNumberService documentNumberService;
+    private final AgingService agingService;
 
     public List<InvoiceResponse> getAllInvoices() {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
@@ -56,6 +86,18 @@ public class InvoiceService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Summary rows for list screens, read as projections so detail columns and line items are never loaded
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<InvoiceSummaryResponse> getInvoiceSummaries(Pageable pageable) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        // The query fixes the order, so only the page and its size are taken from the request
+        Slice<InvoiceSummaryView> summaries = invoiceRepository.findSummariesByOrganizationId(orgId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        return SliceResponse.of(summaries, this::mapToSummaryResponse);
+    }
+
     public List<InvoiceResponse> getInvoicesByCustomer(Long customerId) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
         return invoiceRepository.findByCustomerIdAndOrganizationId(customerId, orgId).stream()
@@ -77,9 +119,20 @@ public class InvoiceService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<InvoiceResponse> scrollInvoices(InvoiceFilter filter, String cursor, Pageable pageable) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        Sort sort = CursorUtils.keysetSort(pageable.getSort(), SCROLL_SORT_KEYS, "invoiceDate");
+        ScrollPosition position = CursorUtils.decode(cursor, sort, SCROLL_SORT_KEYS);
+
+        Window<Invoice> window = invoiceRepository.findBy(InvoiceSpecifications.matching(orgId, filter),
+                query -> query.sortBy(sort).limit(pageable.getPageSize()).scroll(position));
+        return CursorUtils.toPage(window, this::mapToResponse);
+    }
+
     public InvoiceResponse getInvoiceById(Long id) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
-        Invoice invoice = invoiceRepository.findByIdAndOrganizationId(id, orgId)
+        Invoice invoice = invoiceRepository.findWithItemsByIdAndOrganizationId(id, orgId)
                 .orElseThrow(() -> new ResourceNotFoundException("Invoice not found"));
         return mapToResponse(invoice);
     }
@@ -88,8 +141,12 @@ public class InvoiceService {
     public InvoiceResponse createInvoice(InvoiceRequest request) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
 
-        // Check if invoice number already exists
-        if (invoiceRepository.existsByInvoiceNumberAndOrganizationId(request.getInvoiceNumber(), orgId)) {
+        // Use the given invoice number if it is free, otherwise take the next one from the sequence
+        String invoiceNumber = request.getInvoiceNumber();
+        if (!StringUtils.hasText(invoiceNumber)) {
+            invoiceNumber = documentNumberService.nextFreeNumber(orgId, DocumentType.INVOICE,
+                    number -> invoiceRepository.existsByInvoiceNumberAndOrganizationId(number, orgId));
+        } else if (invoiceRepository.existsByInvoiceNumberAndOrganizationId(invoiceNumber, orgId)) {
             throw new BusinessException("Invoice number already exists");
         }
 
@@ -102,7 +159,7 @@ public class InvoiceService {
         Invoice invoice = Invoice.builder()
                 .organization(organization)
                 .customer(customer)
-                .invoiceNumber(request.getInvoiceNumber())
+                .invoiceNumber(invoiceNumber)
                 .invoiceDate(request.getInvoiceDate())
                 .dueDate(request.getDueDate())
                 .status(request.getStatus() != null ? request.getStatus() : InvoiceStatus.DRAFT)
@@ -114,19 +171,16 @@ public class InvoiceService {
                 .build();
 
         // Add invoice items
+        Map<Long, Item> items = findRequestItems(request.getItems(), orgId);
         for (InvoiceItemRequest itemRequest : request.getItems()) {
-            Item item = itemRepository.findByIdAndOrganizationId(itemRequest.getItemId(), orgId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Item not found with id: " + itemRequest.getItemId()));
+            Item item = items.get(itemRequest.getItemId());
 
             BigDecimal quantity = itemRequest.getQuantity();
             BigDecimal unitPrice = itemRequest.getUnitPrice();
             BigDecimal discount = itemRequest.getDiscount() != null ? itemRequest.getDiscount() : BigDecimal.ZERO;
             BigDecimal taxRate = itemRequest.getTaxRate() != null ? itemRequest.getTaxRate() : BigDecimal.ZERO;
 
-            // Calculate line amount: (quantity * unitPrice - discount) * (1 + taxRate/100)
-            BigDecimal lineSubtotal = quantity.multiply(unitPrice).subtract(discount);
-            BigDecimal lineTax = lineSubtotal.multiply(taxRate).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-            BigDecimal lineAmount = lineSubtotal.add(lineTax);
+            BigDecimal lineAmount = calculateLineAmount(quantity, unitPrice, discount, taxRate);
 
             InvoiceItem invoiceItem = InvoiceItem.builder()
                     .invoice(invoice)
@@ -147,6 +201,7 @@ public class InvoiceService {
         calculateInvoiceTotals(invoice);
 
         invoice = invoiceRepository.save(invoice);
+        agingService.recordChange(orgId, ContactType.CUSTOMER, null, AgingService.positionOf(invoice));
         return mapToResponse(invoice);
     }
 
@@ -161,9 +216,11 @@ public class InvoiceService {
                 invoice.getStatus() == InvoiceStatus.CANCELLED) {
             throw new BusinessException("Cannot edit invoice with status: " + invoice.getStatus());
         }
+        AgingService.AgingPosition agingBefore = AgingService.positionOf(invoice);
 
         // Check if new invoice number already exists (if changed)
-        if (!request.getInvoiceNumber().equals(invoice.getInvoiceNumber()) &&
+        if (StringUtils.hasText(request.getInvoiceNumber()) &&
+                !request.getInvoiceNumber().equals(invoice.getInvoiceNumber()) &&
                 invoiceRepository.existsByInvoiceNumberAndOrganizationId(request.getInvoiceNumber(), orgId)) {
             throw new BusinessException("Invoice number already exists");
         }
@@ -173,7 +230,9 @@ public class InvoiceService {
 
         // Update invoice fields
         invoice.setCustomer(customer);
-        invoice.setInvoiceNumber(request.getInvoiceNumber());
+        if (StringUtils.hasText(request.getInvoiceNumber())) {
+            invoice.setInvoiceNumber(request.getInvoiceNumber());
+        }
         invoice.setInvoiceDate(request.getInvoiceDate());
         invoice.setDueDate(request.getDueDate());
         if (request.getStatus() != null) invoice.setStatus(request.getStatus());
@@ -186,19 +245,16 @@ public class InvoiceService {
         invoice.getItems().clear();
 
         // Add updated invoice items
+        Map<Long, Item> items = findRequestItems(request.getItems(), orgId);
         for (InvoiceItemRequest itemRequest : request.getItems()) {
-            Item item = itemRepository.findByIdAndOrganizationId(itemRequest.getItemId(), orgId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Item not found with id: " + itemRequest.getItemId()));
+            Item item = items.get(itemRequest.getItemId());
 
             BigDecimal quantity = itemRequest.getQuantity();
             BigDecimal unitPrice = itemRequest.getUnitPrice();
             BigDecimal discount = itemRequest.getDiscount() != null ? itemRequest.getDiscount() : BigDecimal.ZERO;
             BigDecimal taxRate = itemRequest.getTaxRate() != null ? itemRequest.getTaxRate() : BigDecimal.ZERO;
 
-            // Calculate line amount
-            BigDecimal lineSubtotal = quantity.multiply(unitPrice).subtract(discount);
-            BigDecimal lineTax = lineSubtotal.multiply(taxRate).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-            BigDecimal lineAmount = lineSubtotal.add(lineTax);
+            BigDecimal lineAmount = calculateLineAmount(quantity, unitPrice, discount, taxRate);
 
             InvoiceItem invoiceItem = InvoiceItem.builder()
                     .invoice(invoice)
@@ -219,6 +275,7 @@ public class InvoiceService {
         calculateInvoiceTotals(invoice);
 
         invoice = invoiceRepository.save(invoice);
+        agingService.recordChange(orgId, ContactType.CUSTOMER, agingBefore, AgingService.positionOf(invoice));
         return mapToResponse(invoice);
     }
 
@@ -231,8 +288,10 @@ public class InvoiceService {
         // Validate status transition
         validateStatusTransition(invoice.getStatus(), newStatus);
 
+        AgingService.AgingPosition agingBefore = AgingService.positionOf(invoice);
         invoice.setStatus(newStatus);
         invoice = invoiceRepository.save(invoice);
+        agingService.recordChange(orgId, ContactType.CUSTOMER, agingBefore, AgingService.positionOf(invoice));
         return mapToResponse(invoice);
     }
 
@@ -250,7 +309,18 @@ public class InvoiceService {
         invoiceRepository.delete(invoice);
     }
 
-    private void calculateInvoiceTotals(Invoice invoice) {
+    /**
+     * Line amount: (quantity * unitPrice - discount) * (1 + taxRate/100), with the discount as an amount
+     */
+    static BigDecimal calculateLineAmount(BigDecimal quantity, BigDecimal unitPrice, BigDecimal discount,
+                                          BigDecimal taxRate) {
+        BigDecimal lineSubtotal = quantity.multiply(unitPrice).subtract(discount);
+        BigDecimal lineTax = lineSubtotal.multiply(taxRate)
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        return lineSubtotal.add(lineTax);
+    }
+
+    static void calculateInvoiceTotals(Invoice invoice) {
         BigDecimal subtotal = BigDecimal.ZERO;
         BigDecimal taxAmount = BigDecimal.ZERO;
 
@@ -283,6 +353,13 @@ public class InvoiceService {
         }
     }
 
+    private Map<Long, Item> findRequestItems(List<InvoiceItemRequest> itemRequests, Long orgId) {
+        return LookupUtils.findAllByIds(
+                itemRequests.stream().map(InvoiceItemRequest::getItemId).toList(),
+                ids -> itemRepository.findAllByIdInAndOrganizationId(ids, orgId),
+                "Item not found with id: ");
+    }
+
     private InvoiceResponse mapToResponse(Invoice invoice) {
         List<InvoiceResponse.InvoiceItemResponse> itemResponses = invoice.getItems().stream()
                 .map(item -> InvoiceResponse.InvoiceItemResponse.builder()
@@ -322,4 +399,18 @@ public class InvoiceService {
                 .updatedAt(invoice.getUpdatedAt())
                 .build();
     }
+
+    private InvoiceSummaryResponse mapToSummaryResponse(InvoiceSummaryView view) {
+        return InvoiceSummaryResponse.builder()
+                .id(view.getId())
+                .invoiceNumber(view.getInvoiceNumber())
+                .invoiceDate(view.getInvoiceDate())
+                .dueDate(view.getDueDate())
+                .customerId(view.getCustomerId())
+                .customerName(view.getCustomerName())
+                .status(view.getStatus())
+                .totalAmount(view.getTotalAmount())
+                .balance(view.getBalance())
+                .build();
+    }
 }
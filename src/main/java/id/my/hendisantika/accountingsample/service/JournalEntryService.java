@@ -1,5 +1,9 @@
 package id.my.hendisantika.accountingsample.service;
 
+import id.my.hendisantika.accountingsample.dto.CursorPageResponse;
+import id.my.hendisantika.accountingsample.dto.journal.JournalEntryBatchPostResponse;
+import id.my.hendisantika.accountingsample.dto.journal.JournalEntryFilter;
+import id.my.hendisantika.accountingsample.dto.journal.JournalEntryLineRequest;
 import id.my.hendisantika.accountingsample.dto.journal.JournalEntryRequest;
 import id.my.hendisantika.accountingsample.dto.journal.JournalEntryResponse;
 import id.my.hendisantika.accountingsample.exception.BusinessException;
@@ -8,19 +12,38 @@ import id.my.hendisantika.accountingsample.model.Account;
 import id.my.hendisantika.accountingsample.model.JournalEntry;
 import id.my.hendisantika.accountingsample.model.JournalEntryLine;
 import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.enums.DocumentType;
 import id.my.hendisantika.accountingsample.model.enums.JournalEntryStatus;
 import id.my.hendisantika.accountingsample.repository.AccountRepository;
 import id.my.hendisantika.accountingsample.repository.JournalEntryRepository;
 import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.repository.projection.PostingLineView;
+import id.my.hendisantika.accountingsample.repository.specification.JournalEntrySpecifications;
+import id.my.hendisantika.accountingsample.util.CursorUtils;
+import id.my.hendisantika.accountingsample.util.LookupUtils;
 import id.my.hendisantika.accountingsample.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -38,9 +61,33 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JournalEntryService {
 
+    /**
+     * Maximum number of ids bound into a single IN clause when posting in batch
+     */
+    private static final int POSTING_CHUNK_SIZE = 1000;
+
+    /**
+     * Increments a balance in place, like {@link AccountRepository#addToBalance}, for use in a JDBC batch
+     */
+    private static final String ADD_TO_BALANCE_SQL = "UPDATE accounts " +
+            "SET current_balance = current_balance + ?, version = version + 1 " +
+            "WHERE id = ? AND organization_id = ?";
+
+    /**
+     * Properties a scroll request may sort on, with the parser used to read them back from a cursor
+     */
+    private static final Map<String, Function<String, Object>> SCROLL_SORT_KEYS = Map.of(
+            "entryDate", LocalDate::parse,
+            "journalNumber", value -> value);
+
     private final JournalEntryRepository journalEntryRepository;
     private final AccountRepository accountRepository;
     private final OrganizationRepository organizationRepository;
+    private final AccountPeriodBalanceService accountPeriodBalanceService;
+    private final ChartOfAccountsCache chartOfAccountsCache;
+    private final DocumentNumberService documentNumberService;
+    private final LedgerVersionService ledgerVersionService;
+    private final JdbcTemplate jdbcTemplate;
 
     public List<JournalEntryResponse> getAllJournalEntries() {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
@@ -56,6 +103,17 @@ public class JournalEntryService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<JournalEntryResponse> scrollJournalEntries(JournalEntryFilter filter, String cursor, Pageable pageable) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        Sort sort = CursorUtils.keysetSort(pageable.getSort(), SCROLL_SORT_KEYS, "entryDate");
+        ScrollPosition position = CursorUtils.decode(cursor, sort, SCROLL_SORT_KEYS);
+
+        Window<JournalEntry> window = journalEntryRepository.findBy(JournalEntrySpecifications.matching(orgId, filter),
+                query -> query.sortBy(sort).limit(pageable.getPageSize()).scroll(position));
+        return CursorUtils.toPage(window, this::mapToResponse);
+    }
+
     public JournalEntryResponse getJournalEntryById(Long id) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
         JournalEntry journalEntry = journalEntryRepository.findByIdAndOrganizationId(id, orgId)
@@ -67,8 +125,12 @@ public class JournalEntryService {
     public JournalEntryResponse createJournalEntry(JournalEntryRequest request) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
 
-        // Check if journal number already exists
-        if (journalEntryRepository.existsByJournalNumberAndOrganizationId(request.getJournalNumber(), orgId)) {
+        // Use the given journal number if it is free, otherwise take the next one from the sequence
+        String journalNumber = request.getJournalNumber();
+        if (!StringUtils.hasText(journalNumber)) {
+            journalNumber = documentNumberService.nextFreeNumber(orgId, DocumentType.JOURNAL_ENTRY,
+                    number -> journalEntryRepository.existsByJournalNumberAndOrganizationId(number, orgId));
+        } else if (journalEntryRepository.existsByJournalNumberAndOrganizationId(journalNumber, orgId)) {
             throw new BusinessException("Journal number already exists");
         }
 
@@ -77,7 +139,7 @@ public class JournalEntryService {
 
         JournalEntry journalEntry = JournalEntry.builder()
                 .organization(organization)
-                .journalNumber(request.getJournalNumber())
+                .journalNumber(journalNumber)
                 .entryDate(request.getEntryDate())
                 .status(JournalEntryStatus.DRAFT)
                 .reference(request.getReference())
@@ -90,9 +152,9 @@ public class JournalEntryService {
         BigDecimal totalDebit = BigDecimal.ZERO;
         BigDecimal totalCredit = BigDecimal.ZERO;
 
+        Map<Long, Account> accounts = findLineAccounts(request, orgId);
         for (var lineRequest : request.getLines()) {
-            Account account = accountRepository.findByIdAndOrganizationId(lineRequest.getAccountId(), orgId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Account not found: " + lineRequest.getAccountId()));
+            Account account = accounts.get(lineRequest.getAccountId());
 
             JournalEntryLine line = JournalEntryLine.builder()
                     .journalEntry(journalEntry)
@@ -131,13 +193,16 @@ public class JournalEntryService {
         }
 
         // Check if new journal number already exists (if changed)
-        if (!journalEntry.getJournalNumber().equals(request.getJournalNumber()) &&
+        if (StringUtils.hasText(request.getJournalNumber()) &&
+                !journalEntry.getJournalNumber().equals(request.getJournalNumber()) &&
                 journalEntryRepository.existsByJournalNumberAndOrganizationId(request.getJournalNumber(), orgId)) {
             throw new BusinessException("Journal number already exists");
         }
 
         // Update basic fields
-        journalEntry.setJournalNumber(request.getJournalNumber());
+        if (StringUtils.hasText(request.getJournalNumber())) {
+            journalEntry.setJournalNumber(request.getJournalNumber());
+        }
         journalEntry.setEntryDate(request.getEntryDate());
         journalEntry.setReference(request.getReference());
         journalEntry.setDescription(request.getDescription());
@@ -149,9 +214,9 @@ public class JournalEntryService {
         BigDecimal totalDebit = BigDecimal.ZERO;
         BigDecimal totalCredit = BigDecimal.ZERO;
 
+        Map<Long, Account> accounts = findLineAccounts(request, orgId);
         for (var lineRequest : request.getLines()) {
-            Account account = accountRepository.findByIdAndOrganizationId(lineRequest.getAccountId(), orgId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Account not found: " + lineRequest.getAccountId()));
+            Account account = accounts.get(lineRequest.getAccountId());
 
             JournalEntryLine line = JournalEntryLine.builder()
                     .journalEntry(journalEntry)
@@ -192,16 +257,27 @@ public class JournalEntryService {
         // Validate double entry before posting
         validateDoubleEntry(journalEntry);
 
-        // Update account balances
+        // Claim the entry first; a concurrent post of the same entry waits here and then finds it posted
+        if (journalEntryRepository.updateStatusByIdInAndStatus(List.of(id), orgId, JournalEntryStatus.DRAFT,
+                JournalEntryStatus.POSTED, LocalDateTime.now()) != 1) {
+            throw new BusinessException("Only DRAFT journal entries can be posted");
+        }
+
+        // Update account balances with in-place increments, never by writing back a value read earlier
+        Map<Long, BigDecimal> balanceChanges = new LinkedHashMap<>();
         for (JournalEntryLine line : journalEntry.getLines()) {
             Account account = line.getAccount();
-            BigDecimal currentBalance = account.getCurrentBalance();
-
-            // Update balance based on account type and debit/credit
-            BigDecimal newBalance = calculateNewBalance(account, line.getDebitAmount(), line.getCreditAmount());
-            account.setCurrentBalance(newBalance);
-            accountRepository.save(account);
+            balanceChanges.merge(account.getId(),
+                    balanceChange(account, line.getDebitAmount(), line.getCreditAmount()), BigDecimal::add);
         }
+        addToBalances(orgId, balanceChanges);
+        // The cached chart of accounts shows balances, so it is dropped once this commits
+        chartOfAccountsCache.evict(orgId);
+        // Cached reports are keyed by the ledger version and stop being read once this commits
+        ledgerVersionService.increment(orgId);
+
+        // Keep per-period account totals in step with the ledger
+        accountPeriodBalanceService.recordPosting(orgId, journalEntry);
 
         // Update status to POSTED
         journalEntry.setStatus(JournalEntryStatus.POSTED);
@@ -210,6 +286,99 @@ public class JournalEntryService {
         return mapToResponse(journalEntry);
     }
 
+    /**
+     * Posts many DRAFT journal entries in one transaction. All entries are validated before anything
+     * is written; balance changes are summed per account and per account-month in memory, and each set of
+     * in-place increments goes to the database as a single JDBC batch.
+     */
+    @Transactional
+    public JournalEntryBatchPostResponse postJournalEntries(List<Long> ids) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        List<Long> entryIds = new ArrayList<>(new LinkedHashSet<>(ids));
+
+        Map<Long, BigDecimal[]> entryTotals = new HashMap<>();
+        Map<Long, BigDecimal[]> accountTotals = new HashMap<>();
+        Map<LocalDate, Map<Long, BigDecimal[]>> periodTotals = new HashMap<>();
+        Set<Long> notDraftIds = new TreeSet<>();
+
+        for (List<Long> chunk : partition(entryIds)) {
+            for (PostingLineView line : journalEntryRepository.findPostingLines(chunk, orgId)) {
+                BigDecimal[] entryTotal = entryTotals.computeIfAbsent(line.getJournalEntryId(), key -> newTotals());
+                if (line.getStatus() != JournalEntryStatus.DRAFT) {
+                    notDraftIds.add(line.getJournalEntryId());
+                }
+                if (line.getAccountId() == null) {
+                    continue;
+                }
+
+                addTotals(entryTotal, line.getDebitAmount(), line.getCreditAmount());
+                addTotals(accountTotals.computeIfAbsent(line.getAccountId(), key -> newTotals()),
+                        line.getDebitAmount(), line.getCreditAmount());
+                LocalDate periodStart = AccountPeriodBalanceService.periodStartOf(line.getEntryDate());
+                addTotals(periodTotals.computeIfAbsent(periodStart, key -> new HashMap<>())
+                                .computeIfAbsent(line.getAccountId(), key -> newTotals()),
+                        line.getDebitAmount(), line.getCreditAmount());
+            }
+        }
+
+        // Validate the whole batch before touching any balance
+        List<Long> missingIds = entryIds.stream()
+                .filter(id -> !entryTotals.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException("Journal entries not found: " + LookupUtils.describeIds(missingIds));
+        }
+        if (!notDraftIds.isEmpty()) {
+            throw new BusinessException("Only DRAFT journal entries can be posted: " + LookupUtils.describeIds(notDraftIds));
+        }
+        Set<Long> unbalancedIds = new TreeSet<>();
+        entryTotals.forEach((id, total) -> {
+            if (total[0].compareTo(total[1]) != 0) {
+                unbalancedIds.add(id);
+            }
+        });
+        if (!unbalancedIds.isEmpty()) {
+            throw new BusinessException("Journal entries are not balanced: " + LookupUtils.describeIds(unbalancedIds));
+        }
+
+        // Claim the entries before touching any balance, so an overlapping post of the same entries fails
+        LocalDateTime now = LocalDateTime.now();
+        for (List<Long> chunk : partition(entryIds)) {
+            if (journalEntryRepository.updateStatusByIdInAndStatus(chunk, orgId, JournalEntryStatus.DRAFT,
+                    JournalEntryStatus.POSTED, now) != chunk.size()) {
+                throw new BusinessException("Some of the journal entries were posted meanwhile; nothing was posted");
+            }
+        }
+
+        // One in-place balance increment per account, sent as one batch; accounts are read only for their type
+        Map<Long, BigDecimal> balanceChanges = new LinkedHashMap<>();
+        for (List<Long> chunk : partition(new ArrayList<>(accountTotals.keySet()))) {
+            for (Account account : accountRepository.findAllByIdInAndOrganizationId(chunk, orgId)) {
+                BigDecimal[] total = accountTotals.get(account.getId());
+                balanceChanges.put(account.getId(), balanceChange(account, total[0], total[1]));
+            }
+        }
+        addToBalances(orgId, balanceChanges);
+        chartOfAccountsCache.evict(orgId);
+        ledgerVersionService.increment(orgId);
+
+        accountPeriodBalanceService.recordMovements(orgId, periodTotals);
+
+        BigDecimal totalDebit = BigDecimal.ZERO;
+        BigDecimal totalCredit = BigDecimal.ZERO;
+        for (BigDecimal[] total : accountTotals.values()) {
+            totalDebit = totalDebit.add(total[0]);
+            totalCredit = totalCredit.add(total[1]);
+        }
+
+        return JournalEntryBatchPostResponse.builder()
+                .postedCount(entryIds.size())
+                .accountsUpdated(accountTotals.size())
+                .totalDebit(totalDebit)
+                .totalCredit(totalCredit)
+                .build();
+    }
+
     @Transactional
     public JournalEntryResponse reverseJournalEntry(Long id) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
@@ -226,7 +395,7 @@ public class JournalEntryService {
         journalEntryRepository.save(originalEntry);
 
         // Create reversing entry
-        String reversingJournalNumber = generateReversingJournalNumber(originalEntry.getJournalNumber());
+        String reversingJournalNumber = generateReversingJournalNumber(originalEntry.getJournalNumber(), orgId);
 
         JournalEntry reversingEntry = JournalEntry.builder()
                 .organization(originalEntry.getOrganization())
@@ -266,7 +435,7 @@ public class JournalEntryService {
         validateDoubleEntry(reversingEntry);
         reversingEntry = journalEntryRepository.save(reversingEntry);
 
-        // Automatically post the reversing entry
+        // Automatically post the reversing entry, which also moves the ledger version on
         return postJournalEntry(reversingEntry.getId());
     }
 
@@ -284,6 +453,13 @@ public class JournalEntryService {
         journalEntryRepository.delete(journalEntry);
     }
 
+    private Map<Long, Account> findLineAccounts(JournalEntryRequest request, Long orgId) {
+        return LookupUtils.findAllByIds(
+                request.getLines().stream().map(JournalEntryLineRequest::getAccountId).toList(),
+                ids -> accountRepository.findAllByIdInAndOrganizationId(ids, orgId),
+                "Account not found: ");
+    }
+
     /**
      * Validates that total debits equal total credits (double-entry bookkeeping rule)
      */
@@ -297,22 +473,28 @@ public class JournalEntryService {
     }
 
     /**
-     * Calculates new account balance based on account type and transaction amounts
+     * Calculates the change to an account balance based on account type and transaction amounts
      */
-    private BigDecimal calculateNewBalance(Account account, BigDecimal debitAmount, BigDecimal creditAmount) {
-        BigDecimal currentBalance = account.getCurrentBalance();
+    private void addToBalances(Long orgId, Map<Long, BigDecimal> balanceChanges) {
+        List<Object[]> rows = new ArrayList<>(balanceChanges.size());
+        balanceChanges.forEach((accountId, delta) -> rows.add(new Object[]{delta, accountId, orgId}));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_TO_BALANCE_SQL, rows);
+        }
+    }
 
+    private BigDecimal balanceChange(Account account, BigDecimal debitAmount, BigDecimal creditAmount) {
         switch (account.getAccountType()) {
             case ASSET:
             case EXPENSE:
                 // Debit increases, Credit decreases
-                return currentBalance.add(debitAmount).subtract(creditAmount);
+                return debitAmount.subtract(creditAmount);
 
             case LIABILITY:
             case EQUITY:
             case REVENUE:
                 // Credit increases, Debit decreases
-                return currentBalance.add(creditAmount).subtract(debitAmount);
+                return creditAmount.subtract(debitAmount);
 
             default:
                 throw new BusinessException("Unknown account type: " + account.getAccountType());
@@ -320,22 +502,37 @@ public class JournalEntryService {
     }
 
     /**
-     * Generates a unique journal number for reversing entries
+     * Numbers a reversing entry after the entry it reverses, so the two stay traceable
      */
-    private String generateReversingJournalNumber(String originalJournalNumber) {
+    private String generateReversingJournalNumber(String originalJournalNumber, Long orgId) {
         String baseNumber = "REV-" + originalJournalNumber;
         String reversingNumber = baseNumber;
         int counter = 1;
 
-        Long orgId = SecurityUtils.getCurrentOrganizationId();
         while (journalEntryRepository.existsByJournalNumberAndOrganizationId(reversingNumber, orgId)) {
             reversingNumber = baseNumber + "-" + counter;
             counter++;
         }
-
         return reversingNumber;
     }
 
+    private static List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += POSTING_CHUNK_SIZE) {
+            chunks.add(ids.subList(start, Math.min(start + POSTING_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static BigDecimal[] newTotals() {
+        return new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO};
+    }
+
+    private static void addTotals(BigDecimal[] totals, BigDecimal debitAmount, BigDecimal creditAmount) {
+        totals[0] = totals[0].add(debitAmount);
+        totals[1] = totals[1].add(creditAmount);
+    }
+
     private JournalEntryResponse mapToResponse(JournalEntry journalEntry) {
         List<JournalEntryResponse.JournalEntryLineResponse> lineResponses = journalEntry.getLines().stream()
                 .map(line -> JournalEntryResponse.JournalEntryLineResponse.builder()
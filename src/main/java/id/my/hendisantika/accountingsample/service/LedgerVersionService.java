@@ -0,0 +1,68 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Service
+public class LedgerVersionService {
+
+    private final OrganizationRepository organizationRepository;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final TransactionTemplate incrementTransaction;
+
+    public LedgerVersionService(OrganizationRepository organizationRepository,
+                                DashboardSnapshotService dashboardSnapshotService,
+                                PlatformTransactionManager transactionManager) {
+        this.organizationRepository = organizationRepository;
+        this.dashboardSnapshotService = dashboardSnapshotService;
+        // Only used when the caller has no transaction of its own
+        this.incrementTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Returns the organization's current ledger version. Read it before computing a report so a result is
+     * never stored under a version newer than the data it was computed from.
+     */
+    @Transactional(readOnly = true)
+    public long getVersion(Long organizationId) {
+        return organizationRepository.findLedgerVersionById(organizationId).orElse(0L);
+    }
+
+    /**
+     * Marks every report and the dashboard of the organization as out of date as part of the calling
+     * transaction, so the change and the new version commit or roll back together and a report cached
+     * under the old version is never read after the change is visible. The increment runs just before
+     * the commit, so the version row is locked only while the transaction commits and concurrent
+     * postings of one organization queue on it for no longer than that.
+     */
+    public void increment(Long organizationId) {
+        dashboardSnapshotService.markStale(organizationId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            incrementTransaction.executeWithoutResult(status ->
+                    organizationRepository.incrementLedgerVersion(organizationId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                organizationRepository.incrementLedgerVersion(organizationId);
+            }
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.organization.OrganizationAccessRequest;
+import id.my.hendisantika.accountingsample.dto.organization.OrganizationAccessResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
+import id.my.hendisantika.accountingsample.model.OrganizationAccessGrant;
+import id.my.hendisantika.accountingsample.model.User;
+import id.my.hendisantika.accountingsample.repository.OrganizationAccessGrantRepository;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.repository.UserRepository;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 18.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrganizationAccessService {
+
+    private final OrganizationAccessGrantRepository organizationAccessGrantRepository;
+    private final OrganizationRepository organizationRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * The current user's own organization followed by every organization that has granted them access
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> getAccessibleOrganizationIds() {
+        User user = SecurityUtils.getCurrentUser();
+        if (user == null) {
+            throw new BusinessException("No authenticated user found");
+        }
+        Set<Long> organizationIds = new LinkedHashSet<>();
+        organizationIds.add(user.getOrganization().getId());
+        organizationIds.addAll(organizationAccessGrantRepository.findOrganizationIdsByUserId(user.getId()));
+        return organizationIds;
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrganizationAccessResponse> getAccessGrants() {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        return organizationAccessGrantRepository.findByOrganizationIdWithUser(orgId).stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    /**
+     * Lets a user of another organization include the current one in their consolidated reports. It does
+     * not make them a member: everything else they do stays within their own organization.
+     */
+    @Transactional
+    public OrganizationAccessResponse grantAccess(OrganizationAccessRequest request) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        User user = userRepository.findByEmailWithOrganization(request.getEmail())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        if (user.getOrganization().getId().equals(orgId)) {
+            throw new BusinessException("User already belongs to this organization");
+        }
+        if (organizationAccessGrantRepository.existsByOrganizationIdAndUserId(orgId, user.getId())) {
+            throw new BusinessException("User already has access to this organization");
+        }
+
+        OrganizationAccessGrant grant = OrganizationAccessGrant.builder()
+                .organization(organizationRepository.getReferenceById(orgId))
+                .user(user)
+                .grantedBy(userRepository.getReferenceById(SecurityUtils.getCurrentUserId()))
+                .build();
+        return mapToResponse(organizationAccessGrantRepository.save(grant));
+    }
+
+    @Transactional
+    public void revokeAccess(Long userId) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        OrganizationAccessGrant grant = organizationAccessGrantRepository.findByOrganizationIdAndUserId(orgId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Access grant not found"));
+        organizationAccessGrantRepository.delete(grant);
+    }
+
+    private OrganizationAccessResponse mapToResponse(OrganizationAccessGrant grant) {
+        User user = grant.getUser();
+        return OrganizationAccessResponse.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .userName(user.getFullName())
+                .userOrganizationId(user.getOrganization().getId())
+                .userOrganizationName(user.getOrganization().getName())
+                .grantedAt(grant.getCreatedAt())
+                .build();
+    }
+}
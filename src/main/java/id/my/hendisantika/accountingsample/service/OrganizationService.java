@@ -26,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class OrganizationService {
 
     private final OrganizationRepository organizationRepository;
+    private final LedgerVersionService ledgerVersionService;
 
     public OrganizationResponse getCurrentOrganization() {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
@@ -50,8 +51,12 @@ public class OrganizationService {
         if (request.getRegistrationNumber() != null)
             organization.setRegistrationNumber(request.getRegistrationNumber());
         if (request.getCurrencyCode() != null) organization.setCurrencyCode(request.getCurrencyCode());
-        if (request.getFiscalYearStartMonth() != null)
+        // Quarterly reports are laid out along the fiscal year, so cached ones go out of date when it moves
+        if (request.getFiscalYearStartMonth() != null
+                && !request.getFiscalYearStartMonth().equals(organization.getFiscalYearStartMonth())) {
             organization.setFiscalYearStartMonth(request.getFiscalYearStartMonth());
+            ledgerVersionService.increment(orgId);
+        }
         if (request.getDateFormat() != null) organization.setDateFormat(request.getDateFormat());
         if (request.getTimeZone() != null) organization.setTimeZone(request.getTimeZone());
         if (request.getAddressLine1() != null) organization.setAddressLine1(request.getAddressLine1());
@@ -1,5 +1,7 @@
 package id.my.hendisantika.accountingsample.service;
 
+import id.my.hendisantika.accountingsample.dto.CursorPageResponse;
+import id.my.hendisantika.accountingsample.dto.payment.PaymentFilter;
 import id.my.hendisantika.accountingsample.dto.payment.PaymentRequest;
 import id.my.hendisantika.accountingsample.dto.payment.PaymentResponse;
 import id.my.hendisantika.accountingsample.exception.BusinessException;
@@ -11,6 +13,8 @@ import id.my.hendisantika.accountingsample.model.Invoice;
 import id.my.hendisantika.accountingsample.model.Organization;
 import id.my.hendisantika.accountingsample.model.Payment;
 import id.my.hendisantika.accountingsample.model.Vendor;
+import id.my.hendisantika.accountingsample.model.enums.ContactType;
+import id.my.hendisantika.accountingsample.model.enums.DocumentType;
 import id.my.hendisantika.accountingsample.model.enums.PaymentType;
 import id.my.hendisantika.accountingsample.repository.AccountRepository;
 import id.my.hendisantika.accountingsample.repository.BillRepository;
@@ -19,13 +23,22 @@ import id.my.hendisantika.accountingsample.repository.InvoiceRepository;
 import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
 import id.my.hendisantika.accountingsample.repository.PaymentRepository;
 import id.my.hendisantika.accountingsample.repository.VendorRepository;
+import id.my.hendisantika.accountingsample.repository.specification.PaymentSpecifications;
+import id.my.hendisantika.accountingsample.util.CursorUtils;
 import id.my.hendisantika.accountingsample.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +56,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PaymentService {
 
+    /**
+     * Properties a scroll request may sort on, with the parser used to read them back from a cursor
+     */
+    private static final Map<String, Function<String, Object>> SCROLL_SORT_KEYS = Map.of(
+            "paymentDate", LocalDate::parse,
+            "paymentNumber", value -> value,
+            "amount", BigDecimal::new);
+
     private final PaymentRepository paymentRepository;
     private final OrganizationRepository organizationRepository;
     private final CustomerRepository customerRepository;
@@ -50,6 +71,8 @@ public class PaymentService {
     private final AccountRepository accountRepository;
     private final InvoiceRepository invoiceRepository;
     private final BillRepository billRepository;
+    private final DocumentNumberService documentNumberService;
+    private final AgingService agingService;
 
     public List<PaymentResponse> getAllPayments() {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
@@ -87,9 +110,20 @@ public class PaymentService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PaymentResponse> scrollPayments(PaymentFilter filter, String cursor, Pageable pageable) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        Sort sort = CursorUtils.keysetSort(pageable.getSort(), SCROLL_SORT_KEYS, "paymentDate");
+        ScrollPosition position = CursorUtils.decode(cursor, sort, SCROLL_SORT_KEYS);
+
+        Window<Payment> window = paymentRepository.findBy(PaymentSpecifications.matching(orgId, filter),
+                query -> query.sortBy(sort).limit(pageable.getPageSize()).scroll(position));
+        return CursorUtils.toPage(window, this::mapToResponse);
+    }
+
     public PaymentResponse getPaymentById(Long id) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
-        Payment payment = paymentRepository.findByIdAndOrganizationId(id, orgId)
+        Payment payment = paymentRepository.findWithDetailsByIdAndOrganizationId(id, orgId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found"));
         return mapToResponse(payment);
     }
@@ -110,7 +144,9 @@ public class PaymentService {
         Payment payment = Payment.builder()
                 .organization(organization)
                 .paymentType(request.getPaymentType())
-                .paymentNumber(generatePaymentNumber(request.getPaymentType()))
+                .paymentNumber(documentNumberService.nextNumber(orgId, request.getPaymentType() == PaymentType.PAYMENT_RECEIVED
+                        ? DocumentType.PAYMENT_RECEIVED
+                        : DocumentType.PAYMENT_MADE))
                 .paymentDate(request.getPaymentDate())
                 .amount(request.getAmount())
                 .paymentMethod(request.getPaymentMethod())
@@ -175,15 +211,16 @@ public class PaymentService {
         // Create payment
         PaymentResponse payment = createPayment(request);
 
-        // Update invoice balances
-        invoice.setPaidAmount(invoice.getPaidAmount().add(request.getAmount()));
-        invoice.setBalance(invoice.getBalance().subtract(request.getAmount()));
-        invoiceRepository.save(invoice);
+        // Update invoice balances in place; a parallel payment may have taken the balance meanwhile
+        if (invoiceRepository.applyPayment(invoice.getId(), orgId, request.getAmount()) == 0) {
+            throw new BusinessException("Payment amount cannot exceed invoice balance");
+        }
+        AgingService.AgingPosition agingBefore = AgingService.positionOf(invoice);
+        agingService.recordChange(orgId, ContactType.CUSTOMER, agingBefore,
+                agingBefore.afterPayment(request.getAmount()));
 
-        // Update customer outstanding balance
-        Customer customer = invoice.getCustomer();
-        customer.setOutstandingBalance(customer.getOutstandingBalance().subtract(request.getAmount()));
-        customerRepository.save(customer);
+        // Update customer outstanding balance in place so parallel payments do not overwrite each other
+        customerRepository.addToOutstandingBalance(invoice.getCustomer().getId(), orgId, request.getAmount().negate());
 
         return payment;
     }
@@ -214,15 +251,16 @@ public class PaymentService {
         // Create payment
         PaymentResponse payment = createPayment(request);
 
-        // Update bill balances
-        bill.setPaidAmount(bill.getPaidAmount().add(request.getAmount()));
-        bill.setBalance(bill.getBalance().subtract(request.getAmount()));
-        billRepository.save(bill);
+        // Update bill balances in place; a parallel payment may have taken the balance meanwhile
+        if (billRepository.applyPayment(bill.getId(), orgId, request.getAmount()) == 0) {
+            throw new BusinessException("Payment amount cannot exceed bill balance");
+        }
+        AgingService.AgingPosition agingBefore = AgingService.positionOf(bill);
+        agingService.recordChange(orgId, ContactType.VENDOR, agingBefore,
+                agingBefore.afterPayment(request.getAmount()));
 
-        // Update vendor outstanding balance
-        Vendor vendor = bill.getVendor();
-        vendor.setOutstandingBalance(vendor.getOutstandingBalance().subtract(request.getAmount()));
-        vendorRepository.save(vendor);
+        // Update vendor outstanding balance in place
+        vendorRepository.addToOutstandingBalance(bill.getVendor().getId(), orgId, request.getAmount().negate());
 
         return payment;
     }
@@ -230,8 +268,7 @@ public class PaymentService {
     @Transactional
     public PaymentResponse updatePayment(Long id, PaymentRequest request) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
-        Payment payment = paymentRepository.findByIdAndOrganizationId(id, orgId)
-                .orElseThrow(() -> new ResourceNotFoundException("Payment not found"));
+        Payment payment = findUnreconciledPayment(id, orgId);
 
         // Validate payment request
         validatePaymentRequest(request, orgId);
@@ -289,8 +326,7 @@ public class PaymentService {
     @Transactional
     public void deletePayment(Long id) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
-        Payment payment = paymentRepository.findByIdAndOrganizationId(id, orgId)
-                .orElseThrow(() -> new ResourceNotFoundException("Payment not found"));
+        Payment payment = findUnreconciledPayment(id, orgId);
 
         // In production, you might want to:
         // 1. Check if payment is linked to invoice/bill and revert balances
@@ -300,6 +336,19 @@ public class PaymentService {
         paymentRepository.delete(payment);
     }
 
+    /**
+     * A reconciled payment is matched to a bank line, so editing or deleting it would leave that line
+     * reconciled against a payment that no longer agrees with it
+     */
+    private Payment findUnreconciledPayment(Long id, Long orgId) {
+        Payment payment = paymentRepository.findForUpdateByIdAndOrganizationId(id, orgId)
+                .orElseThrow(() -> new ResourceNotFoundException("Payment not found"));
+        if (payment.getBankTransaction() != null) {
+            throw new BusinessException("Cannot change a payment reconciled with a bank line");
+        }
+        return payment;
+    }
+
     private void validatePaymentRequest(PaymentRequest request, Long orgId) {
         // Validate payment type matches entity type
         if (request.getPaymentType() == PaymentType.PAYMENT_RECEIVED) {
@@ -319,15 +368,6 @@ public class PaymentService {
         }
     }
 
-    private String generatePaymentNumber(PaymentType paymentType) {
-        // Generate unique payment number
-        // Format: PAY-RECV-YYYYMMDD-XXXX or PAY-MADE-YYYYMMDD-XXXX
-        String prefix = paymentType == PaymentType.PAYMENT_RECEIVED ? "PAY-RECV" : "PAY-MADE";
-        String datePart = LocalDate.now().toString().replace("-", "");
-        long count = paymentRepository.count() + 1;
-        return String.format("%s-%s-%04d", prefix, datePart, count);
-    }
-
     private PaymentResponse mapToResponse(Payment payment) {
         PaymentResponse.PaymentResponseBuilder builder = PaymentResponse.builder()
                 .id(payment.getId())
@@ -0,0 +1,295 @@
+package id.my.hendisantika.accountingsample.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 21.00
+ * To change this template use File | Settings | File Templates.
+ */
+public final class ReconciliationMatcher {
+
+    public enum Rule {
+        REFERENCE,
+        AMOUNT_AND_DATE,
+        SUM
+    }
+
+    /**
+     * A bank line or a payment. The amount is signed, money in positive, and counted in the smallest unit
+     * amounts are stored with; the day is the epoch day of its date.
+     */
+    public record Item(long id, long day, long amount, String reference) {
+    }
+
+    public record Match(long bankTransactionId, long[] paymentIds, Rule rule) {
+    }
+
+    private static final int NONE = -1;
+
+    // Payments near a bank line tried as the first of a pair summing to it
+    private static final int MAX_PAIR_CANDIDATES = 256;
+
+    // Payments near a bank line searched for three or more summing to it, and the most that may
+    private static final int MAX_SUM_CANDIDATES = 12;
+    private static final int MAX_SUM_PAYMENTS = 4;
+
+    private final long[] ids;
+    private final long[] days;
+    private final long[] amounts;
+    private final boolean[] taken;
+    private final int dateWindowDays;
+
+    // Payments by normalized reference, for the references that appear on a bank line
+    private final Map<String, List<Integer>> byReference = new HashMap<>();
+
+    // Payments left for the other rules, by amount and by direction, each in date order
+    private final Map<Long, int[]> byAmount = new HashMap<>();
+    private final int[] incoming;
+    private final int[] outgoing;
+
+    private final int[] candidates = new int[MAX_PAIR_CANDIDATES];
+    private final int[] chosen = new int[MAX_SUM_PAYMENTS];
+
+    private ReconciliationMatcher(List<Item> bankLines, List<Item> payments, int dateWindowDays) {
+        int count = payments.size();
+        this.ids = new long[count];
+        this.days = new long[count];
+        this.amounts = new long[count];
+        this.taken = new boolean[count];
+        this.dateWindowDays = dateWindowDays;
+
+        Set<String> bankReferences = new HashSet<>();
+        for (Item line : bankLines) {
+            String reference = normalize(line.reference());
+            if (reference != null) {
+                bankReferences.add(reference);
+            }
+        }
+
+        int[] byDay = IntStream.range(0, count).boxed()
+                .sorted(Comparator.<Integer>comparingLong(i -> payments.get(i).day())
+                        .thenComparingLong(i -> payments.get(i).id()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        Map<Long, List<Integer>> amountLists = new HashMap<>();
+        List<Integer> incomingList = new ArrayList<>();
+        List<Integer> outgoingList = new ArrayList<>();
+        for (int i : byDay) {
+            Item payment = payments.get(i);
+            ids[i] = payment.id();
+            days[i] = payment.day();
+            amounts[i] = payment.amount();
+
+            // A payment whose reference is on a bank line waits for that line rather than match another
+            String reference = normalize(payment.reference());
+            if (reference != null && bankReferences.contains(reference)) {
+                byReference.computeIfAbsent(reference, key -> new ArrayList<>()).add(i);
+                continue;
+            }
+            amountLists.computeIfAbsent(payment.amount(), key -> new ArrayList<>()).add(i);
+            (payment.amount() >= 0 ? incomingList : outgoingList).add(i);
+        }
+        amountLists.forEach((amount, list) -> byAmount.put(amount, toArray(list)));
+        this.incoming = toArray(incomingList);
+        this.outgoing = toArray(outgoingList);
+    }
+
+    /**
+     * Matches the bank lines in date order, in one pass. Each line takes the first match of: a payment with
+     * the same reference and amount, the closest; a payment with the same amount within the date window,
+     * the closest; two payments within the window summing to it; three or four of the closest payments
+     * within the window summing to it. A payment is matched at most once.
+     */
+    public static List<Match> match(List<Item> bankLines, List<Item> payments, int dateWindowDays) {
+        ReconciliationMatcher matcher = new ReconciliationMatcher(bankLines, payments, dateWindowDays);
+        List<Item> ordered = bankLines.stream()
+                .sorted(Comparator.comparingLong(Item::day).thenComparingLong(Item::id))
+                .toList();
+
+        List<Match> matches = new ArrayList<>();
+        for (Item line : ordered) {
+            Match match = matcher.matchByReference(line);
+            if (match == null) {
+                match = matcher.matchByAmount(line);
+            }
+            if (match == null) {
+                match = matcher.matchBySum(line);
+            }
+            if (match != null) {
+                matches.add(match);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Upper case letters and digits only, so "inv-0042" on a statement finds "INV 0042" on a payment
+     */
+    static String normalize(String reference) {
+        if (reference == null) {
+            return null;
+        }
+        StringBuilder normalized = new StringBuilder(reference.length());
+        for (int i = 0; i < reference.length(); i++) {
+            char c = reference.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.isEmpty() ? null : normalized.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private Match matchByReference(Item line) {
+        String reference = normalize(line.reference());
+        List<Integer> payments = reference != null ? byReference.get(reference) : null;
+        if (payments == null) {
+            return null;
+        }
+        int best = NONE;
+        for (int i : payments) {
+            if (!taken[i] && amounts[i] == line.amount()
+                    && (best == NONE || distance(i, line) < distance(best, line))) {
+                best = i;
+            }
+        }
+        return best != NONE ? take(line, Rule.REFERENCE, best) : null;
+    }
+
+    private Match matchByAmount(Item line) {
+        int best = closest(byAmount.get(line.amount()), line, NONE);
+        return best != NONE ? take(line, Rule.AMOUNT_AND_DATE, best) : null;
+    }
+
+    private Match matchBySum(Item line) {
+        int count = nearestSmaller(line.amount() >= 0 ? incoming : outgoing, line);
+        for (int c = 0; c < count; c++) {
+            int first = candidates[c];
+            int second = closest(byAmount.get(line.amount() - amounts[first]), line, first);
+            if (second != NONE) {
+                return take(line, Rule.SUM, first, second);
+            }
+        }
+
+        int size = findSum(Math.min(count, MAX_SUM_CANDIDATES), 0, line.amount(), 0);
+        return size > 0 ? take(line, Rule.SUM, Arrays.copyOf(chosen, size)) : null;
+    }
+
+    /**
+     * The untaken payment of the date-ordered list closest in date to the line and within the window,
+     * other than the one excluded
+     */
+    private int closest(int[] payments, Item line, int excluded) {
+        if (payments == null) {
+            return NONE;
+        }
+        int best = NONE;
+        for (int k = firstOnOrAfter(payments, line.day() - dateWindowDays); k < payments.length; k++) {
+            int i = payments[k];
+            if (days[i] > line.day() + dateWindowDays || (best != NONE && distance(i, line) > distance(best, line))) {
+                break;
+            }
+            if (!taken[i] && i != excluded && (best == NONE || distance(i, line) < distance(best, line))) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Fills the candidates with the untaken payments of the date-ordered list that are smaller than the
+     * line, but not zero, and within the window, closest in date first, and returns how many there are
+     */
+    private int nearestSmaller(int[] payments, Item line) {
+        int count = 0;
+        int right = firstOnOrAfter(payments, line.day());
+        int left = right - 1;
+        while (count < candidates.length) {
+            boolean leftOpen = left >= 0 && days[payments[left]] >= line.day() - dateWindowDays;
+            boolean rightOpen = right < payments.length && days[payments[right]] <= line.day() + dateWindowDays;
+            int i;
+            if (leftOpen && (!rightOpen || distance(payments[left], line) <= distance(payments[right], line))) {
+                i = payments[left--];
+            } else if (rightOpen) {
+                i = payments[right++];
+            } else {
+                break;
+            }
+            if (!taken[i] && amounts[i] != 0 && Math.abs(amounts[i]) < Math.abs(line.amount())) {
+                candidates[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Depth-first search for three or more of the first candidates adding up to the remaining amount,
+     * placing them in chosen. Returns how many were chosen, or 0 when none add up.
+     */
+    private int findSum(int count, int from, long remaining, int depth) {
+        if (remaining == 0) {
+            return depth >= 3 ? depth : 0;
+        }
+        if (depth == MAX_SUM_PAYMENTS) {
+            return 0;
+        }
+        for (int c = from; c < count; c++) {
+            long amount = amounts[candidates[c]];
+            if (Math.abs(amount) > Math.abs(remaining)) {
+                continue;
+            }
+            chosen[depth] = candidates[c];
+            int size = findSum(count, c + 1, remaining - amount, depth + 1);
+            if (size > 0) {
+                return size;
+            }
+        }
+        return 0;
+    }
+
+    private int firstOnOrAfter(int[] payments, long day) {
+        int low = 0;
+        int high = payments.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days[payments[mid]] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private long distance(int payment, Item line) {
+        return Math.abs(days[payment] - line.day());
+    }
+
+    private Match take(Item line, Rule rule, int... payments) {
+        long[] paymentIds = new long[payments.length];
+        for (int k = 0; k < payments.length; k++) {
+            taken[payments[k]] = true;
+            paymentIds[k] = ids[payments[k]];
+        }
+        return new Match(line.id(), paymentIds, rule);
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        return list.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
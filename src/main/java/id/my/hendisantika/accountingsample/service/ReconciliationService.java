@@ -0,0 +1,210 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.bank.ReconciliationResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
+import id.my.hendisantika.accountingsample.model.BankAccount;
+import id.my.hendisantika.accountingsample.model.enums.BankTransactionType;
+import id.my.hendisantika.accountingsample.model.enums.PaymentType;
+import id.my.hendisantika.accountingsample.repository.BankAccountRepository;
+import id.my.hendisantika.accountingsample.repository.BankTransactionRepository;
+import id.my.hendisantika.accountingsample.repository.PaymentRepository;
+import id.my.hendisantika.accountingsample.repository.projection.BankTransactionMatchView;
+import id.my.hendisantika.accountingsample.repository.projection.PaymentMatchView;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 21.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReconciliationService {
+
+    private static final int MAX_DATE_WINDOW_DAYS = 31;
+
+    /**
+     * Amounts are NUMERIC(19,4); the matcher compares them as whole numbers of that smallest unit
+     */
+    private static final int AMOUNT_SCALE = 4;
+
+    private static final String RECONCILE_LINES_SQL = "UPDATE bank_transactions " +
+            "SET is_reconciled = true, status = 'RECONCILED', reconciled_at = LOCALTIMESTAMP, " +
+            "updated_at = LOCALTIMESTAMP " +
+            "WHERE id = ANY (?) AND is_reconciled = false";
+
+    private static final String RECONCILE_PAYMENTS_SQL = "UPDATE payments p " +
+            "SET bank_transaction_id = m.bank_transaction_id, updated_at = LOCALTIMESTAMP " +
+            "FROM unnest(?, ?, ?) AS m(payment_id, bank_transaction_id, amount) " +
+            "WHERE p.id = m.payment_id AND p.bank_transaction_id IS NULL AND p.amount = m.amount";
+
+    private final BankAccountRepository bankAccountRepository;
+    private final BankTransactionRepository bankTransactionRepository;
+    private final PaymentRepository paymentRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${reconciliation.date-window-days}")
+    private int defaultDateWindowDays;
+
+    /**
+     * Matches the unreconciled lines of the bank account against the unreconciled payments booked to its
+     * ledger account, in memory, and records every match with two statements: one marks the lines
+     * reconciled, the other links the payments to their lines. Both skip rows reconciled meanwhile, and
+     * payments whose amount was edited meanwhile, so a run racing another fails and rolls back instead of
+     * matching a line or payment twice.
+     *
+     * @param dateWindowDays how many days apart a line and its payments may be dated, or {@code null} for
+     *                       the configured window
+     */
+    @Transactional
+    public ReconciliationResponse reconcile(Long bankAccountId, Integer dateWindowDays) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        BankAccount bankAccount = bankAccountRepository.findByIdAndOrganizationId(bankAccountId, orgId)
+                .orElseThrow(() -> new ResourceNotFoundException("Bank account not found"));
+        int window = dateWindowDays != null ? dateWindowDays : defaultDateWindowDays;
+        if (window < 0 || window > MAX_DATE_WINDOW_DAYS) {
+            throw new BusinessException("Date window must be between 0 and " + MAX_DATE_WINDOW_DAYS + " days");
+        }
+
+        List<ReconciliationMatcher.Item> lines;
+        try (Stream<BankTransactionMatchView> stream =
+                     bankTransactionRepository.streamUnreconciledByBankAccountId(bankAccountId)) {
+            lines = stream.map(ReconciliationService::toItem).toList();
+        }
+        if (lines.isEmpty()) {
+            return toResponse(bankAccountId, window, lines, List.of(), List.of());
+        }
+
+        long firstDay = lines.stream().mapToLong(ReconciliationMatcher.Item::day).min().orElseThrow();
+        long lastDay = lines.stream().mapToLong(ReconciliationMatcher.Item::day).max().orElseThrow();
+        List<ReconciliationMatcher.Item> payments;
+        try (Stream<PaymentMatchView> stream = paymentRepository.streamUnreconciledByAccountId(orgId,
+                bankAccount.getAccount().getId(), LocalDate.ofEpochDay(firstDay - window),
+                LocalDate.ofEpochDay(lastDay + window))) {
+            payments = stream.map(ReconciliationService::toItem).toList();
+        }
+
+        List<ReconciliationMatcher.Match> matches = ReconciliationMatcher.match(lines, payments, window);
+        markReconciled(matches, payments);
+
+        ReconciliationResponse response = toResponse(bankAccountId, window, lines, payments, matches);
+        log.info("Reconciled {} of {} lines of bank account {} against {} payments", response.getMatchedLines(),
+                lines.size(), bankAccountId, payments.size());
+        return response;
+    }
+
+    private void markReconciled(List<ReconciliationMatcher.Match> matches, List<ReconciliationMatcher.Item> payments) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> amountsById = payments.stream()
+                .collect(Collectors.toMap(ReconciliationMatcher.Item::id, ReconciliationMatcher.Item::amount));
+        int paymentCount = matches.stream().mapToInt(match -> match.paymentIds().length).sum();
+        Long[] lineIds = new Long[matches.size()];
+        Long[] paymentIds = new Long[paymentCount];
+        Long[] paymentLineIds = new Long[paymentCount];
+        BigDecimal[] paymentAmounts = new BigDecimal[paymentCount];
+        int p = 0;
+        for (int m = 0; m < matches.size(); m++) {
+            ReconciliationMatcher.Match match = matches.get(m);
+            lineIds[m] = match.bankTransactionId();
+            for (long paymentId : match.paymentIds()) {
+                paymentIds[p] = paymentId;
+                paymentLineIds[p] = match.bankTransactionId();
+                // Stored unsigned; the matcher signs payments made
+                paymentAmounts[p++] = BigDecimal.valueOf(Math.abs(amountsById.get(paymentId)), AMOUNT_SCALE);
+            }
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            int reconciledLines;
+            try (PreparedStatement statement = connection.prepareStatement(RECONCILE_LINES_SQL)) {
+                statement.setArray(1, connection.createArrayOf("bigint", lineIds));
+                reconciledLines = statement.executeUpdate();
+            }
+            int reconciledPayments;
+            try (PreparedStatement statement = connection.prepareStatement(RECONCILE_PAYMENTS_SQL)) {
+                statement.setArray(1, connection.createArrayOf("bigint", paymentIds));
+                statement.setArray(2, connection.createArrayOf("bigint", paymentLineIds));
+                statement.setArray(3, connection.createArrayOf("numeric", paymentAmounts));
+                reconciledPayments = statement.executeUpdate();
+            }
+            if (reconciledLines != lineIds.length || reconciledPayments != paymentIds.length) {
+                throw new BusinessException("Some of the bank lines or payments were reconciled or changed " +
+                        "meanwhile; run the reconciliation again");
+            }
+            return null;
+        });
+    }
+
+    private static ReconciliationMatcher.Item toItem(BankTransactionMatchView line) {
+        BigDecimal amount = line.getTransactionType() == BankTransactionType.DEBIT
+                ? line.getAmount().negate() : line.getAmount();
+        return new ReconciliationMatcher.Item(line.getId(), line.getTransactionDate().toEpochDay(),
+                toUnits(amount), line.getReferenceNumber());
+    }
+
+    /**
+     * A payment is found by its reference number, or by its payment number when it has none, which is
+     * what customers usually quote
+     */
+    private static ReconciliationMatcher.Item toItem(PaymentMatchView payment) {
+        BigDecimal amount = payment.getPaymentType() == PaymentType.PAYMENT_MADE
+                ? payment.getAmount().negate() : payment.getAmount();
+        String reference = payment.getReferenceNumber() != null
+                ? payment.getReferenceNumber() : payment.getPaymentNumber();
+        return new ReconciliationMatcher.Item(payment.getId(), payment.getPaymentDate().toEpochDay(),
+                toUnits(amount), reference);
+    }
+
+    private static long toUnits(BigDecimal amount) {
+        return amount.movePointRight(AMOUNT_SCALE).longValueExact();
+    }
+
+    private static ReconciliationResponse toResponse(Long bankAccountId, int window,
+                                                     List<ReconciliationMatcher.Item> lines,
+                                                     List<ReconciliationMatcher.Item> payments,
+                                                     List<ReconciliationMatcher.Match> matches) {
+        int[] byRule = new int[ReconciliationMatcher.Rule.values().length];
+        int matchedPayments = 0;
+        for (ReconciliationMatcher.Match match : matches) {
+            byRule[match.rule().ordinal()]++;
+            matchedPayments += match.paymentIds().length;
+        }
+        return ReconciliationResponse.builder()
+                .bankAccountId(bankAccountId)
+                .dateWindowDays(window)
+                .bankLines(lines.size())
+                .payments(payments.size())
+                .matchedLines(matches.size())
+                .matchedPayments(matchedPayments)
+                .referenceMatches(byRule[ReconciliationMatcher.Rule.REFERENCE.ordinal()])
+                .amountMatches(byRule[ReconciliationMatcher.Rule.AMOUNT_AND_DATE.ordinal()])
+                .sumMatches(byRule[ReconciliationMatcher.Rule.SUM.ordinal()])
+                .unmatchedLines(lines.size() - matches.size())
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.report.AgingReportResponse;
+import id.my.hendisantika.accountingsample.dto.report.BalanceSheetResponse;
+import id.my.hendisantika.accountingsample.dto.report.CashFlowResponse;
+import id.my.hendisantika.accountingsample.dto.report.ComparativeBalanceSheetResponse;
+import id.my.hendisantika.accountingsample.dto.report.ComparativeProfitLossResponse;
+import id.my.hendisantika.accountingsample.dto.report.ProfitLossResponse;
+import id.my.hendisantika.accountingsample.dto.report.TrialBalanceResponse;
+import id.my.hendisantika.accountingsample.model.enums.PeriodType;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.30
+ * To change this template use File | Settings | File Templates.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportCache {
+
+    public static final String CACHE_NAME = "reports";
+
+    private final ReportService reportService;
+    private final AgingService agingService;
+    private final ComparativeReportService comparativeReportService;
+    private final LedgerVersionService ledgerVersionService;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    /**
+     * {@code null} when caching is disabled, in which case every report is computed
+     */
+    private Cache cache;
+
+    @PostConstruct
+    public void init() {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        cache = cacheManager != null ? cacheManager.getCache(CACHE_NAME) : null;
+    }
+
+    public TrialBalanceResponse getTrialBalance(LocalDate asOfDate) {
+        return get("trial-balance:" + asOfDate, TrialBalanceResponse.class,
+                () -> reportService.getTrialBalance(asOfDate));
+    }
+
+    /**
+     * Trial balance of a given organization, stored under the same key as that organization's own, so
+     * consolidations reuse what its users have already run. Callers check access to the organization.
+     */
+    public TrialBalanceResponse getTrialBalance(Long organizationId, LocalDate asOfDate) {
+        return get(organizationId, "trial-balance:" + asOfDate, TrialBalanceResponse.class,
+                () -> reportService.getTrialBalance(organizationId, asOfDate));
+    }
+
+    public BalanceSheetResponse getBalanceSheet(LocalDate asOfDate) {
+        return get("balance-sheet:" + asOfDate, BalanceSheetResponse.class,
+                () -> reportService.getBalanceSheet(asOfDate));
+    }
+
+    public ProfitLossResponse getProfitAndLoss(LocalDate from, LocalDate to) {
+        return get("profit-loss:" + from + ":" + to, ProfitLossResponse.class,
+                () -> reportService.getProfitAndLoss(from, to));
+    }
+
+    public CashFlowResponse getCashFlow(LocalDate from, LocalDate to) {
+        return get("cash-flow:" + from + ":" + to, CashFlowResponse.class,
+                () -> reportService.getCashFlow(from, to));
+    }
+
+    public ComparativeProfitLossResponse getComparativeProfitAndLoss(PeriodType periodType, int periodCount,
+                                                                     LocalDate endDate) {
+        return get("comparative-profit-loss:" + periodType + ":" + periodCount + ":" + endDate,
+                ComparativeProfitLossResponse.class,
+                () -> comparativeReportService.getProfitAndLoss(periodType, periodCount, endDate));
+    }
+
+    public ComparativeBalanceSheetResponse getComparativeBalanceSheet(PeriodType periodType, int periodCount,
+                                                                      LocalDate endDate) {
+        return get("comparative-balance-sheet:" + periodType + ":" + periodCount + ":" + endDate,
+                ComparativeBalanceSheetResponse.class,
+                () -> comparativeReportService.getBalanceSheet(periodType, periodCount, endDate));
+    }
+
+    /**
+     * Aging reports are as of today, so the date is part of the key as well
+     */
+    public AgingReportResponse getAgedReceivables() {
+        return get("aged-receivables:" + LocalDate.now(), AgingReportResponse.class,
+                agingService::getAgedReceivables);
+    }
+
+    public AgingReportResponse getAgedPayables() {
+        return get("aged-payables:" + LocalDate.now(), AgingReportResponse.class,
+                agingService::getAgedPayables);
+    }
+
+    /**
+     * Looks the report up under the organization's current ledger version. Anything that changes a report
+     * moves the version on, so entries of older versions are simply never read again and are left to
+     * expire. A cache failure falls back to computing the report.
+     */
+    private <T> T get(String report, Class<T> type, Supplier<T> loader) {
+        return get(SecurityUtils.getCurrentOrganizationId(), report, type, loader);
+    }
+
+    private <T> T get(Long orgId, String report, Class<T> type, Supplier<T> loader) {
+        if (cache == null) {
+            return loader.get();
+        }
+
+        String key = orgId + ":" + ledgerVersionService.getVersion(orgId) + ":" + report;
+        try {
+            T cached = cache.get(key, type);
+            if (cached != null) {
+                return cached;
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to read report {} from cache", key, ex);
+        }
+
+        T result = loader.get();
+        try {
+            cache.put(key, result);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to cache report {}", key, ex);
+        }
+        return result;
+    }
+}
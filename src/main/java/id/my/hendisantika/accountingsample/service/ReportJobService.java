@@ -0,0 +1,336 @@
+package id.my.hendisantika.accountingsample.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import id.my.hendisantika.accountingsample.dto.report.ReportJobRequest;
+import id.my.hendisantika.accountingsample.dto.report.ReportJobResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
+import id.my.hendisantika.accountingsample.model.enums.ComparisonPeriod;
+import id.my.hendisantika.accountingsample.model.enums.ReportJobStatus;
+import id.my.hendisantika.accountingsample.model.enums.ReportType;
+import id.my.hendisantika.accountingsample.multitenancy.TenantContext;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 16.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportJobService {
+
+    /**
+     * Shared cache holding a snapshot of every job, so any node can answer a poll for it. Running jobs,
+     * coalescing of identical requests and the concurrency limits stay with the node that took the job.
+     */
+    public static final String CACHE_NAME = "report-jobs";
+
+    private final ReportCache reportCache;
+    private final AnalyticsService analyticsService;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    @Value("${report-jobs.max-concurrent}")
+    private int maxConcurrent;
+
+    @Value("${report-jobs.max-concurrent-per-organization}")
+    private int maxConcurrentPerOrganization;
+
+    @Value("${report-jobs.max-queued-per-organization}")
+    private int maxQueuedPerOrganization;
+
+    @Value("${report-jobs.result-time-to-live}")
+    private long resultTimeToLive;
+
+    @Value("${report-jobs.max-results}")
+    private long maxResults;
+
+    private final ConcurrentMap<JobKey, ReportJob> inFlightJobs = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, AtomicInteger> queuedJobsByOrganization = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Semaphore> organizationPermits = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+    private Semaphore permits;
+    private Cache<String, ReportJob> jobs;
+
+    /**
+     * {@code null} when caching is disabled, in which case only the node that took a job can report on it
+     */
+    private org.springframework.cache.Cache sharedJobs;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        permits = new Semaphore(maxConcurrent, true);
+        jobs = Caffeine.newBuilder()
+                .maximumSize(maxResults)
+                .expireAfterWrite(Duration.ofMillis(resultTimeToLive))
+                .build();
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        sharedJobs = cacheManager != null ? cacheManager.getCache(CACHE_NAME) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queues a report for the current organization and returns at once. A request identical to one that
+     * is still pending or running gets that job back instead of starting another.
+     */
+    public ReportJobResponse submit(ReportJobRequest request) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        JobKey key = toJobKey(orgId, request);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        ReportJob[] created = new ReportJob[1];
+        ReportJob job = inFlightJobs.computeIfAbsent(key, k -> {
+            AtomicInteger queued = queuedJobsByOrganization.computeIfAbsent(orgId, id -> new AtomicInteger());
+            if (queued.incrementAndGet() > maxQueuedPerOrganization) {
+                queued.decrementAndGet();
+                throw new BusinessException("Too many report jobs in progress, please try again later");
+            }
+            created[0] = new ReportJob(UUID.randomUUID().toString(), k);
+            return created[0];
+        });
+
+        if (created[0] != null) {
+            publish(job);
+            try {
+                executor.execute(() -> run(job, authentication));
+            } catch (RejectedExecutionException ex) {
+                // Shutting down; undo the reservation so the request can be made again elsewhere
+                log.warn("Report job {} ({}) was rejected by the executor", job.id, key.reportType(), ex);
+                job.fail("Report job could not be queued, please try again later");
+                inFlightJobs.remove(key, job);
+                queuedJobsByOrganization.get(orgId).decrementAndGet();
+                publish(job);
+            }
+        }
+        return toResponse(job);
+    }
+
+    /**
+     * Answers from this node's own jobs first and from the shared snapshots of other nodes' jobs second
+     */
+    public ReportJobResponse getJob(String jobId) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        ReportJob job = jobs.getIfPresent(jobId);
+        if (job != null) {
+            if (!job.key.organizationId().equals(orgId)) {
+                throw new ResourceNotFoundException("Report job not found");
+            }
+            return toResponse(job);
+        }
+
+        ReportJobResponse shared = null;
+        if (sharedJobs != null) {
+            try {
+                shared = sharedJobs.get(sharedKey(orgId, jobId), ReportJobResponse.class);
+            } catch (RuntimeException ex) {
+                log.warn("Failed to read report job {} from cache", jobId, ex);
+            }
+        }
+        if (shared == null) {
+            throw new ResourceNotFoundException("Report job not found");
+        }
+        return shared;
+    }
+
+    /**
+     * Waits for a slot of the organization first and a global slot second, so a busy tenant queues on its
+     * own limit without holding capacity that other tenants could use
+     */
+    private void run(ReportJob job, Authentication authentication) {
+        Long orgId = job.key.organizationId();
+        Semaphore organizationSlots = organizationPermits.computeIfAbsent(orgId,
+                id -> new Semaphore(maxConcurrentPerOrganization, true));
+        try {
+            organizationSlots.acquire();
+            try {
+                permits.acquire();
+                try {
+                    execute(job, authentication);
+                } finally {
+                    permits.release();
+                }
+            } finally {
+                organizationSlots.release();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.fail("Report job was interrupted");
+        } finally {
+            inFlightJobs.remove(job.key, job);
+            queuedJobsByOrganization.get(orgId).decrementAndGet();
+            // Restart the time-to-live so a long-running job keeps its result for the full period
+            publish(job);
+        }
+    }
+
+    /**
+     * Stores the job on this node and its current state in the shared cache. A cache failure only costs
+     * other nodes the ability to answer for the job.
+     */
+    private void publish(ReportJob job) {
+        jobs.put(job.id, job);
+        if (sharedJobs == null) {
+            return;
+        }
+        try {
+            sharedJobs.put(sharedKey(job.key.organizationId(), job.id), toResponse(job));
+        } catch (RuntimeException ex) {
+            log.warn("Failed to cache report job {}", job.id, ex);
+        }
+    }
+
+    /**
+     * Keyed by organization as well, so a job id from another organization finds nothing
+     */
+    private static String sharedKey(Long orgId, String jobId) {
+        return orgId + ":" + jobId;
+    }
+
+    private void execute(ReportJob job, Authentication authentication) {
+        job.startedAt = LocalDateTime.now();
+        job.status = ReportJobStatus.RUNNING;
+        publish(job);
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        TenantContext.setTenantId(job.key.organizationId());
+        try {
+            job.complete(generate(job.key));
+        } catch (RuntimeException ex) {
+            log.warn("Report job {} ({}) failed", job.id, job.key.reportType(), ex);
+            job.fail(ex.getMessage());
+        } finally {
+            TenantContext.clear();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private Object generate(JobKey key) {
+        return switch (key.reportType()) {
+            case TRIAL_BALANCE -> reportCache.getTrialBalance(key.asOfDate());
+            case BALANCE_SHEET -> reportCache.getBalanceSheet(key.asOfDate());
+            case PROFIT_LOSS -> reportCache.getProfitAndLoss(key.fromDate(), key.toDate());
+            case CASH_FLOW -> reportCache.getCashFlow(key.fromDate(), key.toDate());
+            case AGED_RECEIVABLES -> reportCache.getAgedReceivables();
+            case AGED_PAYABLES -> reportCache.getAgedPayables();
+            case SALES_BY_CUSTOMER -> analyticsService.getSalesByCustomer(key.fromDate(), key.toDate(),
+                    key.comparison());
+        };
+    }
+
+    /**
+     * Fills in the same defaults as the synchronous endpoints and drops parameters the report does not
+     * use, so requests that produce the same report share a key
+     */
+    private JobKey toJobKey(Long orgId, ReportJobRequest request) {
+        LocalDate today = LocalDate.now();
+        ReportType reportType = request.getReportType();
+        return switch (reportType) {
+            case TRIAL_BALANCE, BALANCE_SHEET -> new JobKey(orgId, reportType,
+                    request.getAsOfDate() != null ? request.getAsOfDate() : today, null, null, null);
+            case PROFIT_LOSS, CASH_FLOW, SALES_BY_CUSTOMER -> {
+                LocalDate toDate = request.getToDate() != null ? request.getToDate() : today;
+                LocalDate fromDate = request.getFromDate() != null ? request.getFromDate() : toDate.withDayOfYear(1);
+                if (fromDate.isAfter(toDate)) {
+                    throw new BusinessException("From date must not be after to date");
+                }
+                ComparisonPeriod comparison = null;
+                if (reportType == ReportType.SALES_BY_CUSTOMER) {
+                    comparison = request.getComparison() != null
+                            ? request.getComparison() : ComparisonPeriod.PREVIOUS_PERIOD;
+                }
+                yield new JobKey(orgId, reportType, null, fromDate, toDate, comparison);
+            }
+            case AGED_RECEIVABLES, AGED_PAYABLES -> new JobKey(orgId, reportType, null, null, null, null);
+        };
+    }
+
+    private ReportJobResponse toResponse(ReportJob job) {
+        return ReportJobResponse.builder()
+                .jobId(job.id)
+                .reportType(job.key.reportType())
+                .asOfDate(job.key.asOfDate())
+                .fromDate(job.key.fromDate())
+                .toDate(job.key.toDate())
+                .comparison(job.key.comparison())
+                .status(job.status)
+                .submittedAt(job.submittedAt)
+                .startedAt(job.startedAt)
+                .completedAt(job.completedAt)
+                .result(job.result)
+                .error(job.error)
+                .build();
+    }
+
+    private record JobKey(Long organizationId, ReportType reportType, LocalDate asOfDate,
+                          LocalDate fromDate, LocalDate toDate, ComparisonPeriod comparison) {
+    }
+
+    private static final class ReportJob {
+
+        private final String id;
+        private final JobKey key;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+
+        private volatile ReportJobStatus status = ReportJobStatus.PENDING;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+        private volatile Object result;
+        private volatile String error;
+
+        private ReportJob(String id, JobKey key) {
+            this.id = id;
+            this.key = key;
+        }
+
+        private void complete(Object result) {
+            this.result = result;
+            this.completedAt = LocalDateTime.now();
+            this.status = ReportJobStatus.COMPLETED;
+        }
+
+        private void fail(String error) {
+            this.error = error;
+            this.completedAt = LocalDateTime.now();
+            this.status = ReportJobStatus.FAILED;
+        }
+    }
+}
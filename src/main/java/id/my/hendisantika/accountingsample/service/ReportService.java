@@ -0,0 +1,407 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.account.AccountResponse;
+import id.my.hendisantika.accountingsample.dto.report.BalanceSheetResponse;
+import id.my.hendisantika.accountingsample.dto.report.CashFlowResponse;
+import id.my.hendisantika.accountingsample.dto.report.ProfitLossResponse;
+import id.my.hendisantika.accountingsample.dto.report.TrialBalanceResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.model.Account;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.CashFlowActivity;
+import id.my.hendisantika.accountingsample.repository.AccountPeriodBalanceRepository;
+import id.my.hendisantika.accountingsample.repository.AccountRepository;
+import id.my.hendisantika.accountingsample.repository.JournalEntryLineRepository;
+import id.my.hendisantika.accountingsample.repository.projection.AccountBalanceView;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 09.00
+ * To change this template use File | Settings | File Templates.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportService {
+
+    private static final List<String> PROFIT_LOSS_ACCOUNT_TYPES = List.of(
+            AccountType.REVENUE.name(), AccountType.COST_OF_GOODS_SOLD.name(), AccountType.EXPENSE.name());
+
+    private static final List<String> ALL_ACCOUNT_TYPES =
+            Arrays.stream(AccountType.values()).map(Enum::name).toList();
+
+    private final AccountRepository accountRepository;
+    private final AccountPeriodBalanceRepository accountPeriodBalanceRepository;
+    private final JournalEntryLineRepository journalEntryLineRepository;
+    private final ChartOfAccountsCache chartOfAccountsCache;
+
+    @Transactional(readOnly = true)
+    public TrialBalanceResponse getTrialBalance(LocalDate asOfDate) {
+        return getTrialBalance(SecurityUtils.getCurrentOrganizationId(), asOfDate);
+    }
+
+    @Transactional(readOnly = true)
+    public TrialBalanceResponse getTrialBalance(Long orgId, LocalDate asOfDate) {
+        Map<Long, BigDecimal> netDebits = loadNetDebitsAsOf(orgId, asOfDate);
+
+        List<TrialBalanceResponse.TrialBalanceLine> lines = new ArrayList<>();
+        BigDecimal totalDebit = BigDecimal.ZERO;
+        BigDecimal totalCredit = BigDecimal.ZERO;
+
+        for (Account account : getAccountsOrderedByCode(orgId)) {
+            BigDecimal netDebit = netDebits.get(account.getId());
+            if (netDebit == null || netDebit.signum() == 0) {
+                continue;
+            }
+
+            BigDecimal debit = netDebit.signum() > 0 ? netDebit : BigDecimal.ZERO;
+            BigDecimal credit = netDebit.signum() < 0 ? netDebit.negate() : BigDecimal.ZERO;
+
+            lines.add(TrialBalanceResponse.TrialBalanceLine.builder()
+                    .accountId(account.getId())
+                    .accountCode(account.getCode())
+                    .accountName(account.getName())
+                    .accountType(account.getAccountType())
+                    .debit(debit)
+                    .credit(credit)
+                    .build());
+            totalDebit = totalDebit.add(debit);
+            totalCredit = totalCredit.add(credit);
+        }
+
+        return TrialBalanceResponse.builder()
+                .asOfDate(asOfDate)
+                .lines(lines)
+                .totalDebit(totalDebit)
+                .totalCredit(totalCredit)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public BalanceSheetResponse getBalanceSheet(LocalDate asOfDate) {
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        Map<Long, BigDecimal> netDebits = loadNetDebitsAsOf(orgId, asOfDate);
+
+        List<BalanceSheetResponse.BalanceSheetLine> assets = new ArrayList<>();
+        List<BalanceSheetResponse.BalanceSheetLine> liabilities = new ArrayList<>();
+        List<BalanceSheetResponse.BalanceSheetLine> equity = new ArrayList<>();
+        BigDecimal totalAssets = BigDecimal.ZERO;
+        BigDecimal totalLiabilities = BigDecimal.ZERO;
+        BigDecimal totalEquity = BigDecimal.ZERO;
+        BigDecimal retainedEarnings = BigDecimal.ZERO;
+
+        for (Account account : getAccountsOrderedByCode(orgId)) {
+            BigDecimal netDebit = netDebits.get(account.getId());
+            if (netDebit == null || netDebit.signum() == 0) {
+                continue;
+            }
+
+            switch (account.getAccountType()) {
+                case ASSET -> {
+                    assets.add(toBalanceSheetLine(account, netDebit));
+                    totalAssets = totalAssets.add(netDebit);
+                }
+                case LIABILITY -> {
+                    liabilities.add(toBalanceSheetLine(account, netDebit.negate()));
+                    totalLiabilities = totalLiabilities.subtract(netDebit);
+                }
+                case EQUITY -> {
+                    equity.add(toBalanceSheetLine(account, netDebit.negate()));
+                    totalEquity = totalEquity.subtract(netDebit);
+                }
+                // Income statement accounts roll into equity as earnings not yet closed
+                case REVENUE, EXPENSE, COST_OF_GOODS_SOLD -> retainedEarnings = retainedEarnings.subtract(netDebit);
+            }
+        }
+
+        return BalanceSheetResponse.builder()
+                .asOfDate(asOfDate)
+                .assets(assets)
+                .liabilities(liabilities)
+                .equity(equity)
+                .totalAssets(totalAssets)
+                .totalLiabilities(totalLiabilities)
+                .retainedEarnings(retainedEarnings)
+                .totalEquity(totalEquity.add(retainedEarnings))
+                .build();
+    }
+
+    /**
+     * Builds the income statement for {@code [fromDate, toDate]}. Amounts are totalled per account by a
+     * single query and then laid out along the account hierarchy, each account carrying the subtotal of
+     * its sub-accounts of the same type.
+     */
+    @Transactional(readOnly = true)
+    public ProfitLossResponse getProfitAndLoss(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate.isAfter(toDate)) {
+            throw new BusinessException("From date must not be after to date");
+        }
+
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        Map<Long, BigDecimal> netDebits = new HashMap<>();
+        addNetDebits(netDebits, loadMovementsBetween(orgId, PROFIT_LOSS_ACCOUNT_TYPES, fromDate, toDate));
+
+        List<AccountResponse> chart = chartOfAccountsCache.getAccounts(orgId);
+        AccountTree tree = AccountTree.of(chart);
+        List<ProfitLossResponse.ProfitLossLine> revenue =
+                toProfitLossLines(chart, tree, AccountType.REVENUE, netDebits);
+        List<ProfitLossResponse.ProfitLossLine> costOfGoodsSold =
+                toProfitLossLines(chart, tree, AccountType.COST_OF_GOODS_SOLD, netDebits);
+        List<ProfitLossResponse.ProfitLossLine> expenses =
+                toProfitLossLines(chart, tree, AccountType.EXPENSE, netDebits);
+
+        BigDecimal totalRevenue = sumSubtotals(revenue);
+        BigDecimal totalCostOfGoodsSold = sumSubtotals(costOfGoodsSold);
+        BigDecimal totalExpenses = sumSubtotals(expenses);
+        BigDecimal grossProfit = totalRevenue.subtract(totalCostOfGoodsSold);
+
+        return ProfitLossResponse.builder()
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .revenue(revenue)
+                .costOfGoodsSold(costOfGoodsSold)
+                .expenses(expenses)
+                .totalRevenue(totalRevenue)
+                .totalCostOfGoodsSold(totalCostOfGoodsSold)
+                .grossProfit(grossProfit)
+                .totalExpenses(totalExpenses)
+                .netIncome(grossProfit.subtract(totalExpenses))
+                .build();
+    }
+
+    /**
+     * Builds the cash flow statement for {@code [fromDate, toDate]} using the indirect method: net income
+     * adjusted by the change in every non-cash balance sheet account, grouped by activity. All account
+     * movements over the period come from one query; the opening cash balance comes from the period
+     * balances up to the day before.
+     */
+    @Transactional(readOnly = true)
+    public CashFlowResponse getCashFlow(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate.isAfter(toDate)) {
+            throw new BusinessException("From date must not be after to date");
+        }
+
+        Long orgId = SecurityUtils.getCurrentOrganizationId();
+        Map<Long, BigDecimal> movements = new HashMap<>();
+        addNetDebits(movements, loadMovementsBetween(orgId, ALL_ACCOUNT_TYPES, fromDate, toDate));
+        Map<Long, BigDecimal> openingBalances = loadNetDebitsAsOf(orgId, fromDate.minusDays(1));
+
+        BigDecimal netIncome = BigDecimal.ZERO;
+        BigDecimal openingCash = BigDecimal.ZERO;
+        List<CashFlowResponse.CashFlowLine> operating = new ArrayList<>();
+        List<CashFlowResponse.CashFlowLine> investing = new ArrayList<>();
+        List<CashFlowResponse.CashFlowLine> financing = new ArrayList<>();
+
+        for (AccountResponse account : chartOfAccountsCache.getAccounts(orgId)) {
+            BigDecimal netDebit = movements.getOrDefault(account.getId(), BigDecimal.ZERO);
+            CashFlowActivity activity = cashFlowActivityOf(account);
+            if (activity == null) {
+                netIncome = netIncome.subtract(netDebit);
+                continue;
+            }
+            if (activity == CashFlowActivity.CASH) {
+                openingCash = openingCash.add(openingBalances.getOrDefault(account.getId(), BigDecimal.ZERO));
+                continue;
+            }
+            if (netDebit.signum() == 0) {
+                continue;
+            }
+
+            // A debit to a non-cash account (more assets, fewer liabilities) is cash going out
+            CashFlowResponse.CashFlowLine line = CashFlowResponse.CashFlowLine.builder()
+                    .accountId(account.getId())
+                    .accountCode(account.getCode())
+                    .accountName(account.getName())
+                    .amount(netDebit.negate())
+                    .build();
+            switch (activity) {
+                case OPERATING -> operating.add(line);
+                case INVESTING -> investing.add(line);
+                case FINANCING -> financing.add(line);
+                default -> throw new IllegalStateException("Unexpected cash flow activity: " + activity);
+            }
+        }
+
+        BigDecimal netCashFromOperating = netIncome.add(sumCashFlowLines(operating));
+        BigDecimal netCashFromInvesting = sumCashFlowLines(investing);
+        BigDecimal netCashFromFinancing = sumCashFlowLines(financing);
+        BigDecimal netChangeInCash = netCashFromOperating.add(netCashFromInvesting).add(netCashFromFinancing);
+
+        return CashFlowResponse.builder()
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .netIncome(netIncome)
+                .operatingActivities(operating)
+                .netCashFromOperating(netCashFromOperating)
+                .investingActivities(investing)
+                .netCashFromInvesting(netCashFromInvesting)
+                .financingActivities(financing)
+                .netCashFromFinancing(netCashFromFinancing)
+                .netChangeInCash(netChangeInCash)
+                .openingCash(openingCash)
+                .closingCash(openingCash.add(netChangeInCash))
+                .build();
+    }
+
+    /**
+     * Returns debit minus credit per account for everything posted up to and including the given date.
+     * Whole months come from the period balances; only the days of a partial month are read from the lines.
+     */
+    private Map<Long, BigDecimal> loadNetDebitsAsOf(Long orgId, LocalDate asOfDate) {
+        LocalDate periodStart = AccountPeriodBalanceService.periodStartOf(asOfDate);
+        Map<Long, BigDecimal> netDebits = new HashMap<>();
+
+        if (asOfDate.getDayOfMonth() == asOfDate.lengthOfMonth()) {
+            addNetDebits(netDebits, accountPeriodBalanceRepository.sumByAccountBefore(orgId, periodStart.plusMonths(1)));
+        } else {
+            addNetDebits(netDebits, accountPeriodBalanceRepository.sumByAccountBefore(orgId, periodStart));
+            addNetDebits(netDebits, journalEntryLineRepository.sumByAccountBetween(
+                    orgId, AccountPeriodBalanceService.LEDGER_STATUSES, periodStart, asOfDate));
+        }
+
+        return netDebits;
+    }
+
+    private void addNetDebits(Map<Long, BigDecimal> netDebits, List<AccountBalanceView> balances) {
+        for (AccountBalanceView balance : balances) {
+            BigDecimal netDebit = balance.getDebitTotal().subtract(balance.getCreditTotal());
+            netDebits.merge(balance.getAccountId(), netDebit, BigDecimal::add);
+        }
+    }
+
+    /**
+     * Splits the range so that every whole calendar month inside it is read from the period balances.
+     * When the range holds no whole month the split collapses and every day is read from the lines.
+     */
+    private List<AccountBalanceView> loadMovementsBetween(Long orgId, List<String> accountTypes,
+                                                          LocalDate fromDate, LocalDate toDate) {
+        LocalDate fullPeriodStart = fromDate.getDayOfMonth() == 1
+                ? fromDate
+                : AccountPeriodBalanceService.periodStartOf(fromDate).plusMonths(1);
+        LocalDate fullPeriodEnd = toDate.getDayOfMonth() == toDate.lengthOfMonth()
+                ? AccountPeriodBalanceService.periodStartOf(toDate).plusMonths(1)
+                : AccountPeriodBalanceService.periodStartOf(toDate);
+        if (!fullPeriodStart.isBefore(fullPeriodEnd)) {
+            fullPeriodStart = fromDate;
+            fullPeriodEnd = fromDate;
+        }
+
+        List<String> statuses = AccountPeriodBalanceService.LEDGER_STATUSES.stream().map(Enum::name).toList();
+        return accountPeriodBalanceRepository.sumByAccountBetween(orgId, accountTypes, statuses,
+                fromDate, toDate, fullPeriodStart, fullPeriodEnd);
+    }
+
+    /**
+     * Lays out the accounts of one type along the hierarchy. An account whose parent has a different
+     * type starts its own top-level line, and accounts with no activity in their sub-tree are left out.
+     */
+    private List<ProfitLossResponse.ProfitLossLine> toProfitLossLines(List<AccountResponse> chart, AccountTree tree,
+                                                                      AccountType accountType,
+                                                                      Map<Long, BigDecimal> netDebits) {
+        List<ProfitLossResponse.ProfitLossLine> lines = new ArrayList<>();
+        for (AccountResponse account : chart) {
+            AccountResponse parent = tree.getParent(account.getId());
+            if (account.getAccountType() == accountType
+                    && (parent == null || parent.getAccountType() != accountType)) {
+                ProfitLossResponse.ProfitLossLine line = toProfitLossLine(tree, account, netDebits);
+                if (line != null) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+
+    private ProfitLossResponse.ProfitLossLine toProfitLossLine(AccountTree tree, AccountResponse account,
+                                                               Map<Long, BigDecimal> netDebits) {
+        List<ProfitLossResponse.ProfitLossLine> children = new ArrayList<>();
+        for (AccountResponse child : tree.getChildren(account.getId())) {
+            if (child.getAccountType() == account.getAccountType()) {
+                ProfitLossResponse.ProfitLossLine line = toProfitLossLine(tree, child, netDebits);
+                if (line != null) {
+                    children.add(line);
+                }
+            }
+        }
+
+        BigDecimal netDebit = netDebits.get(account.getId());
+        if (netDebit == null && children.isEmpty()) {
+            return null;
+        }
+
+        // Revenue is reported as a credit balance, costs and expenses as debit balances
+        BigDecimal amount = netDebit == null ? BigDecimal.ZERO
+                : account.getAccountType() == AccountType.REVENUE ? netDebit.negate() : netDebit;
+        return ProfitLossResponse.ProfitLossLine.builder()
+                .accountId(account.getId())
+                .accountCode(account.getCode())
+                .accountName(account.getName())
+                .accountType(account.getAccountType())
+                .amount(amount)
+                .subtotal(amount.add(sumSubtotals(children)))
+                .children(children)
+                .build();
+    }
+
+    /**
+     * Returns the activity of a balance sheet account, or {@code null} for income statement accounts,
+     * which enter the statement through net income
+     */
+    private CashFlowActivity cashFlowActivityOf(AccountResponse account) {
+        CashFlowActivity activity = account.getCashFlowActivity();
+        return switch (account.getAccountType()) {
+            case ASSET, LIABILITY -> activity != null ? activity : CashFlowActivity.OPERATING;
+            case EQUITY -> activity != null ? activity : CashFlowActivity.FINANCING;
+            case REVENUE, EXPENSE, COST_OF_GOODS_SOLD -> null;
+        };
+    }
+
+    private BigDecimal sumCashFlowLines(List<CashFlowResponse.CashFlowLine> lines) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (CashFlowResponse.CashFlowLine line : lines) {
+            total = total.add(line.getAmount());
+        }
+        return total;
+    }
+
+    private BigDecimal sumSubtotals(List<ProfitLossResponse.ProfitLossLine> lines) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (ProfitLossResponse.ProfitLossLine line : lines) {
+            total = total.add(line.getSubtotal());
+        }
+        return total;
+    }
+
+    private List<Account> getAccountsOrderedByCode(Long orgId) {
+        List<Account> accounts = new ArrayList<>(accountRepository.findByOrganizationId(orgId));
+        accounts.sort(Comparator.comparing(Account::getCode));
+        return accounts;
+    }
+
+    private BalanceSheetResponse.BalanceSheetLine toBalanceSheetLine(Account account, BigDecimal balance) {
+        return BalanceSheetResponse.BalanceSheetLine.builder()
+                .accountId(account.getId())
+                .accountCode(account.getCode())
+                .accountName(account.getName())
+                .balance(balance)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package id.my.hendisantika.accountingsample.service;
 
+import id.my.hendisantika.accountingsample.config.ResilienceConfig;
 import id.my.hendisantika.accountingsample.dto.vendor.VendorRequest;
 import id.my.hendisantika.accountingsample.dto.vendor.VendorResponse;
 import id.my.hendisantika.accountingsample.exception.BusinessException;
@@ -10,6 +11,8 @@ import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
 import id.my.hendisantika.accountingsample.repository.VendorRepository;
 import id.my.hendisantika.accountingsample.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.resilience.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -102,6 +105,10 @@ public class VendorService {
         return mapToResponse(vendor);
     }
 
+    @Retryable(includes = OptimisticLockingFailureException.class,
+            maxRetries = ResilienceConfig.OPTIMISTIC_LOCK_MAX_RETRIES,
+            delay = ResilienceConfig.OPTIMISTIC_LOCK_DELAY_MILLIS,
+            jitter = ResilienceConfig.OPTIMISTIC_LOCK_JITTER_MILLIS)
     @Transactional
     public VendorResponse updateVendor(Long id, VendorRequest request) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
@@ -137,6 +144,10 @@ public class VendorService {
         return mapToResponse(vendor);
     }
 
+    @Retryable(includes = OptimisticLockingFailureException.class,
+            maxRetries = ResilienceConfig.OPTIMISTIC_LOCK_MAX_RETRIES,
+            delay = ResilienceConfig.OPTIMISTIC_LOCK_DELAY_MILLIS,
+            jitter = ResilienceConfig.OPTIMISTIC_LOCK_JITTER_MILLIS)
     @Transactional
     public void deleteVendor(Long id) {
         Long orgId = SecurityUtils.getCurrentOrganizationId();
@@ -0,0 +1,118 @@
+package id.my.hendisantika.accountingsample.util;
+
+import id.my.hendisantika.accountingsample.dto.CursorPageResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 10.30
+ * To change this template use File | Settings | File Templates.
+ */
+public class CursorUtils {
+
+    private static final String ID_PROPERTY = "id";
+
+    private CursorUtils() {
+        // Utility class
+    }
+
+    /**
+     * Reduces the requested sort to one whitelisted property followed by the id, so every page
+     * can be fetched with a keyset predicate instead of an offset
+     */
+    public static Sort keysetSort(Sort requested, Map<String, Function<String, Object>> sortKeys,
+                                  String defaultProperty) {
+        Sort.Order order = requested.stream()
+                .findFirst()
+                .orElse(Sort.Order.desc(defaultProperty));
+
+        if (ID_PROPERTY.equals(order.getProperty())) {
+            return Sort.by(order.getDirection(), ID_PROPERTY);
+        }
+        if (!sortKeys.containsKey(order.getProperty())) {
+            throw new BusinessException("Unsupported sort property: " + order.getProperty());
+        }
+
+        return Sort.by(
+                new Sort.Order(order.getDirection(), order.getProperty()),
+                new Sort.Order(order.getDirection(), ID_PROPERTY));
+    }
+
+    public static ScrollPosition decode(String cursor, Sort sort, Map<String, Function<String, Object>> sortKeys) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            for (String pair : decoded.split("&")) {
+                int separator = pair.indexOf('=');
+                String property = URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8);
+                String value = URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+
+                Function<String, Object> parser = ID_PROPERTY.equals(property) ? Long::valueOf : sortKeys.get(property);
+                if (parser == null || sort.getOrderFor(property) == null) {
+                    throw new BusinessException("Cursor does not match the requested sort");
+                }
+                keys.put(property, parser.apply(value));
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new BusinessException("Invalid cursor", ex);
+        }
+
+        if (keys.size() != sort.toList().size()) {
+            throw new BusinessException("Cursor does not match the requested sort");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    public static String encode(ScrollPosition position) {
+        Map<String, ?> keys = ((KeysetScrollPosition) position).getKeys();
+        String joined = keys.entrySet().stream()
+                .map(key -> URLEncoder.encode(key.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(formatKey(key.getValue()), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static <T, R> CursorPageResponse<R> toPage(Window<T> window, Function<T, R> mapper) {
+        List<R> content = window.getContent().stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        boolean hasNext = window.hasNext() && !window.isEmpty();
+
+        return CursorPageResponse.<R>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encode(window.positionAt(window.size() - 1)) : null)
+                .build();
+    }
+
+    private static String formatKey(Object value) {
+        return value instanceof BigDecimal decimal ? decimal.toPlainString() : String.valueOf(value);
+    }
+}
@@ -0,0 +1,77 @@
+package id.my.hendisantika.accountingsample.util;
+
+import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
+import id.my.hendisantika.accountingsample.model.BaseEntity;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Created by IntelliJ IDEA.
+ * Project : accounting-sample
+ * User: hendisantika
+ * Link: s.id/hendisantika
+ * Email: hendisantika@yahoo.co.id
+ * Telegram : @hendisantika34
+ * Date: 18/10/26
+ * Time: 13.00
+ * To change this template use File | Settings | File Templates.
+ */
+public class LookupUtils {
+
+    private static final int DESCRIBED_IDS_LIMIT = 20;
+
+    private LookupUtils() {
+        // Utility class
+    }
+
+    /**
+     * Resolves every id referenced by a request with a single query and indexes the result by id.
+     * Ids that do not exist (or belong to another organization) are reported together in one
+     * {@link ResourceNotFoundException} whose message starts with {@code notFoundMessage}.
+     */
+    public static <T extends BaseEntity> Map<Long, T> findAllByIds(Collection<Long> ids,
+                                                                   Function<Collection<Long>, List<T>> finder,
+                                                                   String notFoundMessage) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        Set<Long> lookupIds = requested.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Long, T> found = new HashMap<>();
+        if (!lookupIds.isEmpty()) {
+            for (T entity : finder.apply(lookupIds)) {
+                found.put(entity.getId(), entity);
+            }
+        }
+
+        List<Long> missingIds = requested.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException(notFoundMessage + describeIds(missingIds));
+        }
+
+        return found;
+    }
+
+    /**
+     * Lists ids for an error message, truncated so a large batch does not produce a huge response
+     */
+    public static String describeIds(Collection<Long> ids) {
+        String listed = ids.stream()
+                .limit(DESCRIBED_IDS_LIMIT)
+                .map(String::valueOf)
+                .collect(Collectors.joining(", "));
+        return ids.size() > DESCRIBED_IDS_LIMIT
+                ? listed + " and " + (ids.size() - DESCRIBED_IDS_LIMIT) + " more"
+                : listed;
+    }
+}
@@ -0,0 +1,9 @@
+-- Composite indexes backing keyset pagination on (organization_id, date, id)
+
+CREATE INDEX idx_invoices_org_date_id ON invoices(organization_id, invoice_date, id);
+CREATE INDEX idx_bills_org_date_id ON bills(organization_id, bill_date, id);
+CREATE INDEX idx_payments_org_date_id ON payments(organization_id, payment_date, id);
+
+-- Supersedes the (organization_id, journal_date) index from V9
+DROP INDEX IF EXISTS idx_journal_entries_org_date;
+CREATE INDEX idx_journal_entries_org_date_id ON journal_entries(organization_id, journal_date, id);
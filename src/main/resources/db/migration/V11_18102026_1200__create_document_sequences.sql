@@ -0,0 +1,18 @@
+-- Document number sequences per organization and document type. Application nodes reserve
+-- numbers from here in blocks and hand them out from memory.
+CREATE TABLE document_sequences (
+    id BIGSERIAL PRIMARY KEY,
+    organization_id BIGINT NOT NULL REFERENCES organizations(id) ON DELETE CASCADE,
+    document_type VARCHAR(30) NOT NULL,
+    next_value BIGINT NOT NULL DEFAULT 1,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_document_sequences_org_type UNIQUE (organization_id, document_type)
+);
+
+-- The previous payment number generator used a global row count, so start payment sequences
+-- past every value it could have issued
+INSERT INTO document_sequences (organization_id, document_type, next_value)
+SELECT o.id, t.document_type, (SELECT COUNT(*) FROM payments) + 1
+FROM organizations o
+         CROSS JOIN (VALUES ('PAYMENT_RECEIVED'), ('PAYMENT_MADE')) AS t(document_type);
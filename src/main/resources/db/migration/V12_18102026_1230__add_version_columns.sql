@@ -0,0 +1,4 @@
+-- Optimistic locking for master records whose balances are updated concurrently
+ALTER TABLE accounts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE customers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE vendors ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,37 @@
+-- Aging balances table (open receivables/payables per customer or vendor, bucketed by days past due)
+CREATE TABLE aging_balances (
+    id BIGSERIAL PRIMARY KEY,
+    organization_id BIGINT NOT NULL REFERENCES organizations(id) ON DELETE CASCADE,
+    contact_type VARCHAR(20) NOT NULL,
+    contact_id BIGINT NOT NULL,
+    current_amount DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    days_1_30 DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    days_31_60 DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    days_61_90 DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    days_91_120 DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    days_over_120 DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_aging_balances_org_contact UNIQUE (organization_id, contact_type, contact_id)
+);
+
+-- Backfill from the documents that are open today
+INSERT INTO aging_balances (organization_id, contact_type, contact_id, current_amount, days_1_30, days_31_60,
+                            days_61_90, days_91_120, days_over_120)
+SELECT organization_id,
+       contact_type,
+       contact_id,
+       SUM(CASE WHEN due_date >= CURRENT_DATE THEN balance_amount ELSE 0 END),
+       SUM(CASE WHEN due_date < CURRENT_DATE AND due_date >= CURRENT_DATE - 30 THEN balance_amount ELSE 0 END),
+       SUM(CASE WHEN due_date < CURRENT_DATE - 30 AND due_date >= CURRENT_DATE - 60 THEN balance_amount ELSE 0 END),
+       SUM(CASE WHEN due_date < CURRENT_DATE - 60 AND due_date >= CURRENT_DATE - 90 THEN balance_amount ELSE 0 END),
+       SUM(CASE WHEN due_date < CURRENT_DATE - 90 AND due_date >= CURRENT_DATE - 120 THEN balance_amount ELSE 0 END),
+       SUM(CASE WHEN due_date < CURRENT_DATE - 120 THEN balance_amount ELSE 0 END)
+FROM (SELECT organization_id, 'CUSTOMER' AS contact_type, customer_id AS contact_id, due_date, balance_amount
+      FROM invoices
+      WHERE status IN ('SENT', 'PARTIALLY_PAID', 'OVERDUE') AND balance_amount <> 0
+      UNION ALL
+      SELECT organization_id, 'VENDOR', vendor_id, due_date, balance_amount
+      FROM bills
+      WHERE status IN ('SUBMITTED', 'APPROVED', 'PARTIALLY_PAID', 'OVERDUE') AND balance_amount <> 0) open_documents
+GROUP BY organization_id, contact_type, contact_id;
@@ -0,0 +1,7 @@
+-- Cash flow statement classification of balance sheet accounts. NULL falls back to the account type:
+-- assets and liabilities are operating (working capital), equity is financing.
+ALTER TABLE accounts ADD COLUMN cash_flow_activity VARCHAR(20);
+
+-- Accounts behind a bank account hold cash
+UPDATE accounts SET cash_flow_activity = 'CASH'
+WHERE id IN (SELECT account_id FROM bank_accounts);
@@ -0,0 +1,3 @@
+-- Incremented in the same transaction as every change that can alter a report, so cached report results
+-- can be keyed by it and never need to be evicted
+ALTER TABLE organizations ADD COLUMN ledger_version BIGINT NOT NULL DEFAULT 0;
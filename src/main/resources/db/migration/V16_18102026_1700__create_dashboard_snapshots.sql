@@ -0,0 +1,37 @@
+-- Latest dashboard KPIs per organization, refreshed whenever the ledger version moves on and nightly
+CREATE TABLE dashboard_snapshots (
+    id BIGSERIAL PRIMARY KEY,
+    organization_id BIGINT NOT NULL REFERENCES organizations(id) ON DELETE CASCADE,
+    as_of_date DATE NOT NULL,
+    revenue_mtd DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    expenses_mtd DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    receivables_outstanding DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    receivables_overdue DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    overdue_invoice_count INTEGER NOT NULL DEFAULT 0,
+    payables_outstanding DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    payables_overdue DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    overdue_bill_count INTEGER NOT NULL DEFAULT 0,
+    cash_position DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_dashboard_snapshots_org UNIQUE (organization_id)
+);
+
+-- One row per organization and day holding the last snapshot taken that day, for trend charts
+CREATE TABLE dashboard_daily_kpis (
+    id BIGSERIAL PRIMARY KEY,
+    organization_id BIGINT NOT NULL REFERENCES organizations(id) ON DELETE CASCADE,
+    kpi_date DATE NOT NULL,
+    revenue_mtd DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    expenses_mtd DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    receivables_outstanding DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    receivables_overdue DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    overdue_invoice_count INTEGER NOT NULL DEFAULT 0,
+    payables_outstanding DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    payables_overdue DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    overdue_bill_count INTEGER NOT NULL DEFAULT 0,
+    cash_position DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_dashboard_daily_kpis_org_date UNIQUE (organization_id, kpi_date)
+);
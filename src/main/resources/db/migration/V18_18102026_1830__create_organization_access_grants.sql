@@ -0,0 +1,13 @@
+-- Read access for a user of one organization to the reports of another, so group companies kept as
+-- separate organizations can be consolidated
+CREATE TABLE organization_access_grants (
+    id BIGSERIAL PRIMARY KEY,
+    organization_id BIGINT NOT NULL REFERENCES organizations(id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    granted_by_id BIGINT REFERENCES users(id) ON DELETE SET NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_organization_access_grants_org_user UNIQUE (organization_id, user_id)
+);
+
+CREATE INDEX idx_organization_access_grants_user_id ON organization_access_grants(user_id);
@@ -0,0 +1,64 @@
+-- Entity ids come from sequences handed out in blocks of 50 (pooled-lo) instead of identity columns, so
+-- Hibernate knows ids before inserting and can batch the inserts. The BIGSERIAL sequences are kept and renamed
+-- to the <entity>_seq names Hibernate expects; column defaults follow the rename, so plain SQL inserts still
+-- work and take one value of a block each.
+
+ALTER SEQUENCE organizations_id_seq RENAME TO organization_seq;
+ALTER SEQUENCE organization_seq INCREMENT BY 50;
+
+ALTER SEQUENCE users_id_seq RENAME TO user_seq;
+ALTER SEQUENCE user_seq INCREMENT BY 50;
+
+ALTER SEQUENCE accounts_id_seq RENAME TO account_seq;
+ALTER SEQUENCE account_seq INCREMENT BY 50;
+
+ALTER SEQUENCE customers_id_seq RENAME TO customer_seq;
+ALTER SEQUENCE customer_seq INCREMENT BY 50;
+
+ALTER SEQUENCE vendors_id_seq RENAME TO vendor_seq;
+ALTER SEQUENCE vendor_seq INCREMENT BY 50;
+
+ALTER SEQUENCE tax_rates_id_seq RENAME TO tax_seq;
+ALTER SEQUENCE tax_seq INCREMENT BY 50;
+
+ALTER SEQUENCE items_id_seq RENAME TO item_seq;
+ALTER SEQUENCE item_seq INCREMENT BY 50;
+
+ALTER SEQUENCE invoices_id_seq RENAME TO invoice_seq;
+ALTER SEQUENCE invoice_seq INCREMENT BY 50;
+
+ALTER SEQUENCE invoice_items_id_seq RENAME TO invoice_item_seq;
+ALTER SEQUENCE invoice_item_seq INCREMENT BY 50;
+
+ALTER SEQUENCE bills_id_seq RENAME TO bill_seq;
+ALTER SEQUENCE bill_seq INCREMENT BY 50;
+
+ALTER SEQUENCE bill_items_id_seq RENAME TO bill_item_seq;
+ALTER SEQUENCE bill_item_seq INCREMENT BY 50;
+
+ALTER SEQUENCE payments_id_seq RENAME TO payment_seq;
+ALTER SEQUENCE payment_seq INCREMENT BY 50;
+
+ALTER SEQUENCE journal_entries_id_seq RENAME TO journal_entry_seq;
+ALTER SEQUENCE journal_entry_seq INCREMENT BY 50;
+
+ALTER SEQUENCE journal_entry_lines_id_seq RENAME TO journal_entry_line_seq;
+ALTER SEQUENCE journal_entry_line_seq INCREMENT BY 50;
+
+ALTER SEQUENCE account_period_balances_id_seq RENAME TO account_period_balance_seq;
+ALTER SEQUENCE account_period_balance_seq INCREMENT BY 50;
+
+ALTER SEQUENCE document_sequences_id_seq RENAME TO document_sequence_seq;
+ALTER SEQUENCE document_sequence_seq INCREMENT BY 50;
+
+ALTER SEQUENCE aging_balances_id_seq RENAME TO aging_balance_seq;
+ALTER SEQUENCE aging_balance_seq INCREMENT BY 50;
+
+ALTER SEQUENCE dashboard_snapshots_id_seq RENAME TO dashboard_snapshot_seq;
+ALTER SEQUENCE dashboard_snapshot_seq INCREMENT BY 50;
+
+ALTER SEQUENCE dashboard_daily_kpis_id_seq RENAME TO dashboard_daily_kpi_seq;
+ALTER SEQUENCE dashboard_daily_kpi_seq INCREMENT BY 50;
+
+ALTER SEQUENCE organization_access_grants_id_seq RENAME TO organization_access_grant_seq;
+ALTER SEQUENCE organization_access_grant_seq INCREMENT BY 50;
@@ -0,0 +1,41 @@
+-- Invoice and bill imports run in chunks, each committed with the file row it reached. An import stopped part
+-- way keeps its checkpoint and can be resumed with the same file from the row after it.
+CREATE SEQUENCE document_import_seq INCREMENT BY 50;
+
+CREATE TABLE document_imports (
+    id BIGINT PRIMARY KEY DEFAULT nextval('document_import_seq'),
+    organization_id BIGINT NOT NULL REFERENCES organizations(id) ON DELETE CASCADE,
+    document_type VARCHAR(30) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    file_name VARCHAR(255),
+    checkpoint_row INTEGER NOT NULL DEFAULT 1,
+    imported_documents INTEGER NOT NULL DEFAULT 0,
+    imported_lines INTEGER NOT NULL DEFAULT 0,
+    failed_documents INTEGER NOT NULL DEFAULT 0,
+    error_count INTEGER NOT NULL DEFAULT 0,
+    error_message TEXT,
+    created_by_id BIGINT REFERENCES users(id) ON DELETE SET NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER SEQUENCE document_import_seq OWNED BY document_imports.id;
+
+CREATE INDEX idx_document_imports_organization_id ON document_imports(organization_id);
+
+-- Rows skipped by an import, kept with the chunk that read them so a resumed import still reports them
+CREATE SEQUENCE document_import_error_seq INCREMENT BY 50;
+
+CREATE TABLE document_import_errors (
+    id BIGINT PRIMARY KEY DEFAULT nextval('document_import_error_seq'),
+    document_import_id BIGINT NOT NULL REFERENCES document_imports(id) ON DELETE CASCADE,
+    row_number INTEGER NOT NULL,
+    column_name VARCHAR(100),
+    message TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER SEQUENCE document_import_error_seq OWNED BY document_import_errors.id;
+
+CREATE INDEX idx_document_import_errors_import_row ON document_import_errors(document_import_id, row_number);
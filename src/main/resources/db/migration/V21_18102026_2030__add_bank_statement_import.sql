@@ -0,0 +1,16 @@
+-- Bank accounts and their transactions get entities, so their ids come from pooled sequences like the others
+ALTER SEQUENCE bank_accounts_id_seq RENAME TO bank_account_seq;
+ALTER SEQUENCE bank_account_seq INCREMENT BY 50;
+
+ALTER SEQUENCE bank_transactions_id_seq RENAME TO bank_transaction_seq;
+ALTER SEQUENCE bank_transaction_seq INCREMENT BY 50;
+
+ALTER TABLE bank_transactions ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- Hash of the date, signed amount and reference of an imported statement line, with the line's occurrence
+-- among identical lines of its file. Importing an overlapping statement again leaves the lines already in
+-- place; transactions entered by hand have no hash.
+ALTER TABLE bank_transactions ADD COLUMN dedup_hash VARCHAR(64);
+
+ALTER TABLE bank_transactions
+    ADD CONSTRAINT uk_bank_transactions_account_hash UNIQUE (bank_account_id, dedup_hash);
@@ -0,0 +1,13 @@
+-- A payment is reconciled once it is linked to the bank line that paid it; several payments may share one
+-- line when the bank booked them together, such as a deposit of several receipts.
+ALTER TABLE payments ADD COLUMN bank_transaction_id BIGINT REFERENCES bank_transactions(id) ON DELETE SET NULL;
+
+CREATE INDEX idx_payments_bank_transaction_id ON payments(bank_transaction_id);
+
+-- Reconciliation reads only what is still open: payments booked to the bank's ledger account and lines of
+-- the bank account
+CREATE INDEX idx_payments_unreconciled ON payments(organization_id, account_id, payment_date)
+    WHERE bank_transaction_id IS NULL;
+
+CREATE INDEX idx_bank_transactions_unreconciled ON bank_transactions(bank_account_id, transaction_date)
+    WHERE is_reconciled = false;
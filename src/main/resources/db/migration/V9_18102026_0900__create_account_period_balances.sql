@@ -0,0 +1,29 @@
+-- Account period balances table (debit/credit totals per account per calendar month)
+CREATE TABLE account_period_balances (
+    id BIGSERIAL PRIMARY KEY,
+    organization_id BIGINT NOT NULL REFERENCES organizations(id) ON DELETE CASCADE,
+    account_id BIGINT NOT NULL REFERENCES accounts(id) ON DELETE CASCADE,
+    period_start DATE NOT NULL,
+    debit_total DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    credit_total DECIMAL(19,4) NOT NULL DEFAULT 0.0000,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_account_period_balances_org_account_period UNIQUE (organization_id, account_id, period_start)
+);
+
+-- Indexes
+CREATE INDEX idx_account_period_balances_org_period ON account_period_balances(organization_id, period_start);
+CREATE INDEX idx_journal_entries_org_date ON journal_entries(organization_id, journal_date);
+
+-- Backfill from entries that have already been posted (reversed entries stay in the ledger,
+-- their reversing entry offsets them)
+INSERT INTO account_period_balances (organization_id, account_id, period_start, debit_total, credit_total)
+SELECT je.organization_id,
+       jel.account_id,
+       DATE_TRUNC('month', je.journal_date)::DATE,
+       SUM(jel.debit_amount),
+       SUM(jel.credit_amount)
+FROM journal_entry_lines jel
+         JOIN journal_entries je ON je.id = jel.journal_entry_id
+WHERE je.status IN ('POSTED', 'REVERSED')
+GROUP BY je.organization_id, jel.account_id, DATE_TRUNC('month', je.journal_date);
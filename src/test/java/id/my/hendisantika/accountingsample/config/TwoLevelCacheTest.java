@@ -0,0 +1,74 @@
+package id.my.hendisantika.accountingsample.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TwoLevelCache Tests")
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache remote;
+    private SimpleMeterRegistry meterRegistry;
+    private List<String> published;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("chartOfAccounts");
+        meterRegistry = new SimpleMeterRegistry();
+        published = new ArrayList<>();
+        cache = new TwoLevelCache(new CaffeineCache("chartOfAccounts", Caffeine.newBuilder().build(), false),
+                remote, (name, key) -> published.add(name + ":" + key), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should fill the near cache from Redis and count hits per tier")
+    void get_RemoteHit_PopulatesNearCache() {
+        remote.put(1L, "chart");
+
+        assertThat(cache.get(1L).get()).isEqualTo("chart");
+        remote.evict(1L);
+        assertThat(cache.get(1L).get()).isEqualTo("chart");
+
+        assertThat(count("near", "miss")).isEqualTo(1);
+        assertThat(count("redis", "hit")).isEqualTo(1);
+        assertThat(count("near", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict both tiers and broadcast the eviction")
+    void evict_RemovesBothTiersAndPublishes() {
+        cache.put(1L, "chart");
+
+        cache.evict(1L);
+
+        assertThat(remote.get(1L)).isNull();
+        assertThat(cache.get(1L)).isNull();
+        assertThat(published).containsExactly("chartOfAccounts:1");
+    }
+
+    @Test
+    @DisplayName("Should drop only the near copy when another node evicts")
+    void evictNear_KeepsRemoteEntry() {
+        cache.put(1L, "chart");
+
+        cache.evictNear("1");
+
+        assertThat(remote.get(1L)).isNotNull();
+        assertThat(cache.get(1L).get()).isEqualTo("chart");
+        assertThat(count("redis", "hit")).isEqualTo(1);
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tier.gets").tag("tier", tier).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,59 @@
+package id.my.hendisantika.accountingsample.importer;
+
+import id.my.hendisantika.accountingsample.model.enums.ItemType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ImportColumn Tests")
+class ImportColumnTest {
+
+    @Test
+    @DisplayName("Should trim text and reject values longer than the column")
+    void parse_Text() {
+        ImportColumn code = ImportColumn.text("Customer Code", "customer_code", 5).required();
+
+        assertThat(code.parse("  C-001 ")).isEqualTo("C-001");
+        assertThatThrownBy(() -> code.parse("C-0001"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Customer Code must be at most 5 characters");
+        assertThatThrownBy(() -> code.parse(" "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Customer Code is required");
+    }
+
+    @Test
+    @DisplayName("Should load the default or null for an empty cell")
+    void parse_EmptyCell() {
+        assertThat(ImportColumn.bool("Active", "is_active").defaultingTo("true").parse(null)).isEqualTo("true");
+        assertThat(ImportColumn.decimal("Credit Limit", "credit_limit").parse("")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should normalize numbers, booleans and enum names")
+    void parse_TypedValues() {
+        assertThat(ImportColumn.integer("Payment Terms", "payment_terms").parse("030")).isEqualTo("30");
+        assertThat(ImportColumn.decimal("Credit Limit", "credit_limit").parse("1.5E3")).isEqualTo("1500");
+        assertThat(ImportColumn.bool("Active", "is_active").parse("No")).isEqualTo("false");
+        assertThat(ImportColumn.date("Invoice Date", "invoice_date").parse(" 2026-10-18 ")).isEqualTo("2026-10-18");
+        assertThat(ImportColumn.enumeration("Type", "item_type", ItemType.class).parse("service"))
+                .isEqualTo("SERVICE");
+    }
+
+    @Test
+    @DisplayName("Should explain why a typed value is rejected")
+    void parse_InvalidValues_Throw() {
+        assertThatThrownBy(() -> ImportColumn.email("Email", "email").parse("not-an-email"))
+                .hasMessage("Email is not a valid email address");
+        assertThatThrownBy(() -> ImportColumn.integer("Payment Terms", "payment_terms").parse("30 days"))
+                .hasMessage("Payment Terms must be a whole number");
+        assertThatThrownBy(() -> ImportColumn.decimal("Credit Limit", "credit_limit").parse("1E16"))
+                .hasMessage("Credit Limit is too large");
+        assertThatThrownBy(() -> ImportColumn.date("Invoice Date", "invoice_date").parse("18/10/2026"))
+                .hasMessage("Invoice Date must be a date in the form yyyy-MM-dd");
+        assertThatThrownBy(() -> ImportColumn.enumeration("Type", "item_type", ItemType.class).parse("bundle"))
+                .hasMessage("Type must be one of [PRODUCT, SERVICE, GOODS]");
+    }
+}
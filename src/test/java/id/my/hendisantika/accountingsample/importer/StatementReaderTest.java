@@ -0,0 +1,174 @@
+package id.my.hendisantika.accountingsample.importer;
+
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Statement Reader Tests")
+class StatementReaderTest {
+
+    @Test
+    @DisplayName("Should read a signed Amount column or net Debit and Credit columns")
+    void csv_AmountOrDebitCredit() throws IOException {
+        assertThat(readAll(new CsvStatementReader(in("""
+                Date,Description,Amount,Reference
+                2025-01-10,Coffee,-12.50,R-1
+
+                2025-01-11,Salary,2000,
+                """)))).containsExactly(
+                new StatementLine(LocalDate.of(2025, 1, 10), new BigDecimal("-12.50"), "R-1", "Coffee"),
+                new StatementLine(LocalDate.of(2025, 1, 11), new BigDecimal("2000"), null, "Salary"));
+
+        assertThat(readAll(new CsvStatementReader(in("""
+                date,debit,credit
+                2025-01-10,12.50,
+                2025-01-11,-3,
+                2025-01-12,,40
+                """)))).extracting(StatementLine::amount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("-12.50"), new BigDecimal("-3"), new BigDecimal("40"));
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV statement without amounts or with a bad row")
+    void csv_Invalid_Throws() throws IOException {
+        assertThatThrownBy(() -> new CsvStatementReader(in("Date,Description\n2025-01-10,Coffee\n")))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("The statement file has no Amount column and no Debit or Credit column");
+
+        StatementReader reader = new CsvStatementReader(in("Date,Amount\n2025-01-10,1\n10/01/2025,2\n"));
+        reader.next();
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Row 3: Date must be a date in the form yyyy-MM-dd");
+    }
+
+    @Test
+    @DisplayName("Should read OFX 1 SGML without end tags on values")
+    void ofx_Sgml() throws IOException {
+        List<StatementLine> lines = readAll(new OfxStatementReader(in("""
+                OFXHEADER:100
+                DATA:OFXSGML
+                VERSION:102
+
+                <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                <DTSTART>20250101
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20250110120000[-5:EST]
+                <TRNAMT>-12.50
+                <FITID>2025011001
+                <NAME>Coffee &amp; Co
+                <MEMO>Card 1234
+                </STMTTRN>
+                <STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20250111<TRNAMT>100,00<FITID>2025011101<NAME>Salary</STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+                """)));
+
+        assertThat(lines).containsExactly(
+                new StatementLine(LocalDate.of(2025, 1, 10), new BigDecimal("-12.50"), "2025011001",
+                        "Coffee & Co Card 1234"),
+                new StatementLine(LocalDate.of(2025, 1, 11), new BigDecimal("100.00"), "2025011101", "Salary"));
+    }
+
+    @Test
+    @DisplayName("Should read OFX 2 XML and report a transaction without an amount")
+    void ofx_Xml() throws IOException {
+        assertThat(readAll(new OfxStatementReader(in("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <?OFX OFXHEADER="200" VERSION="220"?>
+                <OFX><STMTTRN><TRNTYPE>DEBIT</TRNTYPE><DTPOSTED>20250112</DTPOSTED><TRNAMT>-5</TRNAMT>
+                <FITID>X-1</FITID><MEMO>Fee</MEMO></STMTTRN></OFX>
+                """)))).containsExactly(
+                new StatementLine(LocalDate.of(2025, 1, 12), new BigDecimal("-5"), "X-1", "Fee"));
+
+        StatementReader reader = new OfxStatementReader(in(
+                "<OFX><STMTTRN><DTPOSTED>20250112</DTPOSTED><FITID>X-2</FITID></STMTTRN></OFX>"));
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Transaction 1: TRNAMT is missing");
+    }
+
+    @Test
+    @DisplayName("Should read booked CAMT.053 entries with their sign and reference and skip pending ones")
+    void camt053_BookedEntries() throws IOException {
+        List<StatementLine> lines = readAll(new Camt053StatementReader(in("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <Document xmlns="urn:iso:std:iso:20022:tech:xsd:camt.053.001.08">
+                  <BkToCstmrStmt><Stmt>
+                    <Bal><Amt Ccy="EUR">1000.00</Amt><CdtDbtInd>CRDT</CdtDbtInd><Dt><Dt>2025-01-01</Dt></Dt></Bal>
+                    <Ntry>
+                      <NtryRef>N-1</NtryRef>
+                      <Amt Ccy="EUR">250.00</Amt>
+                      <CdtDbtInd>DBIT</CdtDbtInd>
+                      <Sts><Cd>BOOK</Cd></Sts>
+                      <BookgDt><Dt>2025-01-02</Dt></BookgDt>
+                      <ValDt><Dt>2025-01-03</Dt></ValDt>
+                      <AcctSvcrRef>BANK-REF-1</AcctSvcrRef>
+                      <NtryDtls><TxDtls>
+                        <Refs><EndToEndId>E2E-1</EndToEndId></Refs>
+                        <AmtDtls><InstdAmt><Amt Ccy="EUR">250.00</Amt></InstdAmt></AmtDtls>
+                        <RmtInf><Ustrd>Invoice 7</Ustrd></RmtInf>
+                      </TxDtls></NtryDtls>
+                    </Ntry>
+                    <Ntry>
+                      <Amt Ccy="EUR">9.00</Amt><CdtDbtInd>CRDT</CdtDbtInd><Sts><Cd>PDNG</Cd></Sts>
+                      <BookgDt><Dt>2025-01-04</Dt></BookgDt>
+                    </Ntry>
+                    <Ntry>
+                      <Amt Ccy="EUR">30.00</Amt><CdtDbtInd>CRDT</CdtDbtInd><Sts><Cd>BOOK</Cd></Sts>
+                      <BookgDt><DtTm>2025-01-05T10:00:00</DtTm></BookgDt>
+                      <NtryDtls><TxDtls><Refs><EndToEndId>E2E-2</EndToEndId></Refs></TxDtls></NtryDtls>
+                      <AddtlNtryInf>Transfer</AddtlNtryInf>
+                    </Ntry>
+                  </Stmt></BkToCstmrStmt>
+                </Document>
+                """)));
+
+        assertThat(lines).containsExactly(
+                new StatementLine(LocalDate.of(2025, 1, 2), new BigDecimal("-250.00"), "BANK-REF-1", "Invoice 7"),
+                new StatementLine(LocalDate.of(2025, 1, 5), new BigDecimal("30.00"), "E2E-2", "Transfer"));
+    }
+
+    @Test
+    @DisplayName("Should refuse a CAMT.053 file that declares a DTD")
+    void camt053_Dtd_Throws() {
+        StatementReader reader = new Camt053StatementReader(in("""
+                <?xml version="1.0"?>
+                <!DOCTYPE Document [<!ENTITY secret SYSTEM "file:///etc/passwd">]>
+                <Document><Ntry><Amt>1</Amt><CdtDbtInd>CRDT</CdtDbtInd>
+                <BookgDt><Dt>2025-01-02</Dt></BookgDt><AddtlNtryInf>&secret;</AddtlNtryInf></Ntry></Document>
+                """));
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(BusinessException.class)
+                .hasMessageStartingWith("Could not read the statement file");
+    }
+
+    private static List<StatementLine> readAll(StatementReader reader) throws IOException {
+        List<StatementLine> lines = new ArrayList<>();
+        try (reader) {
+            StatementLine line;
+            while ((line = reader.next()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private static InputStream in(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,192 @@
+package id.my.hendisantika.accountingsample.integration;
+
+import id.my.hendisantika.accountingsample.dto.bank.BankAccountRequest;
+import id.my.hendisantika.accountingsample.dto.bank.BankAccountResponse;
+import id.my.hendisantika.accountingsample.dto.bank.BankStatementImportResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.model.Account;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.User;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.CashFlowActivity;
+import id.my.hendisantika.accountingsample.model.enums.StatementFormat;
+import id.my.hendisantika.accountingsample.repository.AccountRepository;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.service.BankAccountService;
+import id.my.hendisantika.accountingsample.service.BankStatementService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+@DisplayName("Bank Statement Import Integration Tests")
+class BankStatementImportIntegrationTest extends BaseIntegrationTest {
+
+    private static final int BENCHMARK_DAYS = 365;
+    private static final int BENCHMARK_LINES_PER_DAY = 300;
+
+    @Autowired
+    private BankAccountService bankAccountService;
+
+    @Autowired
+    private BankStatementService bankStatementService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Account cash;
+    private BankAccountResponse bankAccount;
+
+    @BeforeEach
+    void setUp() {
+        Organization organization = organizationRepository.save(Organization.builder()
+                .name("Bank Statement Org")
+                .email("bank-statement-" + System.nanoTime() + "@example.com")
+                .build());
+        cash = accountRepository.save(Account.builder()
+                .organization(organization)
+                .code("1010")
+                .name("Operating Account")
+                .accountType(AccountType.ASSET)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                User.builder().organization(organization).build(), null, List.of()));
+
+        BankAccountRequest request = new BankAccountRequest();
+        request.setAccountId(cash.getId());
+        request.setAccountName("Operating");
+        request.setOpeningBalance(new BigDecimal("1000.00"));
+        bankAccount = bankAccountService.createBankAccount(request);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should mark the linked account as cash and start the balance at the opening balance")
+    void createBankAccount_LinksCashAccount() {
+        assertThat(bankAccount.getCurrentBalance()).isEqualByComparingTo("1000.00");
+        assertThat(bankAccount.getCurrency()).isEqualTo("USD");
+        assertThat(accountRepository.findById(cash.getId()).orElseThrow().getCashFlowActivity())
+                .isEqualTo(CashFlowActivity.CASH);
+    }
+
+    @Test
+    @DisplayName("Should keep identical lines of one statement and skip the lines of an overlapping statement")
+    void importStatement_Overlapping_SkipsDuplicates() {
+        BankStatementImportResponse first = bankStatementService.importStatement(bankAccount.getId(), statement("""
+                Date,Amount,Reference,Description
+                2025-01-10,-4.50,,Coffee
+                2025-01-10,-4.50,,Coffee
+                2025-01-11,250.00,INV-7,Customer payment
+                """), "january.csv", null);
+
+        assertThat(first.getImportedLines()).isEqualTo(3);
+        assertThat(first.getImportedAmount()).isEqualByComparingTo("241.00");
+        assertThat(first.getCurrentBalance()).isEqualByComparingTo("1241.00");
+
+        BankStatementImportResponse second = bankStatementService.importStatement(bankAccount.getId(), statement("""
+                Date,Debit,Credit,Reference,Description
+                2025-01-10,4.50,,,Coffee
+                2025-01-10,4.50,,,Coffee
+                2025-01-11,,250.00,INV-7,Customer payment
+                2025-01-12,100.00,,RENT-1,Rent
+                """), "january-to-date.csv", null);
+
+        assertThat(second.getTotalLines()).isEqualTo(4);
+        assertThat(second.getImportedLines()).isEqualTo(1);
+        assertThat(second.getDuplicateLines()).isEqualTo(3);
+        assertThat(second.getFromDate()).isEqualTo(LocalDate.of(2025, 1, 10));
+        assertThat(second.getToDate()).isEqualTo(LocalDate.of(2025, 1, 12));
+        assertThat(second.getCurrentBalance()).isEqualByComparingTo("1141.00");
+
+        assertThat(jdbcTemplate.queryForList("SELECT transaction_type || ' ' || amount FROM bank_transactions " +
+                        "WHERE bank_account_id = ? ORDER BY transaction_date, id", String.class, bankAccount.getId()))
+                .containsExactly("DEBIT 4.5000", "DEBIT 4.5000", "CREDIT 250.0000", "DEBIT 100.0000");
+    }
+
+    @Test
+    @DisplayName("Should tell OFX from the file name and reject a file whose format cannot be told")
+    void importStatement_FormatFromFileName() {
+        BankStatementImportResponse result = bankStatementService.importStatement(bankAccount.getId(), statement("""
+                <OFX><BANKTRANLIST>
+                <STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20250110<TRNAMT>-20.00<FITID>F-1<NAME>Fuel</STMTTRN>
+                </BANKTRANLIST></OFX>
+                """), "statement.OFX", null);
+
+        assertThat(result.getFormat()).isEqualTo(StatementFormat.OFX);
+        assertThat(result.getCurrentBalance()).isEqualByComparingTo("980.00");
+
+        assertThatThrownBy(() -> bankStatementService.importStatement(bankAccount.getId(), statement(""),
+                "statement.txt", null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageStartingWith("Cannot tell the statement format");
+    }
+
+    @Test
+    @DisplayName("Should import a year of a busy account's transactions, skip all of them again and report the timing")
+    void importStatement_Benchmark_ReportsTiming() {
+        StringBuilder file = new StringBuilder("Date,Amount,Reference,Description\n");
+        BigDecimal expected = new BigDecimal("1000.00");
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        for (int day = 0; day < BENCHMARK_DAYS; day++) {
+            LocalDate date = start.plusDays(day);
+            for (int n = 0; n < BENCHMARK_LINES_PER_DAY; n++) {
+                BigDecimal amount = BigDecimal.valueOf((n % 7 == 0 ? 1 : -1) * (100 + n * 37L % 5000), 2);
+                expected = expected.add(amount);
+                file.append(date).append(',').append(amount.toPlainString()).append(",TX-").append(day)
+                        .append('-').append(n).append(",Card payment ").append(n).append('\n');
+            }
+        }
+        byte[] bytes = file.toString().getBytes(StandardCharsets.UTF_8);
+        int lines = BENCHMARK_DAYS * BENCHMARK_LINES_PER_DAY;
+
+        long startedAt = System.nanoTime();
+        BankStatementImportResponse first = bankStatementService.importStatement(bankAccount.getId(),
+                new ByteArrayInputStream(bytes), "year.csv", null);
+        long importMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        startedAt = System.nanoTime();
+        BankStatementImportResponse again = bankStatementService.importStatement(bankAccount.getId(),
+                new ByteArrayInputStream(bytes), "year.csv", null);
+        long reimportMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        log.info("Imported {} statement lines ({} KB) in {} ms, imported them again in {} ms",
+                first.getImportedLines(), bytes.length / 1024, importMillis, reimportMillis);
+
+        assertThat(first.getImportedLines()).isEqualTo(lines);
+        assertThat(first.getCurrentBalance()).isEqualByComparingTo(expected);
+        assertThat(again.getImportedLines()).isZero();
+        assertThat(again.getDuplicateLines()).isEqualTo(lines);
+        assertThat(again.getCurrentBalance()).isEqualByComparingTo(expected);
+    }
+
+    private static InputStream statement(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,192 @@
+package id.my.hendisantika.accountingsample.integration;
+
+import id.my.hendisantika.accountingsample.dto.importer.ImportResultResponse;
+import id.my.hendisantika.accountingsample.model.Customer;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.User;
+import id.my.hendisantika.accountingsample.repository.CustomerRepository;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.service.ImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Slf4j
+@DisplayName("Bulk Import Integration Tests")
+class BulkImportIntegrationTest extends BaseIntegrationTest {
+
+    private static final int BENCHMARK_ROWS = 100_000;
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Organization organization;
+
+    @BeforeEach
+    void setUp() {
+        organization = organizationRepository.save(Organization.builder()
+                .name("Bulk Import Org")
+                .email("bulk-import-" + System.nanoTime() + "@example.com")
+                .build());
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                User.builder().organization(organization).build(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should import the valid rows and report every other row with its reason")
+    void importCustomers_ReportsInvalidRows() {
+        customerRepository.save(Customer.builder()
+                .organization(organization)
+                .customerCode("C-EXISTS")
+                .name("Existing Customer")
+                .email("existing@example.com")
+                .build());
+
+        ImportResultResponse result = importService.importCustomers(csv("""
+                Customer Code,Name,Email,Payment Terms,Credit Limit,Active,Notes
+                C-1,"Acme, Inc.",billing@acme.com,30,5000.50,yes,"Says ""hi"""
+                C-2,,no-name@example.com,,,,
+                C-3,Bad Email,not-an-email,30 days,,,
+                C-1,Repeated,repeat@example.com,,,,
+                C-EXISTS,Existing Again,again@example.com,,,,
+                C-4,Globex,ap@globex.com,,,false,
+                """));
+
+        assertThat(result.getTotalRows()).isEqualTo(6);
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getFailedRows()).isEqualTo(4);
+        assertThat(result.getErrors())
+                .extracting(ImportResultResponse.ImportRowError::getRowNumber,
+                        ImportResultResponse.ImportRowError::getColumn)
+                .containsExactly(
+                        tuple(3, "Name"),
+                        tuple(4, "Email"),
+                        tuple(4, "Payment Terms"),
+                        tuple(5, "Customer Code"),
+                        tuple(6, "Customer Code"));
+        assertThat(result.getErrors().get(3).getMessage()).isEqualTo("Customer Code C-1 is repeated from row 2");
+
+        Customer acme = customerRepository.findByOrganizationId(organization.getId()).stream()
+                .filter(customer -> "C-1".equals(customer.getCustomerCode()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(acme.getName()).isEqualTo("Acme, Inc.");
+        assertThat(acme.getNotes()).isEqualTo("Says \"hi\"");
+        assertThat(acme.getCreditLimit()).isEqualByComparingTo("5000.50");
+        assertThat(acme.getIsActive()).isTrue();
+        assertThat(acme.getOutstandingBalance()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("Should reject emails the organization already has or the file repeats, like the manual API")
+    void importCustomersAndVendors_DuplicateEmails_ReportsRows() {
+        customerRepository.save(Customer.builder()
+                .organization(organization)
+                .customerCode("C-EXISTS")
+                .name("Existing Customer")
+                .email("existing@example.com")
+                .build());
+
+        ImportResultResponse customers = importService.importCustomers(csv("""
+                Customer Code,Name,Email
+                C-1,Acme,existing@example.com
+                C-2,Globex,ap@globex.com
+                C-3,Globex Again,ap@globex.com
+                """));
+        ImportResultResponse vendors = importService.importVendors(csv("""
+                Vendor Code,Name,Email
+                V-1,Initech,existing@example.com
+                V-2,Initrode,sales@initrode.com
+                V-3,Initrode Again,sales@initrode.com
+                """));
+
+        assertThat(customers.getImportedRows()).isEqualTo(1);
+        assertThat(customers.getErrors())
+                .extracting(ImportResultResponse.ImportRowError::getRowNumber,
+                        ImportResultResponse.ImportRowError::getMessage)
+                .containsExactly(
+                        tuple(2, "Customer with Email existing@example.com already exists"),
+                        tuple(4, "Email ap@globex.com is repeated from row 3"));
+        // Vendors only clash with other vendors
+        assertThat(vendors.getImportedRows()).isEqualTo(2);
+        assertThat(vendors.getErrors())
+                .extracting(ImportResultResponse.ImportRowError::getRowNumber,
+                        ImportResultResponse.ImportRowError::getMessage)
+                .containsExactly(tuple(4, "Email sales@initrode.com is repeated from row 3"));
+    }
+
+    @Test
+    @DisplayName("Should import items with their type and inventory flags")
+    void importItems_ParsesTypedColumns() {
+        ImportResultResponse result = importService.importItems(csv("""
+                Item Code,Name,SKU,Type,Sale Price,Track Inventory
+                I-1,Widget,WID-1,product,12.50,true
+                I-2,Consulting,CON-1,service,150,
+                I-3,Gadget,GAD-1,bundle,10,
+                """));
+
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getColumn()).isEqualTo("Type"));
+        assertThat(jdbcTemplate.queryForList("SELECT item_type FROM items WHERE organization_id = ? " +
+                "ORDER BY item_code", String.class, organization.getId())).containsExactly("PRODUCT", "SERVICE");
+    }
+
+    @Test
+    @DisplayName("Should import a hundred thousand customers and report the timing")
+    void importCustomers_HundredThousandRows_ReportsTiming() {
+        StringBuilder file = new StringBuilder("Customer Code,Name,Company,Email,Phone,Payment Terms,Credit Limit," +
+                "Billing City,Billing Country\n");
+        for (int i = 1; i <= BENCHMARK_ROWS; i++) {
+            file.append("BULK-").append(i).append(",Customer ").append(i).append(",Company ").append(i % 1000)
+                    .append(",customer").append(i).append("@example.com,+62 21 555 ").append(i % 10_000)
+                    .append(',').append(30).append(',').append(1000 + i % 50_000).append(".00")
+                    .append(",Jakarta,Indonesia\n");
+        }
+        byte[] bytes = file.toString().getBytes(StandardCharsets.UTF_8);
+
+        long startedAt = System.nanoTime();
+        ImportResultResponse result = importService.importCustomers(new ByteArrayInputStream(bytes));
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("Imported {} customers ({} KB) in {} ms", result.getImportedRows(), bytes.length / 1024, millis);
+
+        assertThat(result.getImportedRows()).isEqualTo(BENCHMARK_ROWS);
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customers WHERE organization_id = ?",
+                Long.class, organization.getId())).isEqualTo(BENCHMARK_ROWS);
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
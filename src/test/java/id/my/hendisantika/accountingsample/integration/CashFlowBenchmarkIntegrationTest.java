@@ -0,0 +1,159 @@
+package id.my.hendisantika.accountingsample.integration;
+
+import id.my.hendisantika.accountingsample.dto.report.CashFlowResponse;
+import id.my.hendisantika.accountingsample.model.Account;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.User;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.CashFlowActivity;
+import id.my.hendisantika.accountingsample.repository.AccountRepository;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.service.ReportService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("Cash Flow Benchmark Integration Tests")
+class CashFlowBenchmarkIntegrationTest extends BaseIntegrationTest {
+
+    private static final int ENTRIES = 120_000;
+    private static final LocalDate LEDGER_START = LocalDate.of(2023, 1, 1);
+    private static final int LEDGER_DAYS = 1096;
+    private static final int RUNS = 5;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Organization organization;
+    private Account cash;
+
+    @BeforeEach
+    void setUp() {
+        organization = organizationRepository.save(Organization.builder()
+                .name("Cash Flow Benchmark Org")
+                .email("cash-flow-" + System.nanoTime() + "@example.com")
+                .build());
+
+        cash = account("1000", "Cash", AccountType.ASSET, CashFlowActivity.CASH);
+        Account receivable = account("1200", "Accounts Receivable", AccountType.ASSET, null);
+        Account equipment = account("1500", "Equipment", AccountType.ASSET, CashFlowActivity.INVESTING);
+        Account loan = account("2500", "Long-term Loan", AccountType.LIABILITY, CashFlowActivity.FINANCING);
+        Account sales = account("4000", "Sales", AccountType.REVENUE, null);
+        Account rent = account("5200", "Rent", AccountType.EXPENSE, null);
+
+        generateLedger(List.of(
+                // debit account, credit account, amount
+                new Object[]{receivable.getId(), sales.getId(), "100.00"},
+                new Object[]{cash.getId(), receivable.getId(), "60.00"},
+                new Object[]{rent.getId(), cash.getId(), "30.00"},
+                new Object[]{equipment.getId(), cash.getId(), "10.00"},
+                new Object[]{cash.getId(), loan.getId(), "5.00"}));
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                User.builder().organization(organization).build(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should reconcile a multi-year ledger to the cash account and report the timing")
+    void getCashFlow_MultiYearLedger_ReconcilesToCash() {
+        LocalDate from = LocalDate.of(2023, 3, 15);
+        LocalDate to = LocalDate.of(2025, 11, 20);
+
+        CashFlowResponse response = null;
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long startedAt = System.nanoTime();
+            response = reportService.getCashFlow(from, to);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - startedAt);
+        }
+
+        assertThat(response.getNetChangeInCash()).isEqualByComparingTo(cashMovement(from, to));
+        assertThat(response.getOpeningCash()).isEqualByComparingTo(cashMovement(LEDGER_START, from.minusDays(1)));
+        assertThat(response.getClosingCash()).isEqualByComparingTo(cashMovement(LEDGER_START, to));
+        assertThat(response.getNetCashFromInvesting().signum()).isNegative();
+        assertThat(response.getNetCashFromFinancing().signum()).isPositive();
+
+        log.info("Cash flow over {} journal lines: best of {} runs {} ms",
+                ENTRIES * 2, RUNS, TimeUnit.NANOSECONDS.toMillis(bestNanos));
+    }
+
+    private Account account(String code, String name, AccountType accountType, CashFlowActivity activity) {
+        return accountRepository.save(Account.builder()
+                .organization(organization)
+                .code(code)
+                .name(name)
+                .accountType(accountType)
+                .cashFlowActivity(activity)
+                .build());
+    }
+
+    /**
+     * Spreads posted two-line entries evenly over three years, cycling through the given postings, and
+     * builds the period balances the same way the V9 migration backfills them
+     */
+    private void generateLedger(List<Object[]> postings) {
+        Long orgId = organization.getId();
+        jdbcTemplate.update("INSERT INTO journal_entries (organization_id, journal_number, journal_date, status) " +
+                        "SELECT ?, 'BENCH-' || g, CAST(? AS DATE) + (g % ?), 'POSTED' FROM generate_series(1, ?) g",
+                orgId, Date.valueOf(LEDGER_START), LEDGER_DAYS, ENTRIES);
+
+        for (int i = 0; i < postings.size(); i++) {
+            Object[] posting = postings.get(i);
+            BigDecimal amount = new BigDecimal((String) posting[2]);
+            jdbcTemplate.update("INSERT INTO journal_entry_lines " +
+                            "(journal_entry_id, account_id, debit_amount, credit_amount) " +
+                            "SELECT e.id, ?, ?, 0 FROM journal_entries e " +
+                            "WHERE e.organization_id = ? AND e.id % ? = ? " +
+                            "UNION ALL " +
+                            "SELECT e.id, ?, 0, ? FROM journal_entries e " +
+                            "WHERE e.organization_id = ? AND e.id % ? = ?",
+                    posting[0], amount, orgId, postings.size(), i,
+                    posting[1], amount, orgId, postings.size(), i);
+        }
+
+        jdbcTemplate.update("INSERT INTO account_period_balances " +
+                "(organization_id, account_id, period_start, debit_total, credit_total) " +
+                "SELECT e.organization_id, l.account_id, DATE_TRUNC('month', e.journal_date)::DATE, " +
+                "SUM(l.debit_amount), SUM(l.credit_amount) " +
+                "FROM journal_entry_lines l JOIN journal_entries e ON e.id = l.journal_entry_id " +
+                "WHERE e.organization_id = ? " +
+                "GROUP BY e.organization_id, l.account_id, DATE_TRUNC('month', e.journal_date)", orgId);
+        jdbcTemplate.execute("ANALYZE journal_entries; ANALYZE journal_entry_lines; ANALYZE account_period_balances");
+    }
+
+    private BigDecimal cashMovement(LocalDate from, LocalDate to) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(l.debit_amount - l.credit_amount), 0) " +
+                        "FROM journal_entry_lines l JOIN journal_entries e ON e.id = l.journal_entry_id " +
+                        "WHERE e.organization_id = ? AND l.account_id = ? AND e.journal_date BETWEEN ? AND ?",
+                BigDecimal.class, organization.getId(), cash.getId(), Date.valueOf(from), Date.valueOf(to));
+    }
+}
@@ -0,0 +1,178 @@
+package id.my.hendisantika.accountingsample.integration;
+
+import id.my.hendisantika.accountingsample.dto.payment.PaymentRequest;
+import id.my.hendisantika.accountingsample.model.Account;
+import id.my.hendisantika.accountingsample.model.Customer;
+import id.my.hendisantika.accountingsample.model.Invoice;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.User;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.InvoiceStatus;
+import id.my.hendisantika.accountingsample.model.enums.PaymentMethod;
+import id.my.hendisantika.accountingsample.repository.AccountRepository;
+import id.my.hendisantika.accountingsample.repository.CustomerRepository;
+import id.my.hendisantika.accountingsample.repository.InvoiceRepository;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.service.PaymentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Concurrent Payment Integration Tests")
+class ConcurrentPaymentIntegrationTest extends BaseIntegrationTest {
+
+    private static final int PAYMENTS = 50;
+    private static final BigDecimal AMOUNT = new BigDecimal("10.00");
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    private Organization organization;
+    private Account cash;
+    private Customer customer;
+    private List<Invoice> invoices;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        organization = organizationRepository.save(Organization.builder()
+                .name("Concurrent Payment Org")
+                .email("concurrent-payment-" + suffix + "@example.com")
+                .build());
+
+        cash = accountRepository.save(Account.builder()
+                .organization(organization)
+                .code("1000")
+                .name("Cash")
+                .accountType(AccountType.ASSET)
+                .build());
+
+        customer = customerRepository.save(Customer.builder()
+                .organization(organization)
+                .customerCode("C-" + suffix)
+                .name("Busy Customer")
+                .email("busy-" + suffix + "@example.com")
+                .outstandingBalance(AMOUNT.multiply(BigDecimal.valueOf(PAYMENTS)))
+                .build());
+
+        invoices = new ArrayList<>();
+        for (int i = 0; i < PAYMENTS; i++) {
+            invoices.add(invoiceRepository.save(Invoice.builder()
+                    .organization(organization)
+                    .customer(customer)
+                    .invoiceNumber("INV-" + suffix + "-" + i)
+                    .invoiceDate(LocalDate.now())
+                    .dueDate(LocalDate.now().plusDays(30))
+                    .status(InvoiceStatus.SENT)
+                    .totalAmount(AMOUNT)
+                    .balance(AMOUNT)
+                    .build()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply every parallel payment to the customer balance")
+    void recordInvoicePayment_ParallelPaymentsForOneCustomer_NoLostUpdates() throws Exception {
+        User principal = User.builder().organization(organization).build();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Invoice invoice : invoices) {
+                futures.add(executor.submit(() -> {
+                    SecurityContextHolder.getContext().setAuthentication(
+                            new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+                    try {
+                        start.await();
+                        paymentService.recordInvoicePayment(paymentFor(invoice));
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Customer reloaded = customerRepository.findById(customer.getId()).orElseThrow();
+        assertThat(reloaded.getOutstandingBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(reloaded.getVersion()).isEqualTo(customer.getVersion() + PAYMENTS);
+    }
+
+    @Test
+    @DisplayName("Should apply every parallel payment to the invoice balance")
+    void recordInvoicePayment_ParallelPaymentsForOneInvoice_NoLostUpdates() throws Exception {
+        User principal = User.builder().organization(organization).build();
+        Invoice invoice = invoices.getFirst();
+        BigDecimal part = AMOUNT.divide(BigDecimal.valueOf(PAYMENTS));
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < PAYMENTS; i++) {
+                futures.add(executor.submit(() -> {
+                    SecurityContextHolder.getContext().setAuthentication(
+                            new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+                    try {
+                        start.await();
+                        paymentService.recordInvoicePayment(paymentFor(invoice, part));
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Invoice reloaded = invoiceRepository.findById(invoice.getId()).orElseThrow();
+        assertThat(reloaded.getPaidAmount()).isEqualByComparingTo(AMOUNT);
+        assertThat(reloaded.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    private PaymentRequest paymentFor(Invoice invoice) {
+        return paymentFor(invoice, AMOUNT);
+    }
+
+    private PaymentRequest paymentFor(Invoice invoice, BigDecimal amount) {
+        PaymentRequest request = new PaymentRequest();
+        request.setInvoiceId(invoice.getId());
+        request.setAccountId(cash.getId());
+        request.setPaymentDate(LocalDate.now());
+        request.setAmount(amount);
+        request.setPaymentMethod(PaymentMethod.BANK_TRANSFER);
+        return request;
+    }
+}
@@ -0,0 +1,270 @@
+package id.my.hendisantika.accountingsample.integration;
+
+import id.my.hendisantika.accountingsample.dto.importer.DocumentImportResponse;
+import id.my.hendisantika.accountingsample.dto.importer.ImportResultResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.User;
+import id.my.hendisantika.accountingsample.model.enums.DocumentImportStatus;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.repository.UserRepository;
+import id.my.hendisantika.accountingsample.service.DocumentImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Slf4j
+@DisplayName("Document Import Integration Tests")
+class DocumentImportIntegrationTest extends BaseIntegrationTest {
+
+    private static final String INVOICE_HEADER = "Invoice Number,Customer Code,Invoice Date,Due Date,Status," +
+            "Paid Amount,Item Code,Description,Quantity,Unit Price,Discount,Tax Rate\n";
+    private static final int BENCHMARK_INVOICES = 20_000;
+    private static final int BENCHMARK_LINES = 5;
+
+    @Autowired
+    private DocumentImportService documentImportService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Organization organization;
+
+    @BeforeEach
+    void setUp() {
+        organization = organizationRepository.save(Organization.builder()
+                .name("Document Import Org")
+                .email("document-import-" + System.nanoTime() + "@example.com")
+                .build());
+        User user = userRepository.save(User.builder()
+                .organization(organization)
+                .email("importer-" + System.nanoTime() + "@example.com")
+                .passwordHash("not-used")
+                .firstName("Import")
+                .lastName("User")
+                .build());
+
+        Long orgId = organization.getId();
+        jdbcTemplate.update("INSERT INTO customers (organization_id, customer_code, display_name, email) " +
+                "SELECT ?, 'C-' || g, 'Customer ' || g, 'customer' || g || '@example.com' " +
+                "FROM generate_series(1, 50) g", orgId);
+        jdbcTemplate.update("INSERT INTO vendors (organization_id, vendor_code, display_name, email) " +
+                "VALUES (?, 'V-1', 'Vendor 1', 'vendor1@example.com')", orgId);
+        jdbcTemplate.update("INSERT INTO items (organization_id, item_code, item_name, sales_price) " +
+                "SELECT ?, 'I-' || g, 'Item ' || g, 10 FROM generate_series(1, 20) g", orgId);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(documentImportService, "chunkSize", 1000);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should group rows into invoices, total them like entered invoices and report bad documents")
+    void importInvoices_ComputesTotalsAndReportsErrors() {
+        DocumentImportResponse result = documentImportService.importInvoices(csv(INVOICE_HEADER + """
+                INV-1,C-1,2025-01-10,2025-02-09,SENT,50,I-1,Widgets,2,100,10,10
+                INV-1,C-1,2025-01-10,2025-02-09,SENT,50,I-2,,1,50,,
+                INV-2,C-404,2025-01-11,2025-02-10,,,I-1,,1,10,,
+                INV-3,C-1,2025-01-12,2025-02-11,,,I-404,,1,10,,
+                INV-4,C-1,2025-01-12,2025-02-11,,,I-1,,abc,10,,
+                INV-5,C-2,2025-01-13,2025-02-12,DRAFT,,I-2,,3,20,,
+                """), "invoices.csv", null);
+
+        assertThat(result.getStatus()).isEqualTo(DocumentImportStatus.COMPLETED);
+        assertThat(result.getCheckpointRow()).isEqualTo(7);
+        assertThat(result.getImportedDocuments()).isEqualTo(2);
+        assertThat(result.getImportedLines()).isEqualTo(3);
+        assertThat(result.getFailedDocuments()).isEqualTo(3);
+        assertThat(result.getErrors())
+                .extracting(ImportResultResponse.ImportRowError::getRowNumber,
+                        ImportResultResponse.ImportRowError::getColumn,
+                        ImportResultResponse.ImportRowError::getMessage)
+                .containsExactly(
+                        tuple(4, "Customer Code", "Customer C-404 not found"),
+                        tuple(5, "Item Code", "Item I-404 not found"),
+                        tuple(6, "Quantity", "Quantity must be a number"));
+
+        Map<String, Object> invoice = jdbcTemplate.queryForMap("SELECT subtotal, tax_amount, total_amount, " +
+                        "balance_amount FROM invoices WHERE organization_id = ? AND invoice_number = 'INV-1'",
+                organization.getId());
+        assertThat((BigDecimal) invoice.get("subtotal")).isEqualByComparingTo("240.00");
+        assertThat((BigDecimal) invoice.get("tax_amount")).isEqualByComparingTo("19.00");
+        assertThat((BigDecimal) invoice.get("total_amount")).isEqualByComparingTo("259.00");
+        assertThat((BigDecimal) invoice.get("balance_amount")).isEqualByComparingTo("209.00");
+        assertThat(jdbcTemplate.queryForList("SELECT l.description FROM invoice_items l " +
+                        "JOIN invoices i ON i.id = l.invoice_id WHERE i.organization_id = ? " +
+                        "AND i.invoice_number = 'INV-1' ORDER BY l.line_order", String.class, organization.getId()))
+                .containsExactly("Widgets", "Item 2");
+
+        // Only the sent invoice is open, so only it is aged
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(days_over_120) FROM aging_balances " +
+                "WHERE organization_id = ?", BigDecimal.class, organization.getId())).isEqualByComparingTo("209.00");
+    }
+
+    @Test
+    @DisplayName("Should reject negative amounts and paid amounts that do not fit the invoice total")
+    void importInvoices_InvalidAmounts_ReportsErrors() {
+        DocumentImportResponse result = documentImportService.importInvoices(csv(INVOICE_HEADER + """
+                INV-1,C-1,2025-01-10,2025-02-09,SENT,,I-1,,-1,10,,
+                INV-2,C-1,2025-01-10,2025-02-09,SENT,,I-1,,1,-10,-1,-5
+                INV-3,C-1,2025-01-10,2025-02-09,SENT,-5,I-1,,1,100,,
+                INV-4,C-1,2025-01-10,2025-02-09,SENT,200,I-1,,1,100,,
+                INV-5,C-1,2025-01-10,2025-02-09,PAID,50,I-1,,1,100,,
+                INV-6,C-1,2025-01-10,2025-02-09,PAID,110,I-1,,1,100,,10
+                """), "invoices.csv", null);
+
+        assertThat(result.getImportedDocuments()).isEqualTo(1);
+        assertThat(result.getErrors())
+                .extracting(ImportResultResponse.ImportRowError::getRowNumber,
+                        ImportResultResponse.ImportRowError::getColumn,
+                        ImportResultResponse.ImportRowError::getMessage)
+                .containsExactly(
+                        tuple(2, "Quantity", "Quantity cannot be negative"),
+                        tuple(3, "Unit Price", "Unit Price cannot be negative"),
+                        tuple(3, "Discount", "Discount cannot be negative"),
+                        tuple(3, "Tax Rate", "Tax Rate cannot be negative"),
+                        tuple(4, "Paid Amount", "Paid Amount cannot be negative"),
+                        tuple(5, "Paid Amount", "Paid Amount cannot be more than the total of 100.00"),
+                        tuple(6, "Status", "A PAID invoice needs a Paid Amount of 100.00"));
+        assertThat(jdbcTemplate.queryForObject("SELECT balance_amount FROM invoices " +
+                "WHERE organization_id = ? AND invoice_number = 'INV-6'", BigDecimal.class, organization.getId()))
+                .isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    @DisplayName("Should apply the bill discount as a percentage and reject a due date before the bill date")
+    void importBills_UsesBillRules() {
+        DocumentImportResponse result = documentImportService.importBills(csv("""
+                Bill Number,Vendor Code,Bill Date,Due Date,Item Code,Quantity,Unit Price,Discount,Tax Rate,Reference
+                B-1,V-1,2025-03-01,2025-03-31,I-1,4,25,10,11,PO-77
+                B-2,V-1,2025-03-05,2025-03-01,I-1,1,10,,,
+                """), "bills.csv", null);
+
+        assertThat(result.getImportedDocuments()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).isEqualTo("Due Date cannot be before Bill Date"));
+        Map<String, Object> bill = jdbcTemplate.queryForMap("SELECT total_amount, reference_number FROM bills " +
+                "WHERE organization_id = ? AND bill_number = 'B-1'", organization.getId());
+        assertThat((BigDecimal) bill.get("total_amount")).isEqualByComparingTo("99.90");
+        assertThat(bill.get("reference_number")).isEqualTo("PO-77");
+
+        assertThatThrownBy(() -> documentImportService.importInvoices(csv(INVOICE_HEADER), "invoices.csv",
+                result.getId()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Import " + result.getId() + " is a bill import");
+    }
+
+    @Test
+    @DisplayName("Should keep the chunks committed before a failure and resume after the checkpoint")
+    void importInvoices_FailurePartWay_ResumesFromCheckpoint() {
+        ReflectionTestUtils.setField(documentImportService, "chunkSize", 2);
+        StringBuilder file = new StringBuilder(INVOICE_HEADER);
+        for (int i = 1; i <= 5; i++) {
+            file.append("INV-").append(i).append(",C-1,2025-01-10,2025-02-09,SENT,,I-1,,1,100,,\n");
+        }
+        byte[] bytes = file.toString().getBytes(StandardCharsets.UTF_8);
+        // The upload breaks off once the fourth invoice has been read
+        int cutOff = file.indexOf("INV-5");
+
+        assertThatThrownBy(() -> documentImportService.importInvoices(failingAfter(bytes, cutOff),
+                "invoices.csv", null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageStartingWith("Could not read the import file");
+
+        Map<String, Object> failed = jdbcTemplate.queryForMap("SELECT id, status, checkpoint_row " +
+                "FROM document_imports WHERE organization_id = ?", organization.getId());
+        assertThat(failed.get("status")).isEqualTo("FAILED");
+        assertThat(failed.get("checkpoint_row")).isEqualTo(3);
+        assertThat(countInvoices()).isEqualTo(2);
+
+        DocumentImportResponse resumed = documentImportService.importInvoices(new ByteArrayInputStream(bytes),
+                "invoices.csv", ((Number) failed.get("id")).longValue());
+
+        assertThat(resumed.getStatus()).isEqualTo(DocumentImportStatus.COMPLETED);
+        assertThat(resumed.getImportedDocuments()).isEqualTo(5);
+        assertThat(resumed.getErrors()).isEmpty();
+        assertThat(countInvoices()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should import twenty thousand invoices of five lines each and report the timing")
+    void importInvoices_Benchmark_ReportsTiming() {
+        StringBuilder file = new StringBuilder(INVOICE_HEADER);
+        for (int i = 1; i <= BENCHMARK_INVOICES; i++) {
+            for (int line = 1; line <= BENCHMARK_LINES; line++) {
+                file.append("BENCH-").append(i).append(",C-").append(1 + i % 50)
+                        .append(",2025-01-10,2025-02-09,SENT,,I-").append(1 + (i + line) % 20)
+                        .append(",,").append(line).append(',').append(10 + line).append(",,11\n");
+            }
+        }
+        byte[] bytes = file.toString().getBytes(StandardCharsets.UTF_8);
+
+        long startedAt = System.nanoTime();
+        DocumentImportResponse result = documentImportService.importInvoices(new ByteArrayInputStream(bytes),
+                "benchmark.csv", null);
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("Imported {} invoices with {} lines ({} KB) in {} ms",
+                result.getImportedDocuments(), result.getImportedLines(), bytes.length / 1024, millis);
+
+        assertThat(result.getImportedDocuments()).isEqualTo(BENCHMARK_INVOICES);
+        assertThat(result.getImportedLines()).isEqualTo(BENCHMARK_INVOICES * BENCHMARK_LINES);
+        assertThat(countInvoices()).isEqualTo(BENCHMARK_INVOICES);
+    }
+
+    private long countInvoices() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM invoices WHERE organization_id = ?",
+                Long.class, organization.getId());
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Serves the first bytes of the content and then fails, like an upload that breaks off
+     */
+    private static InputStream failingAfter(byte[] content, int length) {
+        return new FilterInputStream(new ByteArrayInputStream(content, 0, length)) {
+            @Override
+            public int read(byte[] buffer, int offset, int count) throws IOException {
+                int read = super.read(buffer, offset, count);
+                if (read < 0) {
+                    throw new IOException("Connection reset");
+                }
+                return read;
+            }
+        };
+    }
+}
@@ -0,0 +1,197 @@
+package id.my.hendisantika.accountingsample.integration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import id.my.hendisantika.accountingsample.dto.journal.JournalEntryLineRequest;
+import id.my.hendisantika.accountingsample.dto.journal.JournalEntryRequest;
+import id.my.hendisantika.accountingsample.model.Account;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.User;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.DocumentType;
+import id.my.hendisantika.accountingsample.repository.AccountRepository;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.service.DocumentNumberService;
+import id.my.hendisantika.accountingsample.service.DocumentSequenceAllocator;
+import id.my.hendisantika.accountingsample.service.JournalEntryService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("Document Number Load Integration Tests")
+class DocumentNumberLoadIntegrationTest extends BaseIntegrationTest {
+
+    private static final int CREATES = 1000;
+
+    @Autowired
+    private DocumentNumberService documentNumberService;
+
+    @Autowired
+    private DocumentSequenceAllocator documentSequenceAllocator;
+
+    @Autowired
+    private JournalEntryService journalEntryService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Organization organization;
+    private Account cash;
+    private Account revenue;
+    private Object blockSize;
+
+    @BeforeEach
+    void setUp() {
+        organization = organizationRepository.save(Organization.builder()
+                .name("Sequence Load Org")
+                .email("sequence-load-" + System.nanoTime() + "@example.com")
+                .build());
+        cash = saveAccount("1000", AccountType.ASSET);
+        revenue = saveAccount("4000", AccountType.REVENUE);
+        blockSize = ReflectionTestUtils.getField(documentNumberService, "blockSize");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(documentNumberService, "blockSize", blockSize);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should issue 1000 concurrent numbers across two nodes without collisions")
+    void nextNumber_ConcurrentCreatesOnTwoNodes_NoCollisions() throws Exception {
+        // A second service instance stands in for another application node sharing the database
+        DocumentNumberService otherNode = new DocumentNumberService(documentSequenceAllocator);
+        for (String field : List.of("blockSize", "sequencePadding", "invoiceFormat", "billFormat",
+                "paymentReceivedFormat", "paymentMadeFormat", "journalEntryFormat")) {
+            ReflectionTestUtils.setField(otherNode, field, ReflectionTestUtils.getField(documentNumberService, field));
+        }
+        otherNode.init();
+
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        long startedAt;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CREATES; i++) {
+                DocumentNumberService node = i % 2 == 0 ? documentNumberService : otherNode;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    numbers.add(node.nextNumber(organization.getId(), DocumentType.INVOICE));
+                    return null;
+                }));
+            }
+            startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(numbers).hasSize(CREATES);
+        log.info("Issued {} invoice numbers in {} ms", CREATES, millis);
+    }
+
+    @Test
+    @DisplayName("Should create journal entries in more concurrent transactions than pooled connections")
+    void createJournalEntry_MoreTransactionsThanConnections_DoesNotExhaustPool() throws Exception {
+        // Every create reserves a block of its own while its transaction holds a pooled connection
+        ReflectionTestUtils.setField(documentNumberService, "blockSize", 1);
+        int threads = 4 * ((HikariDataSource) dataSource).getMaximumPoolSize();
+        JournalEntryRequest request = journalEntryRequest(null);
+
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    authenticate();
+                    start.await();
+                    numbers.add(journalEntryService.createJournalEntry(request).getJournalNumber());
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(numbers).hasSize(threads);
+    }
+
+    @Test
+    @DisplayName("Should skip a generated number already given to a document by hand")
+    void createJournalEntry_NumberTakenByHand_SkipsIt() {
+        authenticate();
+        journalEntryService.createJournalEntry(journalEntryRequest("JE-000002"));
+
+        assertThat(journalEntryService.createJournalEntry(journalEntryRequest(null)).getJournalNumber())
+                .isEqualTo("JE-000001");
+        assertThat(journalEntryService.createJournalEntry(journalEntryRequest(null)).getJournalNumber())
+                .isEqualTo("JE-000003");
+    }
+
+    private void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                User.builder().organization(organization).build(), null, List.of()));
+    }
+
+    private JournalEntryRequest journalEntryRequest(String journalNumber) {
+        JournalEntryRequest request = new JournalEntryRequest();
+        request.setJournalNumber(journalNumber);
+        request.setEntryDate(LocalDate.now());
+        request.setLines(List.of(
+                line(cash, new BigDecimal("10.00"), BigDecimal.ZERO, 1),
+                line(revenue, BigDecimal.ZERO, new BigDecimal("10.00"), 2)));
+        return request;
+    }
+
+    private JournalEntryLineRequest line(Account account, BigDecimal debit, BigDecimal credit, int lineOrder) {
+        JournalEntryLineRequest line = new JournalEntryLineRequest();
+        line.setAccountId(account.getId());
+        line.setDebitAmount(debit);
+        line.setCreditAmount(credit);
+        line.setLineOrder(lineOrder);
+        return line;
+    }
+
+    private Account saveAccount(String code, AccountType accountType) {
+        return accountRepository.save(Account.builder()
+                .organization(organization)
+                .code(code)
+                .name("Account " + code)
+                .accountType(accountType)
+                .build());
+    }
+}
@@ -0,0 +1,205 @@
+package id.my.hendisantika.accountingsample.integration;
+
+import id.my.hendisantika.accountingsample.dto.invoice.InvoiceItemRequest;
+import id.my.hendisantika.accountingsample.dto.invoice.InvoiceRequest;
+import id.my.hendisantika.accountingsample.dto.journal.JournalEntryLineRequest;
+import id.my.hendisantika.accountingsample.dto.journal.JournalEntryRequest;
+import id.my.hendisantika.accountingsample.model.Account;
+import id.my.hendisantika.accountingsample.model.Customer;
+import id.my.hendisantika.accountingsample.model.Item;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.User;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.ItemType;
+import id.my.hendisantika.accountingsample.repository.AccountRepository;
+import id.my.hendisantika.accountingsample.repository.CustomerRepository;
+import id.my.hendisantika.accountingsample.repository.ItemRepository;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.service.InvoiceService;
+import id.my.hendisantika.accountingsample.service.JournalEntryService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Creates invoices and journal entries through the services and reports how many go through per second. Run it
+ * on the commit before the switch to pooled sequences for the figures with one insert per line.
+ */
+@Slf4j
+@DisplayName("Entity Insert Benchmark Integration Tests")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EntityInsertBenchmarkIntegrationTest extends BaseIntegrationTest {
+
+    private static final int DOCUMENTS = 500;
+    private static final int WARM_UP_DOCUMENTS = 50;
+    private static final int LINES_PER_DOCUMENT = 20;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private JournalEntryService journalEntryService;
+
+    private Statistics statistics;
+    private Customer customer;
+    private List<Item> items;
+    private Account cash;
+    private Account revenue;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        Organization organization = organizationRepository.save(Organization.builder()
+                .name("Insert Benchmark Org")
+                .email("insert-benchmark-" + suffix + "@example.com")
+                .build());
+
+        cash = accountRepository.save(account(organization, "1000", "Cash", AccountType.ASSET));
+        revenue = accountRepository.save(account(organization, "4000", "Sales", AccountType.REVENUE));
+        customer = customerRepository.save(Customer.builder()
+                .organization(organization)
+                .customerCode("C-" + suffix)
+                .name("Benchmark Customer")
+                .email("customer-" + suffix + "@example.com")
+                .build());
+
+        items = new ArrayList<>();
+        for (int i = 1; i <= LINES_PER_DOCUMENT; i++) {
+            items.add(itemRepository.save(Item.builder()
+                    .organization(organization)
+                    .code("ITEM-" + suffix + "-" + i)
+                    .sku("ITEM-" + suffix + "-" + i)
+                    .name("Item " + i)
+                    .itemType(ItemType.PRODUCT)
+                    .build()));
+        }
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                User.builder().organization(organization).build(), null, List.of()));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should insert the lines of an invoice in one batch and report invoice throughput")
+    void createInvoice_BatchesLinesAndReportsThroughput() {
+        statistics.clear();
+        invoiceService.createInvoice(invoiceRequest());
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(LINES_PER_DOCUMENT + 1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(LINES_PER_DOCUMENT);
+
+        benchmark("invoices", () -> invoiceService.createInvoice(invoiceRequest()));
+    }
+
+    @Test
+    @DisplayName("Should insert the lines of a journal entry in one batch and report journal throughput")
+    void createJournalEntry_BatchesLinesAndReportsThroughput() {
+        statistics.clear();
+        journalEntryService.createJournalEntry(journalEntryRequest());
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(LINES_PER_DOCUMENT + 1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(LINES_PER_DOCUMENT);
+
+        benchmark("journal entries", () -> journalEntryService.createJournalEntry(journalEntryRequest()));
+    }
+
+    private void benchmark(String documents, Runnable create) {
+        for (int i = 0; i < WARM_UP_DOCUMENTS; i++) {
+            create.run();
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            create.run();
+        }
+        long millis = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), 1);
+        log.info("Created {} {} of {} lines in {} ms: {} per second, {} lines per second",
+                DOCUMENTS, documents, LINES_PER_DOCUMENT, millis, DOCUMENTS * 1000L / millis,
+                DOCUMENTS * LINES_PER_DOCUMENT * 1000L / millis);
+    }
+
+    private InvoiceRequest invoiceRequest() {
+        List<InvoiceItemRequest> lines = new ArrayList<>();
+        for (int i = 0; i < LINES_PER_DOCUMENT; i++) {
+            InvoiceItemRequest line = new InvoiceItemRequest();
+            line.setItemId(items.get(i).getId());
+            line.setQuantity(BigDecimal.valueOf(1 + i % 5));
+            line.setUnitPrice(new BigDecimal("12.50"));
+            line.setLineOrder(i + 1);
+            lines.add(line);
+        }
+
+        InvoiceRequest request = new InvoiceRequest();
+        request.setCustomerId(customer.getId());
+        request.setInvoiceDate(LocalDate.now());
+        request.setDueDate(LocalDate.now().plusDays(30));
+        request.setItems(lines);
+        return request;
+    }
+
+    private JournalEntryRequest journalEntryRequest() {
+        List<JournalEntryLineRequest> lines = new ArrayList<>();
+        for (int i = 0; i < LINES_PER_DOCUMENT; i++) {
+            boolean debit = i % 2 == 0;
+            JournalEntryLineRequest line = new JournalEntryLineRequest();
+            line.setAccountId(debit ? cash.getId() : revenue.getId());
+            line.setDebitAmount(debit ? BigDecimal.TEN : BigDecimal.ZERO);
+            line.setCreditAmount(debit ? BigDecimal.ZERO : BigDecimal.TEN);
+            line.setLineOrder(i + 1);
+            lines.add(line);
+        }
+
+        JournalEntryRequest request = new JournalEntryRequest();
+        request.setEntryDate(LocalDate.now());
+        request.setDescription("Insert benchmark");
+        request.setLines(lines);
+        return request;
+    }
+
+    private Account account(Organization organization, String code, String name, AccountType accountType) {
+        return Account.builder()
+                .organization(organization)
+                .code(code)
+                .name(name)
+                .accountType(accountType)
+                .build();
+    }
+}
@@ -0,0 +1,251 @@
+package id.my.hendisantika.accountingsample.integration;
+
+import id.my.hendisantika.accountingsample.dto.bill.BillFilter;
+import id.my.hendisantika.accountingsample.dto.invoice.InvoiceFilter;
+import id.my.hendisantika.accountingsample.dto.journal.JournalEntryFilter;
+import id.my.hendisantika.accountingsample.dto.payment.PaymentFilter;
+import id.my.hendisantika.accountingsample.model.Account;
+import id.my.hendisantika.accountingsample.model.Bill;
+import id.my.hendisantika.accountingsample.model.BillItem;
+import id.my.hendisantika.accountingsample.model.Customer;
+import id.my.hendisantika.accountingsample.model.Invoice;
+import id.my.hendisantika.accountingsample.model.InvoiceItem;
+import id.my.hendisantika.accountingsample.model.Item;
+import id.my.hendisantika.accountingsample.model.JournalEntry;
+import id.my.hendisantika.accountingsample.model.JournalEntryLine;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.Payment;
+import id.my.hendisantika.accountingsample.model.User;
+import id.my.hendisantika.accountingsample.model.Vendor;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.ItemType;
+import id.my.hendisantika.accountingsample.model.enums.PaymentMethod;
+import id.my.hendisantika.accountingsample.model.enums.PaymentType;
+import id.my.hendisantika.accountingsample.repository.AccountRepository;
+import id.my.hendisantika.accountingsample.repository.BillRepository;
+import id.my.hendisantika.accountingsample.repository.CustomerRepository;
+import id.my.hendisantika.accountingsample.repository.InvoiceRepository;
+import id.my.hendisantika.accountingsample.repository.ItemRepository;
+import id.my.hendisantika.accountingsample.repository.JournalEntryRepository;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.repository.PaymentRepository;
+import id.my.hendisantika.accountingsample.repository.VendorRepository;
+import id.my.hendisantika.accountingsample.service.BillService;
+import id.my.hendisantika.accountingsample.service.InvoiceService;
+import id.my.hendisantika.accountingsample.service.JournalEntryService;
+import id.my.hendisantika.accountingsample.service.PaymentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("List Query Count Integration Tests")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class QueryCountIntegrationTest extends BaseIntegrationTest {
+
+    private static final int DOCUMENT_COUNT = 10;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private VendorRepository vendorRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private BillRepository billRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private JournalEntryRepository journalEntryRepository;
+
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private BillService billService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private JournalEntryService journalEntryService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        Organization organization = organizationRepository.save(Organization.builder()
+                .name("Query Count Org")
+                .email("query-count-" + suffix + "@example.com")
+                .build());
+
+        Account cash = accountRepository.save(account(organization, "1000", "Cash", AccountType.ASSET));
+        Account revenue = accountRepository.save(account(organization, "4000", "Sales", AccountType.REVENUE));
+
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            String number = suffix + "-" + i;
+            Customer customer = customerRepository.save(Customer.builder()
+                    .organization(organization)
+                    .customerCode("C-" + number)
+                    .name("Customer " + i)
+                    .email("customer-" + number + "@example.com")
+                    .build());
+            Vendor vendor = vendorRepository.save(Vendor.builder()
+                    .organization(organization)
+                    .vendorCode("V-" + number)
+                    .name("Vendor " + i)
+                    .email("vendor-" + number + "@example.com")
+                    .build());
+            Item item = itemRepository.save(Item.builder()
+                    .organization(organization)
+                    .code("ITEM-" + number)
+                    .sku("ITEM-" + number)
+                    .name("Item " + i)
+                    .itemType(ItemType.PRODUCT)
+                    .build());
+
+            Invoice invoice = Invoice.builder()
+                    .organization(organization)
+                    .customer(customer)
+                    .invoiceNumber("INV-" + number)
+                    .invoiceDate(LocalDate.now())
+                    .dueDate(LocalDate.now().plusDays(30))
+                    .build();
+            for (int line = 1; line <= 2; line++) {
+                invoice.getItems().add(InvoiceItem.builder().invoice(invoice).item(item).lineOrder(line).build());
+            }
+            invoiceRepository.save(invoice);
+
+            Bill bill = Bill.builder()
+                    .organization(organization)
+                    .vendor(vendor)
+                    .billNumber("BILL-" + number)
+                    .billDate(LocalDate.now())
+                    .dueDate(LocalDate.now().plusDays(30))
+                    .build();
+            for (int line = 1; line <= 2; line++) {
+                bill.getItems().add(BillItem.builder().bill(bill).item(item).lineOrder(line).build());
+            }
+            billRepository.save(bill);
+
+            paymentRepository.save(Payment.builder()
+                    .organization(organization)
+                    .paymentType(PaymentType.PAYMENT_RECEIVED)
+                    .customer(customer)
+                    .invoice(invoice)
+                    .account(cash)
+                    .paymentNumber("PAY-" + number)
+                    .paymentDate(LocalDate.now())
+                    .amount(BigDecimal.TEN)
+                    .paymentMethod(PaymentMethod.CASH)
+                    .build());
+
+            JournalEntry journalEntry = JournalEntry.builder()
+                    .organization(organization)
+                    .journalNumber("JE-" + number)
+                    .entryDate(LocalDate.now())
+                    .build();
+            journalEntry.getLines().add(JournalEntryLine.builder()
+                    .journalEntry(journalEntry).account(cash).debitAmount(BigDecimal.TEN).lineOrder(1).build());
+            journalEntry.getLines().add(JournalEntryLine.builder()
+                    .journalEntry(journalEntry).account(revenue).creditAmount(BigDecimal.TEN).lineOrder(2).build());
+            journalEntryRepository.save(journalEntry);
+        }
+
+        User principal = User.builder().organization(organization).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should list invoices with items and customer in a single statement")
+    void getAllInvoices_BoundedQueryCount() {
+        assertThat(invoiceService.getAllInvoices()).hasSize(DOCUMENT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should list bills with items and vendor in a single statement")
+    void getAllBills_BoundedQueryCount() {
+        assertThat(billService.getAllBills()).hasSize(DOCUMENT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should list payments with all references in a single statement")
+    void getAllPayments_BoundedQueryCount() {
+        assertThat(paymentService.getAllPayments()).hasSize(DOCUMENT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should list journal entries with lines and accounts in a single statement")
+    void getAllJournalEntries_BoundedQueryCount() {
+        assertThat(journalEntryService.getAllJournalEntries()).hasSize(DOCUMENT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should batch-load associations when scrolling instead of one query per row")
+    void scroll_BoundedQueryCount() {
+        PageRequest page = PageRequest.of(0, DOCUMENT_COUNT);
+
+        assertThat(invoiceService.scrollInvoices(new InvoiceFilter(), null, page).getContent()).hasSize(DOCUMENT_COUNT);
+        assertThat(billService.scrollBills(new BillFilter(), null, page).getContent()).hasSize(DOCUMENT_COUNT);
+        assertThat(paymentService.scrollPayments(new PaymentFilter(), null, page).getContent()).hasSize(DOCUMENT_COUNT);
+        assertThat(journalEntryService.scrollJournalEntries(new JournalEntryFilter(), null, page).getContent())
+                .hasSize(DOCUMENT_COUNT);
+
+        // Root query plus one batch per association: invoices 4, bills 4, payments 5, journal entries 3
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(16);
+    }
+
+    private Account account(Organization organization, String code, String name, AccountType accountType) {
+        return Account.builder()
+                .organization(organization)
+                .code(code)
+                .name(name)
+                .accountType(accountType)
+                .build();
+    }
+}
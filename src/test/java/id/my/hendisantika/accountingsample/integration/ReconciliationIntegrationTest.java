@@ -0,0 +1,237 @@
+package id.my.hendisantika.accountingsample.integration;
+
+import id.my.hendisantika.accountingsample.dto.bank.BankAccountRequest;
+import id.my.hendisantika.accountingsample.dto.bank.BankAccountResponse;
+import id.my.hendisantika.accountingsample.dto.bank.ReconciliationResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.model.Account;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.User;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.repository.AccountRepository;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.service.BankAccountService;
+import id.my.hendisantika.accountingsample.service.BankStatementService;
+import id.my.hendisantika.accountingsample.service.ReconciliationService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+@DisplayName("Reconciliation Integration Tests")
+class ReconciliationIntegrationTest extends BaseIntegrationTest {
+
+    private static final int BENCHMARK_PAYMENTS = 100_000;
+    private static final int REFERENCE_PAYMENTS = 40_000;
+    private static final int AMOUNT_PAYMENTS = 40_000;
+    private static final int NOISE_LINES = 10_000;
+    private static final LocalDate BENCHMARK_START = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private ReconciliationService reconciliationService;
+
+    @Autowired
+    private BankAccountService bankAccountService;
+
+    @Autowired
+    private BankStatementService bankStatementService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Organization organization;
+    private Account cash;
+    private BankAccountResponse bankAccount;
+
+    @BeforeEach
+    void setUp() {
+        organization = organizationRepository.save(Organization.builder()
+                .name("Reconciliation Org")
+                .email("reconciliation-" + System.nanoTime() + "@example.com")
+                .build());
+        cash = accountRepository.save(Account.builder()
+                .organization(organization)
+                .code("1010")
+                .name("Operating Account")
+                .accountType(AccountType.ASSET)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                User.builder().organization(organization).build(), null, List.of()));
+
+        BankAccountRequest request = new BankAccountRequest();
+        request.setAccountId(cash.getId());
+        request.setAccountName("Operating");
+        bankAccount = bankAccountService.createBankAccount(request);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should match by reference, then by amount and date, then by sums, and link the payments")
+    void reconcile_MatchesAndLinksPayments() {
+        insertPayment("PAY-1", "PAYMENT_RECEIVED", "2025-03-01", "INV-7", "150.00");
+        insertPayment("PAY-2", "PAYMENT_RECEIVED", "2025-03-05", null, "80.00");
+        insertPayment("PAY-3", "PAYMENT_MADE", "2025-03-04", "BILL-3", "40.00");
+        insertPayment("PAY-4", "PAYMENT_RECEIVED", "2025-03-06", null, "60.00");
+        insertPayment("PAY-5", "PAYMENT_RECEIVED", "2025-03-05", null, "30.00");
+        insertPayment("PAY-6", "PAYMENT_RECEIVED", "2025-02-01", null, "12.34");
+        bankStatementService.importStatement(bankAccount.getId(), new ByteArrayInputStream("""
+                Date,Amount,Reference,Description
+                2025-03-03,150.00,inv 7,Customer payment
+                2025-03-04,80.00,,Transfer
+                2025-03-05,-40.00,,Supplier
+                2025-03-06,90.00,,Two invoices
+                2025-03-20,12.34,,Unknown deposit
+                """.getBytes(StandardCharsets.UTF_8)), "march.csv", null);
+
+        ReconciliationResponse result = reconciliationService.reconcile(bankAccount.getId(), null);
+
+        assertThat(result.getDateWindowDays()).isEqualTo(3);
+        assertThat(result.getBankLines()).isEqualTo(5);
+        assertThat(result.getPayments()).isEqualTo(5);
+        assertThat(result.getReferenceMatches()).isEqualTo(1);
+        assertThat(result.getAmountMatches()).isEqualTo(2);
+        assertThat(result.getSumMatches()).isEqualTo(1);
+        assertThat(result.getMatchedPayments()).isEqualTo(5);
+        assertThat(result.getUnmatchedLines()).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForList("SELECT p.payment_number || ' ' || t.description FROM payments p " +
+                        "JOIN bank_transactions t ON t.id = p.bank_transaction_id " +
+                        "WHERE p.organization_id = ? ORDER BY p.payment_number", String.class,
+                organization.getId()))
+                .containsExactly("PAY-1 Customer payment", "PAY-2 Transfer", "PAY-3 Supplier",
+                        "PAY-4 Two invoices", "PAY-5 Two invoices");
+        assertThat(jdbcTemplate.queryForList("SELECT description FROM bank_transactions " +
+                        "WHERE bank_account_id = ? AND is_reconciled = false", String.class, bankAccount.getId()))
+                .containsExactly("Unknown deposit");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bank_transactions WHERE bank_account_id = ? " +
+                        "AND status = 'RECONCILED' AND reconciled_at IS NOT NULL", Long.class, bankAccount.getId()))
+                .isEqualTo(4L);
+
+        // A second run only looks at what is left
+        ReconciliationResponse again = reconciliationService.reconcile(bankAccount.getId(), 31);
+        assertThat(again.getBankLines()).isEqualTo(1);
+        assertThat(again.getMatchedLines()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a date window longer than a month")
+    void reconcile_WindowTooLong_Throws() {
+        assertThatThrownBy(() -> reconciliationService.reconcile(bankAccount.getId(), 32))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Date window must be between 0 and 31 days");
+    }
+
+    @Test
+    @DisplayName("Should reconcile a hundred thousand bank lines against as many payments and report the timing")
+    void reconcile_Benchmark_ReportsTiming() {
+        generateBenchmark();
+        int sumLines = (BENCHMARK_PAYMENTS - REFERENCE_PAYMENTS - AMOUNT_PAYMENTS) / 2;
+
+        long startedAt = System.nanoTime();
+        ReconciliationResponse result = reconciliationService.reconcile(bankAccount.getId(), null);
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("Reconciled {} of {} bank lines against {} payments in {} ms " +
+                        "({} by reference, {} by amount and date, {} by sums)",
+                result.getMatchedLines(), result.getBankLines(), result.getPayments(), millis,
+                result.getReferenceMatches(), result.getAmountMatches(), result.getSumMatches());
+
+        assertThat(result.getBankLines()).isEqualTo(REFERENCE_PAYMENTS + AMOUNT_PAYMENTS + sumLines + NOISE_LINES);
+        assertThat(result.getPayments()).isEqualTo(BENCHMARK_PAYMENTS);
+        assertThat(result.getReferenceMatches()).isEqualTo(REFERENCE_PAYMENTS);
+        assertThat(result.getAmountMatches()).isEqualTo(AMOUNT_PAYMENTS);
+        assertThat(result.getSumMatches()).isPositive().isLessThanOrEqualTo(sumLines);
+
+        Long orgId = organization.getId();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bank_transactions " +
+                "WHERE bank_account_id = ? AND is_reconciled = true", Integer.class, bankAccount.getId()))
+                .isEqualTo(result.getMatchedLines());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payments " +
+                "WHERE organization_id = ? AND bank_transaction_id IS NOT NULL", Integer.class, orgId))
+                .isEqualTo(result.getMatchedPayments());
+        // Every reconciled line is covered exactly by the payments linked to it
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bank_transactions t " +
+                "WHERE t.bank_account_id = ? AND t.is_reconciled = true AND t.amount <> " +
+                "(SELECT SUM(p.amount) FROM payments p WHERE p.bank_transaction_id = t.id)",
+                Long.class, bankAccount.getId())).isZero();
+    }
+
+    private void insertPayment(String number, String type, String date, String reference, String amount) {
+        jdbcTemplate.update("INSERT INTO payments (organization_id, payment_type, payment_number, payment_date, " +
+                        "payment_method, reference_number, amount, account_id) " +
+                        "VALUES (?, ?, ?, ?, 'BANK_TRANSFER', ?, ?, ?)",
+                organization.getId(), type, number, Date.valueOf(date), reference, new BigDecimal(amount),
+                cash.getId());
+    }
+
+    /**
+     * Receives a hundred thousand payments over a year: the first batch quotes a reference, the second has
+     * amounts no other payment has, and the rest are small amounts paid in pairs. The bank lines quote the
+     * references of the first batch, carry only the amounts of the second, total each pair of the rest, and
+     * add bank charges no payment explains.
+     */
+    private void generateBenchmark() {
+        Long orgId = organization.getId();
+        Long bankAccountId = bankAccount.getId();
+        int uniqueAmounts = REFERENCE_PAYMENTS + AMOUNT_PAYMENTS;
+        jdbcTemplate.update("INSERT INTO payments (organization_id, payment_type, payment_number, payment_date, " +
+                        "payment_method, reference_number, amount, account_id) " +
+                        "SELECT ?, 'PAYMENT_RECEIVED', 'BENCH-' || g, CAST(? AS DATE) + g % 365, 'BANK_TRANSFER', " +
+                        "CASE WHEN g <= ? THEN 'REF-' || g END, " +
+                        "CASE WHEN g <= ? THEN 100 + g / 100.0 ELSE 25 + ((g * 7919) % 250000) / 10000.0 END, ? " +
+                        "FROM generate_series(1, ?) g",
+                orgId, Date.valueOf(BENCHMARK_START), REFERENCE_PAYMENTS, uniqueAmounts, cash.getId(),
+                BENCHMARK_PAYMENTS);
+
+        String bankLine = "INSERT INTO bank_transactions (organization_id, bank_account_id, transaction_date, " +
+                "description, reference_number, transaction_type, amount) ";
+        jdbcTemplate.update(bankLine +
+                        "SELECT ?, ?, payment_date + 1, 'Transfer', lower(reference_number), 'CREDIT', amount " +
+                        "FROM payments WHERE organization_id = ? AND reference_number IS NOT NULL",
+                orgId, bankAccountId, orgId);
+        jdbcTemplate.update(bankLine +
+                        "SELECT ?, ?, payment_date + CAST(substring(payment_number FROM 7) AS INT) % 3, " +
+                        "'Deposit', NULL, 'CREDIT', amount FROM payments " +
+                        "WHERE organization_id = ? AND reference_number IS NULL AND amount >= 100",
+                orgId, bankAccountId, orgId);
+        jdbcTemplate.update(bankLine +
+                        "SELECT ?, ?, MIN(payment_date) + 1, 'Batch deposit', NULL, 'CREDIT', SUM(amount) " +
+                        "FROM payments WHERE organization_id = ? AND amount < 100 " +
+                        "GROUP BY (CAST(substring(payment_number FROM 7) AS INT) - ?) / 2",
+                orgId, bankAccountId, orgId, uniqueAmounts + 1);
+        jdbcTemplate.update(bankLine +
+                        "SELECT ?, ?, CAST(? AS DATE) + g % 365, 'Bank charge', NULL, 'DEBIT', 1 + g / 100.0 " +
+                        "FROM generate_series(1, ?) g",
+                orgId, bankAccountId, Date.valueOf(BENCHMARK_START), NOISE_LINES);
+
+        for (String table : List.of("payments", "bank_transactions")) {
+            jdbcTemplate.execute("VACUUM ANALYZE " + table);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package id.my.hendisantika.accountingsample.integration;
+
+import id.my.hendisantika.accountingsample.dto.report.AnalyticsReportResponse;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.User;
+import id.my.hendisantika.accountingsample.model.enums.ComparisonPeriod;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.service.AnalyticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("Sales Analytics Benchmark Integration Tests")
+class SalesAnalyticsBenchmarkIntegrationTest extends BaseIntegrationTest {
+
+    private static final int INVOICES = 100_000;
+    private static final int LINES_PER_INVOICE = 10;
+    private static final int CUSTOMERS = 200;
+    private static final int ITEMS = 500;
+    private static final LocalDate SALES_START = LocalDate.of(2024, 1, 1);
+    private static final int SALES_DAYS = 731;
+    private static final int RUNS = 5;
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Organization organization;
+
+    @BeforeEach
+    void setUp() {
+        organization = organizationRepository.save(Organization.builder()
+                .name("Sales Analytics Benchmark Org")
+                .email("sales-analytics-" + System.nanoTime() + "@example.com")
+                .build());
+        generateSales();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                User.builder().organization(organization).build(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should total a million invoice lines per item and per customer and report the timing")
+    void salesAnalytics_MillionLines_MatchAndReportTiming() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 6, 30);
+
+        AnalyticsReportResponse byItem = benchmark("Sales by item",
+                () -> analyticsService.getSalesByItem(from, to, ComparisonPeriod.PREVIOUS_YEAR));
+        AnalyticsReportResponse byCustomer = benchmark("Sales by customer",
+                () -> analyticsService.getSalesByCustomer(from, to, ComparisonPeriod.PREVIOUS_YEAR));
+
+        BigDecimal expected = issuedSales(from, to);
+        BigDecimal expectedComparison = issuedSales(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30));
+        assertThat(byItem.getLines()).hasSize(ITEMS);
+        assertThat(byItem.getTotals().getAmount()).isEqualByComparingTo(expected);
+        assertThat(byItem.getTotals().getComparisonAmount()).isEqualByComparingTo(expectedComparison);
+        assertThat(byCustomer.getLines()).hasSize(CUSTOMERS);
+        assertThat(byCustomer.getTotals().getAmount()).isEqualByComparingTo(expected);
+        assertThat(byCustomer.getTotals().getComparisonAmount()).isEqualByComparingTo(expectedComparison);
+    }
+
+    private AnalyticsReportResponse benchmark(String report, Supplier<AnalyticsReportResponse> run) {
+        AnalyticsReportResponse response = null;
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long startedAt = System.nanoTime();
+            response = run.get();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - startedAt);
+        }
+        log.info("{} over {} invoice lines: best of {} runs {} ms",
+                report, INVOICES * LINES_PER_INVOICE, RUNS, TimeUnit.NANOSECONDS.toMillis(bestNanos));
+        return response;
+    }
+
+    /**
+     * Spreads invoices evenly over two years with one in twenty left as a draft and one in twenty voided,
+     * gives each ten lines cycling through the items, and sets the invoice totals from their lines
+     */
+    private void generateSales() {
+        Long orgId = organization.getId();
+        jdbcTemplate.update("INSERT INTO customers (organization_id, customer_code, display_name, email) " +
+                        "SELECT ?, 'BENCH-C' || g, 'Customer ' || g, 'customer' || g || '@example.com' " +
+                        "FROM generate_series(1, ?) g",
+                orgId, CUSTOMERS);
+        jdbcTemplate.update("INSERT INTO items (organization_id, item_code, item_name, sales_price) " +
+                        "SELECT ?, 'BENCH-I' || g, 'Item ' || g, 10 + g FROM generate_series(1, ?) g",
+                orgId, ITEMS);
+
+        jdbcTemplate.update("INSERT INTO invoices " +
+                        "(organization_id, customer_id, invoice_number, invoice_date, due_date, status) " +
+                        "SELECT ?, (ARRAY(SELECT id FROM customers WHERE organization_id = ? ORDER BY id))" +
+                        "[1 + g % ?], " +
+                        "'BENCH-' || g, CAST(? AS DATE) + (g % ?), CAST(? AS DATE) + (g % ?) + 30, " +
+                        "CASE g % 20 WHEN 0 THEN 'DRAFT' WHEN 1 THEN 'VOID' ELSE 'SENT' END " +
+                        "FROM generate_series(1, ?) g",
+                orgId, orgId, CUSTOMERS, Date.valueOf(SALES_START), SALES_DAYS,
+                Date.valueOf(SALES_START), SALES_DAYS, INVOICES);
+
+        jdbcTemplate.update("INSERT INTO invoice_items " +
+                        "(invoice_id, item_id, description, quantity, unit_price, line_total, line_order) " +
+                        "SELECT i.id, t.ids[1 + (i.id + n) % ?], 'Benchmark line', 1 + n % 5, 10 + n, " +
+                        "(1 + n % 5) * (10 + n), n " +
+                        "FROM invoices i " +
+                        "CROSS JOIN generate_series(1, ?) n " +
+                        "CROSS JOIN (SELECT ARRAY(SELECT id FROM items WHERE organization_id = ? ORDER BY id) " +
+                        "AS ids) t " +
+                        "WHERE i.organization_id = ?",
+                ITEMS, LINES_PER_INVOICE, orgId, orgId);
+
+        jdbcTemplate.update("UPDATE invoices i SET subtotal = s.total, total_amount = s.total, " +
+                "balance_amount = s.total " +
+                "FROM (SELECT l.invoice_id, SUM(l.line_total) AS total FROM invoice_items l " +
+                "JOIN invoices d ON d.id = l.invoice_id WHERE d.organization_id = ? GROUP BY l.invoice_id) s " +
+                "WHERE i.id = s.invoice_id", orgId);
+
+        // Vacuum as well so the visibility map lets the covering indexes answer without visiting the heap
+        for (String table : List.of("customers", "items", "invoices", "invoice_items")) {
+            jdbcTemplate.execute("VACUUM ANALYZE " + table);
+        }
+    }
+
+    private BigDecimal issuedSales(LocalDate from, LocalDate to) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(l.line_total), 0) " +
+                        "FROM invoice_items l JOIN invoices i ON i.id = l.invoice_id " +
+                        "WHERE i.organization_id = ? AND i.status = 'SENT' AND i.invoice_date BETWEEN ? AND ?",
+                BigDecimal.class, organization.getId(), Date.valueOf(from), Date.valueOf(to));
+    }
+}
@@ -29,6 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,6 +41,11 @@ class AccountServiceTest {
     private AccountRepository accountRepository;
     @Mock
     private OrganizationRepository organizationRepository;
+    @Mock
+    private ChartOfAccountsCache chartOfAccountsCache;
+
+    @Mock
+    private LedgerVersionService ledgerVersionService;
 
     @InjectMocks
     private AccountService accountService;
@@ -85,9 +91,29 @@ class AccountServiceTest {
     @Test
     @DisplayName("Should get all accounts")
     void getAllAccounts_Success() {
-        when(accountRepository.findByOrganizationId(1L)).thenReturn(Collections.singletonList(account));
+        when(chartOfAccountsCache.getAccounts(1L)).thenReturn(Collections.singletonList(AccountService.mapToResponse(account)));
         List<AccountResponse> responses = accountService.getAllAccounts();
         assertThat(responses).hasSize(1);
+        verify(accountRepository, never()).findByOrganizationId(any());
+    }
+
+    @Test
+    @DisplayName("Should serve child accounts from the cached chart")
+    void getChildAccounts_FiltersCachedChart() {
+        Account child = Account.builder()
+                .organization(organization)
+                .code("1010")
+                .name("Petty Cash")
+                .accountType(AccountType.ASSET)
+                .parent(account)
+                .build();
+        child.setId(2L);
+        when(chartOfAccountsCache.getAccounts(1L)).thenReturn(List.of(
+                AccountService.mapToResponse(account),
+                AccountService.mapToResponse(child)));
+
+        assertThat(accountService.getChildAccounts(1L)).extracting(AccountResponse::getCode).containsExactly("1010");
+        assertThat(accountService.getRootAccounts()).extracting(AccountResponse::getCode).containsExactly("1000");
     }
 
     @Test
@@ -100,6 +126,8 @@ class AccountServiceTest {
         AccountResponse response = accountService.createAccount(accountRequest);
         assertThat(response).isNotNull();
         verify(accountRepository).save(any(Account.class));
+        verify(chartOfAccountsCache).evict(1L);
+        verify(ledgerVersionService).increment(1L);
     }
 
     @Test
@@ -123,6 +151,28 @@ class AccountServiceTest {
                 .hasMessage("Cannot modify system accounts");
     }
 
+    @Test
+    @DisplayName("Should reject moving an account under its own sub-account")
+    void updateAccount_ParentIsDescendant_ThrowsException() {
+        Account childAccount = Account.builder()
+                .code("1010")
+                .parent(account)
+                .build();
+        childAccount.setId(2L);
+        accountRequest.setCode("1000");
+        accountRequest.setParentId(2L);
+
+        when(accountRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(account));
+        when(chartOfAccountsCache.getAccounts(1L)).thenReturn(List.of(
+                AccountService.mapToResponse(account),
+                AccountService.mapToResponse(childAccount)));
+
+        assertThatThrownBy(() -> accountService.updateAccount(1L, accountRequest))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Account cannot be moved under one of its own sub-accounts");
+        verify(accountRepository, never()).save(any(Account.class));
+    }
+
     @Test
     @DisplayName("Should throw exception when deleting account with children")
     void deleteAccount_WithChildren_ThrowsException() {
@@ -132,7 +182,9 @@ class AccountServiceTest {
         childAccount.setId(2L);
 
         when(accountRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(account));
-        when(accountRepository.findByParentIdAndOrganizationId(1L, 1L)).thenReturn(List.of(childAccount));
+        when(chartOfAccountsCache.getAccounts(1L)).thenReturn(List.of(
+                AccountService.mapToResponse(account),
+                AccountService.mapToResponse(childAccount)));
 
         assertThatThrownBy(() -> accountService.deleteAccount(1L))
                 .isInstanceOf(BusinessException.class)
@@ -144,7 +196,7 @@ class AccountServiceTest {
     void deleteAccount_NonZeroBalance_ThrowsException() {
         account.setCurrentBalance(BigDecimal.valueOf(100));
         when(accountRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(account));
-        when(accountRepository.findByParentIdAndOrganizationId(1L, 1L)).thenReturn(Collections.emptyList());
+        when(chartOfAccountsCache.getAccounts(1L)).thenReturn(List.of(AccountService.mapToResponse(account)));
 
         assertThatThrownBy(() -> accountService.deleteAccount(1L))
                 .isInstanceOf(BusinessException.class)
@@ -0,0 +1,86 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.account.AccountResponse;
+import id.my.hendisantika.accountingsample.dto.account.AccountTreeNode;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AccountTree Tests")
+class AccountTreeTest {
+
+    private AccountTree tree;
+
+    @BeforeEach
+    void setUp() {
+        // Listed in code order, as the cached chart is; ids deliberately out of order
+        tree = AccountTree.of(List.of(
+                account(10L, "1000", null, "0"),
+                account(3L, "1100", 10L, "250"),
+                account(7L, "1110", 3L, "100"),
+                account(5L, "1120", 3L, "50"),
+                account(1L, "2000", null, "400")));
+    }
+
+    @Test
+    @DisplayName("Should navigate parents and children in code order")
+    void navigation_FollowsChartOrder() {
+        assertThat(tree.getRoots()).extracting(AccountResponse::getCode).containsExactly("1000", "2000");
+        assertThat(tree.getChildren(3L)).extracting(AccountResponse::getCode).containsExactly("1110", "1120");
+        assertThat(tree.getParent(7L).getCode()).isEqualTo("1100");
+        assertThat(tree.getParent(10L)).isNull();
+        assertThat(tree.hasChildren(5L)).isFalse();
+        assertThat(tree.getChildren(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should roll balances up through every level")
+    void rolledUpBalance_SumsSubtree() {
+        assertThat(tree.getRolledUpBalance(3L)).isEqualByComparingTo("400");
+        assertThat(tree.getRolledUpBalance(10L)).isEqualByComparingTo("400");
+        assertThat(tree.getRolledUpBalance(1L)).isEqualByComparingTo("400");
+
+        List<AccountTreeNode> nodes = tree.toNodes();
+        assertThat(nodes).hasSize(2);
+        assertThat(nodes.get(0).getChildren().get(0).getChildren()).extracting(AccountTreeNode::getCode)
+                .containsExactly("1110", "1120");
+    }
+
+    @Test
+    @DisplayName("Should detect that a move under a descendant would create a cycle")
+    void isSameOrDescendant_DetectsCycles() {
+        assertThat(tree.isSameOrDescendant(7L, 10L)).isTrue();
+        assertThat(tree.isSameOrDescendant(10L, 10L)).isTrue();
+        assertThat(tree.isSameOrDescendant(10L, 7L)).isFalse();
+        assertThat(tree.isSameOrDescendant(1L, 10L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should stop walking when stored data already contains a cycle")
+    void isSameOrDescendant_ExistingCycle_Terminates() {
+        AccountTree corrupt = AccountTree.of(List.of(
+                account(1L, "1000", 2L, "10"),
+                account(2L, "1100", 1L, "20")));
+
+        assertThat(corrupt.getRoots()).isEmpty();
+        assertThat(corrupt.isSameOrDescendant(1L, 3L)).isFalse();
+        assertThat(corrupt.getRolledUpBalance(1L)).isEqualByComparingTo("10");
+    }
+
+    private AccountResponse account(Long id, String code, Long parentId, String balance) {
+        return AccountResponse.builder()
+                .id(id)
+                .code(code)
+                .name("Account " + code)
+                .accountType(AccountType.ASSET)
+                .parentId(parentId)
+                .currentBalance(new BigDecimal(balance))
+                .build();
+    }
+}
@@ -0,0 +1,135 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.model.Customer;
+import id.my.hendisantika.accountingsample.model.Invoice;
+import id.my.hendisantika.accountingsample.model.enums.ContactType;
+import id.my.hendisantika.accountingsample.model.enums.InvoiceStatus;
+import id.my.hendisantika.accountingsample.repository.AgingBalanceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AgingService Tests")
+class AgingServiceTest {
+
+    private static final BigDecimal ZERO = BigDecimal.ZERO;
+
+    @Mock
+    private AgingBalanceRepository agingBalanceRepository;
+
+    @Mock
+    private LedgerVersionService ledgerVersionService;
+
+    @InjectMocks
+    private AgingService agingService;
+
+    @Test
+    @DisplayName("Should bucket by whole 30 day steps past the due date")
+    void bucketOf_Boundaries() {
+        LocalDate today = LocalDate.of(2026, 10, 18);
+
+        assertThat(AgingService.bucketOf(today.plusDays(5), today)).isZero();
+        assertThat(AgingService.bucketOf(today, today)).isZero();
+        assertThat(AgingService.bucketOf(today.minusDays(1), today)).isEqualTo(1);
+        assertThat(AgingService.bucketOf(today.minusDays(30), today)).isEqualTo(1);
+        assertThat(AgingService.bucketOf(today.minusDays(31), today)).isEqualTo(2);
+        assertThat(AgingService.bucketOf(today.minusDays(120), today)).isEqualTo(4);
+        assertThat(AgingService.bucketOf(today.minusDays(121), today)).isEqualTo(5);
+        assertThat(AgingService.bucketOf(today.minusYears(3), today)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should net a partial payment into one update of the contact's bucket")
+    void recordChange_PartialPayment_AppliesDelta() {
+        LocalDate dueDate = LocalDate.now().minusDays(45);
+        AgingService.AgingPosition before = new AgingService.AgingPosition(7L, dueDate, new BigDecimal("500"));
+        AgingService.AgingPosition after = new AgingService.AgingPosition(7L, dueDate, new BigDecimal("200"));
+
+        agingService.recordChange(1L, ContactType.CUSTOMER, before, after);
+
+        verify(agingBalanceRepository).addAmounts(1L, "CUSTOMER", 7L,
+                ZERO, ZERO, new BigDecimal("-300"), ZERO, ZERO, ZERO);
+        verify(ledgerVersionService).increment(1L);
+    }
+
+    @Test
+    @DisplayName("Should move the amount between contacts when a document changes hands")
+    void recordChange_ContactChanged_UpdatesBothContacts() {
+        LocalDate dueDate = LocalDate.now().plusDays(10);
+
+        agingService.recordChange(1L, ContactType.VENDOR,
+                new AgingService.AgingPosition(3L, dueDate, new BigDecimal("80")),
+                new AgingService.AgingPosition(4L, dueDate, new BigDecimal("80")));
+
+        verify(agingBalanceRepository).addAmounts(1L, "VENDOR", 3L,
+                new BigDecimal("-80"), ZERO, ZERO, ZERO, ZERO, ZERO);
+        verify(agingBalanceRepository).addAmounts(1L, "VENDOR", 4L,
+                new BigDecimal("80"), ZERO, ZERO, ZERO, ZERO, ZERO);
+    }
+
+    @Test
+    @DisplayName("Should skip the write when a draft document changes")
+    void recordChange_DraftInvoice_WritesNothing() {
+        Customer customer = Customer.builder().build();
+        customer.setId(7L);
+        Invoice invoice = Invoice.builder()
+                .customer(customer)
+                .dueDate(LocalDate.now())
+                .status(InvoiceStatus.DRAFT)
+                .balance(new BigDecimal("100"))
+                .build();
+
+        agingService.recordChange(1L, ContactType.CUSTOMER, null, AgingService.positionOf(invoice));
+
+        verify(agingBalanceRepository, never()).addAmounts(anyLong(), anyString(), anyLong(),
+                any(), any(), any(), any(), any(), any());
+        verify(ledgerVersionService, never()).increment(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should rebuild an organization from its open documents with 30 day cut-offs")
+    void rebucket_PassesCutoffDates() {
+        LocalDate asOfDate = LocalDate.of(2026, 10, 18);
+
+        agingService.rebucket(1L, asOfDate);
+
+        verify(agingBalanceRepository).lockForRebucket(1L);
+        verify(agingBalanceRepository).deleteByOrganizationId(1L);
+        verify(agingBalanceRepository).insertFromOpenDocuments(1L,
+                List.of("SENT", "PARTIALLY_PAID", "OVERDUE"),
+                List.of("SUBMITTED", "APPROVED", "PARTIALLY_PAID", "OVERDUE"),
+                asOfDate,
+                LocalDate.of(2026, 9, 18),
+                LocalDate.of(2026, 8, 19),
+                LocalDate.of(2026, 7, 20),
+                LocalDate.of(2026, 6, 20));
+        verify(ledgerVersionService).increment(1L);
+    }
+
+    @Test
+    @DisplayName("Should leave an organization alone while another node is re-bucketing it")
+    void tryRebucket_LockHeldElsewhere_Skips() {
+        when(agingBalanceRepository.tryLockForRebucket(1L)).thenReturn(false);
+
+        assertThat(agingService.tryRebucket(1L, LocalDate.of(2026, 10, 18))).isFalse();
+
+        verify(agingBalanceRepository, never()).deleteByOrganizationId(anyLong());
+        verify(ledgerVersionService, never()).increment(anyLong());
+    }
+}
@@ -0,0 +1,192 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.report.AnalyticsReportResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.model.enums.ComparisonPeriod;
+import id.my.hendisantika.accountingsample.repository.BillItemRepository;
+import id.my.hendisantika.accountingsample.repository.BillRepository;
+import id.my.hendisantika.accountingsample.repository.InvoiceItemRepository;
+import id.my.hendisantika.accountingsample.repository.InvoiceRepository;
+import id.my.hendisantika.accountingsample.repository.projection.ContactAnalyticsView;
+import id.my.hendisantika.accountingsample.repository.projection.ItemAnalyticsView;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalyticsService Tests")
+class AnalyticsServiceTest {
+
+    @Mock
+    private InvoiceRepository invoiceRepository;
+
+    @Mock
+    private InvoiceItemRepository invoiceItemRepository;
+
+    @Mock
+    private BillRepository billRepository;
+
+    @Mock
+    private BillItemRepository billItemRepository;
+
+    @InjectMocks
+    private AnalyticsService analyticsService;
+
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+
+    @BeforeEach
+    void setUp() {
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentOrganizationId).thenReturn(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityUtilsMock.close();
+    }
+
+    @Test
+    @DisplayName("Should compare whole calendar months with the same number of preceding months")
+    void period_WholeMonths_ComparedByMonth() {
+        AnalyticsService.Period february = AnalyticsService.Period.of(
+                LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28), ComparisonPeriod.PREVIOUS_PERIOD);
+        assertThat(february.comparisonFrom()).isEqualTo(LocalDate.of(2026, 1, 1));
+        assertThat(february.comparisonTo()).isEqualTo(LocalDate.of(2026, 1, 31));
+
+        AnalyticsService.Period quarter = AnalyticsService.Period.of(
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31), ComparisonPeriod.PREVIOUS_PERIOD);
+        assertThat(quarter.comparisonFrom()).isEqualTo(LocalDate.of(2025, 10, 1));
+        assertThat(quarter.comparisonTo()).isEqualTo(LocalDate.of(2025, 12, 31));
+    }
+
+    @Test
+    @DisplayName("Should compare other ranges with the same number of preceding days or the previous year")
+    void period_PartialRangeAndPreviousYear() {
+        AnalyticsService.Period days = AnalyticsService.Period.of(
+                LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 19), ComparisonPeriod.PREVIOUS_PERIOD);
+        assertThat(days.comparisonFrom()).isEqualTo(LocalDate.of(2026, 2, 28));
+        assertThat(days.comparisonTo()).isEqualTo(LocalDate.of(2026, 3, 9));
+
+        AnalyticsService.Period year = AnalyticsService.Period.of(
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 10, 18), ComparisonPeriod.PREVIOUS_YEAR);
+        assertThat(year.comparisonFrom()).isEqualTo(LocalDate.of(2025, 1, 1));
+        assertThat(year.comparisonTo()).isEqualTo(LocalDate.of(2025, 10, 18));
+    }
+
+    @Test
+    @DisplayName("Should reject a range that ends before it starts")
+    void period_FromAfterTo_Throws() {
+        assertThatThrownBy(() -> analyticsService.getSalesByItem(
+                LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 31), ComparisonPeriod.PREVIOUS_PERIOD))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("From date must not be after to date");
+    }
+
+    @Test
+    @DisplayName("Should report sales per item with the change against the comparison period")
+    void getSalesByItem_ComputesChange() {
+        LocalDate from = LocalDate.of(2026, 2, 1);
+        LocalDate to = LocalDate.of(2026, 2, 28);
+        when(invoiceItemRepository.sumByItemBetween(1L, List.of("DRAFT", "VOID", "CANCELLED"),
+                from, to, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)))
+                .thenReturn(List.of(
+                        itemRow(5L, "ITM-5", "Widget", "12", "1200.00", "10", "800.00"),
+                        itemRow(null, null, null, "1", "50.00", "0", "0")));
+
+        AnalyticsReportResponse response = analyticsService.getSalesByItem(from, to, ComparisonPeriod.PREVIOUS_PERIOD);
+
+        assertThat(response.getComparisonFromDate()).isEqualTo(LocalDate.of(2026, 1, 1));
+        assertThat(response.getLines()).hasSize(2);
+
+        AnalyticsReportResponse.AnalyticsLine widget = response.getLines().get(0);
+        assertThat(widget.getName()).isEqualTo("Widget");
+        assertThat(widget.getQuantity()).isEqualByComparingTo("12");
+        assertThat(widget.getChange()).isEqualByComparingTo("400.00");
+        assertThat(widget.getChangePercent()).isEqualByComparingTo("50.00");
+
+        AnalyticsReportResponse.AnalyticsLine unassigned = response.getLines().get(1);
+        assertThat(unassigned.getName()).isEqualTo(AnalyticsService.NO_ITEM_NAME);
+        assertThat(unassigned.getChangePercent()).isNull();
+
+        assertThat(response.getTotals().getAmount()).isEqualByComparingTo("1250.00");
+        assertThat(response.getTotals().getComparisonAmount()).isEqualByComparingTo("800.00");
+        assertThat(response.getTotals().getQuantity()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should report purchases per vendor with document counts in the totals")
+    void getPurchasesByVendor_TotalsDocumentCounts() {
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 6, 30);
+        when(billRepository.sumByVendorBetween(1L, List.of("DRAFT", "CANCELLED"),
+                from, to, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 6, 30)))
+                .thenReturn(List.of(
+                        contactRow(3L, "VEN-3", "Acme Supplies", 4L, "900.00", 6L, "1200.00"),
+                        contactRow(8L, "VEN-8", "Globex", 0L, "0", 2L, "300.00")));
+
+        AnalyticsReportResponse response = analyticsService.getPurchasesByVendor(from, to,
+                ComparisonPeriod.PREVIOUS_YEAR);
+
+        assertThat(response.getLines().get(0).getChangePercent()).isEqualByComparingTo("-25.00");
+        assertThat(response.getLines().get(1).getChange()).isEqualByComparingTo("-300.00");
+        assertThat(response.getTotals().getDocumentCount()).isEqualTo(4L);
+        assertThat(response.getTotals().getComparisonDocumentCount()).isEqualTo(8L);
+        assertThat(response.getTotals().getAmount()).isEqualByComparingTo("900.00");
+    }
+
+    private static ItemAnalyticsView itemRow(Long itemId, String code, String name, String quantity, String amount,
+                                             String comparisonQuantity, String comparisonAmount) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("itemId", itemId);
+        values.put("itemCode", code);
+        values.put("itemName", name);
+        values.put("quantity", new BigDecimal(quantity));
+        values.put("amount", new BigDecimal(amount));
+        values.put("comparisonQuantity", new BigDecimal(comparisonQuantity));
+        values.put("comparisonAmount", new BigDecimal(comparisonAmount));
+        return projection(ItemAnalyticsView.class, values);
+    }
+
+    private static ContactAnalyticsView contactRow(Long contactId, String code, String name, Long documentCount,
+                                                   String amount, Long comparisonDocumentCount,
+                                                   String comparisonAmount) {
+        return projection(ContactAnalyticsView.class, Map.of(
+                "contactId", contactId,
+                "contactCode", code,
+                "contactName", name,
+                "documentCount", documentCount,
+                "amount", new BigDecimal(amount),
+                "comparisonDocumentCount", comparisonDocumentCount,
+                "comparisonAmount", new BigDecimal(comparisonAmount)));
+    }
+
+    /**
+     * Builds an interface projection backed by a map of property values, like the ones Spring Data returns
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T projection(Class<T> type, Map<String, Object> values) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            String name = method.getName().substring(3);
+            return values.get(Character.toLowerCase(name.charAt(0)) + name.substring(1));
+        });
+    }
+}
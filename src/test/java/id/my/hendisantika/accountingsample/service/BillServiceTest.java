@@ -34,6 +34,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -50,6 +52,10 @@ class BillServiceTest {
     private ItemRepository itemRepository;
     @Mock
     private OrganizationRepository organizationRepository;
+    @Mock
+    private DocumentNumberService documentNumberService;
+    @Mock
+    private AgingService agingService;
 
     @InjectMocks
     private BillService billService;
@@ -118,7 +124,7 @@ class BillServiceTest {
         when(billRepository.existsByBillNumberAndOrganizationId(any(), any())).thenReturn(false);
         when(organizationRepository.findById(1L)).thenReturn(Optional.of(organization));
         when(vendorRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(vendor));
-        when(itemRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(item));
+        when(itemRepository.findAllByIdInAndOrganizationId(anyCollection(), eq(1L))).thenReturn(List.of(item));
         when(billRepository.save(any(Bill.class))).thenReturn(bill);
 
         BillResponse response = billService.createBill(billRequest);
@@ -0,0 +1,205 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.account.AccountResponse;
+import id.my.hendisantika.accountingsample.dto.report.ComparativeBalanceSheetResponse;
+import id.my.hendisantika.accountingsample.dto.report.ComparativeProfitLossResponse;
+import id.my.hendisantika.accountingsample.dto.report.ReportPeriod;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.PeriodType;
+import id.my.hendisantika.accountingsample.repository.AccountPeriodBalanceRepository;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.repository.projection.AccountBalanceView;
+import id.my.hendisantika.accountingsample.repository.projection.AccountPeriodMovementView;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ComparativeReportService Tests")
+class ComparativeReportServiceTest {
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    @Mock
+    private AccountPeriodBalanceRepository accountPeriodBalanceRepository;
+
+    @Mock
+    private ChartOfAccountsCache chartOfAccountsCache;
+
+    @InjectMocks
+    private ComparativeReportService comparativeReportService;
+
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+
+    @BeforeEach
+    void setUp() {
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentOrganizationId).thenReturn(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityUtilsMock.close();
+    }
+
+    @Test
+    @DisplayName("Should lay out fiscal quarters from the fiscal year start month")
+    void periodsEndingAt_FiscalQuarters() {
+        List<ReportPeriod> periods = ComparativeReportService.periodsEndingAt(
+                PeriodType.QUARTER, 4, LocalDate.of(2026, 10, 18), 4);
+
+        assertThat(periods).extracting(ReportPeriod::getLabel)
+                .containsExactly("FY2026 Q4", "FY2027 Q1", "FY2027 Q2", "FY2027 Q3");
+        assertThat(periods.getFirst().getFromDate()).isEqualTo(LocalDate.of(2026, 1, 1));
+        assertThat(periods.getFirst().getToDate()).isEqualTo(LocalDate.of(2026, 3, 31));
+        assertThat(periods.getLast().getFromDate()).isEqualTo(LocalDate.of(2026, 10, 1));
+        assertThat(periods.getLast().getToDate()).isEqualTo(LocalDate.of(2026, 12, 31));
+    }
+
+    @Test
+    @DisplayName("Should lay out calendar months ending with the month of the end date")
+    void periodsEndingAt_Months() {
+        List<ReportPeriod> periods = ComparativeReportService.periodsEndingAt(
+                PeriodType.MONTH, 12, LocalDate.of(2026, 2, 14), 7);
+
+        assertThat(periods).hasSize(12);
+        assertThat(periods.getFirst().getLabel()).isEqualTo("2025-03");
+        assertThat(periods.getLast().getLabel()).isEqualTo("2026-02");
+        assertThat(periods.getLast().getToDate()).isEqualTo(LocalDate.of(2026, 2, 28));
+    }
+
+    @Test
+    @DisplayName("Should reject more periods than a report can hold")
+    void periodsEndingAt_TooManyPeriods_Throws() {
+        assertThatThrownBy(() -> ComparativeReportService.periodsEndingAt(
+                PeriodType.MONTH, 25, LocalDate.of(2026, 10, 18), 1))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Number of periods must be between 1 and 24");
+    }
+
+    @Test
+    @DisplayName("Should fold monthly balances into quarter columns with sub-account subtotals")
+    void getProfitAndLoss_Quarters_FoldsMonths() {
+        givenOrganization();
+        when(chartOfAccountsCache.getAccounts(1L)).thenReturn(List.of(
+                account(10L, "4000", AccountType.REVENUE, null),
+                account(11L, "4100", AccountType.REVENUE, 10L),
+                account(20L, "6000", AccountType.EXPENSE, null)));
+        when(accountPeriodBalanceRepository.findMovementsBetween(eq(1L), anyList(),
+                eq(LocalDate.of(2026, 1, 1)), eq(LocalDate.of(2026, 7, 1))))
+                .thenReturn(List.of(
+                        movement(11L, LocalDate.of(2026, 1, 1), "0", "100"),
+                        movement(11L, LocalDate.of(2026, 3, 1), "0", "50"),
+                        movement(10L, LocalDate.of(2026, 5, 1), "0", "30"),
+                        movement(20L, LocalDate.of(2026, 6, 1), "40", "0")));
+
+        ComparativeProfitLossResponse response = comparativeReportService.getProfitAndLoss(
+                PeriodType.QUARTER, 2, LocalDate.of(2026, 6, 30));
+
+        assertThat(response.getPeriods()).extracting(ReportPeriod::getLabel)
+                .containsExactly("FY2026 Q1", "FY2026 Q2");
+        ComparativeProfitLossResponse.ComparativeProfitLossLine sales = response.getRevenue().getFirst();
+        assertThat(sales.getAmounts()).usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(BigDecimal.ZERO, new BigDecimal("30"));
+        assertThat(sales.getSubtotals()).usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("150"), new BigDecimal("30"));
+        assertThat(response.getNetIncome()).usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("150"), new BigDecimal("-10"));
+    }
+
+    @Test
+    @DisplayName("Should accumulate balances from the opening balance through each period")
+    void getBalanceSheet_Months_AccumulatesBalances() {
+        givenOrganization();
+        when(chartOfAccountsCache.getAccounts(1L)).thenReturn(List.of(
+                account(1L, "1000", AccountType.ASSET, null),
+                account(2L, "3000", AccountType.EQUITY, null),
+                account(3L, "4000", AccountType.REVENUE, null)));
+        when(accountPeriodBalanceRepository.sumByAccountBefore(1L, LocalDate.of(2026, 8, 1)))
+                .thenReturn(List.of(
+                        balance(1L, "500", "0"),
+                        balance(2L, "0", "500")));
+        when(accountPeriodBalanceRepository.findMovementsBetween(eq(1L), anyList(),
+                eq(LocalDate.of(2026, 8, 1)), eq(LocalDate.of(2026, 11, 1))))
+                .thenReturn(List.of(
+                        movement(1L, LocalDate.of(2026, 9, 1), "200", "0"),
+                        movement(3L, LocalDate.of(2026, 9, 1), "0", "200")));
+
+        ComparativeBalanceSheetResponse response = comparativeReportService.getBalanceSheet(
+                PeriodType.MONTH, 3, LocalDate.of(2026, 10, 18));
+
+        assertThat(response.getTotalAssets()).usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("500"), new BigDecimal("700"), new BigDecimal("700"));
+        assertThat(response.getRetainedEarnings()).usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(BigDecimal.ZERO, new BigDecimal("200"), new BigDecimal("200"));
+        assertThat(response.getTotalEquity()).usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyElementsOf(response.getTotalAssets());
+        assertThat(response.getLiabilities()).isEmpty();
+    }
+
+    private void givenOrganization() {
+        Organization organization = Organization.builder().fiscalYearStartMonth(1).build();
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(organization));
+    }
+
+    private AccountResponse account(Long id, String code, AccountType accountType, Long parentId) {
+        return AccountResponse.builder()
+                .id(id)
+                .code(code)
+                .name("Account " + code)
+                .accountType(accountType)
+                .parentId(parentId)
+                .build();
+    }
+
+    private static AccountPeriodMovementView movement(Long accountId, LocalDate periodStart, String debit,
+                                                      String credit) {
+        return projection(AccountPeriodMovementView.class, Map.of(
+                "accountId", accountId,
+                "periodStart", periodStart,
+                "debitTotal", new BigDecimal(debit),
+                "creditTotal", new BigDecimal(credit)));
+    }
+
+    private static AccountBalanceView balance(Long accountId, String debit, String credit) {
+        return projection(AccountBalanceView.class, Map.of(
+                "accountId", accountId,
+                "debitTotal", new BigDecimal(debit),
+                "creditTotal", new BigDecimal(credit)));
+    }
+
+    /**
+     * Builds an interface projection backed by a map of property values, like the ones Spring Data returns
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T projection(Class<T> type, Map<String, Object> values) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            String name = method.getName().substring(3);
+            return values.get(Character.toLowerCase(name.charAt(0)) + name.substring(1));
+        });
+    }
+}
@@ -0,0 +1,165 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.report.ConsolidatedTrialBalanceResponse;
+import id.my.hendisantika.accountingsample.dto.report.TrialBalanceResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.multitenancy.TenantContext;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConsolidationService Tests")
+class ConsolidationServiceTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2026, 9, 30);
+
+    @Mock
+    private OrganizationAccessService organizationAccessService;
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    @Mock
+    private ReportCache reportCache;
+
+    @InjectMocks
+    private ConsolidationService consolidationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(consolidationService, "maxOrganizations", 3);
+        ReflectionTestUtils.setField(consolidationService, "maxParallelOrganizations", 2);
+        consolidationService.init();
+        when(organizationAccessService.getAccessibleOrganizationIds())
+                .thenReturn(new LinkedHashSet<>(List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("Should run the organizations in parallel and merge their accounts by code")
+    void getConsolidatedTrialBalance_MergesByAccountCode() {
+        when(organizationRepository.findAllById(List.of(1L, 2L)))
+                .thenReturn(List.of(organization(2L, "Subsidiary", "IDR"), organization(1L, "Parent", "IDR")));
+
+        // Both reports have to be running at once for either to finish
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Map<Long, Long> tenants = new ConcurrentHashMap<>();
+        when(reportCache.getTrialBalance(anyLong(), any())).thenAnswer(invocation -> {
+            Long orgId = invocation.getArgument(0);
+            tenants.put(orgId, TenantContext.getTenantId());
+            bothStarted.countDown();
+            assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return orgId == 1L
+                    ? trialBalance(line("1000", "Cash", AccountType.ASSET, "500", "0"),
+                    line("3000", "Capital", AccountType.EQUITY, "0", "500"))
+                    : trialBalance(line("1000", "Bank", AccountType.ASSET, "0", "200"),
+                    line("4000", "Sales", AccountType.REVENUE, "0", "300"),
+                    line("6000", "Wages", AccountType.EXPENSE, "500", "0"));
+        });
+
+        ConsolidatedTrialBalanceResponse response = consolidationService.getConsolidatedTrialBalance(null, AS_OF);
+
+        assertThat(tenants).containsEntry(1L, 1L).containsEntry(2L, 2L);
+        assertThat(response.getOrganizations())
+                .extracting(ConsolidatedTrialBalanceResponse.ConsolidatedOrganization::getName)
+                .containsExactly("Parent", "Subsidiary");
+        assertThat(response.getLines())
+                .extracting(ConsolidatedTrialBalanceResponse.ConsolidatedTrialBalanceLine::getAccountCode)
+                .containsExactly("1000", "3000", "4000", "6000");
+
+        ConsolidatedTrialBalanceResponse.ConsolidatedTrialBalanceLine cash = response.getLines().getFirst();
+        assertThat(cash.getAccountName()).isEqualTo("Cash");
+        assertThat(cash.getOrganizationBalances()).usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("500"), new BigDecimal("-200"));
+        assertThat(cash.getDebit()).isEqualByComparingTo("300");
+        assertThat(response.getTotalDebit()).isEqualByComparingTo("800");
+        assertThat(response.getTotalCredit()).isEqualByComparingTo("800");
+        assertThat(response.getCurrencyCode()).isEqualTo("IDR");
+    }
+
+    @Test
+    @DisplayName("Should refuse an organization the user has no access to")
+    void getConsolidatedTrialBalance_NoAccess_Throws() {
+        assertThatThrownBy(() -> consolidationService.getConsolidatedTrialBalance(List.of(1L, 7L), AS_OF))
+                .isInstanceOf(AccessDeniedException.class);
+
+        verify(reportCache, never()).getTrialBalance(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should refuse organizations kept in different currencies")
+    void getConsolidatedTrialBalance_MixedCurrencies_Throws() {
+        when(organizationRepository.findAllById(List.of(1L, 2L)))
+                .thenReturn(List.of(organization(1L, "Parent", "IDR"), organization(2L, "Subsidiary", "USD")));
+
+        assertThatThrownBy(() -> consolidationService.getConsolidatedTrialBalance(List.of(1L, 2L, 1L), AS_OF))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Organizations with different currencies cannot be consolidated");
+
+        verify(reportCache, never()).getTrialBalance(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should pass on the failure of any one organization")
+    void getConsolidatedTrialBalance_OrganizationFails_Rethrows() {
+        when(organizationRepository.findAllById(List.of(1L, 2L)))
+                .thenReturn(List.of(organization(1L, "Parent", "IDR"), organization(2L, "Subsidiary", "IDR")));
+        when(reportCache.getTrialBalance(anyLong(), any())).thenAnswer(invocation -> {
+            if (invocation.<Long>getArgument(0) == 2L) {
+                throw new IllegalStateException("Database unavailable");
+            }
+            return trialBalance();
+        });
+
+        assertThatThrownBy(() -> consolidationService.getConsolidatedTrialBalance(List.of(1L, 2L), AS_OF))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Database unavailable");
+    }
+
+    private static Organization organization(Long id, String name, String currencyCode) {
+        Organization organization = Organization.builder().name(name).currencyCode(currencyCode).build();
+        organization.setId(id);
+        return organization;
+    }
+
+    private static TrialBalanceResponse trialBalance(TrialBalanceResponse.TrialBalanceLine... lines) {
+        return TrialBalanceResponse.builder().asOfDate(AS_OF).lines(List.of(lines)).build();
+    }
+
+    private static TrialBalanceResponse.TrialBalanceLine line(String code, String name, AccountType accountType,
+                                                              String debit, String credit) {
+        return TrialBalanceResponse.TrialBalanceLine.builder()
+                .accountCode(code)
+                .accountName(name)
+                .accountType(accountType)
+                .debit(new BigDecimal(debit))
+                .credit(new BigDecimal(credit))
+                .build();
+    }
+}
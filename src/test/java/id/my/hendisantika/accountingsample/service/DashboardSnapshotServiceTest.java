@@ -0,0 +1,124 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.dashboard.DashboardKpiResponse;
+import id.my.hendisantika.accountingsample.model.DashboardKpis;
+import id.my.hendisantika.accountingsample.model.DashboardSnapshot;
+import id.my.hendisantika.accountingsample.repository.DashboardDailyKpiRepository;
+import id.my.hendisantika.accountingsample.repository.DashboardSnapshotRepository;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardSnapshotService Tests")
+class DashboardSnapshotServiceTest {
+
+    @Mock
+    private DashboardSnapshotRepository dashboardSnapshotRepository;
+
+    @Mock
+    private DashboardDailyKpiRepository dashboardDailyKpiRepository;
+
+    @InjectMocks
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+
+    @BeforeEach
+    void setUp() {
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentOrganizationId).thenReturn(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityUtilsMock.close();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should queue an organization only once its transaction commits")
+    void markStale_InTransaction_QueuedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        dashboardSnapshotService.markStale(1L);
+        dashboardSnapshotService.markStale(1L);
+        assertThat(dashboardSnapshotService.takeStaleOrganizations()).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(dashboardSnapshotService.takeStaleOrganizations()).containsExactly(1L);
+        assertThat(dashboardSnapshotService.takeStaleOrganizations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should queue an organization right away outside a transaction")
+    void markStale_NoTransaction_QueuedImmediately() {
+        dashboardSnapshotService.markStale(2L);
+        dashboardSnapshotService.markStale(3L);
+
+        assertThat(dashboardSnapshotService.takeStaleOrganizations()).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should compute month to date from the first of the month and record the day")
+    void refresh_PassesMonthStartAndRecordsDay() {
+        LocalDate asOfDate = LocalDate.of(2026, 10, 18);
+
+        dashboardSnapshotService.refresh(1L, asOfDate);
+
+        verify(dashboardSnapshotRepository).refresh(1L, asOfDate, LocalDate.of(2026, 10, 1),
+                List.of("DRAFT", "VOID", "CANCELLED"),
+                List.of("DRAFT", "CANCELLED"),
+                List.of("SENT", "PARTIALLY_PAID", "OVERDUE"),
+                List.of("SUBMITTED", "APPROVED", "PARTIALLY_PAID", "OVERDUE"));
+        verify(dashboardDailyKpiRepository).recordFromSnapshot(1L);
+    }
+
+    @Test
+    @DisplayName("Should build the first snapshot of an organization on demand")
+    void getSnapshot_Missing_RefreshesFirst() {
+        DashboardSnapshot snapshot = DashboardSnapshot.builder()
+                .asOfDate(LocalDate.now())
+                .kpis(DashboardKpis.builder()
+                        .revenueMtd(new BigDecimal("1500.00"))
+                        .overdueInvoiceCount(2)
+                        .cashPosition(new BigDecimal("820.00"))
+                        .build())
+                .build();
+        when(dashboardSnapshotRepository.findByOrganizationId(1L))
+                .thenReturn(Optional.empty(), Optional.of(snapshot));
+
+        DashboardKpiResponse response = dashboardSnapshotService.getSnapshot();
+
+        verify(dashboardSnapshotRepository).refresh(eq(1L), eq(LocalDate.now()), any(), anyList(), anyList(),
+                anyList(), anyList());
+        assertThat(response.getRevenueMtd()).isEqualByComparingTo("1500.00");
+        assertThat(response.getOverdueInvoiceCount()).isEqualTo(2);
+        assertThat(response.getCashPosition()).isEqualByComparingTo("820.00");
+    }
+}
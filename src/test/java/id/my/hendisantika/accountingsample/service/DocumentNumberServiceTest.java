@@ -0,0 +1,97 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.model.enums.DocumentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DocumentNumberService Tests")
+class DocumentNumberServiceTest {
+
+    @Mock
+    private DocumentSequenceAllocator documentSequenceAllocator;
+
+    @InjectMocks
+    private DocumentNumberService documentNumberService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(documentNumberService, "blockSize", 3);
+        ReflectionTestUtils.setField(documentNumberService, "sequencePadding", 4);
+        ReflectionTestUtils.setField(documentNumberService, "invoiceFormat", "INV-{seq}");
+        ReflectionTestUtils.setField(documentNumberService, "billFormat", "BILL-{seq}");
+        ReflectionTestUtils.setField(documentNumberService, "paymentReceivedFormat", "PAY-RECV-{date}-{seq}");
+        ReflectionTestUtils.setField(documentNumberService, "paymentMadeFormat", "PAY-MADE-{date}-{seq}");
+        ReflectionTestUtils.setField(documentNumberService, "journalEntryFormat", "JE-{seq}");
+        documentNumberService.init();
+    }
+
+    @Test
+    @DisplayName("Should hand out a whole block before reserving the next one")
+    void nextNumber_ServesFromCachedBlock() {
+        when(documentSequenceAllocator.allocateBlock(1L, DocumentType.INVOICE, 3)).thenReturn(4L, 7L);
+
+        assertThat(documentNumberService.nextNumber(1L, DocumentType.INVOICE)).isEqualTo("INV-0001");
+        assertThat(documentNumberService.nextNumber(1L, DocumentType.INVOICE)).isEqualTo("INV-0002");
+        assertThat(documentNumberService.nextNumber(1L, DocumentType.INVOICE)).isEqualTo("INV-0003");
+        assertThat(documentNumberService.nextNumber(1L, DocumentType.INVOICE)).isEqualTo("INV-0004");
+
+        verify(documentSequenceAllocator, times(2)).allocateBlock(1L, DocumentType.INVOICE, 3);
+    }
+
+    @Test
+    @DisplayName("Should keep separate sequences per organization and document type")
+    void nextNumber_SeparateSequencesPerKey() {
+        when(documentSequenceAllocator.allocateBlock(1L, DocumentType.BILL, 3)).thenReturn(4L);
+        when(documentSequenceAllocator.allocateBlock(2L, DocumentType.BILL, 3)).thenReturn(31L);
+
+        assertThat(documentNumberService.nextNumber(1L, DocumentType.BILL)).isEqualTo("BILL-0001");
+        assertThat(documentNumberService.nextNumber(2L, DocumentType.BILL)).isEqualTo("BILL-0028");
+    }
+
+    @Test
+    @DisplayName("Should render the date token and keep digits beyond the padding width")
+    void nextNumber_FormatsDateAndWideValues() {
+        when(documentSequenceAllocator.allocateBlock(1L, DocumentType.PAYMENT_MADE, 3)).thenReturn(12346L);
+
+        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        assertThat(documentNumberService.nextNumber(1L, DocumentType.PAYMENT_MADE))
+                .isEqualTo("PAY-MADE-" + today + "-12343");
+    }
+
+    @Test
+    @DisplayName("Should skip numbers that are already taken")
+    void nextFreeNumber_SkipsTakenNumbers() {
+        when(documentSequenceAllocator.allocateBlock(1L, DocumentType.INVOICE, 3)).thenReturn(4L);
+        Set<String> taken = Set.of("INV-0001", "INV-0002");
+
+        assertThat(documentNumberService.nextFreeNumber(1L, DocumentType.INVOICE, taken::contains))
+                .isEqualTo("INV-0003");
+    }
+
+    @Test
+    @DisplayName("Should reject a format without a sequence token")
+    void init_FormatWithoutSequence_ThrowsException() {
+        ReflectionTestUtils.setField(documentNumberService, "journalEntryFormat", "JE-{date}");
+
+        assertThatThrownBy(() -> documentNumberService.init())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("{seq}");
+    }
+}
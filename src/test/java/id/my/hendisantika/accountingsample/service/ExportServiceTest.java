@@ -0,0 +1,168 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.model.enums.ExportFormat;
+import id.my.hendisantika.accountingsample.model.enums.InvoiceStatus;
+import id.my.hendisantika.accountingsample.model.enums.JournalEntryStatus;
+import id.my.hendisantika.accountingsample.repository.BillRepository;
+import id.my.hendisantika.accountingsample.repository.CustomerRepository;
+import id.my.hendisantika.accountingsample.repository.InvoiceRepository;
+import id.my.hendisantika.accountingsample.repository.JournalEntryLineRepository;
+import id.my.hendisantika.accountingsample.repository.PaymentRepository;
+import id.my.hendisantika.accountingsample.repository.projection.CustomerExportView;
+import id.my.hendisantika.accountingsample.repository.projection.InvoiceExportView;
+import id.my.hendisantika.accountingsample.repository.projection.JournalLineExportView;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportService Tests")
+class ExportServiceTest {
+
+    @Mock
+    private InvoiceRepository invoiceRepository;
+
+    @Mock
+    private BillRepository billRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private JournalEntryLineRepository journalEntryLineRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @InjectMocks
+    private ExportService exportService;
+
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+
+    @BeforeEach
+    void setUp() {
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentOrganizationId).thenReturn(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityUtilsMock.close();
+    }
+
+    @Test
+    @DisplayName("Should write invoices as CSV rows and close the cursor")
+    void exportInvoices_Csv_WritesRowsAndClosesStream() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        InvoiceExportView invoice = projection(InvoiceExportView.class, Map.ofEntries(
+                Map.entry("invoiceNumber", "INV-000001"),
+                Map.entry("invoiceDate", LocalDate.of(2026, 10, 1)),
+                Map.entry("dueDate", LocalDate.of(2026, 10, 31)),
+                Map.entry("customerCode", "C-001"),
+                Map.entry("customerName", "Acme, Inc."),
+                Map.entry("status", InvoiceStatus.SENT),
+                Map.entry("subtotal", new BigDecimal("100.0000")),
+                Map.entry("taxAmount", new BigDecimal("10.0000")),
+                Map.entry("totalAmount", new BigDecimal("110.0000")),
+                Map.entry("paidAmount", BigDecimal.ZERO),
+                Map.entry("balance", new BigDecimal("110.0000"))));
+        when(invoiceRepository.streamForExportByOrganizationId(1L))
+                .thenReturn(Stream.of(invoice).onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportInvoices(ExportFormat.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+                "Invoice Number,Invoice Date,Due Date,Customer Code,Customer,Status,Subtotal,Tax,Total,Paid,Balance",
+                "INV-000001,2026-10-01,2026-10-31,C-001,\"Acme, Inc.\",SENT,100.0000,10.0000,110.0000,0,110.0000");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should leave missing values empty in CSV")
+    void exportCustomers_Csv_NullsAsEmpty() throws IOException {
+        Map<String, Object> values = new HashMap<>();
+        values.put("customerCode", "C-002");
+        values.put("name", "Jane Doe");
+        values.put("email", "jane@example.com");
+        values.put("paymentTerms", 30);
+        values.put("outstandingBalance", new BigDecimal("25.50"));
+        values.put("isActive", true);
+        when(customerRepository.streamForExportByOrganizationId(1L))
+                .thenReturn(Stream.of(projection(CustomerExportView.class, values)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportCustomers(ExportFormat.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")[1])
+                .isEqualTo("C-002,Jane Doe,,jane@example.com,,,30,,25.50,true");
+    }
+
+    @Test
+    @DisplayName("Should write journal lines to a workbook with typed date and amount cells")
+    void exportJournalLines_Xlsx_WritesTypedCells() throws IOException {
+        JournalLineExportView line = projection(JournalLineExportView.class, Map.of(
+                "journalNumber", "JE-000001",
+                "entryDate", LocalDate.of(2026, 10, 18),
+                "status", JournalEntryStatus.POSTED,
+                "accountCode", "1000",
+                "accountName", "Cash",
+                "description", "Opening balance",
+                "debitAmount", new BigDecimal("1250.75"),
+                "creditAmount", BigDecimal.ZERO));
+        when(journalEntryLineRepository.streamForExportByOrganizationId(1L)).thenReturn(Stream.of(line));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportJournalLines(ExportFormat.XLSX, out);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Journal Lines");
+            assertThat(sheet.getLastRowNum()).isEqualTo(1);
+            assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo("Journal Number");
+
+            Row row = sheet.getRow(1);
+            assertThat(row.getCell(0).getStringCellValue()).isEqualTo("JE-000001");
+            assertThat(row.getCell(1).getLocalDateTimeCellValue().toLocalDate()).isEqualTo(LocalDate.of(2026, 10, 18));
+            assertThat(row.getCell(2).getStringCellValue()).isEqualTo("POSTED");
+            assertThat(row.getCell(6).getNumericCellValue()).isEqualTo(1250.75);
+            assertThat(row.getCell(7).getNumericCellValue()).isZero();
+        }
+    }
+
+    /**
+     * Builds an interface projection backed by a map of property values, like the ones Spring Data returns
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T projection(Class<T> type, Map<String, Object> values) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            String name = method.getName().substring(3);
+            return values.get(Character.toLowerCase(name.charAt(0)) + name.substring(1));
+        });
+    }
+}
@@ -1,9 +1,12 @@
 package id.my.hendisantika.accountingsample.service;
 
+import id.my.hendisantika.accountingsample.dto.SliceResponse;
 import id.my.hendisantika.accountingsample.dto.invoice.InvoiceItemRequest;
 import id.my.hendisantika.accountingsample.dto.invoice.InvoiceRequest;
 import id.my.hendisantika.accountingsample.dto.invoice.InvoiceResponse;
+import id.my.hendisantika.accountingsample.dto.invoice.InvoiceSummaryResponse;
 import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
 import id.my.hendisantika.accountingsample.model.Customer;
 import id.my.hendisantika.accountingsample.model.Invoice;
 import id.my.hendisantika.accountingsample.model.Item;
@@ -14,6 +17,7 @@ import id.my.hendisantika.accountingsample.repository.InvoiceItemRepository;
 import id.my.hendisantika.accountingsample.repository.InvoiceRepository;
 import id.my.hendisantika.accountingsample.repository.ItemRepository;
 import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.repository.projection.InvoiceSummaryView;
 import id.my.hendisantika.accountingsample.util.SecurityUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +28,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -36,8 +43,12 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -63,6 +74,10 @@ class InvoiceServiceTest {
     private CustomerRepository customerRepository;
     @Mock
     private ItemRepository itemRepository;
+    @Mock
+    private DocumentNumberService documentNumberService;
+    @Mock
+    private AgingService agingService;
 
     @InjectMocks
     private InvoiceService invoiceService;
@@ -140,7 +155,7 @@ class InvoiceServiceTest {
         when(invoiceRepository.existsByInvoiceNumberAndOrganizationId(anyString(), any())).thenReturn(false);
         when(organizationRepository.findById(1L)).thenReturn(Optional.of(organization));
         when(customerRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(customer));
-        when(itemRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(item));
+        when(itemRepository.findAllByIdInAndOrganizationId(anyCollection(), eq(1L))).thenReturn(List.of(item));
         when(invoiceRepository.save(any(Invoice.class))).thenReturn(invoice);
 
         // When
@@ -164,6 +179,29 @@ class InvoiceServiceTest {
                 .hasMessage("Invoice number already exists");
     }
 
+    @Test
+    @DisplayName("Should resolve invoice items with one query and report every missing item")
+    void createInvoice_MissingItems_ThrowsException() {
+        // Given
+        InvoiceItemRequest missingItem = new InvoiceItemRequest();
+        missingItem.setItemId(99L);
+        missingItem.setQuantity(BigDecimal.ONE);
+        missingItem.setUnitPrice(BigDecimal.TEN);
+        missingItem.setLineOrder(2);
+        invoiceRequest.setItems(List.of(invoiceRequest.getItems().get(0), missingItem));
+
+        when(invoiceRepository.existsByInvoiceNumberAndOrganizationId(anyString(), any())).thenReturn(false);
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(organization));
+        when(customerRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(customer));
+        when(itemRepository.findAllByIdInAndOrganizationId(anyCollection(), eq(1L))).thenReturn(List.of(item));
+
+        // When & Then
+        assertThatThrownBy(() -> invoiceService.createInvoice(invoiceRequest))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Item not found with id: 99");
+        verify(itemRepository, never()).findByIdAndOrganizationId(any(), any());
+    }
+
     @Test
     @DisplayName("Should get all invoices")
     void getAllInvoices_Success() {
@@ -178,11 +216,32 @@ class InvoiceServiceTest {
         verify(invoiceRepository).findByOrganizationId(1L);
     }
 
+    @Test
+    @DisplayName("Should get invoice summaries without loading entities")
+    void getInvoiceSummaries_Success() {
+        // Given
+        InvoiceSummaryView summary = mock(InvoiceSummaryView.class);
+        when(summary.getInvoiceNumber()).thenReturn("INV-001");
+        PageRequest pageRequest = PageRequest.of(0, 20);
+        when(invoiceRepository.findSummariesByOrganizationId(1L, pageRequest))
+                .thenReturn(new SliceImpl<>(List.of(summary), pageRequest, true));
+
+        // When
+        SliceResponse<InvoiceSummaryResponse> summaries = invoiceService.getInvoiceSummaries(
+                PageRequest.of(0, 20, Sort.by("totalAmount")));
+
+        // Then
+        assertThat(summaries.getContent()).extracting(InvoiceSummaryResponse::getInvoiceNumber)
+                .containsExactly("INV-001");
+        assertThat(summaries.isHasNext()).isTrue();
+        verify(invoiceRepository, never()).findByOrganizationId(1L);
+    }
+
     @Test
     @DisplayName("Should get invoice by ID")
     void getInvoiceById_Success() {
         // Given
-        when(invoiceRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(invoice));
+        when(invoiceRepository.findWithItemsByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(invoice));
 
         // When
         InvoiceResponse response = invoiceService.getInvoiceById(1L);
@@ -1,17 +1,20 @@
 package id.my.hendisantika.accountingsample.service;
 
+import id.my.hendisantika.accountingsample.dto.journal.JournalEntryBatchPostResponse;
 import id.my.hendisantika.accountingsample.dto.journal.JournalEntryLineRequest;
 import id.my.hendisantika.accountingsample.dto.journal.JournalEntryRequest;
 import id.my.hendisantika.accountingsample.dto.journal.JournalEntryResponse;
 import id.my.hendisantika.accountingsample.exception.BusinessException;
 import id.my.hendisantika.accountingsample.model.Account;
 import id.my.hendisantika.accountingsample.model.JournalEntry;
+import id.my.hendisantika.accountingsample.model.JournalEntryLine;
 import id.my.hendisantika.accountingsample.model.Organization;
 import id.my.hendisantika.accountingsample.model.enums.AccountType;
 import id.my.hendisantika.accountingsample.model.enums.JournalEntryStatus;
 import id.my.hendisantika.accountingsample.repository.AccountRepository;
 import id.my.hendisantika.accountingsample.repository.JournalEntryRepository;
 import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.repository.projection.PostingLineView;
 import id.my.hendisantika.accountingsample.util.SecurityUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,18 +25,26 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -47,6 +58,17 @@ class JournalEntryServiceTest {
     private AccountRepository accountRepository;
     @Mock
     private OrganizationRepository organizationRepository;
+    @Mock
+    private AccountPeriodBalanceService accountPeriodBalanceService;
+    @Mock
+    private ChartOfAccountsCache chartOfAccountsCache;
+    @Mock
+    private DocumentNumberService documentNumberService;
+
+    @Mock
+    private LedgerVersionService ledgerVersionService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
 
     @InjectMocks
     private JournalEntryService journalEntryService;
@@ -125,8 +147,8 @@ class JournalEntryServiceTest {
     void createJournalEntry_Success() {
         when(journalEntryRepository.existsByJournalNumberAndOrganizationId(any(), any())).thenReturn(false);
         when(organizationRepository.findById(1L)).thenReturn(Optional.of(organization));
-        when(accountRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(debitAccount));
-        when(accountRepository.findByIdAndOrganizationId(2L, 1L)).thenReturn(Optional.of(creditAccount));
+        when(accountRepository.findAllByIdInAndOrganizationId(anyCollection(), eq(1L)))
+                .thenReturn(List.of(debitAccount, creditAccount));
         when(journalEntryRepository.save(any(JournalEntry.class))).thenReturn(journalEntry);
 
         JournalEntryResponse response = journalEntryService.createJournalEntry(journalEntryRequest);
@@ -146,7 +168,7 @@ class JournalEntryServiceTest {
 
         when(journalEntryRepository.existsByJournalNumberAndOrganizationId(any(), any())).thenReturn(false);
         when(organizationRepository.findById(1L)).thenReturn(Optional.of(organization));
-        when(accountRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(debitAccount));
+        when(accountRepository.findAllByIdInAndOrganizationId(anyCollection(), eq(1L))).thenReturn(List.of(debitAccount));
 
         assertThatThrownBy(() -> journalEntryService.createJournalEntry(journalEntryRequest))
                 .isInstanceOf(BusinessException.class)
@@ -164,6 +186,102 @@ class JournalEntryServiceTest {
                 .hasMessage("Cannot update journal entry that is not in DRAFT status");
     }
 
+    @Test
+    @DisplayName("Should post draft journal entry and record period balances")
+    void postJournalEntry_Draft_RecordsPeriodBalances() {
+        journalEntry.getLines().add(JournalEntryLine.builder()
+                .journalEntry(journalEntry)
+                .account(debitAccount)
+                .debitAmount(BigDecimal.valueOf(100))
+                .creditAmount(BigDecimal.ZERO)
+                .build());
+        journalEntry.getLines().add(JournalEntryLine.builder()
+                .journalEntry(journalEntry)
+                .account(creditAccount)
+                .debitAmount(BigDecimal.ZERO)
+                .creditAmount(BigDecimal.valueOf(100))
+                .build());
+        when(journalEntryRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(journalEntry));
+        when(journalEntryRepository.save(any(JournalEntry.class))).thenReturn(journalEntry);
+        when(journalEntryRepository.updateStatusByIdInAndStatus(eq(List.of(1L)), eq(1L),
+                eq(JournalEntryStatus.DRAFT), eq(JournalEntryStatus.POSTED), any())).thenReturn(1);
+
+        JournalEntryResponse response = journalEntryService.postJournalEntry(1L);
+
+        assertThat(response.getStatus()).isEqualTo(JournalEntryStatus.POSTED);
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Object[]> rows) -> hasRows(rows,
+                new Object[]{new BigDecimal("100"), 1L, 1L},
+                new Object[]{new BigDecimal("100"), 2L, 1L})));
+        verify(accountPeriodBalanceService).recordPosting(1L, journalEntry);
+        verify(ledgerVersionService).increment(1L);
+    }
+
+    @Test
+    @DisplayName("Should post batch of draft entries with one balance change per account")
+    void postJournalEntries_Drafts_AggregatesPerAccount() {
+        LocalDate entryDate = LocalDate.of(2026, 3, 10);
+        when(journalEntryRepository.findPostingLines(List.of(10L, 11L), 1L)).thenReturn(List.of(
+                postingLine(10L, JournalEntryStatus.DRAFT, entryDate, 1L, "100", "0"),
+                postingLine(10L, JournalEntryStatus.DRAFT, entryDate, 2L, "0", "100"),
+                postingLine(11L, JournalEntryStatus.DRAFT, entryDate, 1L, "50", "0"),
+                postingLine(11L, JournalEntryStatus.DRAFT, entryDate, 2L, "0", "50")));
+        when(accountRepository.findAllByIdInAndOrganizationId(anyList(), eq(1L)))
+                .thenReturn(List.of(debitAccount, creditAccount));
+        when(journalEntryRepository.updateStatusByIdInAndStatus(eq(List.of(10L, 11L)), eq(1L),
+                eq(JournalEntryStatus.DRAFT), eq(JournalEntryStatus.POSTED), any())).thenReturn(2);
+
+        JournalEntryBatchPostResponse response = journalEntryService.postJournalEntries(List.of(10L, 11L, 10L));
+
+        assertThat(response.getPostedCount()).isEqualTo(2);
+        assertThat(response.getAccountsUpdated()).isEqualTo(2);
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Object[]> rows) -> hasRows(rows,
+                new Object[]{new BigDecimal("150"), 1L, 1L},
+                new Object[]{new BigDecimal("150"), 2L, 1L})));
+        verify(accountPeriodBalanceService).recordMovements(eq(1L),
+                argThat((Map<LocalDate, Map<Long, BigDecimal[]>> totals) -> {
+                    BigDecimal[] total = totals.get(LocalDate.of(2026, 3, 1)).get(1L);
+                    return totals.size() == 1 && total[0].compareTo(new BigDecimal("150")) == 0
+                            && total[1].signum() == 0;
+                }));
+        verify(ledgerVersionService).increment(1L);
+    }
+
+    @Test
+    @DisplayName("Should fail the batch without touching balances when an entry was posted meanwhile")
+    void postJournalEntries_PostedMeanwhile_ThrowsException() {
+        LocalDate entryDate = LocalDate.of(2026, 3, 10);
+        when(journalEntryRepository.findPostingLines(List.of(10L, 11L), 1L)).thenReturn(List.of(
+                postingLine(10L, JournalEntryStatus.DRAFT, entryDate, 1L, "100", "0"),
+                postingLine(10L, JournalEntryStatus.DRAFT, entryDate, 2L, "0", "100"),
+                postingLine(11L, JournalEntryStatus.DRAFT, entryDate, 1L, "50", "0"),
+                postingLine(11L, JournalEntryStatus.DRAFT, entryDate, 2L, "0", "50")));
+        when(journalEntryRepository.updateStatusByIdInAndStatus(eq(List.of(10L, 11L)), eq(1L),
+                eq(JournalEntryStatus.DRAFT), eq(JournalEntryStatus.POSTED), any())).thenReturn(1);
+
+        assertThatThrownBy(() -> journalEntryService.postJournalEntries(List.of(10L, 11L)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Some of the journal entries were posted meanwhile; nothing was posted");
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(ledgerVersionService, never()).increment(any());
+    }
+
+    @Test
+    @DisplayName("Should reject whole batch when any entry is not draft")
+    void postJournalEntries_NonDraft_ThrowsException() {
+        LocalDate entryDate = LocalDate.of(2026, 3, 10);
+        when(journalEntryRepository.findPostingLines(List.of(10L, 11L), 1L)).thenReturn(List.of(
+                postingLine(10L, JournalEntryStatus.DRAFT, entryDate, 1L, "100", "0"),
+                postingLine(10L, JournalEntryStatus.DRAFT, entryDate, 2L, "0", "100"),
+                postingLine(11L, JournalEntryStatus.POSTED, entryDate, 1L, "50", "0"),
+                postingLine(11L, JournalEntryStatus.POSTED, entryDate, 2L, "0", "50")));
+
+        assertThatThrownBy(() -> journalEntryService.postJournalEntries(List.of(10L, 11L)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Only DRAFT journal entries can be posted: 11");
+        verify(journalEntryRepository, never()).updateStatusByIdInAndStatus(any(), any(), any(), any(), any());
+        verify(ledgerVersionService, never()).increment(any());
+    }
+
     @Test
     @DisplayName("Should delete draft journal entry")
     void deleteJournalEntry_Draft_Success() {
@@ -182,4 +300,44 @@ class JournalEntryServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessage("Cannot delete journal entry that is not in DRAFT status");
     }
+
+    private PostingLineView postingLine(Long journalEntryId, JournalEntryStatus status, LocalDate entryDate,
+                                        Long accountId, String debitAmount, String creditAmount) {
+        return new PostingLineView() {
+            @Override
+            public Long getJournalEntryId() {
+                return journalEntryId;
+            }
+
+            @Override
+            public JournalEntryStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDate getEntryDate() {
+                return entryDate;
+            }
+
+            @Override
+            public Long getAccountId() {
+                return accountId;
+            }
+
+            @Override
+            public BigDecimal getDebitAmount() {
+                return new BigDecimal(debitAmount);
+            }
+
+            @Override
+            public BigDecimal getCreditAmount() {
+                return new BigDecimal(creditAmount);
+            }
+        };
+    }
+
+    private static boolean hasRows(List<Object[]> rows, Object[]... expected) {
+        return rows.size() == expected.length && Arrays.stream(expected)
+                .allMatch(row -> rows.stream().anyMatch(actual -> Arrays.equals(actual, row)));
+    }
 }
@@ -0,0 +1,62 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerVersionService Tests")
+class LedgerVersionServiceTest {
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    @Mock
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private LedgerVersionService ledgerVersionService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should increment the version within the calling transaction, just before it commits")
+    void increment_InTransaction_BeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        ledgerVersionService.increment(1L);
+        verify(organizationRepository, never()).incrementLedgerVersion(1L);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.beforeCommit(false));
+
+        verify(organizationRepository).incrementLedgerVersion(1L);
+        verify(dashboardSnapshotService).markStale(1L);
+    }
+
+    @Test
+    @DisplayName("Should increment the version right away outside a transaction")
+    void increment_NoTransaction_Immediately() {
+        ledgerVersionService.increment(2L);
+
+        verify(organizationRepository).incrementLedgerVersion(2L);
+    }
+}
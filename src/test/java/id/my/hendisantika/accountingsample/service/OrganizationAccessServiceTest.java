@@ -0,0 +1,128 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.organization.OrganizationAccessRequest;
+import id.my.hendisantika.accountingsample.dto.organization.OrganizationAccessResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.OrganizationAccessGrant;
+import id.my.hendisantika.accountingsample.model.User;
+import id.my.hendisantika.accountingsample.repository.OrganizationAccessGrantRepository;
+import id.my.hendisantika.accountingsample.repository.OrganizationRepository;
+import id.my.hendisantika.accountingsample.repository.UserRepository;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrganizationAccessService Tests")
+class OrganizationAccessServiceTest {
+
+    @Mock
+    private OrganizationAccessGrantRepository organizationAccessGrantRepository;
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private OrganizationAccessService organizationAccessService;
+
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+    private Organization organization;
+    private OrganizationAccessRequest request;
+
+    @BeforeEach
+    void setUp() {
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentOrganizationId).thenReturn(1L);
+        securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(10L);
+
+        organization = Organization.builder().name("Parent").build();
+        organization.setId(1L);
+
+        request = new OrganizationAccessRequest();
+        request.setEmail("controller@subsidiary.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityUtilsMock.close();
+    }
+
+    @Test
+    @DisplayName("Should list the user's own organization first and then the granted ones")
+    void getAccessibleOrganizationIds_OwnOrganizationFirst() {
+        User user = user(10L, "owner@parent.com", organization);
+        securityUtilsMock.when(SecurityUtils::getCurrentUser).thenReturn(user);
+        when(organizationAccessGrantRepository.findOrganizationIdsByUserId(10L)).thenReturn(List.of(3L, 2L));
+
+        assertThat(organizationAccessService.getAccessibleOrganizationIds()).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should grant a user of another organization access")
+    void grantAccess_Success() {
+        Organization subsidiary = Organization.builder().name("Subsidiary").build();
+        subsidiary.setId(2L);
+        User user = user(20L, "controller@subsidiary.com", subsidiary);
+        when(userRepository.findByEmailWithOrganization("controller@subsidiary.com")).thenReturn(Optional.of(user));
+        when(organizationAccessGrantRepository.existsByOrganizationIdAndUserId(1L, 20L)).thenReturn(false);
+        when(organizationRepository.getReferenceById(1L)).thenReturn(organization);
+        when(organizationAccessGrantRepository.save(any(OrganizationAccessGrant.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        OrganizationAccessResponse response = organizationAccessService.grantAccess(request);
+
+        assertThat(response.getUserId()).isEqualTo(20L);
+        assertThat(response.getUserOrganizationName()).isEqualTo("Subsidiary");
+    }
+
+    @Test
+    @DisplayName("Should not grant access to a member of the organization")
+    void grantAccess_SameOrganization_Throws() {
+        User user = user(20L, "controller@subsidiary.com", organization);
+        when(userRepository.findByEmailWithOrganization("controller@subsidiary.com")).thenReturn(Optional.of(user));
+
+        assertThatThrownBy(() -> organizationAccessService.grantAccess(request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("User already belongs to this organization");
+        verify(organizationAccessGrantRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should throw when revoking access that was never granted")
+    void revokeAccess_NotFound_Throws() {
+        when(organizationAccessGrantRepository.findByOrganizationIdAndUserId(1L, 20L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> organizationAccessService.revokeAccess(20L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Access grant not found");
+    }
+
+    private static User user(Long id, String email, Organization organization) {
+        User user = User.builder().email(email).firstName("Test").lastName("User").organization(organization).build();
+        user.setId(id);
+        return user;
+    }
+}
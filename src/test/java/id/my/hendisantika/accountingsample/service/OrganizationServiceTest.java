@@ -21,7 +21,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +34,9 @@ class OrganizationServiceTest {
     @Mock
     private OrganizationRepository organizationRepository;
 
+    @Mock
+    private LedgerVersionService ledgerVersionService;
+
     @InjectMocks
     private OrganizationService organizationService;
 
@@ -94,4 +99,29 @@ class OrganizationServiceTest {
         assertThat(response).isNotNull();
         verify(organizationRepository).save(any(Organization.class));
     }
+
+    @Test
+    @DisplayName("Should invalidate cached reports when the fiscal year start month changes")
+    void updateOrganization_FiscalYearStartMonthChanged_IncrementsLedgerVersion() {
+        organizationRequest.setFiscalYearStartMonth(4);
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(organization));
+        when(organizationRepository.save(any(Organization.class))).thenReturn(organization);
+
+        OrganizationResponse response = organizationService.updateOrganization(organizationRequest);
+
+        assertThat(response.getFiscalYearStartMonth()).isEqualTo(4);
+        verify(ledgerVersionService).increment(1L);
+    }
+
+    @Test
+    @DisplayName("Should keep cached reports when the fiscal year start month is unchanged")
+    void updateOrganization_FiscalYearStartMonthUnchanged_KeepsLedgerVersion() {
+        organizationRequest.setFiscalYearStartMonth(organization.getFiscalYearStartMonth());
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(organization));
+        when(organizationRepository.save(any(Organization.class))).thenReturn(organization);
+
+        organizationService.updateOrganization(organizationRequest);
+
+        verify(ledgerVersionService, never()).increment(anyLong());
+    }
 }
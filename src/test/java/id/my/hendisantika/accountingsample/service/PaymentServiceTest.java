@@ -4,10 +4,12 @@ import id.my.hendisantika.accountingsample.dto.payment.PaymentRequest;
 import id.my.hendisantika.accountingsample.dto.payment.PaymentResponse;
 import id.my.hendisantika.accountingsample.exception.BusinessException;
 import id.my.hendisantika.accountingsample.model.Account;
+import id.my.hendisantika.accountingsample.model.BankTransaction;
 import id.my.hendisantika.accountingsample.model.Customer;
 import id.my.hendisantika.accountingsample.model.Organization;
 import id.my.hendisantika.accountingsample.model.Payment;
 import id.my.hendisantika.accountingsample.model.Vendor;
+import id.my.hendisantika.accountingsample.model.enums.DocumentType;
 import id.my.hendisantika.accountingsample.model.enums.PaymentMethod;
 import id.my.hendisantika.accountingsample.model.enums.PaymentType;
 import id.my.hendisantika.accountingsample.repository.AccountRepository;
@@ -36,6 +38,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +60,10 @@ class PaymentServiceTest {
     private InvoiceRepository invoiceRepository;
     @Mock
     private BillRepository billRepository;
+    @Mock
+    private DocumentNumberService documentNumberService;
+    @Mock
+    private AgingService agingService;
 
     @InjectMocks
     private PaymentService paymentService;
@@ -128,7 +135,7 @@ class PaymentServiceTest {
         when(customerRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(customer));
         when(accountRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(account));
         when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
-        when(paymentRepository.count()).thenReturn(0L);
+        when(documentNumberService.nextNumber(1L, DocumentType.PAYMENT_RECEIVED)).thenReturn("PAY-RECV-20261018-000001");
 
         PaymentResponse response = paymentService.createPayment(paymentRequest);
         assertThat(response).isNotNull();
@@ -157,4 +164,28 @@ class PaymentServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessage("Customer cannot be set for payment made");
     }
+
+    @Test
+    @DisplayName("Should refuse to update a payment reconciled with a bank line")
+    void updatePayment_Reconciled_ThrowsException() {
+        payment.setBankTransaction(new BankTransaction());
+        when(paymentRepository.findForUpdateByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(payment));
+
+        assertThatThrownBy(() -> paymentService.updatePayment(1L, paymentRequest))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Cannot change a payment reconciled with a bank line");
+        verify(paymentRepository, never()).save(any(Payment.class));
+    }
+
+    @Test
+    @DisplayName("Should refuse to delete a payment reconciled with a bank line")
+    void deletePayment_Reconciled_ThrowsException() {
+        payment.setBankTransaction(new BankTransaction());
+        when(paymentRepository.findForUpdateByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(payment));
+
+        assertThatThrownBy(() -> paymentService.deletePayment(1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Cannot change a payment reconciled with a bank line");
+        verify(paymentRepository, never()).delete(any(Payment.class));
+    }
 }
@@ -0,0 +1,110 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.service.ReconciliationMatcher.Item;
+import id.my.hendisantika.accountingsample.service.ReconciliationMatcher.Match;
+import id.my.hendisantika.accountingsample.service.ReconciliationMatcher.Rule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("ReconciliationMatcher Tests")
+class ReconciliationMatcherTest {
+
+    private static final int WINDOW = 3;
+
+    @Test
+    @DisplayName("Should match by reference before amount and keep a referenced payment for its own line")
+    void match_ReferenceFirst() {
+        List<Match> matches = match(
+                List.of(
+                        line(1, 100, 5000, null),
+                        line(2, 101, 5000, "inv-0042")),
+                List.of(
+                        payment(10, 100, 5000, "INV 0042"),
+                        payment(11, 99, 5000, null)));
+
+        assertThat(matches)
+                .extracting(Match::bankTransactionId, match -> match.paymentIds()[0], Match::rule)
+                .containsExactly(
+                        tuple(1L, 11L, Rule.AMOUNT_AND_DATE),
+                        tuple(2L, 10L, Rule.REFERENCE));
+    }
+
+    @Test
+    @DisplayName("Should take the closest payment of the same amount and direction within the date window")
+    void match_AmountAndDate() {
+        List<Match> matches = match(
+                List.of(
+                        line(1, 100, 7000, null),
+                        line(2, 100, -7000, null),
+                        line(3, 120, 7000, null)),
+                List.of(
+                        payment(10, 97, 7000, null),
+                        payment(11, 102, 7000, null),
+                        payment(12, 101, -7000, null),
+                        payment(13, 124, 7000, null)));
+
+        assertThat(matches)
+                .extracting(Match::bankTransactionId, match -> match.paymentIds()[0])
+                .containsExactly(tuple(1L, 11L), tuple(2L, 12L));
+    }
+
+    @Test
+    @DisplayName("Should match a line to two or more payments that add up to it")
+    void match_Sums() {
+        List<Match> matches = match(
+                List.of(
+                        line(1, 100, 900, null),
+                        line(2, 110, 600, null)),
+                List.of(
+                        payment(10, 99, 400, null),
+                        payment(11, 100, 500, null),
+                        payment(12, 98, 700, null),
+                        payment(20, 109, 100, null),
+                        payment(21, 110, 200, null),
+                        payment(22, 111, 300, null),
+                        payment(23, 140, 600, null)));
+
+        assertThat(matches).extracting(Match::bankTransactionId, Match::rule)
+                .containsExactly(tuple(1L, Rule.SUM), tuple(2L, Rule.SUM));
+        assertThat(matches.get(0).paymentIds()).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(matches.get(1).paymentIds()).containsExactlyInAnyOrder(20L, 21L, 22L);
+    }
+
+    @Test
+    @DisplayName("Should leave lines unmatched when nothing fits and match each payment once")
+    void match_NoFit_LeavesUnmatched() {
+        List<Match> matches = match(
+                List.of(
+                        line(1, 100, 1000, null),
+                        line(2, 100, 1000, null),
+                        line(3, 100, 123, null)),
+                List.of(payment(10, 100, 1000, null)));
+
+        assertThat(matches).extracting(Match::bankTransactionId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should compare references by their letters and digits only")
+    void normalize_KeepsLettersAndDigits() {
+        assertThat(ReconciliationMatcher.normalize(" inv/0042-a ")).isEqualTo("INV0042A");
+        assertThat(ReconciliationMatcher.normalize("--")).isNull();
+        assertThat(ReconciliationMatcher.normalize(null)).isNull();
+    }
+
+    private static Item line(long id, long day, long amount, String reference) {
+        return new Item(id, day, amount, reference);
+    }
+
+    private static Item payment(long id, long day, long amount, String reference) {
+        return new Item(id, day, amount, reference);
+    }
+
+    private static List<Match> match(List<Item> lines, List<Item> payments) {
+        return ReconciliationMatcher.match(lines, payments, WINDOW);
+    }
+}
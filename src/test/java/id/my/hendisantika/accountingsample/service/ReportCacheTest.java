@@ -0,0 +1,124 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.report.ProfitLossResponse;
+import id.my.hendisantika.accountingsample.dto.report.TrialBalanceResponse;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportCache Tests")
+class ReportCacheTest {
+
+    private static final LocalDate AS_OF_DATE = LocalDate.of(2026, 9, 30);
+
+    @Mock
+    private ReportService reportService;
+
+    @Mock
+    private AgingService agingService;
+
+    @Mock
+    private ComparativeReportService comparativeReportService;
+
+    @Mock
+    private LedgerVersionService ledgerVersionService;
+
+    @Mock
+    private ObjectProvider<CacheManager> cacheManagerProvider;
+
+    private ReportCache reportCache;
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+
+    @BeforeEach
+    void setUp() {
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentOrganizationId).thenReturn(1L);
+        reportCache = new ReportCache(reportService, agingService, comparativeReportService, ledgerVersionService,
+                cacheManagerProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityUtilsMock.close();
+    }
+
+    @Test
+    @DisplayName("Should compute a report once while the ledger version stays the same")
+    void getTrialBalance_SameVersion_ComputesOnce() {
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(new ConcurrentMapCacheManager());
+        reportCache.init();
+        TrialBalanceResponse report = TrialBalanceResponse.builder().asOfDate(AS_OF_DATE).build();
+        when(ledgerVersionService.getVersion(1L)).thenReturn(7L);
+        when(reportService.getTrialBalance(AS_OF_DATE)).thenReturn(report);
+
+        assertThat(reportCache.getTrialBalance(AS_OF_DATE)).isSameAs(report);
+        assertThat(reportCache.getTrialBalance(AS_OF_DATE)).isSameAs(report);
+
+        verify(reportService, times(1)).getTrialBalance(AS_OF_DATE);
+    }
+
+    @Test
+    @DisplayName("Should recompute a report after the ledger version moves on")
+    void getTrialBalance_VersionChanged_Recomputes() {
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(new ConcurrentMapCacheManager());
+        reportCache.init();
+        TrialBalanceResponse before = TrialBalanceResponse.builder().asOfDate(AS_OF_DATE).build();
+        TrialBalanceResponse after = TrialBalanceResponse.builder().asOfDate(AS_OF_DATE).build();
+        when(ledgerVersionService.getVersion(1L)).thenReturn(7L, 8L);
+        when(reportService.getTrialBalance(AS_OF_DATE)).thenReturn(before, after);
+
+        assertThat(reportCache.getTrialBalance(AS_OF_DATE)).isSameAs(before);
+        assertThat(reportCache.getTrialBalance(AS_OF_DATE)).isSameAs(after);
+    }
+
+    @Test
+    @DisplayName("Should keep results apart per organization and parameters")
+    void getProfitAndLoss_DifferentKeys_ComputedSeparately() {
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(new ConcurrentMapCacheManager());
+        reportCache.init();
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        when(ledgerVersionService.getVersion(1L)).thenReturn(3L);
+        when(ledgerVersionService.getVersion(2L)).thenReturn(3L);
+        when(reportService.getProfitAndLoss(from, AS_OF_DATE)).thenReturn(ProfitLossResponse.builder().build());
+        when(reportService.getProfitAndLoss(from.plusMonths(1), AS_OF_DATE))
+                .thenReturn(ProfitLossResponse.builder().build());
+
+        reportCache.getProfitAndLoss(from, AS_OF_DATE);
+        reportCache.getProfitAndLoss(from.plusMonths(1), AS_OF_DATE);
+        securityUtilsMock.when(SecurityUtils::getCurrentOrganizationId).thenReturn(2L);
+        reportCache.getProfitAndLoss(from, AS_OF_DATE);
+
+        verify(reportService, times(2)).getProfitAndLoss(from, AS_OF_DATE);
+        verify(reportService, times(1)).getProfitAndLoss(from.plusMonths(1), AS_OF_DATE);
+    }
+
+    @Test
+    @DisplayName("Should compute every time when caching is disabled")
+    void getTrialBalance_NoCacheManager_AlwaysComputes() {
+        reportCache.init();
+        when(reportService.getTrialBalance(AS_OF_DATE)).thenReturn(TrialBalanceResponse.builder().build());
+
+        reportCache.getTrialBalance(AS_OF_DATE);
+        reportCache.getTrialBalance(AS_OF_DATE);
+
+        verify(reportService, times(2)).getTrialBalance(AS_OF_DATE);
+    }
+}
@@ -0,0 +1,260 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.report.AnalyticsReportResponse;
+import id.my.hendisantika.accountingsample.dto.report.BalanceSheetResponse;
+import id.my.hendisantika.accountingsample.dto.report.ReportJobRequest;
+import id.my.hendisantika.accountingsample.dto.report.ReportJobResponse;
+import id.my.hendisantika.accountingsample.dto.report.TrialBalanceResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.exception.ResourceNotFoundException;
+import id.my.hendisantika.accountingsample.model.Organization;
+import id.my.hendisantika.accountingsample.model.User;
+import id.my.hendisantika.accountingsample.model.enums.ComparisonPeriod;
+import id.my.hendisantika.accountingsample.model.enums.ReportJobStatus;
+import id.my.hendisantika.accountingsample.model.enums.ReportType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportJobService Tests")
+class ReportJobServiceTest {
+
+    private static final LocalDate AS_OF_DATE = LocalDate.of(2026, 9, 30);
+
+    @Mock
+    private ReportCache reportCache;
+
+    @Mock
+    private AnalyticsService analyticsService;
+
+    @Mock
+    private ObjectProvider<CacheManager> cacheManagerProvider;
+
+    @InjectMocks
+    private ReportJobService reportJobService;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reportJobService, "maxConcurrent", 4);
+        ReflectionTestUtils.setField(reportJobService, "maxConcurrentPerOrganization", 1);
+        ReflectionTestUtils.setField(reportJobService, "maxQueuedPerOrganization", 2);
+        ReflectionTestUtils.setField(reportJobService, "resultTimeToLive", 60_000L);
+        ReflectionTestUtils.setField(reportJobService, "maxResults", 100L);
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+        reportJobService.init();
+        authenticateAs(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        reportJobService.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should hand back the in-flight job for an identical request and run the report once")
+    void submit_IdenticalRequest_CoalescesIntoOneJob() throws InterruptedException {
+        TrialBalanceResponse report = TrialBalanceResponse.builder().asOfDate(AS_OF_DATE).build();
+        when(reportCache.getTrialBalance(AS_OF_DATE)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return report;
+        });
+
+        ReportJobResponse first = reportJobService.submit(request(ReportType.TRIAL_BALANCE, AS_OF_DATE));
+        ReportJobResponse second = reportJobService.submit(request(ReportType.TRIAL_BALANCE, AS_OF_DATE));
+        release.countDown();
+
+        assertThat(second.getJobId()).isEqualTo(first.getJobId());
+        ReportJobResponse completed = awaitStatus(first.getJobId(), ReportJobStatus.COMPLETED);
+        assertThat(completed.getResult()).isSameAs(report);
+        assertThat(completed.getCompletedAt()).isNotNull();
+        verify(reportCache, times(1)).getTrialBalance(AS_OF_DATE);
+    }
+
+    @Test
+    @DisplayName("Should keep a second job of the same organization pending while its slot is taken")
+    void submit_OrganizationAtLimit_QueuesNextJob() throws InterruptedException {
+        when(reportCache.getTrialBalance(AS_OF_DATE)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return TrialBalanceResponse.builder().build();
+        });
+        when(reportCache.getBalanceSheet(AS_OF_DATE)).thenReturn(BalanceSheetResponse.builder().build());
+
+        ReportJobResponse running = reportJobService.submit(request(ReportType.TRIAL_BALANCE, AS_OF_DATE));
+        awaitStatus(running.getJobId(), ReportJobStatus.RUNNING);
+        ReportJobResponse queued = reportJobService.submit(request(ReportType.BALANCE_SHEET, AS_OF_DATE));
+
+        Thread.sleep(100);
+        assertThat(reportJobService.getJob(queued.getJobId()).getStatus()).isEqualTo(ReportJobStatus.PENDING);
+
+        release.countDown();
+        awaitStatus(running.getJobId(), ReportJobStatus.COMPLETED);
+        awaitStatus(queued.getJobId(), ReportJobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should reject a submission once the organization has too many jobs outstanding")
+    void submit_TooManyOutstanding_ThrowsException() {
+        when(reportCache.getTrialBalance(AS_OF_DATE)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return TrialBalanceResponse.builder().build();
+        });
+
+        reportJobService.submit(request(ReportType.TRIAL_BALANCE, AS_OF_DATE));
+        reportJobService.submit(request(ReportType.TRIAL_BALANCE, AS_OF_DATE.minusDays(1)));
+
+        assertThatThrownBy(() -> reportJobService.submit(request(ReportType.TRIAL_BALANCE, AS_OF_DATE.minusDays(2))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Too many report jobs");
+    }
+
+    @Test
+    @DisplayName("Should fail the job and release its reservation when the executor rejects it")
+    void submit_ExecutorRejects_MarksJobFailed() {
+        reportJobService.shutdown();
+
+        ReportJobResponse rejected = reportJobService.submit(request(ReportType.TRIAL_BALANCE, AS_OF_DATE));
+        reportJobService.submit(request(ReportType.TRIAL_BALANCE, AS_OF_DATE.minusDays(1)));
+        ReportJobResponse retried = reportJobService.submit(request(ReportType.TRIAL_BALANCE, AS_OF_DATE));
+
+        assertThat(rejected.getStatus()).isEqualTo(ReportJobStatus.FAILED);
+        assertThat(reportJobService.getJob(rejected.getJobId()).getStatus()).isEqualTo(ReportJobStatus.FAILED);
+        assertThat(retried.getJobId()).isNotEqualTo(rejected.getJobId());
+        assertThat(retried.getStatus()).isEqualTo(ReportJobStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("Should record the error when the report fails")
+    void submit_ReportFails_MarksJobFailed() throws InterruptedException {
+        when(reportCache.getAgedPayables()).thenThrow(new IllegalStateException("Aging table unavailable"));
+
+        ReportJobResponse job = reportJobService.submit(request(ReportType.AGED_PAYABLES, null));
+
+        ReportJobResponse failed = awaitStatus(job.getJobId(), ReportJobStatus.FAILED);
+        assertThat(failed.getError()).isEqualTo("Aging table unavailable");
+        assertThat(failed.getResult()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not reveal a job to another organization")
+    void getJob_OtherOrganization_ThrowsException() throws InterruptedException {
+        when(reportCache.getAgedReceivables()).thenReturn(null);
+        ReportJobResponse job = reportJobService.submit(request(ReportType.AGED_RECEIVABLES, null));
+        awaitStatus(job.getJobId(), ReportJobStatus.COMPLETED);
+
+        authenticateAs(2L);
+
+        assertThatThrownBy(() -> reportJobService.getJob(job.getJobId()))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Report job not found");
+    }
+
+    @Test
+    @DisplayName("Should answer for a job taken by another node from the shared cache")
+    void getJob_JobOfOtherNode_ReadsSharedSnapshot() {
+        ReportJobResponse snapshot = ReportJobResponse.builder()
+                .jobId("other-node-job")
+                .reportType(ReportType.TRIAL_BALANCE)
+                .status(ReportJobStatus.RUNNING)
+                .build();
+        cacheManager.getCache(ReportJobService.CACHE_NAME).put("1:other-node-job", snapshot);
+
+        assertThat(reportJobService.getJob("other-node-job").getStatus()).isEqualTo(ReportJobStatus.RUNNING);
+
+        authenticateAs(2L);
+        assertThatThrownBy(() -> reportJobService.getJob("other-node-job"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Report job not found");
+    }
+
+    @Test
+    @DisplayName("Should run the sales by customer report and share the finished job")
+    void submit_SalesByCustomer_SharesResult() throws InterruptedException {
+        AnalyticsReportResponse report = AnalyticsReportResponse.builder().build();
+        when(analyticsService.getSalesByCustomer(AS_OF_DATE.withDayOfYear(1), AS_OF_DATE,
+                ComparisonPeriod.PREVIOUS_PERIOD)).thenReturn(report);
+
+        ReportJobResponse job = reportJobService.submit(ReportJobRequest.builder()
+                .reportType(ReportType.SALES_BY_CUSTOMER)
+                .toDate(AS_OF_DATE)
+                .build());
+
+        // The shared snapshot is refreshed once the job has let go of its slots
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ReportJobResponse shared = sharedJob(job.getJobId());
+        while (shared.getStatus() != ReportJobStatus.COMPLETED && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            shared = sharedJob(job.getJobId());
+        }
+        assertThat(shared.getStatus()).isEqualTo(ReportJobStatus.COMPLETED);
+        assertThat(shared.getComparison()).isEqualTo(ComparisonPeriod.PREVIOUS_PERIOD);
+        assertThat(shared.getResult()).isSameAs(report);
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted date range before queueing")
+    void submit_InvertedRange_ThrowsException() {
+        ReportJobRequest request = ReportJobRequest.builder()
+                .reportType(ReportType.PROFIT_LOSS)
+                .fromDate(AS_OF_DATE)
+                .toDate(AS_OF_DATE.minusDays(1))
+                .build();
+
+        assertThatThrownBy(() -> reportJobService.submit(request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("From date must not be after to date");
+    }
+
+    private ReportJobRequest request(ReportType reportType, LocalDate asOfDate) {
+        return ReportJobRequest.builder().reportType(reportType).asOfDate(asOfDate).build();
+    }
+
+    private void authenticateAs(Long organizationId) {
+        Organization organization = Organization.builder().build();
+        organization.setId(organizationId);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                User.builder().organization(organization).build(), null, List.of()));
+    }
+
+    private ReportJobResponse sharedJob(String jobId) {
+        return cacheManager.getCache(ReportJobService.CACHE_NAME).get("1:" + jobId, ReportJobResponse.class);
+    }
+
+    private ReportJobResponse awaitStatus(String jobId, ReportJobStatus status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ReportJobResponse job = reportJobService.getJob(jobId);
+        while (job.getStatus() != status && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = reportJobService.getJob(jobId);
+        }
+        assertThat(job.getStatus()).isEqualTo(status);
+        return job;
+    }
+}
@@ -0,0 +1,291 @@
+package id.my.hendisantika.accountingsample.service;
+
+import id.my.hendisantika.accountingsample.dto.account.AccountResponse;
+import id.my.hendisantika.accountingsample.dto.report.BalanceSheetResponse;
+import id.my.hendisantika.accountingsample.dto.report.CashFlowResponse;
+import id.my.hendisantika.accountingsample.dto.report.ProfitLossResponse;
+import id.my.hendisantika.accountingsample.dto.report.TrialBalanceResponse;
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import id.my.hendisantika.accountingsample.model.Account;
+import id.my.hendisantika.accountingsample.model.enums.AccountType;
+import id.my.hendisantika.accountingsample.model.enums.CashFlowActivity;
+import id.my.hendisantika.accountingsample.repository.AccountPeriodBalanceRepository;
+import id.my.hendisantika.accountingsample.repository.AccountRepository;
+import id.my.hendisantika.accountingsample.repository.JournalEntryLineRepository;
+import id.my.hendisantika.accountingsample.repository.projection.AccountBalanceView;
+import id.my.hendisantika.accountingsample.util.SecurityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportService Tests")
+class ReportServiceTest {
+
+    private static final List<String> PROFIT_LOSS_TYPES = List.of("REVENUE", "COST_OF_GOODS_SOLD", "EXPENSE");
+    private static final List<String> LEDGER_STATUSES = List.of("POSTED", "REVERSED");
+    private static final List<String> ALL_TYPES =
+            List.of("ASSET", "LIABILITY", "EQUITY", "REVENUE", "EXPENSE", "COST_OF_GOODS_SOLD");
+
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private AccountPeriodBalanceRepository accountPeriodBalanceRepository;
+    @Mock
+    private JournalEntryLineRepository journalEntryLineRepository;
+    @Mock
+    private ChartOfAccountsCache chartOfAccountsCache;
+
+    @InjectMocks
+    private ReportService reportService;
+
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+    private Account cash;
+    private Account payable;
+    private Account revenue;
+
+    @BeforeEach
+    void setUp() {
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentOrganizationId).thenReturn(1L);
+
+        cash = account(1L, "1000", "Cash", AccountType.ASSET);
+        payable = account(2L, "2000", "Accounts Payable", AccountType.LIABILITY);
+        revenue = account(3L, "4000", "Sales", AccountType.REVENUE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityUtilsMock.close();
+    }
+
+    @Test
+    @DisplayName("Should build trial balance from closed periods and current month lines")
+    void getTrialBalance_MidMonth_CombinesPeriodsAndLines() {
+        LocalDate asOfDate = LocalDate.of(2026, 3, 15);
+        when(accountRepository.findByOrganizationId(1L)).thenReturn(List.of(revenue, cash, payable));
+        when(accountPeriodBalanceRepository.sumByAccountBefore(1L, LocalDate.of(2026, 3, 1))).thenReturn(List.of(
+                balance(1L, "500", "0"),
+                balance(3L, "0", "500")));
+        when(journalEntryLineRepository.sumByAccountBetween(1L, AccountPeriodBalanceService.LEDGER_STATUSES,
+                LocalDate.of(2026, 3, 1), asOfDate)).thenReturn(List.of(
+                balance(1L, "0", "200"),
+                balance(2L, "200", "0")));
+
+        TrialBalanceResponse response = reportService.getTrialBalance(asOfDate);
+
+        assertThat(response.getLines()).extracting(TrialBalanceResponse.TrialBalanceLine::getAccountCode)
+                .containsExactly("1000", "2000", "4000");
+        assertThat(response.getLines().get(0).getDebit()).isEqualByComparingTo("300");
+        assertThat(response.getLines().get(1).getDebit()).isEqualByComparingTo("200");
+        assertThat(response.getLines().get(2).getCredit()).isEqualByComparingTo("500");
+        assertThat(response.getTotalDebit()).isEqualByComparingTo(response.getTotalCredit());
+    }
+
+    @Test
+    @DisplayName("Should read only period balances when as-of date is a month end")
+    void getTrialBalance_MonthEnd_SkipsLineScan() {
+        when(accountRepository.findByOrganizationId(1L)).thenReturn(List.of(cash, revenue));
+        when(accountPeriodBalanceRepository.sumByAccountBefore(1L, LocalDate.of(2026, 3, 1))).thenReturn(List.of(
+                balance(1L, "100", "0"),
+                balance(3L, "0", "100")));
+
+        TrialBalanceResponse response = reportService.getTrialBalance(LocalDate.of(2026, 2, 28));
+
+        assertThat(response.getLines()).hasSize(2);
+        verify(journalEntryLineRepository, never()).sumByAccountBetween(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should roll income statement accounts into retained earnings on balance sheet")
+    void getBalanceSheet_RollsUpRetainedEarnings() {
+        when(accountRepository.findByOrganizationId(1L)).thenReturn(List.of(cash, payable, revenue));
+        when(accountPeriodBalanceRepository.sumByAccountBefore(1L, LocalDate.of(2026, 2, 1))).thenReturn(List.of(
+                balance(1L, "700", "0"),
+                balance(2L, "0", "200"),
+                balance(3L, "0", "500")));
+
+        BalanceSheetResponse response = reportService.getBalanceSheet(LocalDate.of(2026, 1, 31));
+
+        assertThat(response.getTotalAssets()).isEqualByComparingTo("700");
+        assertThat(response.getTotalLiabilities()).isEqualByComparingTo("200");
+        assertThat(response.getRetainedEarnings()).isEqualByComparingTo("500");
+        assertThat(response.getTotalEquity()).isEqualByComparingTo("500");
+        assertThat(response.getTotalAssets())
+                .isEqualByComparingTo(response.getTotalLiabilities().add(response.getTotalEquity()));
+    }
+
+    @Test
+    @DisplayName("Should read whole months from period balances and only the edge days from lines")
+    void getProfitAndLoss_SplitsRangeAtWholeMonths() {
+        LocalDate from = LocalDate.of(2026, 1, 15);
+        LocalDate to = LocalDate.of(2026, 3, 10);
+        when(chartOfAccountsCache.getAccounts(1L)).thenReturn(List.of());
+
+        reportService.getProfitAndLoss(from, to);
+
+        verify(accountPeriodBalanceRepository).sumByAccountBetween(1L, PROFIT_LOSS_TYPES, LEDGER_STATUSES, from, to,
+                LocalDate.of(2026, 2, 1), LocalDate.of(2026, 3, 1));
+    }
+
+    @Test
+    @DisplayName("Should read every day from lines when the range holds no whole month")
+    void getProfitAndLoss_WithinOneMonth_ReadsOnlyLines() {
+        LocalDate from = LocalDate.of(2026, 3, 5);
+        LocalDate to = LocalDate.of(2026, 3, 20);
+        when(chartOfAccountsCache.getAccounts(1L)).thenReturn(List.of());
+
+        reportService.getProfitAndLoss(from, to);
+
+        verify(accountPeriodBalanceRepository).sumByAccountBetween(anyLong(), any(), any(), any(), any(),
+                eq(from), eq(from));
+    }
+
+    @Test
+    @DisplayName("Should lay out amounts along the hierarchy with subtotals per section")
+    void getProfitAndLoss_BuildsSubtotalTree() {
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 3, 31);
+        when(chartOfAccountsCache.getAccounts(1L)).thenReturn(List.of(
+                chartAccount(10L, "4000", AccountType.REVENUE, null),
+                chartAccount(11L, "4100", AccountType.REVENUE, 10L),
+                chartAccount(12L, "4200", AccountType.REVENUE, 10L),
+                chartAccount(20L, "5000", AccountType.COST_OF_GOODS_SOLD, null),
+                chartAccount(30L, "6000", AccountType.EXPENSE, null),
+                chartAccount(31L, "6100", AccountType.EXPENSE, 30L),
+                chartAccount(32L, "6200", AccountType.EXPENSE, 30L)));
+        when(accountPeriodBalanceRepository.sumByAccountBetween(1L, PROFIT_LOSS_TYPES, LEDGER_STATUSES, from, to,
+                from, LocalDate.of(2026, 4, 1))).thenReturn(List.of(
+                balance(11L, "0", "700"),
+                balance(12L, "50", "350"),
+                balance(20L, "400", "0"),
+                balance(31L, "250", "0")));
+
+        ProfitLossResponse response = reportService.getProfitAndLoss(from, to);
+
+        assertThat(response.getRevenue()).hasSize(1);
+        ProfitLossResponse.ProfitLossLine sales = response.getRevenue().get(0);
+        assertThat(sales.getAmount()).isEqualByComparingTo("0");
+        assertThat(sales.getSubtotal()).isEqualByComparingTo("1000");
+        assertThat(sales.getChildren()).extracting(ProfitLossResponse.ProfitLossLine::getAccountCode)
+                .containsExactly("4100", "4200");
+        assertThat(response.getExpenses().get(0).getChildren())
+                .extracting(ProfitLossResponse.ProfitLossLine::getAccountCode).containsExactly("6100");
+        assertThat(response.getTotalRevenue()).isEqualByComparingTo("1000");
+        assertThat(response.getGrossProfit()).isEqualByComparingTo("600");
+        assertThat(response.getTotalExpenses()).isEqualByComparingTo("250");
+        assertThat(response.getNetIncome()).isEqualByComparingTo("350");
+    }
+
+    @Test
+    @DisplayName("Should reconcile net income to the change in cash by activity")
+    void getCashFlow_IndirectMethod_ReconcilesToCash() {
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 1, 31);
+        AccountResponse cashAccount = chartAccount(1L, "1000", AccountType.ASSET, null);
+        cashAccount.setCashFlowActivity(CashFlowActivity.CASH);
+        AccountResponse equipment = chartAccount(3L, "1500", AccountType.ASSET, null);
+        equipment.setCashFlowActivity(CashFlowActivity.INVESTING);
+        AccountResponse loan = chartAccount(4L, "2500", AccountType.LIABILITY, null);
+        loan.setCashFlowActivity(CashFlowActivity.FINANCING);
+        when(chartOfAccountsCache.getAccounts(1L)).thenReturn(List.of(
+                cashAccount,
+                chartAccount(2L, "1200", AccountType.ASSET, null),
+                equipment,
+                loan,
+                chartAccount(5L, "4000", AccountType.REVENUE, null),
+                chartAccount(6L, "5200", AccountType.EXPENSE, null)));
+        when(accountPeriodBalanceRepository.sumByAccountBetween(1L, ALL_TYPES, LEDGER_STATUSES, from, to,
+                from, LocalDate.of(2026, 2, 1))).thenReturn(List.of(
+                balance(1L, "1400", "700"),
+                balance(2L, "1000", "600"),
+                balance(3L, "500", "0"),
+                balance(4L, "0", "800"),
+                balance(5L, "0", "1000"),
+                balance(6L, "200", "0")));
+        when(accountPeriodBalanceRepository.sumByAccountBefore(1L, from)).thenReturn(List.of(
+                balance(1L, "300", "0")));
+
+        CashFlowResponse response = reportService.getCashFlow(from, to);
+
+        assertThat(response.getNetIncome()).isEqualByComparingTo("800");
+        assertThat(response.getOperatingActivities()).extracting(CashFlowResponse.CashFlowLine::getAccountCode)
+                .containsExactly("1200");
+        assertThat(response.getNetCashFromOperating()).isEqualByComparingTo("400");
+        assertThat(response.getNetCashFromInvesting()).isEqualByComparingTo("-500");
+        assertThat(response.getNetCashFromFinancing()).isEqualByComparingTo("800");
+        assertThat(response.getNetChangeInCash()).isEqualByComparingTo("700");
+        assertThat(response.getOpeningCash()).isEqualByComparingTo("300");
+        assertThat(response.getClosingCash()).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    @DisplayName("Should reject a range that ends before it starts")
+    void getProfitAndLoss_InvertedRange_ThrowsException() {
+        assertThatThrownBy(() -> reportService.getProfitAndLoss(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 2, 1)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("From date must not be after to date");
+
+        verify(accountPeriodBalanceRepository, never()).sumByAccountBetween(anyLong(), any(), any(), any(), any(),
+                any(), any());
+    }
+
+    private Account account(Long id, String code, String name, AccountType accountType) {
+        Account account = Account.builder()
+                .code(code)
+                .name(name)
+                .accountType(accountType)
+                .build();
+        account.setId(id);
+        return account;
+    }
+
+    private AccountResponse chartAccount(Long id, String code, AccountType accountType, Long parentId) {
+        return AccountResponse.builder()
+                .id(id)
+                .code(code)
+                .name("Account " + code)
+                .accountType(accountType)
+                .parentId(parentId)
+                .build();
+    }
+
+    private AccountBalanceView balance(Long accountId, String debitTotal, String creditTotal) {
+        return new AccountBalanceView() {
+            @Override
+            public Long getAccountId() {
+                return accountId;
+            }
+
+            @Override
+            public BigDecimal getDebitTotal() {
+                return new BigDecimal(debitTotal);
+            }
+
+            @Override
+            public BigDecimal getCreditTotal() {
+                return new BigDecimal(creditTotal);
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package id.my.hendisantika.accountingsample.util;
+
+import id.my.hendisantika.accountingsample.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CursorUtils Tests")
+class CursorUtilsTest {
+
+    private static final Map<String, Function<String, Object>> SORT_KEYS = Map.of(
+            "invoiceDate", LocalDate::parse,
+            "invoiceNumber", value -> value,
+            "totalAmount", BigDecimal::new);
+
+    @Test
+    @DisplayName("Should default to date descending with id as tie breaker")
+    void keysetSort_Unsorted_UsesDefaultProperty() {
+        Sort sort = CursorUtils.keysetSort(Sort.unsorted(), SORT_KEYS, "invoiceDate");
+
+        assertThat(sort.toList()).containsExactly(Sort.Order.desc("invoiceDate"), Sort.Order.desc("id"));
+    }
+
+    @Test
+    @DisplayName("Should reject sorting on a property outside the whitelist")
+    void keysetSort_UnsupportedProperty_ThrowsException() {
+        assertThatThrownBy(() -> CursorUtils.keysetSort(Sort.by("notes"), SORT_KEYS, "invoiceDate"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("notes");
+    }
+
+    @Test
+    @DisplayName("Should decode a cursor back into the keyset it was encoded from")
+    void encodeDecode_RoundTrip() {
+        Sort sort = CursorUtils.keysetSort(Sort.by(Sort.Direction.ASC, "totalAmount"), SORT_KEYS, "invoiceDate");
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("totalAmount", new BigDecimal("1250.5000"));
+        keys.put("id", 42L);
+
+        String cursor = CursorUtils.encode(ScrollPosition.forward(keys));
+        ScrollPosition position = CursorUtils.decode(cursor, sort, SORT_KEYS);
+
+        assertThat(position).isInstanceOf(KeysetScrollPosition.class);
+        assertThat(((KeysetScrollPosition) position).getKeys())
+                .containsEntry("totalAmount", new BigDecimal("1250.5000"))
+                .containsEntry("id", 42L);
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor issued for a different sort")
+    void decode_SortMismatch_ThrowsException() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("invoiceDate", LocalDate.of(2026, 3, 1));
+        keys.put("id", 7L);
+        String cursor = CursorUtils.encode(ScrollPosition.forward(keys));
+        Sort sort = CursorUtils.keysetSort(Sort.by("invoiceNumber"), SORT_KEYS, "invoiceDate");
+
+        assertThatThrownBy(() -> CursorUtils.decode(cursor, sort, SORT_KEYS))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that is not valid Base64")
+    void decode_Garbage_ThrowsException() {
+        Sort sort = CursorUtils.keysetSort(Sort.unsorted(), SORT_KEYS, "invoiceDate");
+
+        assertThatThrownBy(() -> CursorUtils.decode("not a cursor!", sort, SORT_KEYS))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("Should start from the first page when no cursor is given")
+    void decode_NoCursor_ReturnsInitialPosition() {
+        Sort sort = CursorUtils.keysetSort(Sort.unsorted(), SORT_KEYS, "invoiceDate");
+
+        assertThat(CursorUtils.decode(null, sort, SORT_KEYS).isInitial()).isTrue();
+    }
+}